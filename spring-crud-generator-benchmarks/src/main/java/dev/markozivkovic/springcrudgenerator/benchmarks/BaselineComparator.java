@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file ({@code -rf json}) with a baseline result file and reports
+ * the relative change of every benchmark that exists in both files.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.json> <current.json> [thresholdPercent]}. The process exits
+ * with status 1 when at least one benchmark is slower than the baseline by more than the threshold
+ * (default 10%).
+ */
+public final class BaselineComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BaselineComparator() {}
+
+    /**
+     * Result of comparing a single benchmark with its baseline.
+     *
+     * @param benchmark     the benchmark name including its parameters
+     * @param unit          the score unit
+     * @param baseline      the baseline score
+     * @param current       the current score
+     * @param changePercent the relative change of the score in percent, positive values are slower
+     */
+    public record Comparison(String benchmark, String unit, double baseline, double current, double changePercent) {}
+
+    public static void main(final String[] args) throws IOException {
+
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        final List<Comparison> comparisons = compare(Paths.get(args[0]), Paths.get(args[1]));
+
+        boolean regression = false;
+        for (final Comparison comparison : comparisons) {
+            final boolean slower = comparison.changePercent() > threshold;
+            regression |= slower;
+            System.out.printf(
+                "%-100s %14.3f %14.3f %-8s %+8.2f%%%s%n",
+                comparison.benchmark(), comparison.baseline(), comparison.current(), comparison.unit(),
+                comparison.changePercent(), slower ? "  REGRESSION" : ""
+            );
+        }
+
+        if (regression) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares the benchmarks of the current result file with the baseline result file.
+     *
+     * @param baselineFile the baseline JMH JSON result file
+     * @param currentFile  the current JMH JSON result file
+     * @return the comparisons of all benchmarks present in both files, sorted by benchmark name
+     * @throws IOException if one of the files cannot be read
+     */
+    public static List<Comparison> compare(final Path baselineFile, final Path currentFile) throws IOException {
+
+        final Map<String, JsonNode> baseline = readResults(baselineFile);
+        final Map<String, JsonNode> current = readResults(currentFile);
+        final List<Comparison> comparisons = new ArrayList<>();
+
+        new TreeMap<>(current).forEach((benchmark, currentResult) -> {
+            final JsonNode baselineResult = baseline.get(benchmark);
+            if (baselineResult == null) {
+                return;
+            }
+            final double baselineScore = baselineResult.path("primaryMetric").path("score").asDouble();
+            final double currentScore = currentResult.path("primaryMetric").path("score").asDouble();
+            final double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+            final boolean higherIsBetter = isThroughput(currentResult.path("mode").asText());
+            comparisons.add(new Comparison(
+                benchmark, currentResult.path("primaryMetric").path("scoreUnit").asText(),
+                baselineScore, currentScore, higherIsBetter ? -change : change
+            ));
+        });
+
+        return comparisons;
+    }
+
+    /**
+     * Reads a JMH JSON result file and indexes its results by benchmark name and parameters.
+     *
+     * @param file the JMH JSON result file
+     * @return the results indexed by benchmark name and parameters
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, JsonNode> readResults(final Path file) throws IOException {
+
+        final Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (final JsonNode result : OBJECT_MAPPER.readTree(file.toFile())) {
+            final StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            final JsonNode params = result.path("params");
+            final List<String> paramNames = new ArrayList<>();
+            params.fieldNames().forEachRemaining(paramNames::add);
+            Collections.sort(paramNames);
+            paramNames.forEach(name -> key.append(':').append(name).append('=').append(params.path(name).asText()));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static boolean isThroughput(final String mode) {
+        return "thrpt".equals(mode);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
+
+/**
+ * Measures the {@link FieldUtils} lookups that are called for every entity. Lookups that resolve
+ * related entities scan the whole entity list, so they are measured for the last entity of
+ * specifications of growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldUtilsBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int entityCount;
+
+    private List<ModelDefinition> entities;
+    private ModelDefinition model;
+    private List<FieldDefinition> fields;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.entities = SyntheticSpecFactory.create(entityCount).getEntities();
+        this.model = entities.get(entities.size() - 1);
+        this.fields = model.getFields();
+    }
+
+    @Benchmark
+    public FieldDefinition extractIdField() {
+        return FieldUtils.extractIdField(fields);
+    }
+
+    @Benchmark
+    public List<FieldDefinition> extractRelationFields() {
+        return FieldUtils.extractRelationFields(fields);
+    }
+
+    @Benchmark
+    public boolean hasRelation() {
+        return FieldUtils.hasRelation(model, entities);
+    }
+
+    @Benchmark
+    public List<String> generateInputArgsExcludingId() {
+        return FieldUtils.generateInputArgsExcludingId(fields, entities);
+    }
+
+}
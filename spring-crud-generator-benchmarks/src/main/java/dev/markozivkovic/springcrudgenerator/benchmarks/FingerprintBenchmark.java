@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.utils.GeneratorStateUtils;
+
+/**
+ * Measures {@link GeneratorStateUtils#computeFingerprint(ModelDefinition)} and
+ * {@link GeneratorStateUtils#computeFingerprint(CrudConfiguration)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FingerprintBenchmark {
+
+    private static final int ENTITY_INDEX = 10;
+
+    private ModelDefinition model;
+    private CrudConfiguration configuration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final CrudSpecification spec = SyntheticSpecFactory.create(ENTITY_INDEX + 1);
+        this.model = spec.getEntities().get(ENTITY_INDEX);
+        this.configuration = spec.getConfiguration();
+    }
+
+    @Benchmark
+    public String entityFingerprint() {
+        return GeneratorStateUtils.computeFingerprint(model);
+    }
+
+    @Benchmark
+    public String configurationFingerprint() {
+        return GeneratorStateUtils.computeFingerprint(configuration);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.generators.SpringCrudGenerator;
+import dev.markozivkovic.springcrudgenerator.generators.tests.SpringCrudTestGenerator;
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
+import dev.markozivkovic.springcrudgenerator.utils.ParallelGenerationUtils;
+import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
+import dev.markozivkovic.springcrudgenerator.validators.SpecificationValidator;
+
+/**
+ * Measures a full generation run (project artifacts, per-entity code and unit tests) over synthetic
+ * specifications. All runs of a trial write to the same output directory, so after the first run
+ * the measured path is a regeneration in which files are rendered and compared but not rewritten.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int entityCount;
+
+    @Param({ "1" })
+    private int parallelism;
+
+    private Path baseDir;
+    private String outputDir;
+    private List<ModelDefinition> entities;
+    private SpringCrudGenerator generator;
+    private SpringCrudTestGenerator testGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        final CrudSpecification spec = SyntheticSpecFactory.create(entityCount);
+        SpecificationValidator.validate(spec);
+        SpringBootVersionUtils.resolveAndSetSpringBootMajor(spec, null);
+
+        this.baseDir = Files.createTempDirectory("crud-generator-benchmark");
+        this.outputDir = baseDir.resolve("src/main/java/com/example/demo").toString();
+        this.entities = spec.getEntities();
+        this.generator = new SpringCrudGenerator(
+                spec.getConfiguration(), entities, new ProjectMetadata("demo", "1.0.0", baseDir.toString()), spec.getPackages()
+        );
+        this.testGenerator = new SpringCrudTestGenerator(spec.getConfiguration(), entities, spec.getPackages());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetContext() {
+        GeneratorContext.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (final Stream<Path> paths = Files.walk(baseDir)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void generate() {
+        generator.generate(outputDir);
+        ParallelGenerationUtils.generate(generator, entities, outputDir, parallelism);
+        ParallelGenerationUtils.generate(testGenerator, entities, outputDir, parallelism);
+    }
+
+}
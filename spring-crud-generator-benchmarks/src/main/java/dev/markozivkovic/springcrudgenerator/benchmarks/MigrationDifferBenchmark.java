@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.markozivkovic.springcrudgenerator.migrations.MigrationDiffer;
+import dev.markozivkovic.springcrudgenerator.migrations.MigrationManifestBuilder;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.flyway.EntityState;
+import dev.markozivkovic.springcrudgenerator.models.flyway.MigrationState;
+import dev.markozivkovic.springcrudgenerator.utils.FlywayUtils;
+
+/**
+ * Measures {@link MigrationDiffer#diff(EntityState, Map)} over all tables of a synthetic specification.
+ * In the {@code changed} scenario the previous state lacks one column and has a different column
+ * length in every table, so every diff reports added and modified columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MigrationDifferBenchmark {
+
+    private static final DatabaseType DATABASE = DatabaseType.POSTGRESQL;
+
+    @Param({ "100" })
+    private int entityCount;
+
+    @Param({ "unchanged", "changed" })
+    private String scenario;
+
+    private final List<EntityState> oldStates = new ArrayList<>();
+    private final List<Map<String, Object>> newContexts = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+
+        final Map<String, Object> oldRaw = SyntheticSpecFactory.createRaw(entityCount);
+        if ("changed".equals(scenario)) {
+            ((List<Map<String, Object>>) oldRaw.get("entities")).forEach(entity -> {
+                final List<Map<String, Object>> fields = (List<Map<String, Object>>) entity.get("fields");
+                fields.removeIf(field -> "quantity".equals(field.get("name")));
+                fields.stream()
+                        .filter(field -> "name".equals(field.get("name")))
+                        .forEach(field -> field.put("column", Map.of("nullable", false, "length", 50)));
+            });
+        }
+
+        final List<ModelDefinition> oldEntities = SyntheticSpecFactory.fromRaw(oldRaw).getEntities();
+        final List<Map<String, Object>> oldContexts = createTableContexts(oldEntities);
+        final MigrationManifestBuilder manifest = new MigrationManifestBuilder(new MigrationState());
+        for (int i = 0; i < oldEntities.size(); i++) {
+            manifest.applyCreateContext(
+                    oldEntities.get(i).getName(), oldEntities.get(i).getStorageName(), oldContexts.get(i)
+            );
+        }
+        this.oldStates.addAll(manifest.build().getEntities());
+        this.newContexts.addAll(createTableContexts(SyntheticSpecFactory.create(entityCount).getEntities()));
+    }
+
+    @Benchmark
+    public void diff(final Blackhole blackhole) {
+        for (int i = 0; i < newContexts.size(); i++) {
+            blackhole.consume(MigrationDiffer.diff(oldStates.get(i), newContexts.get(i)));
+        }
+    }
+
+    /**
+     * Builds the create table contexts, including foreign keys, the same way the migration script
+     * generator does for tables that already exist.
+     *
+     * @param entities the entities
+     * @return the create table contexts in entity order
+     */
+    private static List<Map<String, Object>> createTableContexts(final List<ModelDefinition> entities) {
+
+        final Map<String, ModelDefinition> modelsByName = entities.stream()
+                .collect(Collectors.toMap(ModelDefinition::getName, Function.identity()));
+        final Map<String, List<Map<String, Object>>> extrasByChildTable =
+                FlywayUtils.collectReverseOneToManyExtras(entities, DATABASE, modelsByName);
+
+        return entities.stream()
+                .map(model -> {
+                    final Map<String, Object> context = FlywayUtils.toCreateTableContext(
+                            model, DATABASE, modelsByName,
+                            extrasByChildTable.getOrDefault(model.getStorageName(), Collections.emptyList()), true
+                    );
+                    final Map<String, Object> fkCtx = FlywayUtils.toForeignKeysContext(model, modelsByName, extrasByChildTable);
+                    if (fkCtx != null && !fkCtx.isEmpty()) {
+                        context.put("fksCtx", fkCtx);
+                    }
+                    return context;
+                })
+                .toList();
+    }
+
+}
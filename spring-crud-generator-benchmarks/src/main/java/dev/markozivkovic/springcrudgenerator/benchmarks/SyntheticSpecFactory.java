@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+
+/**
+ * Builds deterministic synthetic CRUD specifications used by the benchmarks. The same entity count
+ * always produces the same specification, so results of different runs can be compared.
+ * <p>
+ * Every entity has a {@code Long} id, scalar fields of the commonly used types, an enum field and,
+ * except for the first entity, a {@code ManyToOne} relation to the previous entity. Every tenth entity
+ * additionally has a {@code OneToMany} relation to the previous entity.
+ */
+public final class SyntheticSpecFactory {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
+            .build();
+
+    private SyntheticSpecFactory() {}
+
+    /**
+     * Creates a synthetic specification with the given number of entities.
+     *
+     * @param entityCount the number of entities
+     * @return the synthetic specification
+     */
+    public static CrudSpecification create(final int entityCount) {
+        return fromRaw(createRaw(entityCount));
+    }
+
+    /**
+     * Converts a raw (map based) specification to a {@link CrudSpecification}, the same way the
+     * plugin reads specification files.
+     *
+     * @param raw the raw specification
+     * @return the specification
+     */
+    public static CrudSpecification fromRaw(final Map<String, Object> raw) {
+        return MAPPER.convertValue(raw, CrudSpecification.class);
+    }
+
+    /**
+     * Creates the raw (map based) representation of a synthetic specification with the given number
+     * of entities, in the same shape as the YAML/JSON specification file.
+     *
+     * @param entityCount the number of entities
+     * @return the raw synthetic specification
+     */
+    public static Map<String, Object> createRaw(final int entityCount) {
+
+        if (entityCount < 1) {
+            throw new IllegalArgumentException(
+                String.format("Entity count must be greater than 0, but was %d", entityCount)
+            );
+        }
+
+        final List<Map<String, Object>> entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(entity(i));
+        }
+
+        final Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("configuration", configuration());
+        spec.put("entities", entities);
+        return spec;
+    }
+
+    /**
+     * Returns the name of the entity at the given index.
+     *
+     * @param index the entity index
+     * @return the entity name
+     */
+    public static String entityName(final int index) {
+        return String.format("Entity%04d", index);
+    }
+
+    private static Map<String, Object> configuration() {
+
+        final Map<String, Object> tests = new LinkedHashMap<>();
+        tests.put("unit", true);
+        tests.put("dataGenerator", "instancio");
+
+        final Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("database", "postgresql");
+        configuration.put("javaVersion", 21);
+        configuration.put("springBootVersion", "3");
+        configuration.put("optimisticLocking", true);
+        configuration.put("errorResponse", "simple");
+        configuration.put("migrationScripts", false);
+        configuration.put("tests", tests);
+        return configuration;
+    }
+
+    private static Map<String, Object> entity(final int index) {
+
+        final String name = entityName(index);
+        final List<Map<String, Object>> fields = new ArrayList<>();
+
+        fields.add(field("id", "Long", Map.of("id", Map.of("strategy", "IDENTITY"))));
+        fields.add(field("name", "String", Map.of(
+                "column", Map.of("nullable", false, "length", 100),
+                "validation", Map.of("required", true, "notBlank", true, "maxLength", 100)
+        )));
+        fields.add(field("price", "BigDecimal", Map.of()));
+        fields.add(field("quantity", "Integer", Map.of("validation", Map.of("min", 0, "max", 1000))));
+        fields.add(field("code", "UUID", Map.of("column", Map.of("unique", true))));
+        fields.add(field("releaseDate", "LocalDate", Map.of()));
+        fields.add(field("updatedAt", "LocalDateTime", Map.of()));
+        fields.add(field("status", "Enum", Map.of("values", List.of("ACTIVE", "INACTIVE", "ARCHIVED"))));
+
+        if (index > 0) {
+            final String previous = entityName(index - 1);
+            fields.add(field("parent", previous, Map.of(
+                    "relation", Map.of("type", "ManyToOne", "joinColumn", "parent_id", "fetch", "LAZY")
+            )));
+            if (index % 10 == 0) {
+                fields.add(field("children", previous, Map.of(
+                        "relation", Map.of("type", "OneToMany", "joinColumn", String.format("owner_%d_id", index), "fetch", "LAZY")
+                )));
+            }
+        }
+
+        final Map<String, Object> entity = new LinkedHashMap<>();
+        entity.put("name", name);
+        entity.put("storageName", String.format("entity_%04d_table", index));
+        entity.put("description", String.format("Synthetic entity %d", index));
+        entity.put("fields", fields);
+        return entity;
+    }
+
+    private static Map<String, Object> field(final String name, final String type, final Map<String, Object> extra) {
+
+        final Map<String, Object> field = new LinkedHashMap<>();
+        field.put("name", name);
+        field.put("type", type);
+        field.putAll(extra);
+        return field;
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.templates.EnumTemplateContext;
+import dev.markozivkovic.springcrudgenerator.templates.JpaRepositoryTemplateContext;
+import dev.markozivkovic.springcrudgenerator.templates.RestControllerTemplateContext;
+import dev.markozivkovic.springcrudgenerator.templates.ServiceTemplateContext;
+import dev.markozivkovic.springcrudgenerator.templates.TransferObjectTemplateContext;
+import dev.markozivkovic.springcrudgenerator.utils.FlywayUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
+
+/**
+ * Measures {@link FreeMarkerTemplateProcessorUtils#processTemplate(String, Map)} for one representative
+ * template of each template family. Contexts are built once with the same context builders the
+ * generators use, so only rendering is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private static final int ENTITY_INDEX = 10;
+
+    @Param({ "enum", "transferobject", "service", "controller", "repository", "migration" })
+    private String family;
+
+    private String template;
+    private Map<String, Object> context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        final CrudSpecification spec = SyntheticSpecFactory.create(ENTITY_INDEX + 1);
+        final List<ModelDefinition> entities = spec.getEntities();
+        final ModelDefinition model = entities.get(ENTITY_INDEX);
+
+        switch (family) {
+            case "enum" -> {
+                this.template = "enum/enum-template.ftl";
+                this.context = EnumTemplateContext.createEnumContext("StatusEnum", List.of("ACTIVE", "INACTIVE", "ARCHIVED"));
+            }
+            case "transferobject" -> {
+                this.template = "transferobject/transfer-object-template.ftl";
+                this.context = TransferObjectTemplateContext.computeTransferObjectContext(model);
+            }
+            case "service" -> {
+                this.template = "service/method/get-all.ftl";
+                this.context = ServiceTemplateContext.computeGetAllContext(model);
+                this.context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, false);
+            }
+            case "controller" -> {
+                this.template = "controller/endpoint/get-resource.ftl";
+                this.context = RestControllerTemplateContext.computeGetByIdEndpointContext(model);
+                this.context.put(TemplateContextConstants.SWAGGER, false);
+            }
+            case "repository" -> {
+                this.template = "repository/repository-interface-template.ftl";
+                this.context = JpaRepositoryTemplateContext.computeJpaInterfaceContext(
+                        model, false, "com.example.demo", spec.getPackages()
+                );
+            }
+            case "migration" -> {
+                final Map<String, ModelDefinition> modelsByName = entities.stream()
+                        .collect(Collectors.toMap(ModelDefinition::getName, Function.identity()));
+                this.template = "migration/flyway/create-table.sql.ftl";
+                this.context = FlywayUtils.toCreateTableContext(
+                        model, DatabaseType.POSTGRESQL, modelsByName, List.of(), true
+                );
+            }
+            default -> throw new IllegalArgumentException(
+                    String.format("Unsupported template family: %s", family)
+            );
+        }
+    }
+
+    @Benchmark
+    public String processTemplate() {
+        return FreeMarkerTemplateProcessorUtils.processTemplate(template, context);
+    }
+
+}
@@ -0,0 +1,54 @@
+package dev.markozivkovic.springcrudgenerator.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.utils.GeneratorStateUtils;
+import dev.markozivkovic.springcrudgenerator.validators.SpecificationValidator;
+
+class SyntheticSpecFactoryTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10, 100 })
+    @DisplayName("create should produce a valid specification with the requested number of entities")
+    void create_shouldProduceValidSpecification(final int entityCount) {
+
+        final CrudSpecification spec = SyntheticSpecFactory.create(entityCount);
+
+        assertEquals(entityCount, spec.getEntities().size());
+        assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
+    }
+
+    @Test
+    @DisplayName("create should be deterministic")
+    void create_shouldBeDeterministic() {
+
+        final CrudSpecification first = SyntheticSpecFactory.create(20);
+        final CrudSpecification second = SyntheticSpecFactory.create(20);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(
+                GeneratorStateUtils.computeFingerprint(first.getEntities().get(i)),
+                GeneratorStateUtils.computeFingerprint(second.getEntities().get(i))
+            );
+        }
+        assertEquals(
+            GeneratorStateUtils.computeFingerprint(first.getConfiguration()),
+            GeneratorStateUtils.computeFingerprint(second.getConfiguration())
+        );
+    }
+
+    @Test
+    @DisplayName("create should reject a non-positive entity count")
+    void create_shouldRejectNonPositiveEntityCount() {
+        assertThrows(IllegalArgumentException.class, () -> SyntheticSpecFactory.create(0));
+    }
+
+}
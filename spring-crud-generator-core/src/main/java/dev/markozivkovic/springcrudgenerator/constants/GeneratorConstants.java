@@ -24,6 +24,9 @@ public class GeneratorConstants {
     private GeneratorConstants() {}
 
     public static final String PAGE_TO = "PageTO";
+    public static final String SLICE_TO = "SliceTO";
+    public static final String IMPORT_SUMMARY_TO = "ImportSummaryTO";
+    public static final String CACHE_HELPER = "CacheHelper";
     public static final String GLOBAL_GRAPHQL_EXCEPTION_HANDLER = "GlobalGraphQlExceptionHandler";
     public static final String GLOBAL_REST_EXCEPTION_HANDLER = "GlobalRestExceptionHandler";
     public static final String SRC_MAIN_RESOURCES = "src/main/resources";
@@ -83,10 +86,15 @@ public class GeneratorConstants {
         public static final String RESOLVER_TEST_CONFIG = "resolver-test-config";
         public static final String JPA_AUDITING_CONFIG = "jpa-auditing-config";
         public static final String EXCLUSION_NULL_CONFIG = "exclusion-null-config";
+        public static final String HIBERNATE_BATCHING_CONFIG = "hibernate-batching-config";
+        public static final String HIBERNATE_QUERY_CONFIG = "hibernate-query-config";
         public static final String GITHUB_ACTIONS_WORKFLOW = "github-actions-workflow";
         public static final String CLAUDE_MD = "claude-md";
         public static final String AGENTS_MD = "agents-md";
         public static final String MONGOCK_MIGRATION_SCRIPT = "mongock-migration-script";
+        public static final String PAGE_TO = "page-to";
+        public static final String SLICE_TO = "slice-to";
+        public static final String IMPORT_SUMMARY_TO = "import-summary-to";
     }
 
 }
@@ -35,18 +35,36 @@ public final class ImportConstants {
         public static final String SET = "java.util.Set";
         public static final String ARRAY_LIST = "java.util.ArrayList";
         public static final String HASH_SET = "java.util.HashSet";
+        public static final String COLLECTIONS = "java.util.Collections";
         public static final String MAP = "java.util.Map";
+        public static final String HASH_MAP = "java.util.HashMap";
+        public static final String LINKED_HASH_MAP = "java.util.LinkedHashMap";
+        public static final String BASE64 = "java.util.Base64";
+        public static final String URL_DECODER = "java.net.URLDecoder";
+        public static final String URL_ENCODER = "java.net.URLEncoder";
+        public static final String STANDARD_CHARSETS = "java.nio.charset.StandardCharsets";
         public static final String COLLECTORS = "java.util.stream.Collectors";
+        public static final String FUNCTION = "java.util.function.Function";
+        public static final String CONSUMER = "java.util.function.Consumer";
+        public static final String STREAM = "java.util.stream.Stream";
+        public static final String IO_EXCEPTION = "java.io.IOException";
+        public static final String UNCHECKED_IO_EXCEPTION = "java.io.UncheckedIOException";
+        public static final String INPUT_STREAM = "java.io.InputStream";
         public static final String BIG_DECIMAL = "java.math.BigDecimal";
         public static final String BIG_INTEGER = "java.math.BigInteger";
         public static final String INSTANT = "java.time.Instant";
         public static final String LOCAL_DATE = "java.time.LocalDate";
         public static final String LOCAL_DATE_TIME = "java.time.LocalDateTime";
+        public static final String OFFSET_DATE_TIME = "java.time.OffsetDateTime";
+        public static final String ZONE_OFFSET = "java.time.ZoneOffset";
+        public static final String METHOD_HANDLES = "java.lang.invoke.MethodHandles";
+        public static final String VAR_HANDLE = "java.lang.invoke.VarHandle";
     }
 
     public static final class Jakarta {
         private Jakarta() {}
         public static final String ENTITY = "jakarta.persistence.Entity";
+        public static final String ENTITY_MANAGER = "jakarta.persistence.EntityManager";
         public static final String NAMED_ENTITY_GRAPH = "jakarta.persistence.NamedEntityGraph";
         public static final String NAMED_ATTRIBUTE_NODE = "jakarta.persistence.NamedAttributeNode";
         public static final String ENTITY_LISTENERS = "jakarta.persistence.EntityListeners";
@@ -156,10 +174,16 @@ public final class ImportConstants {
         public static final String SORT = "org.springframework.data.domain.Sort";
         public static final String SORT_DIRECTION = "org.springframework.data.domain.Sort.Direction";
         public static final String PAGEABLE = "org.springframework.data.domain.Pageable";
+        public static final String SLICE = "org.springframework.data.domain.Slice";
+        public static final String SLICE_IMPL = "org.springframework.data.domain.SliceImpl";
+        public static final String WINDOW = "org.springframework.data.domain.Window";
+        public static final String SCROLL_POSITION = "org.springframework.data.domain.ScrollPosition";
+        public static final String LIMIT = "org.springframework.data.domain.Limit";
         public static final String MONGO_DOCUMENT = "org.springframework.data.mongodb.core.mapping.Document";
         public static final String MONGO_DB_REF = "org.springframework.data.mongodb.core.mapping.DBRef";
         public static final String MONGO_ID = "org.springframework.data.annotation.Id";
         public static final String MONGO_REPOSITORY = "org.springframework.data.mongodb.repository.MongoRepository";
+        public static final String MONGO_META = "org.springframework.data.mongodb.repository.Meta";
         public static final String CREATED_DATE = "org.springframework.data.annotation.CreatedDate";
         public static final String LAST_MODIFIED_DATE = "org.springframework.data.annotation.LastModifiedDate";
         public static final String VERSION = "org.springframework.data.annotation.Version";
@@ -43,6 +43,8 @@ public final class TemplateContextConstants {
     public static final String FIELD_NAMES = "fieldNames";
     public static final String CLASS_NAME = "className";
     public static final String CACHE = "cache";
+    public static final String CACHE_SYNC = "cacheSync";
+    public static final String CACHE_REFRESH_LOADER = "cacheRefreshLoader";
     public static final String INPUT_ARGS = "inputArgs";
     public static final String NOT_NULL_ARGS = "notNullArgs";
     public static final String NOT_EMPTY_ARGS = "notEmptyArgs";
@@ -54,6 +56,21 @@ public final class TemplateContextConstants {
     public static final String SORT_ALLOWED_FIELDS = "sortAllowedFields";
     public static final String SORT_ALLOWED_FIELDS_CSV = "sortAllowedFieldsCsv";
     public static final String SORT_DEFAULT_DIRECTION = "sortDefaultDirection";
+    public static final String KEYSET_PAGINATION = "keysetPagination";
+    public static final String CURSOR_FIELDS = "cursorFields";
+    public static final String SLICE_PAGINATION = "slicePagination";
+    public static final String COUNT_CACHED = "countCached";
+    public static final String BULK_CREATE_CHUNK_SIZE = "bulkCreateChunkSize";
+    public static final String FLUSH_BULK_CHUNKS = "flushBulkChunks";
+    public static final String DETACH_BULK_CHUNKS = "detachBulkChunks";
+    public static final String BULK_CREATE_STREAMING = "bulkCreateStreaming";
+    public static final String USES_ENTITY_MANAGER = "usesEntityManager";
+    public static final String USES_CACHE_HELPER = "usesCacheHelper";
+    public static final String IN_CLAUSE_CHUNK_SIZE = "inClauseChunkSize";
+    public static final String EXPORT_ENABLED = "exportEnabled";
+    public static final String EXPORT_FETCH_SIZE = "exportFetchSize";
+    public static final String LIST_PROJECTION = "listProjection";
+    public static final String LIST_TRANSFER_OBJECT = "listTransferObject";
     public static final String SOFT_DELETE_ENABLED = "softDeleteEnabled";
     public static final String SERVICE_CLASSES = "serviceClasses";
     public static final String MODEL_NAME = "modelName";
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.context;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GenerationMetrics {
+
+    private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    private static volatile boolean enabled = false;
+
+    private GenerationMetrics() {
+
+    }
+
+    /**
+     * Categories of recorded metrics.
+     */
+    public enum MetricCategory {
+        ARTIFACT_GENERATOR,
+        GENERATOR,
+        TEST_GENERATOR,
+        TEMPLATE,
+        FILE_WRITE
+    }
+
+    /**
+     * Immutable view of a recorded metric.
+     *
+     * @param category       the metric category
+     * @param name           the metric name (generator key, template path or file name)
+     * @param count          the number of recorded invocations
+     * @param totalNanos     the total wall time in nanoseconds
+     * @param bytes          the total number of rendered or written bytes
+     * @param allocatedBytes the total number of bytes allocated by the invoking threads, or 0 if not supported
+     * @param skipped        the number of invocations that did not produce any output (e.g. unchanged files)
+     */
+    public record MetricSnapshot(MetricCategory category, String name, long count, long totalNanos, long bytes,
+            long allocatedBytes, long skipped) {}
+
+    /**
+     * Enables metric collection and clears all previously recorded metrics.
+     */
+    public static void enable() {
+        METRICS.clear();
+        enabled = true;
+    }
+
+    /**
+     * Disables metric collection and clears all recorded metrics.
+     */
+    public static void disable() {
+        enabled = false;
+        METRICS.clear();
+    }
+
+    /**
+     * Returns true if metric collection is enabled.
+     *
+     * @return true if metric collection is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the given action and, if metric collection is enabled, records its wall time and
+     * the number of bytes allocated by the current thread while running it.
+     *
+     * @param category the metric category
+     * @param name     the metric name
+     * @param action   the action to run
+     */
+    public static void record(final MetricCategory category, final String name, final Runnable action) {
+
+        if (!enabled) {
+            action.run();
+            return;
+        }
+
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            final long elapsed = System.nanoTime() - start;
+            final long allocated = Math.max(0, allocatedBytes() - allocatedBefore);
+            metric(category, name).add(elapsed, 0, allocated, false);
+        }
+    }
+
+    /**
+     * Records a single measurement if metric collection is enabled.
+     *
+     * @param category the metric category
+     * @param name     the metric name
+     * @param nanos    the wall time in nanoseconds
+     * @param bytes    the number of rendered or written bytes
+     * @param skipped  whether the invocation did not produce any output
+     */
+    public static void record(final MetricCategory category, final String name, final long nanos, final long bytes,
+            final boolean skipped) {
+
+        if (!enabled) {
+            return;
+        }
+
+        metric(category, name).add(nanos, bytes, 0, skipped);
+    }
+
+    /**
+     * Returns a snapshot of all recorded metrics, sorted by category and then by total wall time (descending).
+     *
+     * @return the recorded metrics
+     */
+    public static List<MetricSnapshot> snapshot() {
+        return METRICS.values().stream()
+                .map(Metric::snapshot)
+                .sorted(Comparator.comparing(MetricSnapshot::category)
+                        .thenComparing(Comparator.comparingLong(MetricSnapshot::totalNanos).reversed())
+                        .thenComparing(MetricSnapshot::name))
+                .toList();
+    }
+
+    /**
+     * Returns the metric for the given category and name, creating it if needed.
+     *
+     * @param category the metric category
+     * @param name     the metric name
+     * @return the metric
+     */
+    private static Metric metric(final MetricCategory category, final String name) {
+        return METRICS.computeIfAbsent(category.name() + ":" + name, key -> new Metric(category, name));
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or 0 if the JVM does not support it.
+     *
+     * @return the number of bytes allocated by the current thread
+     */
+    private static long allocatedBytes() {
+
+        if (THREAD_MX_BEAN == null) {
+            return 0;
+        }
+
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Resolves the HotSpot thread MX bean used to measure allocations, if available and enabled.
+     *
+     * @return the thread MX bean, or null if allocation measurement is not supported
+     */
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+
+        try {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean hotspotBean
+                    && hotspotBean.isThreadAllocatedMemorySupported()
+                    && hotspotBean.isThreadAllocatedMemoryEnabled()) {
+                return hotspotBean;
+            }
+        } catch (final LinkageError e) {
+            // allocation measurement is optional
+        }
+
+        return null;
+    }
+
+    private static final class Metric {
+
+        private final MetricCategory category;
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private Metric(final MetricCategory category, final String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        private void add(final long nanos, final long bytes, final long allocatedBytes, final boolean skipped) {
+            this.count.increment();
+            this.nanos.add(nanos);
+            this.bytes.add(bytes);
+            this.allocatedBytes.add(allocatedBytes);
+            if (skipped) {
+                this.skipped.increment();
+            }
+        }
+
+        private MetricSnapshot snapshot() {
+            return new MetricSnapshot(
+                category, name, count.sum(), nanos.sum(), bytes.sum(), allocatedBytes.sum(), skipped.sum()
+            );
+        }
+    }
+
+}
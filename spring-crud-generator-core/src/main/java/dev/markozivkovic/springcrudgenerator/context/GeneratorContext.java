@@ -16,12 +16,12 @@
 
 package dev.markozivkovic.springcrudgenerator.context;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GeneratorContext {
     
-    private static final Set<String> GENERATED_PARTS = new HashSet<>();
+    private static final Set<String> GENERATED_PARTS = ConcurrentHashMap.newKeySet();
 
     private GeneratorContext() {
 
@@ -47,4 +47,12 @@ public class GeneratorContext {
         return GENERATED_PARTS.add(part);
     }
 
+    /**
+     * Clears all generated parts, so that the next generation run in the same JVM
+     * generates the shared parts again.
+     */
+    public static void clear() {
+        GENERATED_PARTS.clear();
+    }
+
 }
@@ -19,7 +19,9 @@ package dev.markozivkovic.springcrudgenerator.generators;
 import static dev.markozivkovic.springcrudgenerator.constants.ImportConstants.PACKAGE;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,10 +31,12 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
 import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ContainerUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
@@ -45,16 +49,21 @@ public class AdditionalPropertyGenerator implements ProjectArtifactGenerator {
     private final CrudConfiguration configuration;
     private final PackageConfiguration packageConfiguration;
     private final ProjectMetadata projectMetadata;
+    private final List<ModelDefinition> entities;
 
     public AdditionalPropertyGenerator(final CrudConfiguration configuration, final PackageConfiguration packageConfiguration,
-            final ProjectMetadata projectMetadata) {
+            final ProjectMetadata projectMetadata, final List<ModelDefinition> entities) {
         this.configuration = configuration;
         this.packageConfiguration = packageConfiguration;
         this.projectMetadata = projectMetadata;
+        this.entities = entities;
     }
 
     @Override
     public void generate(final String outputDir) {
+
+        this.generateHibernateBatchingConfiguration(outputDir);
+        this.generateHibernateQueryConfiguration(outputDir);
         
         if (ContainerUtils.isEmpty(configuration.getAdditionalProperties())) {
             return;
@@ -72,6 +81,94 @@ public class AdditionalPropertyGenerator implements ProjectArtifactGenerator {
         GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.ADDITIONAL_CONFIG);
     }
 
+    /**
+     * Generates the Hibernate batching configuration. This method only generates the configuration for SQL databases
+     * when at least one entity uses chunked bulk create. The JDBC batch size is set to the largest configured chunk size.
+     *
+     * @param outputDir the directory where the generated configuration file will be written
+     */
+    private void generateHibernateBatchingConfiguration(final String outputDir) {
+
+        final Integer batchSize = this.entities.stream()
+                .filter(ModelDefinition::isBulkCreateChunked)
+                .map(entity -> entity.getBulk().getCreate().getChunkSize())
+                .max(Integer::compareTo)
+                .orElse(null);
+
+        if (Objects.isNull(batchSize)) return;
+
+        if (Objects.nonNull(this.configuration.getDatabase()) && this.configuration.getDatabase().isMongo()) return;
+
+        if (GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_BATCHING_CONFIG)) return;
+
+        LOGGER.info("Generating Hibernate batching configuration");
+
+        final String packagePath = PackageUtils.getPackagePathFromOutputDir(outputDir);
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
+                .append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                "configuration/hibernate-batching-configuration.ftl",
+                    Map.of(
+                        TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.configuration.getSpringBootVersion()),
+                        "batchSize", batchSize
+                    )
+                ));
+
+        FileWriterUtils.writeToFile(
+                outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration),
+                "HibernateBatchingConfig.java", sb.toString()
+        );
+
+        LOGGER.info("Hibernate batching configuration generated");
+
+        GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_BATCHING_CONFIG);
+    }
+
+    /**
+     * Generates the Hibernate query configuration that enables IN clause parameter padding. This method only generates
+     * the configuration for SQL databases when at least one service looks up entities by a list of IDs, which happens
+     * for targets of collection relations and for relations of entities with bulk create enabled.
+     *
+     * @param outputDir the directory where the generated configuration file will be written
+     */
+    private void generateHibernateQueryConfiguration(final String outputDir) {
+
+        final boolean hasInClauseLookups = this.entities.stream()
+                .filter(entity -> Objects.nonNull(entity.getFields()))
+                .anyMatch(entity -> entity.getFields().stream()
+                        .filter(field -> Objects.nonNull(field.getRelation()))
+                        .anyMatch(field -> FieldUtils.isCollectionRelation(field) || entity.isBulkCreateEnabled()));
+
+        if (!hasInClauseLookups) return;
+
+        if (Objects.nonNull(this.configuration.getDatabase()) && this.configuration.getDatabase().isMongo()) return;
+
+        if (GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_QUERY_CONFIG)) return;
+
+        LOGGER.info("Generating Hibernate query configuration");
+
+        final String packagePath = PackageUtils.getPackagePathFromOutputDir(outputDir);
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
+                .append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                "configuration/hibernate-query-configuration.ftl",
+                    Map.of(
+                        TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.configuration.getSpringBootVersion())
+                    )
+                ));
+
+        FileWriterUtils.writeToFile(
+                outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration),
+                "HibernateQueryConfig.java", sb.toString()
+        );
+
+        LOGGER.info("Hibernate query configuration generated");
+
+        GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_QUERY_CONFIG);
+    }
+
     /**
      * Generates the Exclusion Null configuration. This method is only called if the additional property
      * 'rest.response.excludeNull' is set to true.
@@ -164,7 +164,8 @@ public class AiContextGenerator implements ProjectArtifactGenerator {
             context.put("cacheType", this.configuration.getCache().getType().name());
             context.put("cacheRequiresInfrastructure",
                 CacheTypeEnum.REDIS.equals(this.configuration.getCache().getType())
-                || CacheTypeEnum.HAZELCAST.equals(this.configuration.getCache().getType()));
+                || CacheTypeEnum.HAZELCAST.equals(this.configuration.getCache().getType())
+                || CacheTypeEnum.TWO_LEVEL.equals(this.configuration.getCache().getType()));
         } else {
             context.put("cacheType", "");
             context.put("cacheRequiresInfrastructure", false);
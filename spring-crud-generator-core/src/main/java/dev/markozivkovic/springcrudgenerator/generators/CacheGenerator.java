@@ -18,8 +18,10 @@ package dev.markozivkovic.springcrudgenerator.generators;
 
 import static dev.markozivkovic.springcrudgenerator.constants.ImportConstants.PACKAGE;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -31,20 +33,30 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.imports.ConfigurationImports;
+import dev.markozivkovic.springcrudgenerator.imports.ModelImports;
+import dev.markozivkovic.springcrudgenerator.models.CacheDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+import dev.markozivkovic.springcrudgenerator.templates.CompactSerializerTemplateContext;
 import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
+import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
 public class CacheGenerator implements ProjectArtifactGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CacheGenerator.class);
+    private static final int DEFAULT_SCHEMA_VERSION = 1;
     
     private final CrudConfiguration crudConfiguration;
     private final PackageConfiguration packageConfiguration;
@@ -71,11 +83,9 @@ public class CacheGenerator implements ProjectArtifactGenerator {
 
         final Map<String, Object> context = new HashMap<>();
         
-        if (Objects.nonNull(this.crudConfiguration.getCache().getType())) {
-            context.put("type", this.crudConfiguration.getCache().getType());
-        } else {
-            context.put("type", CacheTypeEnum.SIMPLE);
-        }
+        final CacheTypeEnum cacheType = Objects.nonNull(this.crudConfiguration.getCache().getType())
+                ? this.crudConfiguration.getCache().getType() : CacheTypeEnum.SIMPLE;
+        context.put("type", cacheType);
 
         if (Objects.nonNull(this.crudConfiguration.getCache().getMaxSize())) {
             context.put("maxSize", this.crudConfiguration.getCache().getMaxSize());
@@ -85,6 +95,23 @@ public class CacheGenerator implements ProjectArtifactGenerator {
             context.put("expiration", this.crudConfiguration.getCache().getExpiration());
         }
 
+        final boolean stampedeProtection = Boolean.TRUE.equals(this.crudConfiguration.getCache().getStampedeProtection())
+                && Objects.nonNull(this.crudConfiguration.getCache().getExpiration());
+        context.put("stampedeProtection", stampedeProtection);
+
+        final CacheSerializationEnum serialization = Objects.nonNull(this.crudConfiguration.getCache().getSerialization())
+                ? this.crudConfiguration.getCache().getSerialization() : CacheSerializationEnum.JSON;
+        final int schemaVersion = Objects.nonNull(this.crudConfiguration.getCache().getSchemaVersion())
+                ? this.crudConfiguration.getCache().getSchemaVersion() : DEFAULT_SCHEMA_VERSION;
+        final boolean compactSerialization = CacheSerializationEnum.COMPACT.equals(serialization)
+                && CacheTypeEnum.HAZELCAST.equals(cacheType);
+        context.put("serialization", serialization.name());
+
+        if (Objects.nonNull(this.crudConfiguration.getCache().getSerialization())
+                || Objects.nonNull(this.crudConfiguration.getCache().getSchemaVersion())) {
+            context.put("keyPrefix", String.format("%s-v%d:", serialization.name().toLowerCase(Locale.ROOT), schemaVersion));
+        }
+
         final String packagePath = PackageUtils.getPackagePathFromOutputDir(outputDir);
         final List<String> entityNames = entities.stream()
                 .filter(e -> Objects.nonNull(e.getStorageName()))
@@ -95,6 +122,11 @@ public class CacheGenerator implements ProjectArtifactGenerator {
 
         context.put("modelImports", modelImports);
         context.put("entities", entityNames);
+        context.put("countCaches", entities.stream()
+                .filter(e -> Objects.nonNull(e.getStorageName()))
+                .filter(e -> PaginationUtils.isCountCached(e, this.crudConfiguration.getCache()))
+                .map(e -> String.format("%sCount", StringUtils.uncapitalize(e.getName())))
+                .collect(Collectors.toList()));
         context.put(
             TemplateContextConstants.EXCLUDE_NULL, AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(this.crudConfiguration.getAdditionalProperties())
         );
@@ -104,6 +136,23 @@ public class CacheGenerator implements ProjectArtifactGenerator {
         context.put(TemplateContextConstants.INCLUDE_HIBERNATE_LAZY_NULL_MODULE, isSqlDatabase(this.crudConfiguration.getDatabase()));
         context.put(TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.crudConfiguration.getSpringBootVersion()));
 
+        if (CacheTypeEnum.TWO_LEVEL.equals(this.crudConfiguration.getCache().getType())) {
+            this.contributeLocalCacheContext(context);
+        }
+
+        if (stampedeProtection && CacheTypeEnum.CAFFEINE.equals(cacheType)) {
+            this.contributeRefreshingCacheContext(context, packagePath);
+        }
+
+        final List<Map<String, Object>> compactSerializers = compactSerialization
+                ? this.computeCompactSerializerContexts(outputDir, packagePath, schemaVersion) : List.of();
+        context.put("compactSerializers", compactSerializers.stream()
+                .map(compactSerializer -> Map.of(
+                    "name", String.format("%sCompactSerializer", compactSerializer.get(TemplateContextConstants.CLASS_NAME)),
+                    "usesObjectMapper", compactSerializer.get("usesObjectMapper")
+                ))
+                .collect(Collectors.toList()));
+
         final StringBuilder sb = new StringBuilder();
         sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
                 .append(FreeMarkerTemplateProcessorUtils.processTemplate(
@@ -115,18 +164,153 @@ public class CacheGenerator implements ProjectArtifactGenerator {
         );
 
         if ((CacheTypeEnum.REDIS.equals(this.crudConfiguration.getCache().getType())
-                || CacheTypeEnum.HAZELCAST.equals(this.crudConfiguration.getCache().getType()))
+                || CacheTypeEnum.HAZELCAST.equals(this.crudConfiguration.getCache().getType())
+                || CacheTypeEnum.TWO_LEVEL.equals(this.crudConfiguration.getCache().getType()))
                 && isSqlDatabase(this.crudConfiguration.getDatabase())) {
             this.generateHibernateLazyNullModule(outputDir, packagePath);
         }
 
         if (CacheTypeEnum.HAZELCAST.equals(this.crudConfiguration.getCache().getType())) {
-            this.generateHazelcastGlobalSerializer(outputDir, packagePath);
+            this.generateHazelcastGlobalSerializer(outputDir, packagePath, serialization);
+        }
+
+        compactSerializers.forEach(compactSerializer -> this.generateHazelcastCompactSerializer(outputDir, packagePath, compactSerializer));
+
+        if (stampedeProtection && CacheTypeEnum.HAZELCAST.equals(cacheType)) {
+            this.generateHazelcastJitteredCache(outputDir, packagePath);
+        }
+
+        if (CacheTypeEnum.TWO_LEVEL.equals(this.crudConfiguration.getCache().getType())) {
+            this.generateTwoLevelCache(outputDir, packagePath);
         }
 
+        this.generateCacheHelper(outputDir, packagePath, cacheType);
+
         GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION);
     }
 
+    /**
+     * Adds the sizing of the local caches of a two-level cache to the template context. The defaults apply to every
+     * cache: the global cache.maxSize, or {@link CacheDefinition#DEFAULT_LOCAL_MAX_SIZE} when it is not set, and
+     * {@link CacheDefinition#DEFAULT_LOCAL_EXPIRATION} minutes. Entities with their own cache settings override them.
+     *
+     * @param context the template context
+     */
+    private void contributeLocalCacheContext(final Map<String, Object> context) {
+
+        final long localMaxSize = Objects.nonNull(this.crudConfiguration.getCache().getMaxSize())
+                ? this.crudConfiguration.getCache().getMaxSize() : CacheDefinition.DEFAULT_LOCAL_MAX_SIZE;
+
+        final List<Map<String, Object>> localCaches = entities.stream()
+                .filter(e -> Objects.nonNull(e.getStorageName()))
+                .filter(e -> Objects.nonNull(e.getCache()))
+                .map(e -> Map.<String, Object>of(
+                    "name", StringUtils.uncapitalize(e.getName()),
+                    "maxSize", Objects.nonNull(e.getCache().getLocalMaxSize()) ? e.getCache().getLocalMaxSize() : localMaxSize,
+                    "expiration", Objects.nonNull(e.getCache().getLocalExpiration())
+                            ? e.getCache().getLocalExpiration() : CacheDefinition.DEFAULT_LOCAL_EXPIRATION
+                ))
+                .collect(Collectors.toList());
+
+        context.put("localMaxSize", localMaxSize);
+        context.put("localExpiration", CacheDefinition.DEFAULT_LOCAL_EXPIRATION);
+        context.put("localCaches", localCaches);
+    }
+
+    /**
+     * Adds the entity caches that refresh their entries ahead of expiration to the template context. Each one reloads
+     * an entry through the uncached loadById of the service of its entity, so the refreshed value is read the same way
+     * the cached getById reads it. On SQL databases the read runs in a read-only transaction.
+     *
+     * @param context     the template context
+     * @param packagePath the base package path
+     */
+    private void contributeRefreshingCacheContext(final Map<String, Object> context, final String packagePath) {
+
+        final boolean isMongoDB = DatabaseType.MONGODB.equals(this.crudConfiguration.getDatabase());
+        final List<ModelDefinition> cachedEntities = entities.stream()
+                .filter(e -> Objects.nonNull(e.getStorageName()))
+                .collect(Collectors.toList());
+
+        final List<Map<String, Object>> refreshingCaches = cachedEntities.stream()
+                .map(e -> Map.<String, Object>of(
+                    "name", StringUtils.uncapitalize(e.getName()),
+                    "service", String.format("%sService", ModelNameUtils.stripSuffix(e.getName())),
+                    "idType", FieldUtils.extractIdField(e.getFields()).getType()
+                ))
+                .collect(Collectors.toList());
+
+        context.put("refreshingCaches", refreshingCaches);
+        context.put("readOnlyTransaction", !isMongoDB);
+        context.put("serviceImports", ConfigurationImports.getServiceImports(
+                packagePath, packageConfiguration,
+                refreshingCaches.stream().map(cache -> (String) cache.get("service")).collect(Collectors.toList())
+        ));
+        context.put("importUuid", cachedEntities.stream()
+                .anyMatch(e -> FieldUtils.isIdFieldUUID(FieldUtils.extractIdField(e.getFields()))));
+    }
+
+    /**
+     * Generates the TwoLevelCache and TwoLevelCacheManager Java class files.
+     *
+     * @param outputDir   The directory where the generated file should be written.
+     * @param packagePath The package path where the generated file should be written.
+     */
+    private void generateTwoLevelCache(final String outputDir, final String packagePath) {
+
+        final String configurationPackage = String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration));
+
+        FileWriterUtils.writeToFile(
+            outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration), "TwoLevelCache.java",
+            configurationPackage + FreeMarkerTemplateProcessorUtils.processTemplate("configuration/two-level-cache.ftl", Map.of())
+        );
+        FileWriterUtils.writeToFile(
+            outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration), "TwoLevelCacheManager.java",
+            configurationPackage + FreeMarkerTemplateProcessorUtils.processTemplate("configuration/two-level-cache-manager.ftl", Map.of())
+        );
+    }
+
+    /**
+     * Generates the CacheHelper Java class file. Services use it to read and write many entries of a cache at once,
+     * using the native multi-get of the configured cache type where it has one.
+     *
+     * @param outputDir   The directory where the generated file should be written.
+     * @param packagePath The package path where the generated file should be written.
+     * @param type        The configured cache type.
+     */
+    private void generateCacheHelper(final String outputDir, final String packagePath, final CacheTypeEnum type) {
+
+        final Map<String, Object> context = new HashMap<>();
+        context.put("type", type);
+        context.put("configurationPackage", PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration));
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeUtilsPackage(packagePath, packageConfiguration)))
+                .append(FreeMarkerTemplateProcessorUtils.processTemplate("utils/cache-helper-template.ftl", context));
+
+        FileWriterUtils.writeToFile(
+            outputDir, PackageUtils.computeUtilsSubPackage(packageConfiguration), GeneratorConstants.CACHE_HELPER, sb.toString()
+        );
+    }
+
+    /**
+     * Generates the HazelcastJitteredCache Java class file. It gives every entry its own time to live, so entries
+     * written together do not expire together.
+     *
+     * @param outputDir   The directory where the generated file should be written.
+     * @param packagePath The package path where the generated file should be written.
+     */
+    private void generateHazelcastJitteredCache(final String outputDir, final String packagePath) {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
+                .append(FreeMarkerTemplateProcessorUtils.processTemplate("configuration/hazelcast-jittered-cache.ftl", Map.of()));
+
+        FileWriterUtils.writeToFile(
+            outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration), "HazelcastJitteredCache.java", sb.toString()
+        );
+    }
+
     /**
      * Generates a HibernateLazyNullModule Java class file.
      *
@@ -154,10 +338,12 @@ public class CacheGenerator implements ProjectArtifactGenerator {
     /**
      * Generates a HazelcastJacksonGlobalSerializer Java class file.
      *
-     * @param outputDir   The directory where the generated file should be written.
-     * @param packagePath The package path where the generated file should be written.
+     * @param outputDir     The directory where the generated file should be written.
+     * @param packagePath   The package path where the generated file should be written.
+     * @param serialization The serialization format of the cached values.
      */
-    private void generateHazelcastGlobalSerializer(final String outputDir, final String packagePath) {
+    private void generateHazelcastGlobalSerializer(final String outputDir, final String packagePath,
+            final CacheSerializationEnum serialization) {
 
         final StringBuilder sb = new StringBuilder();
         sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
@@ -165,7 +351,8 @@ public class CacheGenerator implements ProjectArtifactGenerator {
                 "configuration/hazelcast-global-serializer.ftl",
                     Map.of(
                         TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.crudConfiguration.getSpringBootVersion()),
-                        TemplateContextConstants.BASE_PACKAGE, packagePath
+                        TemplateContextConstants.BASE_PACKAGE, packagePath,
+                        "serialization", serialization.name()
                     )
                 ));
         
@@ -174,6 +361,64 @@ public class CacheGenerator implements ProjectArtifactGenerator {
         );
     }
 
+    /**
+     * Computes the template contexts of the Hazelcast compact serializers, one for each cached entity.
+     *
+     * @param outputDir     The directory where the generated files should be written.
+     * @param packagePath   The base package path.
+     * @param schemaVersion The schema version written with every entry.
+     * @return the template contexts of the compact serializers
+     */
+    private List<Map<String, Object>> computeCompactSerializerContexts(final String outputDir, final String packagePath,
+            final int schemaVersion) {
+
+        final boolean sqlDatabase = isSqlDatabase(this.crudConfiguration.getDatabase());
+        final boolean optimisticLocking = Boolean.TRUE.equals(this.crudConfiguration.isOptimisticLocking());
+
+        return entities.stream()
+                .filter(e -> Objects.nonNull(e.getStorageName()))
+                .map(e -> {
+                    final Map<String, Object> context = CompactSerializerTemplateContext.computeCompactSerializerContext(
+                            e, sqlDatabase, optimisticLocking, schemaVersion
+                    );
+                    final List<String> modelNames = new ArrayList<>();
+                    modelNames.add(e.getName());
+                    FieldUtils.extractRelationFields(e.getFields()).stream()
+                            .map(FieldDefinition::getType)
+                            .filter(relationType -> !modelNames.contains(relationType))
+                            .forEach(modelNames::add);
+
+                    final String modelImports = ConfigurationImports.getModelImports(packagePath, packageConfiguration, modelNames)
+                            + ModelImports.computeEnumsAndHelperEntitiesImport(e, outputDir, packageConfiguration);
+                    context.put("modelImports", modelImports.lines()
+                            .sorted()
+                            .map(line -> String.format("%s%n", line))
+                            .collect(Collectors.joining()));
+                    context.put(TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.crudConfiguration.getSpringBootVersion()));
+                    return context;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generates the Hazelcast compact serializer Java class file of an entity.
+     *
+     * @param outputDir   The directory where the generated file should be written.
+     * @param packagePath The package path where the generated file should be written.
+     * @param context     The template context of the compact serializer.
+     */
+    private void generateHazelcastCompactSerializer(final String outputDir, final String packagePath, final Map<String, Object> context) {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeConfigurationPackage(packagePath, packageConfiguration)))
+                .append(FreeMarkerTemplateProcessorUtils.processTemplate("configuration/hazelcast-compact-serializer.ftl", context));
+
+        FileWriterUtils.writeToFile(
+            outputDir, PackageUtils.computeConfigurationSubPackage(packageConfiguration),
+            String.format("%sCompactSerializer.java", context.get(TemplateContextConstants.CLASS_NAME)), sb.toString()
+        );
+    }
+
     /**
      * Checks if the given database type is null or if it is a SQL database type.
      * <p>
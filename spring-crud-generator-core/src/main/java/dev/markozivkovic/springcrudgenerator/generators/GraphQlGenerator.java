@@ -66,16 +66,7 @@ public class GraphQlGenerator implements CodeGenerator {
             return;
         }
 
-        if (!GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL)) {
-            final String pathToGraphQlSchema = String.format("%s/%s", projectMetadata.getProjectBaseDir(), GeneratorConstants.SRC_MAIN_RESOURCES_GRAPHQL);
-    
-            entities.stream()
-                .filter(e -> FieldUtils.isAnyFieldId(e.getFields()))
-                .forEach(e -> this.generateGraphQlSchema(e, pathToGraphQlSchema));
-
-            final String scalars = FreeMarkerTemplateProcessorUtils.processTemplate("graphql/scalars.graphql.ftl", Map.of());
-            FileWriterUtils.writeToFile(pathToGraphQlSchema, "scalars.graphqls", scalars);
-        }
+        this.generateGraphQlSchemas();
 
         if (!FieldUtils.isAnyFieldId(modelDefinition.getFields())) {
             return;
@@ -105,12 +96,33 @@ public class GraphQlGenerator implements CodeGenerator {
 
         this.generateGraphqlConfiguration(outputDir, isAduditEnabled);
         this.generateGraphqlDateTimeConfiguration(outputDir, isAduditEnabled);
-        
-        GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL);
 
         LOGGER.info("Finished generating GraphQL code");
     }
 
+    /**
+     * Generates the GraphQL schema files for all entities with an ID field, together with
+     * the shared scalars schema. The schemas are marked as generated while the lock is still held, so in parallel
+     * mode only the first entity writes them.
+     */
+    private synchronized void generateGraphQlSchemas() {
+
+        if (GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL)) {
+            return;
+        }
+
+        final String pathToGraphQlSchema = String.format("%s/%s", projectMetadata.getProjectBaseDir(), GeneratorConstants.SRC_MAIN_RESOURCES_GRAPHQL);
+
+        entities.stream()
+            .filter(e -> FieldUtils.isAnyFieldId(e.getFields()))
+            .forEach(e -> this.generateGraphQlSchema(e, pathToGraphQlSchema));
+
+        final String scalars = FreeMarkerTemplateProcessorUtils.processTemplate("graphql/scalars.graphql.ftl", Map.of());
+        FileWriterUtils.writeToFile(pathToGraphQlSchema, "scalars.graphqls", scalars);
+
+        GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL);
+    }
+
     /**
      * Generates a GraphQL schema file based on the provided model definition.
      * The generated schema has the same name as the model definition, and it
@@ -194,7 +206,7 @@ public class GraphQlGenerator implements CodeGenerator {
      * @param outputDir the directory where the generated configuration will be written
      * @param isAuditEnabled whether the audit is enabled
      */
-    private void generateGraphqlDateTimeConfiguration(final String outputDir,final boolean isAuditEnabled) {
+    private synchronized void generateGraphqlDateTimeConfiguration(final String outputDir,final boolean isAuditEnabled) {
 
         if (GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL_DATE_TIME_CONFIGURATION) ||
                 !Boolean.TRUE.equals(this.configuration.getGraphql().getScalarConfig())) {
@@ -230,7 +242,7 @@ public class GraphQlGenerator implements CodeGenerator {
      * @param outputDir    the output directory where the configuration file will be generated
      * @param auditEnabled whether audit functionality is enabled
      */
-    private void generateGraphqlConfiguration(final String outputDir, final Boolean auditEnabled) {
+    private synchronized void generateGraphqlConfiguration(final String outputDir, final Boolean auditEnabled) {
 
         if (GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.GRAPHQL_CONFIGURATION)
             || Objects.isNull(this.configuration.getGraphql()) 
@@ -122,6 +122,7 @@ public class OpenApiCodeGenerator implements ProjectArtifactGenerator {
                         .addAdditionalProperty("useSpringBoot3", true)
                         .addAdditionalProperty("interfaceOnly", true)
                         .addAdditionalProperty("hideGenerationTimestamp", true);
+                cfg.setEnableMinimalUpdate(true);
 
                 this.entities.stream()
                         .map(ModelDefinition::getName)
@@ -37,6 +37,7 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 
 public class RestControllerGenerator implements CodeGenerator {
 
@@ -87,6 +88,8 @@ public class RestControllerGenerator implements CodeGenerator {
      *     <li>createResource: creates a new resource</li>
      *     <li>getResource: retrieves a resource by its ID</li>
      *     <li>getAllResources: retrieves all resources</li>
+     *     <li>exportResources: streams all resources as NDJSON</li>
+     *     <li>importResources: imports a stream of resources in chunks</li>
      *     <li>updateResource: updates an existing resource</li>
      *     <li>deleteResource: deletes a resource</li>
      * </ul>
@@ -108,11 +111,19 @@ public class RestControllerGenerator implements CodeGenerator {
         context.put("createBulkResource", generateCreateBulkResourceEndpoint(modelDefinition, swagger));
         context.put("getResource", generateGetResourceEndpoint(modelDefinition, swagger));
         context.put("getAllResources", generateGetAllResourcesEndpoint(modelDefinition, swagger));
+        context.put("exportResources", generateExportResourcesEndpoint(modelDefinition, swagger));
+        context.put("importResources", generateImportResourcesEndpoint(modelDefinition, swagger));
         context.put("updateResource", generateUpdateResourceEndpoint(modelDefinition, swagger));
         context.put("deleteResource", generateDeleteResourceEndpoint(modelDefinition, swagger));
         context.put("addResourceRelation", generateAddResourceRelationEndpoint(modelDefinition, swagger));
         context.put("removeResourceRelation", generateRemoveResourceRelationEndpoint(modelDefinition, swagger));
         context.put(TemplateContextConstants.SWAGGER, swagger);
+        context.put(TemplateContextConstants.EXPORT_ENABLED, modelDefinition.isExportEnabled());
+        context.put(TemplateContextConstants.BULK_CREATE_STREAMING, modelDefinition.isBulkCreateStreaming());
+        if (modelDefinition.isBulkCreateStreaming()) {
+            context.put(TemplateContextConstants.BULK_CREATE_CHUNK_SIZE, modelDefinition.getBulk().getCreate().getChunkSize());
+        }
+        context.put(TemplateContextConstants.IS_SPRING_BOOT_3, SpringBootVersionUtils.isSpringBoot3(this.configuration.getSpringBootVersion()));
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("controller/controller-template.ftl", context);
     }
@@ -187,6 +198,50 @@ public class RestControllerGenerator implements CodeGenerator {
         return FreeMarkerTemplateProcessorUtils.processTemplate("controller/endpoint/get-all-resources.ftl", context);
     }
 
+    /**
+     * Generates the REST endpoint for streaming all resources as newline-delimited JSON. The endpoint is not part of
+     * the OpenAPI specification, so it is mapped directly on the controller also when Swagger generator is enabled.
+     *
+     * @param modelDefinition The model definition for which the export resources endpoint is to be generated.
+     * @param swagger Indicates whether Swagger generator is enabled.
+     * @return A string representation of the export resources endpoint method, or null when export is disabled.
+     */
+    private String generateExportResourcesEndpoint(final ModelDefinition modelDefinition, final boolean swagger) {
+
+        if (!modelDefinition.isExportEnabled()) {
+            return null;
+        }
+
+        final Map<String, Object> context = RestControllerTemplateContext.computeGetAllEndpointContext(modelDefinition);
+        context.put(TemplateContextConstants.SWAGGER, swagger);
+        context.put(
+            TemplateContextConstants.OPEN_IN_VIEW_ENABLED, AdditionalPropertiesUtils.isOpenInViewEnabled(this.configuration.getAdditionalProperties())
+        );
+
+        return FreeMarkerTemplateProcessorUtils.processTemplate("controller/endpoint/export-resources.ftl", context);
+    }
+
+    /**
+     * Generates the REST endpoint for importing a stream of resources. Items are read one by one from an NDJSON
+     * or JSON array request body, validated and persisted in chunks of {@code bulk.create.chunkSize}, each in its own
+     * transaction. Like export, the endpoint is not part of the OpenAPI specification.
+     *
+     * @param modelDefinition The model definition for which the import resources endpoint is to be generated.
+     * @param swagger Indicates whether Swagger generator is enabled.
+     * @return A string representation of the import resources endpoint method, or null when streaming import is disabled.
+     */
+    private String generateImportResourcesEndpoint(final ModelDefinition modelDefinition, final boolean swagger) {
+
+        if (!modelDefinition.isBulkCreateStreaming()) {
+            return null;
+        }
+
+        final Map<String, Object> context = RestControllerTemplateContext.computeCreateEndpointContext(modelDefinition, entities);
+        context.put(TemplateContextConstants.SWAGGER, swagger);
+
+        return FreeMarkerTemplateProcessorUtils.processTemplate("controller/endpoint/import-resources.ftl", context);
+    }
+
     /**
      * Generates the REST endpoint for updating a resource.
      * 
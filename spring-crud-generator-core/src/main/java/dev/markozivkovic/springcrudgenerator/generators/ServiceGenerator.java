@@ -29,6 +29,7 @@ import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.imports.ServiceImports;
 import dev.markozivkovic.springcrudgenerator.imports.ServiceImports.ServiceImportScope;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
@@ -38,6 +39,8 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ServiceUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 
 public class ServiceGenerator implements CodeGenerator {
@@ -77,15 +80,20 @@ public class ServiceGenerator implements CodeGenerator {
         final StringBuilder sb = new StringBuilder();
         sb.append(String.format(PACKAGE, PackageUtils.computeServicePackage(packagePath, packageConfiguration)));
         sb.append(ServiceImports.getBaseImport(
-                modelDefinition, FieldUtils.hasCollectionRelation(modelDefinition, entities) || modelDefinition.isBulkCreateEnabled())
+                modelDefinition, ServiceUtils.hasGetAllByIds(modelDefinition, this.entities) || modelDefinition.isBulkCreateEnabled(),
+                ServiceUtils.hasGetAllByIds(modelDefinition, this.entities))
         );
         
         sb.append(ServiceImports.computeJpaServiceBaseImport(
                     Objects.nonNull(configuration.getCache()) && Boolean.TRUE.equals(configuration.getCache().getEnabled()),
-                    sortEnabled)
+                    sortEnabled, PaginationUtils.resolvePaginationType(modelDefinition), ServiceUtils.usesEntityManager(this.configuration, modelDefinition),
+                    modelDefinition.isExportEnabled() && !this.isMongoDB)
                 )
                 .append(System.lineSeparator())
-                .append(ServiceImports.computeModelsEnumsAndRepositoryImports(modelDefinition, outputDir, ServiceImportScope.SERVICE, packageConfiguration))
+                .append(ServiceImports.computeModelsEnumsAndRepositoryImports(
+                        modelDefinition, outputDir, ServiceImportScope.SERVICE, packageConfiguration,
+                        ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities)
+                ))
                 .append(System.lineSeparator());
 
         sb.append(generateServiceClass(modelDefinition));
@@ -107,6 +115,7 @@ public class ServiceGenerator implements CodeGenerator {
      *     <li>addRelation: adds a relation to a model instance</li>
      *     <li>removeRelation: removes a relation from a model instance</li>
      *     <li>getAllByIds: retrieves all model instances by their IDs</li>
+     *     <li>exportAll: streams all model instances to a consumer</li>
      * </ul>
      * 
      * @param modelDefinition the model definition containing the class name and field definitions
@@ -115,6 +124,8 @@ public class ServiceGenerator implements CodeGenerator {
     private String generateServiceClass(final ModelDefinition modelDefinition) {
         
         final Map<String, Object> context = ServiceTemplateContext.createServiceClassContext(modelDefinition);
+        context.put(TemplateContextConstants.USES_ENTITY_MANAGER, ServiceUtils.usesEntityManager(this.configuration, modelDefinition));
+        context.put(TemplateContextConstants.USES_CACHE_HELPER, ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities));
         context.put("getByIdMethod", generateGetByIdMethod(modelDefinition));
         context.put("getAllMethod", generateGetAllMethod(modelDefinition));
         context.put("createMethod", generateCreateMethod(modelDefinition));
@@ -124,6 +135,7 @@ public class ServiceGenerator implements CodeGenerator {
         context.put("addRelationMethod", addRelationMethod(modelDefinition));
         context.put("removeRelationMethod", removeRelationMethod(modelDefinition));
         context.put("getAllByIds", getAllByIdsMethod(modelDefinition));
+        context.put("exportMethod", generateExportMethod(modelDefinition));
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("service/service-class-template.ftl", context);
     }
@@ -138,14 +150,36 @@ public class ServiceGenerator implements CodeGenerator {
      */
     private String getAllByIdsMethod(final ModelDefinition modelDefinition) {
         
-        if (!FieldUtils.hasCollectionRelation(modelDefinition, entities)) {
+        if (!ServiceUtils.hasGetAllByIds(modelDefinition, this.entities)) {
             return null;
         }
-        final Map<String, Object> context = ServiceTemplateContext.createGetAllByIdsMethodContext(modelDefinition);
+        final Map<String, Object> context = ServiceTemplateContext.createGetAllByIdsMethodContext(
+                modelDefinition, this.configuration.resolveInClauseChunkSize()
+        );
+        this.putPersistenceFlagsToContext(context);
         
         return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/get-all-by-ids.ftl", context);
     }
 
+    /**
+     * Generates the exportAll method as a string for the given model definition.
+     *
+     * @param modelDefinition The model definition for which the exportAll method is to be generated.
+     * @return A string representation of the exportAll method, or null when export is disabled.
+     */
+    private String generateExportMethod(final ModelDefinition modelDefinition) {
+
+        if (!modelDefinition.isExportEnabled()) {
+            return null;
+        }
+
+        final Map<String, Object> context = ServiceTemplateContext.computeExportContext(modelDefinition);
+        context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, this.isMongoDB && Boolean.TRUE.equals(modelDefinition.getSoftDelete()));
+        this.putPersistenceFlagsToContext(context);
+
+        return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/export.ftl", context);
+    }
+
     /**
      * Generates the removeRelation method as a string for the given model definition.
      * This method is responsible for removing a relation from a model entity and 
@@ -201,6 +235,12 @@ public class ServiceGenerator implements CodeGenerator {
 
         final Map<String, Object> context = ServiceTemplateContext.computeGetAllContext(modelDefinition);
         context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, this.isMongoDB && Boolean.TRUE.equals(modelDefinition.getSoftDelete()));
+        context.put(TemplateContextConstants.COUNT_CACHED, PaginationUtils.isCountCached(modelDefinition, configuration.getCache()));
+        context.put(TemplateContextConstants.CACHE_SYNC, this.isCacheSync());
+
+        if (PaginationUtils.isKeysetPagination(modelDefinition)) {
+            return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/get-all-keyset.ftl", context);
+        }
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/get-all.ftl", context);
     }
@@ -234,6 +274,11 @@ public class ServiceGenerator implements CodeGenerator {
 
         final Map<String, Object> context = ServiceTemplateContext.computeBulkCreateContext(modelDefinition);
         this.putPersistenceFlagsToContext(context);
+        context.put(TemplateContextConstants.FLUSH_BULK_CHUNKS, ServiceUtils.isFlushBulkChunks(this.configuration, modelDefinition));
+        context.put(TemplateContextConstants.DETACH_BULK_CHUNKS, ServiceUtils.isDetachBulkChunks(this.configuration, modelDefinition));
+        if (ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities)) {
+            context.put(TemplateContextConstants.ID_FIELD, FieldUtils.extractIdField(modelDefinition.getFields()).getName());
+        }
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/create-bulk.ftl", context);
     }
@@ -281,6 +326,7 @@ public class ServiceGenerator implements CodeGenerator {
         final Map<String, Object> context = ServiceTemplateContext.computeGetByIdContext(modelDefinition);
         context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, this.isMongoDB && Boolean.TRUE.equals(modelDefinition.getSoftDelete()));
         this.putPersistenceFlagsToContext(context);
+        context.put(TemplateContextConstants.CACHE_REFRESH_LOADER, this.isCacheRefreshLoader());
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("service/method/get-by-id.ftl", context);
     }
@@ -295,6 +341,27 @@ public class ServiceGenerator implements CodeGenerator {
         context.put(TemplateContextConstants.IS_MONGO_DB, this.isMongoDB);
         context.put(TemplateContextConstants.CACHE,
                 Objects.nonNull(this.configuration.getCache()) && Boolean.TRUE.equals(this.configuration.getCache().getEnabled()));
+        context.put(TemplateContextConstants.CACHE_SYNC, this.isCacheSync());
+    }
+
+    /**
+     * Checks whether cached reads are synchronized, so concurrent misses on the same key load the value only once.
+     *
+     * @return true if cache stampede protection is enabled, false otherwise
+     */
+    private boolean isCacheSync() {
+        return Objects.nonNull(this.configuration.getCache()) && Boolean.TRUE.equals(this.configuration.getCache().getEnabled())
+                && Boolean.TRUE.equals(this.configuration.getCache().getStampedeProtection());
+    }
+
+    /**
+     * Checks whether the service exposes an uncached loadById. Caffeine caches with stampede protection refresh their
+     * entries through it, because calling the cached getById would return the entry being refreshed.
+     *
+     * @return true if the loadById method is generated, false otherwise
+     */
+    private boolean isCacheRefreshLoader() {
+        return this.isCacheSync() && CacheTypeEnum.CAFFEINE.equals(this.configuration.getCache().getType());
     }
 
 }
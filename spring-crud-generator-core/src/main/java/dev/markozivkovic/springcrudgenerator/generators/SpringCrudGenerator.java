@@ -16,13 +16,17 @@
 
 package dev.markozivkovic.springcrudgenerator.generators;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -59,7 +63,7 @@ public class SpringCrudGenerator implements CodeGenerator, ProjectArtifactGenera
             final ProjectMetadata projectMetadata, final PackageConfiguration packageConfiguration) {
 
         this.ARTIFACT_GENERATORS = new LinkedHashMap<>();
-        this.ARTIFACT_GENERATORS.put(ADDITIONAL_PROPERTY, new AdditionalPropertyGenerator(crudConfiguration, packageConfiguration, projectMetadata));
+        this.ARTIFACT_GENERATORS.put(ADDITIONAL_PROPERTY, new AdditionalPropertyGenerator(crudConfiguration, packageConfiguration, projectMetadata, entities));
         this.ARTIFACT_GENERATORS.put(CACHE, new CacheGenerator(crudConfiguration, packageConfiguration, entities));
         this.ARTIFACT_GENERATORS.put(DOCKER, new DockerGenerator(crudConfiguration, projectMetadata));
         this.ARTIFACT_GENERATORS.put(EXCEPTION, new ExceptionGenerator(packageConfiguration));
@@ -83,22 +87,48 @@ public class SpringCrudGenerator implements CodeGenerator, ProjectArtifactGenera
     @Override
     public void generate(final String outputDir) {
 
-        ARTIFACT_GENERATORS.forEach((key, generator) -> generator.generate(outputDir));
+        ARTIFACT_GENERATORS.forEach((key, generator) ->
+            GenerationMetrics.record(MetricCategory.ARTIFACT_GENERATOR, key, () -> generator.generate(outputDir))
+        );
     }
 
     @Override
     public void generate(final ModelDefinition modelDefinition, final String outputDir) {
 
+        this.generate(modelDefinition, outputDir, GENERATORS.keySet());
+    }
+
+    /**
+     * Generates only the given artifacts of the provided model definition.
+     *
+     * @param modelDefinition the model definition containing the details for code generation
+     * @param outputDir       the directory where the generated code will be written
+     * @param artifacts       the keys of the artifact generators to run, see {@link #getArtifactKeys()}
+     */
+    public void generate(final ModelDefinition modelDefinition, final String outputDir, final Set<String> artifacts) {
+
         LOGGER.info("Generator started for model: {}", modelDefinition.getName());
 
         GENERATORS.forEach((key, generator) -> {
 
-            generator.generate(modelDefinition, outputDir);
+            if (!artifacts.contains(key)) {
+                return;
+            }
+            GenerationMetrics.record(MetricCategory.GENERATOR, key, () -> generator.generate(modelDefinition, outputDir));
         });
 
         LOGGER.info("Generator finished for model: {}", modelDefinition.getName());
     }
 
+    /**
+     * Returns the keys of the per-entity artifact generators, in generation order.
+     *
+     * @return the keys of the per-entity artifact generators
+     */
+    public Set<String> getArtifactKeys() {
+        return Collections.unmodifiableSet(GENERATORS.keySet());
+    }
+
     /**
      * Registers database-specific generators using the {@link DatabaseSupportRegistry} SPI.
      * Database support implementations are discovered at runtime via {@link java.util.ServiceLoader}.
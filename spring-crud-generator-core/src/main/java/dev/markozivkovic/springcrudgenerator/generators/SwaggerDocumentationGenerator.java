@@ -38,6 +38,7 @@ import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SwaggerUtils;
 
@@ -239,6 +240,7 @@ public class SwaggerDocumentationGenerator implements ProjectArtifactGenerator {
         context.put("create", createEndpoint(e));
         context.put("createBulk", createBulkEndpoint(e));
         context.put("getAll", getAllEndpoint(e));
+        context.put("count", countEndpoint(e));
         context.put("getById", getByIdEndpoint(e));
         context.put("deleteById", deleteByIdEndpoint(e));
         context.put("updateById", updateByIdEndpoint(e));
@@ -373,6 +375,23 @@ public class SwaggerDocumentationGenerator implements ProjectArtifactGenerator {
         return FreeMarkerTemplateProcessorUtils.processTemplate("swagger/endpoint/get-all-endpoint.ftl", context);
     }
 
+    /**
+     * Generates the count endpoint for the given model definition and returns it as a string.
+     *
+     * @param modelDefinition The model definition for which the count endpoint is generated.
+     * @return The count endpoint as a string, or null when the model does not use slice pagination.
+     */
+    private String countEndpoint(final ModelDefinition modelDefinition) {
+
+        if (!PaginationUtils.isSlicePagination(modelDefinition)) {
+            return null;
+        }
+
+        final Map<String, Object> context = SwaggerTemplateContext.computeBaseContext(modelDefinition);
+
+        return FreeMarkerTemplateProcessorUtils.processTemplate("swagger/endpoint/count-endpoint.ftl", context);
+    }
+
     /**
      * Resolves the server URL for the generated swagger documentation. This method uses the "basePath" property from the configuration
      * and the port number from the docker configuration (if present). If the port number is not present, it defaults to
@@ -26,7 +26,11 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
+import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants.GeneratorContextKeys;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.imports.TransferObjectImports;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
@@ -40,14 +44,13 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
 public class TransferObjectGenerator implements CodeGenerator {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(TransferObjectGenerator.class);
 
-    private static boolean PAGE_TO_GENERATED = false;
-
     private final CrudConfiguration configuration;
     private final List<ModelDefinition> entities;
     private final PackageConfiguration packageConfiguration;
@@ -98,6 +101,9 @@ public class TransferObjectGenerator implements CodeGenerator {
         final String packagePathRest = PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration);
         final String filePathRest = PackageUtils.computeRestTransferObjectSubPackage(packageConfiguration);
         this.generateTO(modelDefinition, outputDir, packagePathRest, filePathRest, TransferObjectTarget.REST);
+        if (modelDefinition.isListProjectionEnabled()) {
+            this.generateListTO(modelDefinition, outputDir, packagePathRest, filePathRest);
+        }
         if (Objects.isNull(this.configuration.getOpenApi()) || !Boolean.TRUE.equals(this.configuration.getOpenApi().getGenerateResources())) {
             this.generateCreateTO(modelDefinition, outputDir, packagePathRest, filePathRest, TransferObjectTarget.REST);
             this.generateUpdateTO(modelDefinition, outputDir, packagePathRest, filePathRest, TransferObjectTarget.REST);
@@ -112,6 +118,12 @@ public class TransferObjectGenerator implements CodeGenerator {
         }
 
         generatePageTO(packagePath, outputDir);
+        if (PaginationUtils.isSlicePagination(modelDefinition)) {
+            generateSliceTO(packagePath, outputDir);
+        }
+        if (modelDefinition.isBulkCreateStreaming()) {
+            generateImportSummaryTO(packagePath, outputDir);
+        }
         generateInputTO(modelDefinition, outputDir, packagePath);
         
         LOGGER.info("Generator transfer object for model: {}", modelDefinition.getName());
@@ -135,6 +147,30 @@ public class TransferObjectGenerator implements CodeGenerator {
         );
     }
 
+    /**
+     * Generates a list transfer object for the given model definition. It contains only the ID field and the fields
+     * of the list projection, and is returned by the list endpoint instead of the full transfer object.
+     * 
+     * @param modelDefinition the model definition containing the class and field details
+     * @param outputDir       the directory where the generated class will be written
+     * @param packagePath     the package path of the directory where the generated class will be written
+     * @param subDir          the sub directory where the generated class will be written
+     */
+    private void generateListTO(final ModelDefinition modelDefinition, final String outputDir, final String packagePath,
+                final String subDir) {
+
+        final ModelDefinition projection = new ModelDefinition()
+                .setName(modelDefinition.getName())
+                .setFields(FieldUtils.extractListProjectionFields(modelDefinition));
+        final Map<String, Object> toContext = TransferObjectTemplateContext.computeTransferObjectContext(projection);
+        toContext.put(TemplateContextConstants.CLASS_NAME, String.format("%sList", ModelNameUtils.stripSuffix(modelDefinition.getName())));
+
+        generateTO(
+            projection, outputDir, packagePath, subDir, ModelNameUtils.computeListTOModelName(modelDefinition.getName()),
+            toContext, TransferObjectType.BASE, TransferObjectTarget.REST
+        );
+    }
+
     /**
      * Generates a create transfer object for the given model definition.
      * 
@@ -326,7 +362,11 @@ public class TransferObjectGenerator implements CodeGenerator {
      */
     private void generatePageTO(final String packagePath, final String outputDir) {
 
-        if (!PAGE_TO_GENERATED) {
+        synchronized (TransferObjectGenerator.class) {
+
+            if (GeneratorContext.isGenerated(GeneratorContextKeys.PAGE_TO)) {
+                return;
+            }
 
             final StringBuilder pageSb = new StringBuilder();
             pageSb.append(String.format(PACKAGE, PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration)));
@@ -339,7 +379,66 @@ public class TransferObjectGenerator implements CodeGenerator {
             pageSb.append(pageTOObjectTemplate);
 
             FileWriterUtils.writeToFile(outputDir, PackageUtils.computeTransferObjectSubPackage(packageConfiguration), "PageTO", pageSb.toString());
-            PAGE_TO_GENERATED = true;
+            GeneratorContext.markGenerated(GeneratorContextKeys.PAGE_TO);
+        }
+    }
+
+    /**
+     * Generates the SliceTO record. This record is used as a transfer object for resources paged without a count query.
+     * It contains the page size, the page number, whether a next page exists, and the content of the page.
+     * 
+     * @param packagePath the package path to use as the prefix for the generated class
+     * @param outputDir the directory where the generated class will be written
+     */
+    private void generateSliceTO(final String packagePath, final String outputDir) {
+
+        synchronized (TransferObjectGenerator.class) {
+
+            if (GeneratorContext.isGenerated(GeneratorContextKeys.SLICE_TO)) {
+                return;
+            }
+
+            final StringBuilder sliceSb = new StringBuilder();
+            sliceSb.append(String.format(PACKAGE, PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration)));
+            sliceSb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                    "transferobject/slice-transfer-object-template.ftl",
+                    Map.of()
+            ));
+
+            FileWriterUtils.writeToFile(
+                    outputDir, PackageUtils.computeTransferObjectSubPackage(packageConfiguration), GeneratorConstants.SLICE_TO, sliceSb.toString()
+            );
+            GeneratorContext.markGenerated(GeneratorContextKeys.SLICE_TO);
+        }
+    }
+
+    /**
+     * Generates the ImportSummaryTO record. This record is returned by streaming bulk import endpoints.
+     * It contains the number of received, imported and failed records, and the errors of each failed chunk.
+     * 
+     * @param packagePath the package path to use as the prefix for the generated class
+     * @param outputDir the directory where the generated class will be written
+     */
+    private void generateImportSummaryTO(final String packagePath, final String outputDir) {
+
+        synchronized (TransferObjectGenerator.class) {
+
+            if (GeneratorContext.isGenerated(GeneratorContextKeys.IMPORT_SUMMARY_TO)) {
+                return;
+            }
+
+            final StringBuilder importSummarySb = new StringBuilder();
+            importSummarySb.append(String.format(PACKAGE, PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration)));
+            importSummarySb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                    "transferobject/import-summary-transfer-object-template.ftl",
+                    Map.of()
+            ));
+
+            FileWriterUtils.writeToFile(
+                    outputDir, PackageUtils.computeTransferObjectSubPackage(packageConfiguration), GeneratorConstants.IMPORT_SUMMARY_TO,
+                    importSummarySb.toString()
+            );
+            GeneratorContext.markGenerated(GeneratorContextKeys.IMPORT_SUMMARY_TO);
         }
     }
 
@@ -43,6 +43,7 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.utils.UnitTestUtils;
@@ -82,9 +83,7 @@ public class GraphQlUnitTestGenerator implements CodeGenerator {
         final String packagePath = PackageUtils.getPackagePathFromOutputDir(outputDir);
         final String modelWithoutSuffix = ModelNameUtils.stripSuffix(modelDefinition.getName());
 
-        if (!GeneratorContext.isGenerated(GeneratorContextKeys.RESOLVER_TEST_CONFIG)) {
-            this.generateConfigFile(testOutputDir, packagePath);
-        }
+        this.generateConfigFile(testOutputDir, packagePath);
 
         this.generateQueryUnitTests(modelDefinition, outputDir, testOutputDir, packagePath, modelWithoutSuffix);
         this.generateMutationUnitTests(modelDefinition, outputDir, testOutputDir, packagePath, modelWithoutSuffix);
@@ -96,8 +95,10 @@ public class GraphQlUnitTestGenerator implements CodeGenerator {
      * @param testOutputDir    the directory where the generated unit test will be written
      * @param packagePath      the package path of the directory where the generated code will be written
      */
-    private void generateConfigFile(final String testOutputDir, final String packagePath) {
+    private synchronized void generateConfigFile(final String testOutputDir, final String packagePath) {
         
+        if (GeneratorContext.isGenerated(GeneratorContextKeys.RESOLVER_TEST_CONFIG)) return;
+
         final StringBuilder sb = new StringBuilder();
         sb.append(String.format(PACKAGE, PackageUtils.computeResolversPackage(packagePath, packageConfiguration)))
                 .append(FreeMarkerTemplateProcessorUtils.processTemplate(
@@ -173,13 +174,15 @@ public class GraphQlUnitTestGenerator implements CodeGenerator {
         context.put("idField", idField.getName());
         context.put("invalidIdType", UnitTestUtils.computeInvalidIdType(idField));
         context.put("testImports", ResolverImports.computeQueryResolverTestImports(
-                UnitTestUtils.isInstancioEnabled(configuration), configuration.getSpringBootVersion()
+                UnitTestUtils.isInstancioEnabled(configuration), configuration.getSpringBootVersion(),
+                PaginationUtils.resolvePaginationType(modelDefinition)
         ));
         context.put("projectImports", ResolverImports.computeProjectImportsForQueryUnitTests(outputDir, modelDefinition, packageConfiguration, isGlobalExceptionHandlerEnabled));
         context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
         context.put("isGlobalExceptionHandlerEnabled", isGlobalExceptionHandlerEnabled);
         context.put(TemplateContextConstants.IS_SPRING_BOOT_3, springBoot3);
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
 
         sb.append(String.format(PACKAGE, PackageUtils.computeResolversPackage(packagePath, packageConfiguration)));
         sb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
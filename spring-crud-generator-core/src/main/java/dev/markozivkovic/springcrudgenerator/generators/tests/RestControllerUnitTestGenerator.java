@@ -45,6 +45,7 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
@@ -488,7 +489,8 @@ public class RestControllerUnitTestGenerator implements CodeGenerator {
         context.put("idField", idField.getName());
         context.put("invalidIdType", UnitTestUtils.computeInvalidIdType(idField));
         context.put("testImports", RestControllerImports.computeGetEndpointTestImports(
-                UnitTestUtils.isInstancioEnabled(configuration), configuration.getSpringBootVersion()
+                UnitTestUtils.isInstancioEnabled(configuration), configuration.getSpringBootVersion(),
+                PaginationUtils.resolvePaginationType(modelDefinition)
         ));
         context.put("projectImports", RestControllerImports.computeControllerTestProjectImports(
                 modelDefinition, outputDir, swagger, RestEndpointOperation.GET, packageConfiguration, isGlobalExceptionHandlerEnabled
@@ -500,6 +502,11 @@ public class RestControllerUnitTestGenerator implements CodeGenerator {
                 TemplateContextConstants.OPEN_IN_VIEW_ENABLED, AdditionalPropertiesUtils.isOpenInViewEnabled(this.configuration.getAdditionalProperties())
         );
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
+        if (modelDefinition.isListProjectionEnabled()) {
+            context.put(TemplateContextConstants.LIST_PROJECTION, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+            context.put(TemplateContextConstants.LIST_TRANSFER_OBJECT, ModelNameUtils.computeListTOModelName(modelDefinition.getName()));
+        }
 
         sb.append(String.format(PACKAGE, PackageUtils.computeControllerPackage(packagePath, packageConfiguration)));
         sb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
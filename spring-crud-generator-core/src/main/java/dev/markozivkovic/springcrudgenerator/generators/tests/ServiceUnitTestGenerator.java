@@ -41,6 +41,8 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ServiceUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.utils.UnitTestUtils;
 import dev.markozivkovic.springcrudgenerator.utils.UnitTestUtils.TestDataGeneratorConfig;
@@ -102,11 +104,15 @@ public class ServiceUnitTestGenerator implements CodeGenerator {
      */
     private String generateTestServiceClass(final ModelDefinition modelDefinition, final String outputDir) {
 
-        final String baseImports = ServiceImports.getTestBaseImport(modelDefinition);
-        final String projectImports = ServiceImports.computeModelsEnumsAndRepositoryImports(modelDefinition, outputDir, ServiceImportScope.SERVICE_TEST, packageConfiguration);
+        final String baseImports = ServiceImports.getTestBaseImport(modelDefinition, ServiceUtils.hasGetAllByIds(modelDefinition, this.entities));
+        final String projectImports = ServiceImports.computeModelsEnumsAndRepositoryImports(
+            modelDefinition, outputDir, ServiceImportScope.SERVICE_TEST, packageConfiguration,
+            ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities)
+        );
         final boolean isSpringBoot3 = SpringBootVersionUtils.isSpringBoot3(this.configuration.getSpringBootVersion());
         final String testImports = ServiceImports.computeTestServiceImports(
-            modelDefinition, entities, UnitTestUtils.isInstancioEnabled(configuration), isSpringBoot3
+            modelDefinition, entities, UnitTestUtils.isInstancioEnabled(configuration), isSpringBoot3,
+            ServiceUtils.usesEntityManager(this.configuration, modelDefinition)
         );
         final String modelWithoutSuffix = ModelNameUtils.stripSuffix(modelDefinition.getName());
         final FieldDefinition idField = FieldUtils.extractIdField(modelDefinition.getFields());
@@ -127,11 +133,14 @@ public class ServiceUnitTestGenerator implements CodeGenerator {
         context.put("getAllMethod", this.generateGetAllMethod(modelDefinition));
         context.put("createMethod", this.generateCreateMethod(modelDefinition));
         context.put("createBulkMethod", this.generateCreateBulkMethod(modelDefinition));
+        context.put(TemplateContextConstants.USES_ENTITY_MANAGER, ServiceUtils.usesEntityManager(this.configuration, modelDefinition));
+        context.put(TemplateContextConstants.USES_CACHE_HELPER, ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities));
         context.put("updateMethod", this.generateUpdateMethod(modelDefinition));
         context.put("deleteMethod", this.generateDeleteByIdMethod(modelDefinition));
         context.put("addRelationMethod", this.addRelationMethod(modelDefinition));
         context.put("removeRelationMethod", this.removeRelationMethod(modelDefinition));
         context.put("getAllByIds", this.getAllByIdsMethod(modelDefinition));
+        context.put("exportMethod", this.generateExportMethod(modelDefinition));
         context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
         context.put(TemplateContextConstants.IS_SPRING_BOOT_3, isSpringBoot3);
 
@@ -149,16 +158,40 @@ public class ServiceUnitTestGenerator implements CodeGenerator {
      */
     private String getAllByIdsMethod(final ModelDefinition modelDefinition) {
 
-        if (!FieldUtils.hasCollectionRelation(modelDefinition, entities)) {
+        if (!ServiceUtils.hasGetAllByIds(modelDefinition, this.entities)) {
             return null;
         }
-        final Map<String, Object> context = ServiceTemplateContext.createGetAllByIdsMethodContext(modelDefinition);
+        final Map<String, Object> context = ServiceTemplateContext.createGetAllByIdsMethodContext(
+                modelDefinition, this.configuration.resolveInClauseChunkSize()
+        );
         final TestDataGeneratorConfig generatorConfig = UnitTestUtils.resolveGeneratorConfig(configuration.getTests().getDataGenerator());
         context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
+        context.put(TemplateContextConstants.USES_CACHE_HELPER, ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities));
         
         return FreeMarkerTemplateProcessorUtils.processTemplate("test/unit/service/method/get-all-by-ids.ftl", context);
     }
 
+    /**
+     * Generates the exportAll method as a string for the given model definition.
+     *
+     * @param modelDefinition the model definition containing the class name and field definitions
+     * @return a string representation of the exportAll method unit test, or null when export is disabled
+     */
+    private String generateExportMethod(final ModelDefinition modelDefinition) {
+
+        if (!modelDefinition.isExportEnabled()) {
+            return null;
+        }
+
+        final Map<String, Object> context = ServiceTemplateContext.computeExportContext(modelDefinition);
+        context.put(TemplateContextConstants.IS_MONGO_DB, this.isMongoDB);
+        context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, this.isMongoDB && Boolean.TRUE.equals(modelDefinition.getSoftDelete()));
+        final TestDataGeneratorConfig generatorConfig = UnitTestUtils.resolveGeneratorConfig(configuration.getTests().getDataGenerator());
+        context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
+
+        return FreeMarkerTemplateProcessorUtils.processTemplate("test/unit/service/method/export.ftl", context);
+    }
+
     /**
      * Generates the removeRelation method as a string for the given model definition.
      * 
@@ -271,6 +304,9 @@ public class ServiceUnitTestGenerator implements CodeGenerator {
         final Map<String, Object> context = ServiceTemplateContext.computeBulkCreateContext(modelDefinition);
         final TestDataGeneratorConfig generatorConfig = UnitTestUtils.resolveGeneratorConfig(configuration.getTests().getDataGenerator());
         context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
+        context.put(TemplateContextConstants.FLUSH_BULK_CHUNKS, ServiceUtils.isFlushBulkChunks(this.configuration, modelDefinition));
+        context.put(TemplateContextConstants.DETACH_BULK_CHUNKS, ServiceUtils.isDetachBulkChunks(this.configuration, modelDefinition));
+        context.put(TemplateContextConstants.USES_CACHE_HELPER, ServiceUtils.usesCacheHelper(this.configuration, modelDefinition, this.entities));
 
         return FreeMarkerTemplateProcessorUtils.processTemplate("test/unit/service/method/create-bulk.ftl", context);
     }
@@ -287,6 +323,10 @@ public class ServiceUnitTestGenerator implements CodeGenerator {
         context.put(TemplateContextConstants.SOFT_DELETE_ENABLED, this.isMongoDB && Boolean.TRUE.equals(modelDefinition.getSoftDelete()));
         final TestDataGeneratorConfig generatorConfig = UnitTestUtils.resolveGeneratorConfig(configuration.getTests().getDataGenerator());
         context.putAll(DataGeneratorTemplateContext.computeDataGeneratorContext(generatorConfig));
+
+        if (PaginationUtils.isKeysetPagination(modelDefinition)) {
+            return FreeMarkerTemplateProcessorUtils.processTemplate("test/unit/service/method/get-all-keyset.ftl", context);
+        }
         
         return FreeMarkerTemplateProcessorUtils.processTemplate("test/unit/service/method/get-all.ftl", context);
     }
@@ -18,10 +18,13 @@ package dev.markozivkovic.springcrudgenerator.generators.tests;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
 import dev.markozivkovic.springcrudgenerator.generators.CodeGenerator;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -52,11 +55,35 @@ public class SpringCrudTestGenerator implements CodeGenerator {
 
     @Override
     public void generate(final ModelDefinition modelDefinition, final String outputDir) {
+        this.generate(modelDefinition, outputDir, this.GENERATORS.keySet());
+    }
+
+    /**
+     * Generates only the given test artifacts of the provided model definition.
+     *
+     * @param modelDefinition the model definition containing the details for code generation
+     * @param outputDir       the directory where the generated code will be written
+     * @param artifacts       the keys of the test generators to run, see {@link #getArtifactKeys()}
+     */
+    public void generate(final ModelDefinition modelDefinition, final String outputDir, final Set<String> artifacts) {
         LOGGER.info("Test generator started for model: {}", modelDefinition.getName());
 
-        this.GENERATORS.values().forEach(generator -> generator.generate(modelDefinition, outputDir));
+        this.GENERATORS.forEach((key, generator) -> {
+            if (artifacts.contains(key)) {
+                GenerationMetrics.record(MetricCategory.TEST_GENERATOR, key, () -> generator.generate(modelDefinition, outputDir));
+            }
+        });
 
         LOGGER.info("Test generator finished for model: {}", modelDefinition.getName());
     }
+
+    /**
+     * Returns the keys of the test generators.
+     *
+     * @return the keys of the test generators
+     */
+    public Set<String> getArtifactKeys() {
+        return this.GENERATORS.keySet();
+    }
     
 }
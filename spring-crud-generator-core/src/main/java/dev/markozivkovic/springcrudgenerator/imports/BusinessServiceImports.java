@@ -41,6 +41,8 @@ import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
 public class BusinessServiceImports {
 
+    private static final String RESOURCE_NOT_FOUND_EXCEPTION = "ResourceNotFoundException";
+
     private BusinessServiceImports() {}
     
     /**
@@ -75,12 +77,16 @@ public class BusinessServiceImports {
         
         final boolean hasRelationLists = FieldUtils.isAnyRelationCollectionList(fields);
         final boolean hasRelationSets = FieldUtils.isAnyRelationCollectionSet(fields);
-        final boolean requiresCollectorsImport = modelDefinition.isBulkCreateEnabled() && (hasRelationLists || hasRelationSets);
+        final boolean isBulkCreateEnabled = modelDefinition.isBulkCreateEnabled();
 
         ImportCommon.addIf(hasRelationLists || importList, imports, ImportConstants.Java.LIST);
         ImportCommon.addIf(hasRelationSets, imports, ImportConstants.Java.SET);
         ImportCommon.addIf(hasRelationSets, imports, ImportConstants.Java.HASH_SET);
-        ImportCommon.addIf(requiresCollectorsImport, imports, ImportConstants.Java.COLLECTORS);
+        ImportCommon.addIf(isBulkCreateEnabled, imports, ImportConstants.Java.ARRAY_LIST);
+        ImportCommon.addIf(isBulkCreateEnabled, imports, ImportConstants.Java.MAP);
+        ImportCommon.addIf(isBulkCreateEnabled, imports, ImportConstants.Java.OBJECTS);
+        ImportCommon.addIf(isBulkCreateEnabled, imports, ImportConstants.Java.FUNCTION);
+        ImportCommon.addIf(isBulkCreateEnabled, imports, ImportConstants.Java.COLLECTORS);
         ImportCommon.importListAndSetForJsonFields(modelDefinition, imports, CollectionImplImportsMode.INTERFACES_ONLY);
 
         final String sortedImports = imports.stream()
@@ -125,6 +131,7 @@ public class BusinessServiceImports {
         ImportCommon.addIf(hasRelationLists || modelDefinition.isBulkCreateEnabled(), imports, ImportConstants.Java.LIST);
         ImportCommon.addIf(hasRelationSets, imports, ImportConstants.Java.SET);
         ImportCommon.addIf(hasRelationCollections, imports, ImportConstants.Java.COLLECTORS);
+        ImportCommon.addIf(modelDefinition.isBulkCreateEnabled(), imports, ImportConstants.Java.OBJECTS);
         ImportCommon.importListAndSetForJsonFields(modelDefinition, imports, CollectionImplImportsMode.INTERFACES_ONLY);
 
         final String sortedImports = imports.stream()
@@ -172,6 +179,10 @@ public class BusinessServiceImports {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeServicePackage(packagePath, packageConfiguration), ModelNameUtils.stripSuffix(relation.getType()) + "Service")));
         });
 
+        if (modelDefinition.isBulkCreateEnabled() && BusinessServiceImportScope.BUSINESS_SERVICE.equals(importScope)) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeExceptionPackage(packagePath, packageConfiguration), RESOURCE_NOT_FOUND_EXCEPTION)));
+        }
+
         if (GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION) && BusinessServiceImportScope.BUSINESS_SERVICE.equals(importScope)) {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeAnnotationPackage(packagePath, packageConfiguration), GeneratorConstants.Transaction.OPTIMISTIC_LOCKING_RETRY)));
         }
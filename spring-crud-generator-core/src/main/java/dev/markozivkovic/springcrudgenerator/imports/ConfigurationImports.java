@@ -45,4 +45,23 @@ public class ConfigurationImports {
                 .collect(Collectors.joining());
     }
 
+    /**
+     * Returns a string containing import statements for the given service names.
+     * 
+     * @param basePath             the base path of the project
+     * @param packageConfiguration the package configuration of the project
+     * @param serviceNames         the list of service names to generate import statements for
+     * @return A string containing the necessary import statements
+     */
+    public static String getServiceImports(final String basePath, final PackageConfiguration packageConfiguration,
+                final List<String> serviceNames) {
+        
+        return serviceNames.stream()
+                .map(serviceName -> String.format(
+                    "import %s.%s;%n", PackageUtils.computeServicePackage(basePath, packageConfiguration), serviceName
+                ))
+                .sorted()
+                .collect(Collectors.joining());
+    }
+
 }
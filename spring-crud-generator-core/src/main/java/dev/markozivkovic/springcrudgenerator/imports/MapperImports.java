@@ -85,6 +85,15 @@ public class MapperImports {
 
         imports.add(transferObjectImport);
 
+        if (!isGraphQl && modelDefinition.isListProjectionEnabled()) {
+            imports.add(String.format(
+                IMPORT, PackageUtils.join(PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration), ModelNameUtils.computeListProjectionName(modelDefinition.getName()))
+            ));
+            imports.add(String.format(
+                IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), ModelNameUtils.computeListTOModelName(modelDefinition.getName()))
+            ));
+        }
+
         return imports.stream()
                 .sorted()
                 .collect(Collectors.joining());
@@ -19,9 +19,12 @@ package dev.markozivkovic.springcrudgenerator.imports;
 import static dev.markozivkovic.springcrudgenerator.constants.ImportConstants.IMPORT;
 
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
+import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
@@ -54,6 +57,10 @@ public final class RepositoryImports {
             imports.add(String.format(IMPORT, ImportConstants.Java.OPTIONAL));
         }
 
+        if (modelDefinition.isExportEnabled()) {
+            imports.add(String.format(IMPORT, ImportConstants.Java.STREAM));
+        }
+
         return ImportUtils.sortAndJoinFormattedImports(imports);
     }
 
@@ -79,10 +86,14 @@ public final class RepositoryImports {
      * @param packageConfiguration package configuration
      * @param modelName            model name
      * @param softDeleteEnabled    whether soft delete is enabled for this entity
+     * @param pagination           pagination type of the entity
+     * @param exportEnabled        whether the streaming export is enabled for this entity
+     * @param listProjection       whether the list endpoint reads a projection of this entity
      * @return formatted import statements
      */
     public static String computeMongoRepositoryImports(final String packagePath, final PackageConfiguration packageConfiguration,
-            final String modelName, final boolean softDeleteEnabled) {
+            final String modelName, final boolean softDeleteEnabled, final PaginationTypeEnum pagination, final boolean exportEnabled,
+            final boolean listProjection) {
 
         final Set<String> javaImports = new LinkedHashSet<>();
         final Set<String> orgImports = new LinkedHashSet<>();
@@ -90,9 +101,23 @@ public final class RepositoryImports {
         orgImports.add(ImportConstants.SpringData.MONGO_REPOSITORY);
         if (softDeleteEnabled) {
             javaImports.add(ImportConstants.Java.OPTIONAL);
+        }
+        if (PaginationTypeEnum.KEYSET.equals(pagination)) {
+            orgImports.add(ImportConstants.SpringData.LIMIT);
+            orgImports.add(ImportConstants.SpringData.SCROLL_POSITION);
+            orgImports.add(ImportConstants.SpringData.SORT);
+            orgImports.add(ImportConstants.SpringData.WINDOW);
+        } else if (PaginationTypeEnum.SLICE.equals(pagination)) {
+            orgImports.add(ImportConstants.SpringData.PAGEABLE);
+            orgImports.add(ImportConstants.SpringData.SLICE);
+        } else if (softDeleteEnabled || listProjection) {
             orgImports.add(ImportConstants.SpringData.PAGE);
             orgImports.add(ImportConstants.SpringData.PAGEABLE);
         }
+        if (exportEnabled) {
+            javaImports.add(ImportConstants.Java.STREAM);
+            orgImports.add(ImportConstants.SpringData.MONGO_META);
+        }
 
         final String javaGroup = ImportUtils.sortAndFormatImports(javaImports);
         final String orgGroup = ImportUtils.sortAndFormatImports(orgImports);
@@ -100,5 +125,35 @@ public final class RepositoryImports {
 
         return ImportUtils.joinImportGroups(javaGroup, orgGroup, projectImport);
     }
+
+    /**
+     * Computes imports required by the list projection record of a model. Only the types of the projected fields
+     * are imported.
+     *
+     * @param modelDefinition      model definition
+     * @param packagePath          package path of generated sources
+     * @param packageConfiguration package configuration
+     * @return formatted import statements followed by a blank line, or an empty string if nothing is imported
+     */
+    public static String computeListProjectionImports(final ModelDefinition modelDefinition, final String packagePath,
+            final PackageConfiguration packageConfiguration) {
+
+        final List<FieldDefinition> fields = FieldUtils.extractListProjectionFields(modelDefinition);
+        final Set<String> javaImports = new LinkedHashSet<>();
+
+        ImportCommon.addIf(FieldUtils.isAnyFieldBigDecimal(fields), javaImports, ImportConstants.Java.BIG_DECIMAL);
+        ImportCommon.addIf(FieldUtils.isAnyFieldBigInteger(fields), javaImports, ImportConstants.Java.BIG_INTEGER);
+        ImportCommon.addIf(FieldUtils.isAnyFieldLocalDate(fields), javaImports, ImportConstants.Java.LOCAL_DATE);
+        ImportCommon.addIf(FieldUtils.isAnyFieldLocalDateTime(fields), javaImports, ImportConstants.Java.LOCAL_DATE_TIME);
+        ImportCommon.addIf(FieldUtils.isAnyFieldUUID(fields), javaImports, ImportConstants.Java.UUID);
+
+        final String javaGroup = ImportUtils.sortAndFormatImports(javaImports);
+        final String enumGroup = ImportUtils.sortAndJoinFormattedImports(EnumImports.computeEnumImports(
+                new ModelDefinition().setName(modelDefinition.getName()).setFields(fields), packagePath, packageConfiguration
+        ));
+        final String imports = ImportUtils.joinImportGroups(javaGroup, enumGroup);
+
+        return imports.isEmpty() ? imports : imports + System.lineSeparator();
+    }
     
 }
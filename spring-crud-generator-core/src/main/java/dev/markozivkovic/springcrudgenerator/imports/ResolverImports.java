@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -31,6 +32,7 @@ import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 
 public class ResolverImports {
@@ -92,7 +94,7 @@ public class ResolverImports {
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeGraphqlTransferObjectPackage(packagePath, packageConfiguration), String.format("%sCreateTO", modelWithoutSuffix))));
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeGraphqlTransferObjectPackage(packagePath, packageConfiguration), String.format("%sUpdateTO", modelWithoutSuffix))));
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeGraphQlMapperPackage(packagePath, packageConfiguration), String.format("%sGraphQLMapper", modelWithoutSuffix))));
-        imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), "PageTO")));
+        imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), PaginationUtils.computePageTransferObjectName(modelDefinition))));
 
         if (!FieldUtils.extractRelationTypes(modelDefinition.getFields()).isEmpty()) {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeBusinessServicePackage(packagePath, packageConfiguration), String.format("%sBusinessService", modelWithoutSuffix))));
@@ -108,9 +110,11 @@ public class ResolverImports {
      * 
      * @param isInstancioEnabled whether Instancio is enabled
      * @param springBootVersion the Spring Boot version
+     * @param pagination the pagination type of the page query
      * @return a string containing the necessary import statements for a query resolver test
      */
-    public static String computeQueryResolverTestImports(final boolean isInstancioEnabled, final String springBootVersion) {
+    public static String computeQueryResolverTestImports(final boolean isInstancioEnabled, final String springBootVersion,
+            final PaginationTypeEnum pagination) {
         
         final Set<String> imports = new LinkedHashSet<>();
 
@@ -119,8 +123,16 @@ public class ResolverImports {
         imports.add(String.format(IMPORT, ImportConstants.JUnit.TEST));
         imports.add(String.format(IMPORT, ImportConstants.SpringBean.AUTOWIRED));
         imports.add(String.format(IMPORT, ImportConstants.SpringContext.IMPORT));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
+        if (PaginationTypeEnum.KEYSET.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SCROLL_POSITION));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.WINDOW));
+        } else if (PaginationTypeEnum.SLICE.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE_IMPL));
+        } else {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
+        }
         imports.add(String.format(IMPORT, ImportConstants.SpringCore.PARAMETERIZED_TYPE_REFERENCE));
 
         if (SpringBootVersionUtils.isSpringBoot3(springBootVersion)) {
@@ -197,7 +209,7 @@ public class ResolverImports {
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeEntityPackage(packagePath, packageConfiguration), modelDefinition.getName())));
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeServicePackage(packagePath, packageConfiguration), String.format("%sService", modelWithoutSuffix))));
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeGraphqlTransferObjectPackage(packagePath, packageConfiguration), String.format("%sTO", modelWithoutSuffix))));
-        imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), GeneratorConstants.PAGE_TO)));
+        imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), PaginationUtils.computePageTransferObjectName(modelDefinition))));
 
         if (isGlobalExceptionHandlerEnabled) {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeExceptionHandlerPackage(packagePath, packageConfiguration), GeneratorConstants.GLOBAL_GRAPHQL_EXCEPTION_HANDLER)));
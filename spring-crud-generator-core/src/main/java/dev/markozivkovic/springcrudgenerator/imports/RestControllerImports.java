@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -34,6 +35,7 @@ import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
@@ -72,6 +74,14 @@ public class RestControllerImports {
             imports.add(String.format(IMPORT, ImportConstants.Java.COLLECTORS));
         }
         ImportCommon.addIf(bulkCreateEnabled, imports, String.format(IMPORT, ImportConstants.Java.LIST));
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, String.format(IMPORT, ImportConstants.Java.IO_EXCEPTION));
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, String.format(IMPORT, ImportConstants.Java.UNCHECKED_IO_EXCEPTION));
+        if (modelDefinition.isBulkCreateStreaming()) {
+            imports.add(String.format(IMPORT, ImportConstants.Java.INPUT_STREAM));
+            imports.add(String.format(IMPORT, ImportConstants.Java.IO_EXCEPTION));
+            imports.add(String.format(IMPORT, ImportConstants.Java.ARRAY_LIST));
+            imports.add(String.format(IMPORT, ImportConstants.Java.SET));
+        }
 
         relations.forEach(realtionField -> {
 
@@ -164,7 +174,7 @@ public class RestControllerImports {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), String.format("%sTO", modelWithoutSuffix))));
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), ModelNameUtils.computeCreateTOModelName(modelWithoutSuffix))));
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), ModelNameUtils.computeUpdateTOModelName(modelWithoutSuffix))));
-            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), GeneratorConstants.PAGE_TO)));
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), PaginationUtils.computePageTransferObjectName(modelDefinition))));
         } else {
             imports.add(String.format(
                 IMPORT,
@@ -176,6 +186,15 @@ public class RestControllerImports {
             ));
         }
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestMapperPackage(packagePath, packageConfiguration), String.format("%sRestMapper", modelWithoutSuffix))));
+        if (modelDefinition.isBulkCreateStreaming()) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), GeneratorConstants.IMPORT_SUMMARY_TO)));
+        }
+        if (modelDefinition.isListProjectionEnabled()) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration), ModelNameUtils.computeListProjectionName(modelDefinition.getName()))));
+            if (!swagger) {
+                imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), ModelNameUtils.computeListTOModelName(modelDefinition.getName()))));
+            }
+        }
 
         return imports.stream()
                 .sorted()
@@ -340,9 +359,11 @@ public class RestControllerImports {
      *
      * @param isInstancioEnabled whether instancio is enabled
      * @param springBootVersion the Spring Boot version
+     * @param pagination the pagination type of the endpoint
      * @return the imports string for a controller test
      */
-    public static String computeGetEndpointTestImports(final boolean isInstancioEnabled, final String springBootVersion) {
+    public static String computeGetEndpointTestImports(final boolean isInstancioEnabled, final String springBootVersion,
+            final PaginationTypeEnum pagination) {
 
         final Set<String> imports = new LinkedHashSet<>();
 
@@ -360,8 +381,16 @@ public class RestControllerImports {
             imports.add(String.format(IMPORT, ImportConstants.SpringTest.MOCKITO_BEAN));
         }
 
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
+        if (PaginationTypeEnum.KEYSET.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SCROLL_POSITION));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.WINDOW));
+        } else if (PaginationTypeEnum.SLICE.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE_IMPL));
+        } else {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
+        }
         imports.add(String.format(IMPORT, ImportConstants.SpringTest.CONTEXT_CONFIGURATION));
         imports.add(String.format(IMPORT, ImportConstants.SpringTest.MOCKMVC));
         imports.add(String.format(IMPORT, ImportConstants.SpringTest.RESULT_ACTIONS));
@@ -688,7 +717,7 @@ public class RestControllerImports {
             if (!RestEndpointOperation.DELETE.equals(restEndpointOperation) && !RestEndpointOperation.REMOVE_RELATION.equals(restEndpointOperation)) {
                 imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), String.format("%sTO", modelWithoutSuffix))));
             }
-            ImportCommon.addIf(RestEndpointOperation.GET.equals(restEndpointOperation), imports, String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), GeneratorConstants.PAGE_TO)));
+            ImportCommon.addIf(RestEndpointOperation.GET.equals(restEndpointOperation), imports, String.format(IMPORT, PackageUtils.join(PackageUtils.computeTransferObjectPackage(packagePath, packageConfiguration), PaginationUtils.computePageTransferObjectName(modelDefinition))));
         } else {
             imports.add(String.format(
                 IMPORT,
@@ -696,6 +725,10 @@ public class RestControllerImports {
             ));
             ImportCommon.addIf(RestEndpointOperation.GET.equals(restEndpointOperation), imports, String.format(IMPORT, PackageUtils.join(PackageUtils.computeGeneratedModelPackage(packagePath, packageConfiguration, unCapModelWithoutSuffix), String.format("%ssGet200Response", modelWithoutSuffix))));
         }
+        if (RestEndpointOperation.GET.equals(restEndpointOperation) && modelDefinition.isListProjectionEnabled()) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration), ModelNameUtils.computeListProjectionName(modelDefinition.getName()))));
+            ImportCommon.addIf(!swagger, imports, String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestTransferObjectPackage(packagePath, packageConfiguration), ModelNameUtils.computeListTOModelName(modelDefinition.getName()))));
+        }
         if (!RestEndpointOperation.DELETE.equals(restEndpointOperation) && !RestEndpointOperation.REMOVE_RELATION.equals(restEndpointOperation)) {
             imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRestMapperPackage(packagePath, packageConfiguration), String.format("%sRestMapper", modelWithoutSuffix))));
         }
@@ -28,6 +28,7 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants.GeneratorContextKeys;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon.CollectionImplImportsMode;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
@@ -36,6 +37,7 @@ import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
@@ -52,9 +54,10 @@ public class ServiceImports {
      *
      * @param modelDefinition the model definition containing field information used to determine necessary imports.
      * @param importList      whether to include the java.util.List import.
+     * @param importMap       whether to include the java.util.Map and java.util.HashMap imports.
      * @return A string containing the necessary import statements for the model.
      */
-    public static String getBaseImport(final ModelDefinition modelDefinition, final boolean importList) {
+    public static String getBaseImport(final ModelDefinition modelDefinition, final boolean importList, final boolean importMap) {
         
         final StringBuilder sb = new StringBuilder();
 
@@ -75,6 +78,21 @@ public class ServiceImports {
 
         ImportCommon.addIf(hasRelationLists || importList, imports, ImportConstants.Java.LIST);
         ImportCommon.addIf(hasRelationSets, imports, ImportConstants.Java.SET);
+        ImportCommon.addIf(modelDefinition.isBulkCreateChunked(), imports, ImportConstants.Java.ARRAY_LIST);
+        ImportCommon.addIf(importMap, imports, ImportConstants.Java.HASH_MAP);
+        ImportCommon.addIf(importMap, imports, ImportConstants.Java.MAP);
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, ImportConstants.Java.CONSUMER);
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, ImportConstants.Java.STREAM);
+
+        if (PaginationUtils.isKeysetPagination(modelDefinition)) {
+            imports.add(ImportConstants.Java.BASE64);
+            imports.add(ImportConstants.Java.LINKED_HASH_MAP);
+            imports.add(ImportConstants.Java.MAP);
+            imports.add(ImportConstants.Java.STANDARD_CHARSETS);
+            imports.add(ImportConstants.Java.URL_DECODER);
+            imports.add(ImportConstants.Java.URL_ENCODER);
+            ImportCommon.addIf(SortUtils.isSortEnabled(modelDefinition), imports, ImportConstants.Java.LIST);
+        }
 
         final String sortedImports = imports.stream()
                 .map(imp -> String.format(IMPORT, imp))
@@ -95,22 +113,41 @@ public class ServiceImports {
      *
      * @param cache Whether to include the Spring caching annotations.
      * @param sortEnabled whether sort imports should be included
+     * @param pagination the pagination type of the service
+     * @param entityManager whether the service uses the {@code EntityManager} to flush chunked bulk creates or detach exported entities
+     * @param readOnlyTransaction whether the service declares a read-only transaction, which requires the
+     *                            {@code Transactional} import even when the retry annotation is generated
      * @return A string containing the necessary import statements for the base JPA service.
      */
-    public static String computeJpaServiceBaseImport(final boolean cache, final boolean sortEnabled) {
+    public static String computeJpaServiceBaseImport(final boolean cache, final boolean sortEnabled, final PaginationTypeEnum pagination,
+            final boolean entityManager, final boolean readOnlyTransaction) {
 
         final Set<String> imports = new LinkedHashSet<>();
 
+        if (entityManager) {
+            imports.add(String.format(IMPORT, ImportConstants.Jakarta.ENTITY_MANAGER));
+        }
+
         imports.add(String.format(IMPORT, ImportConstants.Logger.LOGGER));
         imports.add(String.format(IMPORT, ImportConstants.Logger.LOGGER_FACTORY));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+        if (PaginationTypeEnum.KEYSET.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.LIMIT));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SCROLL_POSITION));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.WINDOW));
+        } else if (PaginationTypeEnum.SLICE.equals(pagination)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE));
+        } else {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+        }
         imports.add(String.format(IMPORT, ImportConstants.SpringStereotype.SERVICE));
         if (sortEnabled) {
             imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT));
             imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT_DIRECTION));
         }
-        if (!GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION)) {
+        if (!GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION) || readOnlyTransaction) {
             imports.add(String.format(IMPORT, ImportConstants.SpringTransaction.TRANSACTIONAL));
         }
 
@@ -132,10 +169,11 @@ public class ServiceImports {
      * @param outputDir             the directory where the generated code will be written
      * @param importScope           the import scope
      * @param packageConfiguration  the package configuration
+     * @param cacheHelper           whether the service uses the generated {@code CacheHelper}
      * @return A string containing the necessary import statements for the given model.
      */
     public static String computeModelsEnumsAndRepositoryImports(final ModelDefinition modelDefinition, final String outputDir,
-                final ServiceImportScope importScope, final PackageConfiguration packageConfiguration) {
+                final ServiceImportScope importScope, final PackageConfiguration packageConfiguration, final boolean cacheHelper) {
 
         final Set<String> imports = new LinkedHashSet<>();
 
@@ -155,6 +193,9 @@ public class ServiceImports {
         
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeEntityPackage(packagePath, packageConfiguration), modelDefinition.getName())));
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration), String.format("%sRepository", modelWithoutSuffix))));
+        if (modelDefinition.isListProjectionEnabled()) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration), ModelNameUtils.computeListProjectionName(modelDefinition.getName()))));
+        }
         imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeExceptionPackage(packagePath, packageConfiguration), RESOURCE_NOT_FOUND_EXCEPTION)));
 
         if (GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION) && ServiceImportScope.SERVICE.equals(importScope)) {
@@ -167,6 +208,10 @@ public class ServiceImports {
 
         relationModels.forEach(relation -> imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeEntityPackage(packagePath, packageConfiguration), relation))));
 
+        if (cacheHelper) {
+            imports.add(String.format(IMPORT, PackageUtils.join(PackageUtils.computeUtilsPackage(packagePath, packageConfiguration), GeneratorConstants.CACHE_HELPER)));
+        }
+
         return imports.stream()
                 .sorted()
                 .collect(Collectors.joining());
@@ -179,13 +224,18 @@ public class ServiceImports {
      * @param entities            the list of all model definitions
      * @param isInstancioEnabled  whether Instancio is enabled
      * @param isSpringBoot3       whether Spring Boot 3 is enabled
+     * @param entityManager       whether the tested service uses the {@code EntityManager} to flush chunked bulk creates or detach exported entities
      * @return A string containing the necessary import statements for the generated test service.
      */
     public static String computeTestServiceImports(final ModelDefinition modelDefinition, final List<ModelDefinition> entities, 
-            final boolean isInstancioEnabled, final boolean isSpringBoot3) {
+            final boolean isInstancioEnabled, final boolean isSpringBoot3, final boolean entityManager) {
 
         final Set<String> imports = new LinkedHashSet<>();
 
+        if (entityManager) {
+            imports.add(String.format(IMPORT, ImportConstants.Jakarta.ENTITY_MANAGER));
+        }
+
         imports.add(String.format(IMPORT, ImportConstants.JUnit.AFTER_EACH));
         imports.add(String.format(IMPORT, ImportConstants.JUnit.BEFORE_EACH));
         imports.add(String.format(IMPORT, ImportConstants.JUnit.TEST));
@@ -195,9 +245,20 @@ public class ServiceImports {
         } else {
             imports.add(String.format(IMPORT, ImportConstants.SpringTest.MOCKITO_BEAN));
         }
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
-        imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+        if (PaginationUtils.isKeysetPagination(modelDefinition)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.LIMIT));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SCROLL_POSITION));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.WINDOW));
+        } else if (PaginationUtils.isSlicePagination(modelDefinition)) {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.SLICE_IMPL));
+        } else {
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_IMPL));
+            imports.add(String.format(IMPORT, ImportConstants.SpringData.PAGE_REQUEST));
+        }
         if (SortUtils.isSortEnabled(modelDefinition)) {
             imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT));
             imports.add(String.format(IMPORT, ImportConstants.SpringData.SORT_DIRECTION));
@@ -214,10 +275,12 @@ public class ServiceImports {
     /**
      * Computes the necessary import statements for the generated test service.
      *
-     * @param modelDefinition the model definition containing the class name, table name, and field definitions
+     * @param modelDefinition   the model definition containing the class name, table name, and field definitions
+     * @param importCollections whether to include the java.util.ArrayList and java.util.Collections imports
+     *                          used by the getAllByIds test
      * @return A string containing the necessary import statements for the generated test service.
      */
-    public static String getTestBaseImport(final ModelDefinition modelDefinition) {
+    public static String getTestBaseImport(final ModelDefinition modelDefinition, final boolean importCollections) {
         
         final StringBuilder sb = new StringBuilder();
         final FieldDefinition idField = FieldUtils.extractIdField(modelDefinition.getFields());
@@ -226,6 +289,11 @@ public class ServiceImports {
         imports.add(ImportConstants.Java.OPTIONAL);
         imports.add(ImportConstants.Java.LIST);
         ImportCommon.addIf(FieldUtils.isIdFieldUUID(idField), imports, ImportConstants.Java.UUID);
+        ImportCommon.addIf(PaginationUtils.isKeysetPagination(modelDefinition), imports, ImportConstants.Java.MAP);
+        ImportCommon.addIf(importCollections, imports, ImportConstants.Java.ARRAY_LIST);
+        ImportCommon.addIf(importCollections, imports, ImportConstants.Java.COLLECTIONS);
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, ImportConstants.Java.ARRAY_LIST);
+        ImportCommon.addIf(modelDefinition.isExportEnabled(), imports, ImportConstants.Java.STREAM);
         
         ImportCommon.importListAndSetForSimpleCollection(modelDefinition, imports);
 
@@ -21,6 +21,8 @@ import java.util.Objects;
 public class BulkCreateDefinition {
 
     private Boolean enabled = Boolean.FALSE;
+    private Integer chunkSize;
+    private Boolean streaming = Boolean.FALSE;
 
     public BulkCreateDefinition() {
 
@@ -35,6 +37,24 @@ public class BulkCreateDefinition {
         return this;
     }
 
+    public Integer getChunkSize() {
+        return this.chunkSize;
+    }
+
+    public BulkCreateDefinition setChunkSize(final Integer chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public Boolean getStreaming() {
+        return this.streaming;
+    }
+
+    public BulkCreateDefinition setStreaming(final Boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this)
@@ -43,18 +63,22 @@ public class BulkCreateDefinition {
             return false;
         }
         final BulkCreateDefinition bulkCreateDefinition = (BulkCreateDefinition) o;
-        return Objects.equals(enabled, bulkCreateDefinition.enabled);
+        return Objects.equals(enabled, bulkCreateDefinition.enabled) &&
+                Objects.equals(chunkSize, bulkCreateDefinition.chunkSize) &&
+                Objects.equals(streaming, bulkCreateDefinition.streaming);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(enabled);
+        return Objects.hash(enabled, chunkSize, streaming);
     }
 
     @Override
     public String toString() {
         return "{" +
             " enabled='" + getEnabled() + "'" +
+            ", chunkSize='" + getChunkSize() + "'" +
+            ", streaming='" + getStreaming() + "'" +
             "}";
     }
 }
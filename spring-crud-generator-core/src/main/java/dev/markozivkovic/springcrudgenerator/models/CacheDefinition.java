@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models;
+
+import java.util.Objects;
+
+public class CacheDefinition {
+
+    public static final long DEFAULT_LOCAL_MAX_SIZE = 1000L;
+    public static final int DEFAULT_LOCAL_EXPIRATION = 1;
+
+    private Long localMaxSize;
+    private Integer localExpiration;
+
+    public CacheDefinition() {
+
+    }
+
+    public CacheDefinition(final Long localMaxSize, final Integer localExpiration) {
+        this.localMaxSize = localMaxSize;
+        this.localExpiration = localExpiration;
+    }
+
+    public Long getLocalMaxSize() {
+        return this.localMaxSize;
+    }
+
+    public CacheDefinition setLocalMaxSize(final Long localMaxSize) {
+        this.localMaxSize = localMaxSize;
+        return this;
+    }
+
+    public Integer getLocalExpiration() {
+        return this.localExpiration;
+    }
+
+    public CacheDefinition setLocalExpiration(final Integer localExpiration) {
+        this.localExpiration = localExpiration;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof CacheDefinition)) {
+            return false;
+        }
+        final CacheDefinition cacheDefinition = (CacheDefinition) o;
+        return Objects.equals(localMaxSize, cacheDefinition.localMaxSize) &&
+                Objects.equals(localExpiration, cacheDefinition.localExpiration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(localMaxSize, localExpiration);
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+            " localMaxSize='" + getLocalMaxSize() + "'" +
+            ", localExpiration='" + getLocalExpiration() + "'" +
+            "}";
+    }
+}
@@ -26,6 +26,7 @@ public class CrudConfiguration {
     private Integer javaVersion;
     private String springBootVersion;
     private Boolean optimisticLocking;
+    private Integer inClauseChunkSize;
     private DockerConfiguration docker;
     private CacheConfiguration cache;
     private OpenApiDefinition openApi;
@@ -42,7 +43,7 @@ public class CrudConfiguration {
     }
 
     public CrudConfiguration(final DatabaseType database, final Integer javaVersion, final String springBootVersion,
-            final Boolean optimisticLocking, final DockerConfiguration docker, final CacheConfiguration cache,
+            final Boolean optimisticLocking, final Integer inClauseChunkSize, final DockerConfiguration docker, final CacheConfiguration cache,
             final OpenApiDefinition openApi, final GraphQLDefinition graphql, final ErrorResponse errorResponse,
             final Boolean migrationScripts, final Boolean dependencyCheck, final TestConfiguration tests,
             final AiContextConfiguration ai, final Map<String, Object> additionalProperties) {
@@ -50,6 +51,7 @@ public class CrudConfiguration {
         this.javaVersion = javaVersion;
         this.springBootVersion = springBootVersion;
         this.optimisticLocking = optimisticLocking;
+        this.inClauseChunkSize = inClauseChunkSize;
         this.docker = docker;
         this.cache = cache;
         this.openApi = openApi;
@@ -102,6 +104,32 @@ public class CrudConfiguration {
         return this;
     }
 
+    public Integer getInClauseChunkSize() {
+        return this.inClauseChunkSize;
+    }
+
+    public CrudConfiguration setInClauseChunkSize(final Integer inClauseChunkSize) {
+        this.inClauseChunkSize = inClauseChunkSize;
+        return this;
+    }
+
+    /**
+     * Resolves the number of IDs passed to a single IN clause. Falls back to the database specific default
+     * when the chunk size is not configured.
+     *
+     * @return the configured IN clause chunk size or the default for the configured database
+     */
+    public int resolveInClauseChunkSize() {
+
+        if (Objects.nonNull(this.inClauseChunkSize)) {
+            return this.inClauseChunkSize;
+        }
+
+        return Objects.nonNull(this.database)
+                ? this.database.getDefaultInClauseChunkSize()
+                : DatabaseType.DEFAULT_IN_CLAUSE_CHUNK_SIZE;
+    }
+
     public DockerConfiguration getDocker() {
         return this.docker;
     }
@@ -204,6 +232,7 @@ public class CrudConfiguration {
                 Objects.equals(javaVersion, crudConfiguration.javaVersion) &&
                 Objects.equals(springBootVersion, crudConfiguration.springBootVersion) &&
                 Objects.equals(optimisticLocking, crudConfiguration.optimisticLocking) &&
+                Objects.equals(inClauseChunkSize, crudConfiguration.inClauseChunkSize) &&
                 Objects.equals(docker, crudConfiguration.docker) &&
                 Objects.equals(cache, crudConfiguration.cache) &&
                 Objects.equals(openApi, crudConfiguration.openApi) &&
@@ -219,8 +248,8 @@ public class CrudConfiguration {
     @Override
     public int hashCode() {
         return Objects.hash(
-            database, javaVersion, springBootVersion, optimisticLocking, docker, cache, openApi,
-            graphql, errorResponse, migrationScripts, dependencyCheck, tests, ai, additionalProperties
+            database, javaVersion, springBootVersion, optimisticLocking, inClauseChunkSize, docker, cache,
+            openApi, graphql, errorResponse, migrationScripts, dependencyCheck, tests, ai, additionalProperties
         );
     }
 
@@ -231,6 +260,7 @@ public class CrudConfiguration {
             ", javaVersion='" + getJavaVersion() + "'" +
             ", springBootVersion='" + getSpringBootVersion() + "'" +
             ", optimisticLocking='" + isOptimisticLocking() + "'" +
+            ", inClauseChunkSize='" + getInClauseChunkSize() + "'" +
             ", docker='" + getDocker() + "'" +
             ", cache='" + getCache() + "'" +
             ", openApi='" + getOpenApi() + "'" +
@@ -245,11 +275,27 @@ public class CrudConfiguration {
     }
 
     public enum DatabaseType {
-        MYSQL,
-        MARIADB,
-        POSTGRESQL,
-        MSSQL,
-        MONGODB;
+        MYSQL(4096),
+        MARIADB(4096),
+        POSTGRESQL(4096),
+        MSSQL(2048),
+        MONGODB(4096);
+
+        /**
+         * Power of two, so padded IN clauses of a full chunk keep their size.
+         * It also stays below the SQL Server limit of 2100 parameters per statement.
+         */
+        public static final int DEFAULT_IN_CLAUSE_CHUNK_SIZE = 2048;
+
+        private final int defaultInClauseChunkSize;
+
+        DatabaseType(final int defaultInClauseChunkSize) {
+            this.defaultInClauseChunkSize = defaultInClauseChunkSize;
+        }
+
+        public int getDefaultInClauseChunkSize() {
+            return this.defaultInClauseChunkSize;
+        }
 
         public boolean isSql() {
             return this != MONGODB;
@@ -404,6 +450,9 @@ public class CrudConfiguration {
         private CacheTypeEnum type;
         private Long maxSize;
         private Integer expiration;
+        private Boolean stampedeProtection;
+        private CacheSerializationEnum serialization;
+        private Integer schemaVersion;
 
         public CacheConfiguration() {}
 
@@ -450,6 +499,33 @@ public class CrudConfiguration {
             return this;
         }
 
+        public Boolean getStampedeProtection() {
+            return this.stampedeProtection;
+        }
+
+        public CacheConfiguration setStampedeProtection(final Boolean stampedeProtection) {
+            this.stampedeProtection = stampedeProtection;
+            return this;
+        }
+
+        public CacheSerializationEnum getSerialization() {
+            return this.serialization;
+        }
+
+        public CacheConfiguration setSerialization(final CacheSerializationEnum serialization) {
+            this.serialization = serialization;
+            return this;
+        }
+
+        public Integer getSchemaVersion() {
+            return this.schemaVersion;
+        }
+
+        public CacheConfiguration setSchemaVersion(final Integer schemaVersion) {
+            this.schemaVersion = schemaVersion;
+            return this;
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (o == this)
@@ -461,12 +537,15 @@ public class CrudConfiguration {
             return Objects.equals(enabled, cacheConfiguration.enabled) &&
                     Objects.equals(type, cacheConfiguration.type) &&
                     Objects.equals(maxSize, cacheConfiguration.maxSize) &&
-                    Objects.equals(expiration, cacheConfiguration.expiration);
+                    Objects.equals(expiration, cacheConfiguration.expiration) &&
+                    Objects.equals(stampedeProtection, cacheConfiguration.stampedeProtection) &&
+                    Objects.equals(serialization, cacheConfiguration.serialization) &&
+                    Objects.equals(schemaVersion, cacheConfiguration.schemaVersion);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(enabled, type, maxSize, expiration);
+            return Objects.hash(enabled, type, maxSize, expiration, stampedeProtection, serialization, schemaVersion);
         }
 
         @Override
@@ -476,11 +555,18 @@ public class CrudConfiguration {
                 ", type='" + getType() + "'" +
                 ", maxSize='" + getMaxSize() + "'" +
                 ", expiration='" + getExpiration() + "'" +
+                ", stampedeProtection='" + getStampedeProtection() + "'" +
+                ", serialization='" + getSerialization() + "'" +
+                ", schemaVersion='" + getSchemaVersion() + "'" +
                 "}";
         }
 
         public enum CacheTypeEnum {
-            REDIS, CAFFEINE, SIMPLE, HAZELCAST
+            REDIS, CAFFEINE, SIMPLE, HAZELCAST, TWO_LEVEL
+        }
+
+        public enum CacheSerializationEnum {
+            JSON, SMILE, CBOR, COMPACT
         }
 
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
+
+/**
+ * Dependency graph of the entities of a specification. An entity depends on every other entity it references
+ * through a relation ({@link RelationDefinition}) or a JSON field ({@code JSON<Type>}).
+ */
+public final class EntityDependencyGraph {
+
+    private final Map<String, Set<String>> dependencies;
+    private final Map<String, Set<String>> dependents;
+
+    private EntityDependencyGraph(final Map<String, Set<String>> dependencies, final Map<String, Set<String>> dependents) {
+        this.dependencies = dependencies;
+        this.dependents = dependents;
+    }
+
+    /**
+     * Builds the dependency graph of the given entities. References to entities that are not part of the given
+     * collection and references of an entity to itself are ignored.
+     *
+     * @param entities the entities
+     * @return the dependency graph
+     */
+    public static EntityDependencyGraph of(final Collection<ModelDefinition> entities) {
+
+        final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        final Map<String, Set<String>> dependents = new LinkedHashMap<>();
+        entities.forEach(entity -> {
+            dependencies.put(entity.getName(), new TreeSet<>());
+            dependents.put(entity.getName(), new TreeSet<>());
+        });
+
+        entities.stream()
+                .filter(entity -> Objects.nonNull(entity.getFields()))
+                .forEach(entity -> entity.getFields().stream()
+                        .map(EntityDependencyGraph::referencedType)
+                        .filter(Objects::nonNull)
+                        .filter(type -> !type.equals(entity.getName()))
+                        .filter(dependencies::containsKey)
+                        .forEach(type -> {
+                            dependencies.get(entity.getName()).add(type);
+                            dependents.get(type).add(entity.getName());
+                        })
+                );
+
+        return new EntityDependencyGraph(dependencies, dependents);
+    }
+
+    /**
+     * Returns the names of the entities directly referenced by the given entity, sorted by name.
+     *
+     * @param entityName the entity name
+     * @return the direct dependencies of the entity
+     */
+    public Set<String> dependenciesOf(final String entityName) {
+        return Collections.unmodifiableSet(this.dependencies.getOrDefault(entityName, Set.of()));
+    }
+
+    /**
+     * Returns the names of the entities that directly reference the given entity, sorted by name.
+     *
+     * @param entityName the entity name
+     * @return the direct dependents of the entity
+     */
+    public Set<String> dependentsOf(final String entityName) {
+        return Collections.unmodifiableSet(this.dependents.getOrDefault(entityName, Set.of()));
+    }
+
+    /**
+     * Returns the names of all entities the given entity depends on, directly or transitively, sorted by name.
+     * The entity itself is not included, even if it is part of a cycle.
+     *
+     * @param entityName the entity name
+     * @return the transitive dependencies of the entity
+     */
+    public Set<String> transitiveDependencies(final String entityName) {
+
+        final Set<String> closure = closure(Set.of(entityName), this.dependencies);
+        closure.remove(entityName);
+        return closure;
+    }
+
+    /**
+     * Returns the transitive closure of the given entities over the dependents relation: the given entities and all
+     * entities that depend on any of them, directly or transitively, sorted by name.
+     *
+     * @param entityNames the entity names
+     * @return the given entities and their transitive dependents
+     */
+    public Set<String> transitiveDependents(final Collection<String> entityNames) {
+        return closure(entityNames, this.dependents);
+    }
+
+    private static Set<String> closure(final Collection<String> roots, final Map<String, Set<String>> edges) {
+
+        final Set<String> visited = new TreeSet<>();
+        final Deque<String> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            final String current = queue.poll();
+            if (visited.add(current)) {
+                queue.addAll(edges.getOrDefault(current, Set.of()));
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Returns the name of the entity referenced by the given field through a relation or a JSON type, or null if
+     * the field does not reference another entity.
+     *
+     * @param field the field
+     * @return the referenced entity name, or null
+     */
+    private static String referencedType(final FieldDefinition field) {
+
+        if (Objects.nonNull(field.getRelation())) {
+            return field.getType();
+        }
+        if (Objects.nonNull(field.getType()) && FieldUtils.isJsonField(field)) {
+            return FieldUtils.extractJsonInnerElementType(field);
+        }
+        return null;
+    }
+
+}
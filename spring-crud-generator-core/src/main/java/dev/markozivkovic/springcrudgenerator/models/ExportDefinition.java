@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models;
+
+import java.util.Objects;
+
+public class ExportDefinition {
+
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private Boolean enabled = Boolean.FALSE;
+    private Integer fetchSize;
+
+    public ExportDefinition() {
+
+    }
+
+    public ExportDefinition(final Boolean enabled, final Integer fetchSize) {
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+    }
+
+    public Boolean getEnabled() {
+        return this.enabled;
+    }
+
+    public ExportDefinition setEnabled(final Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Integer getFetchSize() {
+        return this.fetchSize;
+    }
+
+    public ExportDefinition setFetchSize(final Integer fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    public int resolveFetchSize() {
+        return Objects.nonNull(this.fetchSize) ? this.fetchSize : DEFAULT_FETCH_SIZE;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof ExportDefinition)) {
+            return false;
+        }
+        final ExportDefinition exportDefinition = (ExportDefinition) o;
+        return Objects.equals(enabled, exportDefinition.enabled) &&
+                Objects.equals(fetchSize, exportDefinition.fetchSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, fetchSize);
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+            " enabled='" + getEnabled() + "'" +
+            ", fetchSize='" + getFetchSize() + "'" +
+            "}";
+    }
+}
@@ -18,13 +18,17 @@ package dev.markozivkovic.springcrudgenerator.models;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 public class GeneratorState {
     
     private String generatorVersion;
     private String configuration;
     private List<ModelState> models = new ArrayList<>();
+    private String parentVersion;
+    private Map<String, SpecFileState> specFiles = new TreeMap<>();
 
     public GeneratorState() {}
 
@@ -62,6 +66,24 @@ public class GeneratorState {
         return this;
     }
 
+    public String getParentVersion() {
+        return this.parentVersion;
+    }
+
+    public GeneratorState setParentVersion(final String parentVersion) {
+        this.parentVersion = parentVersion;
+        return this;
+    }
+
+    public Map<String, SpecFileState> getSpecFiles() {
+        return this.specFiles;
+    }
+
+    public GeneratorState setSpecFiles(final Map<String, SpecFileState> specFiles) {
+        this.specFiles = specFiles;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this)
@@ -72,12 +94,14 @@ public class GeneratorState {
         final GeneratorState generatorState = (GeneratorState) o;
         return Objects.equals(generatorVersion, generatorState.generatorVersion) &&
                 Objects.equals(configuration, generatorState.configuration) &&
-                Objects.equals(models, generatorState.models);
+                Objects.equals(models, generatorState.models) &&
+                Objects.equals(parentVersion, generatorState.parentVersion) &&
+                Objects.equals(specFiles, generatorState.specFiles);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(generatorVersion, configuration, models);
+        return Objects.hash(generatorVersion, configuration, models, parentVersion, specFiles);
     }
 
     @Override
@@ -86,6 +110,8 @@ public class GeneratorState {
             " generatorVersion='" + getGeneratorVersion() + "'" +
             ", configuration='" + getConfiguration() + "'" +
             ", models='" + getModels() + "'" +
+            ", parentVersion='" + getParentVersion() + "'" +
+            ", specFiles='" + getSpecFiles() + "'" +
             "}";
     }
 
@@ -93,6 +119,7 @@ public class GeneratorState {
 
         private String name;
         private String fingerprint;
+        private Map<String, String> artifacts = new TreeMap<>();
 
         public ModelState() {}
 
@@ -117,6 +144,14 @@ public class GeneratorState {
             this.fingerprint = fingerprint;
         }
 
+        public Map<String, String> getArtifacts() {
+            return this.artifacts;
+        }
+
+        public void setArtifacts(Map<String, String> artifacts) {
+            this.artifacts = artifacts;
+        }
+
         public ModelState name(String name) {
             this.name = name;
             return this;
@@ -127,6 +162,11 @@ public class GeneratorState {
             return this;
         }
 
+        public ModelState artifacts(Map<String, String> artifacts) {
+            this.artifacts = artifacts;
+            return this;
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (o == this)
@@ -136,12 +176,13 @@ public class GeneratorState {
             }
             final ModelState modelState = (ModelState) o;
             return Objects.equals(name, modelState.name) &&
-                    Objects.equals(fingerprint, modelState.fingerprint);
+                    Objects.equals(fingerprint, modelState.fingerprint) &&
+                    Objects.equals(artifacts, modelState.artifacts);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, fingerprint);
+            return Objects.hash(name, fingerprint, artifacts);
         }
 
         @Override
@@ -149,9 +190,77 @@ public class GeneratorState {
             return "{" +
                 " name='" + getName() + "'" +
                 ", fingerprint='" + getFingerprint() + "'" +
+                ", artifacts='" + getArtifacts() + "'" +
                 "}";
         }
         
     }
 
+    public static class SpecFileState {
+
+        private long lastModified;
+        private long size;
+        private String hash;
+
+        public SpecFileState() {}
+
+        public SpecFileState(final long lastModified, final long size, final String hash) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+        }
+
+        public long getLastModified() {
+            return this.lastModified;
+        }
+
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+
+        public long getSize() {
+            return this.size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public String getHash() {
+            return this.hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this)
+                return true;
+            if (!(o instanceof SpecFileState)) {
+                return false;
+            }
+            final SpecFileState specFileState = (SpecFileState) o;
+            return lastModified == specFileState.lastModified &&
+                    size == specFileState.size &&
+                    Objects.equals(hash, specFileState.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size, hash);
+        }
+
+        @Override
+        public String toString() {
+            return "{" +
+                " lastModified='" + getLastModified() + "'" +
+                ", size='" + getSize() + "'" +
+                ", hash='" + getHash() + "'" +
+                "}";
+        }
+
+    }
+
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models;
+
+import java.util.List;
+import java.util.Objects;
+
+import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
+
+public class IndexDefinition {
+
+    private String name;
+    private List<IndexFieldDefinition> fields;
+    private Boolean unique = Boolean.FALSE;
+    private String where;
+    private List<String> include;
+
+    public IndexDefinition() {
+
+    }
+
+    public IndexDefinition(final String name, final List<IndexFieldDefinition> fields, final Boolean unique,
+            final String where, final List<String> include) {
+        this.name = name;
+        this.fields = fields;
+        this.unique = unique;
+        this.where = where;
+        this.include = include;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public IndexDefinition setName(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    public List<IndexFieldDefinition> getFields() {
+        return this.fields;
+    }
+
+    public IndexDefinition setFields(final List<IndexFieldDefinition> fields) {
+        this.fields = fields;
+        return this;
+    }
+
+    public Boolean getUnique() {
+        return this.unique;
+    }
+
+    public IndexDefinition setUnique(final Boolean unique) {
+        this.unique = unique;
+        return this;
+    }
+
+    public String getWhere() {
+        return this.where;
+    }
+
+    public IndexDefinition setWhere(final String where) {
+        this.where = where;
+        return this;
+    }
+
+    public List<String> getInclude() {
+        return this.include;
+    }
+
+    public IndexDefinition setInclude(final List<String> include) {
+        this.include = include;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof IndexDefinition)) {
+            return false;
+        }
+        final IndexDefinition indexDefinition = (IndexDefinition) o;
+        return Objects.equals(name, indexDefinition.name) &&
+                Objects.equals(fields, indexDefinition.fields) &&
+                Objects.equals(unique, indexDefinition.unique) &&
+                Objects.equals(where, indexDefinition.where) &&
+                Objects.equals(include, indexDefinition.include);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, fields, unique, where, include);
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+            " name='" + getName() + "'" +
+            ", fields='" + getFields() + "'" +
+            ", unique='" + getUnique() + "'" +
+            ", where='" + getWhere() + "'" +
+            ", include='" + getInclude() + "'" +
+            "}";
+    }
+
+    public static class IndexFieldDefinition {
+
+        private String name;
+        private SortDirection direction = SortDirection.ASC;
+
+        public IndexFieldDefinition() {
+
+        }
+
+        public IndexFieldDefinition(final String name, final SortDirection direction) {
+            this.name = name;
+            this.direction = direction;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public IndexFieldDefinition setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        public SortDirection getDirection() {
+            return this.direction;
+        }
+
+        public IndexFieldDefinition setDirection(final SortDirection direction) {
+            this.direction = direction;
+            return this;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this)
+                return true;
+            if (!(o instanceof IndexFieldDefinition)) {
+                return false;
+            }
+            final IndexFieldDefinition indexFieldDefinition = (IndexFieldDefinition) o;
+            return Objects.equals(name, indexFieldDefinition.name) &&
+                    Objects.equals(direction, indexFieldDefinition.direction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, direction);
+        }
+
+        @Override
+        public String toString() {
+            return "{" +
+                " name='" + getName() + "'" +
+                ", direction='" + getDirection() + "'" +
+                "}";
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ package dev.markozivkovic.springcrudgenerator.models;
 import java.util.List;
 import java.util.Objects;
 
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
+
 public class ModelDefinition {
     
     private String name;
@@ -29,7 +31,12 @@ public class ModelDefinition {
     private AuditDefinition audit;
     private Boolean softDelete = Boolean.FALSE;
     private BulkDefinition bulk;
+    private ExportDefinition export;
     private SortDefinition sort;
+    private PaginationTypeEnum pagination;
+    private List<IndexDefinition> indexes;
+    private List<String> listProjection;
+    private CacheDefinition cache;
 
     public ModelDefinition() {
 
@@ -37,7 +44,9 @@ public class ModelDefinition {
 
     public ModelDefinition(final String name, final String storageName, final String description,
             final Boolean ignore, final List<FieldDefinition> fields, final AuditDefinition audit,
-            final Boolean softDelete, final BulkDefinition bulk, final SortDefinition sort) {
+            final Boolean softDelete, final BulkDefinition bulk, final ExportDefinition export, final SortDefinition sort,
+            final PaginationTypeEnum pagination, final List<IndexDefinition> indexes, final List<String> listProjection,
+            final CacheDefinition cache) {
         this.name = name;
         this.storageName = storageName;
         this.description = description;
@@ -46,7 +55,12 @@ public class ModelDefinition {
         this.audit = audit;
         this.softDelete = softDelete;
         this.bulk = bulk;
+        this.export = export;
         this.sort = sort;
+        this.pagination = pagination;
+        this.indexes = indexes;
+        this.listProjection = listProjection;
+        this.cache = cache;
     }
 
     public String getName() {
@@ -127,6 +141,30 @@ public class ModelDefinition {
                 && Boolean.TRUE.equals(this.bulk.getCreate().getEnabled());
     }
 
+    public boolean isBulkCreateChunked() {
+        return this.isBulkCreateEnabled()
+                && Objects.nonNull(this.bulk.getCreate().getChunkSize());
+    }
+
+    public boolean isBulkCreateStreaming() {
+        return this.isBulkCreateEnabled()
+                && Boolean.TRUE.equals(this.bulk.getCreate().getStreaming());
+    }
+
+    public ExportDefinition getExport() {
+        return this.export;
+    }
+
+    public ModelDefinition setExport(final ExportDefinition export) {
+        this.export = export;
+        return this;
+    }
+
+    public boolean isExportEnabled() {
+        return Objects.nonNull(this.export)
+                && Boolean.TRUE.equals(this.export.getEnabled());
+    }
+
     public SortDefinition getSort() {
         return this.sort;
     }
@@ -136,6 +174,54 @@ public class ModelDefinition {
         return this;
     }
 
+    public PaginationTypeEnum getPagination() {
+        return this.pagination;
+    }
+
+    public ModelDefinition setPagination(final PaginationTypeEnum pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    public List<IndexDefinition> getIndexes() {
+        return this.indexes;
+    }
+
+    public ModelDefinition setIndexes(final List<IndexDefinition> indexes) {
+        this.indexes = indexes;
+        return this;
+    }
+
+    public List<String> getListProjection() {
+        return this.listProjection;
+    }
+
+    public ModelDefinition setListProjection(final List<String> listProjection) {
+        this.listProjection = listProjection;
+        return this;
+    }
+
+    public boolean isListProjectionEnabled() {
+        return Objects.nonNull(this.listProjection) && !this.listProjection.isEmpty();
+    }
+
+    public CacheDefinition getCache() {
+        return this.cache;
+    }
+
+    public ModelDefinition setCache(final CacheDefinition cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    public boolean isKeysetPagination() {
+        return PaginationTypeEnum.KEYSET.equals(this.pagination);
+    }
+
+    public boolean isSlicePagination() {
+        return PaginationTypeEnum.SLICE.equals(this.pagination);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this)
@@ -152,12 +238,18 @@ public class ModelDefinition {
                 Objects.equals(audit, modelDefinition.audit) &&
                 Objects.equals(softDelete, modelDefinition.softDelete) &&
                 Objects.equals(bulk, modelDefinition.bulk) &&
-                Objects.equals(sort, modelDefinition.sort);
+                Objects.equals(export, modelDefinition.export) &&
+                Objects.equals(sort, modelDefinition.sort) &&
+                Objects.equals(pagination, modelDefinition.pagination) &&
+                Objects.equals(indexes, modelDefinition.indexes) &&
+                Objects.equals(listProjection, modelDefinition.listProjection) &&
+                Objects.equals(cache, modelDefinition.cache);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, storageName, description, ignore, fields, audit, softDelete, bulk, sort);
+        return Objects.hash(name, storageName, description, ignore, fields, audit, softDelete, bulk, export, sort, pagination,
+                indexes, listProjection, cache);
     }
 
     @Override
@@ -171,7 +263,12 @@ public class ModelDefinition {
             ", audit='" + getAudit() + "'" +
             ", softDelete='" + getSoftDelete() + "'" +
             ", bulk='" + getBulk() + "'" +
+            ", export='" + getExport() + "'" +
             ", sort='" + getSort() + "'" +
+            ", pagination='" + getPagination() + "'" +
+            ", indexes='" + getIndexes() + "'" +
+            ", listProjection='" + getListProjection() + "'" +
+            ", cache='" + getCache() + "'" +
             "}";
     }    
 
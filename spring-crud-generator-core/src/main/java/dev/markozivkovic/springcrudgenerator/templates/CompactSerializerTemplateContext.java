@@ -0,0 +1,269 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.templates;
+
+import static dev.markozivkovic.springcrudgenerator.constants.ImportConstants.IMPORT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.BasicTypeEnum;
+import dev.markozivkovic.springcrudgenerator.enums.SpecialTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.utils.AuditUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
+
+public class CompactSerializerTemplateContext {
+
+    private static final String CONVERSION_NONE = "NONE";
+    private static final String CONVERSION_JSON = "JSON";
+    private static final String CONVERSION_ENUM = "ENUM";
+    private static final String CONVERSION_UUID = "UUID";
+    private static final String CONVERSION_CHARACTER = "CHARACTER";
+    private static final String CONVERSION_BIG_INTEGER = "BIG_INTEGER";
+    private static final String CONVERSION_INSTANT = "INSTANT";
+
+    private CompactSerializerTemplateContext() {}
+
+    /**
+     * Creates a template context for the Hazelcast compact serializer of a given model definition. Every field is mapped
+     * to a compact field kind: basic types use the matching native kind, enums, UUIDs and characters are written as strings,
+     * and relations, JSON fields and collections are written as Jackson encoded bytes.
+     *
+     * @param modelDefinition   the model definition containing class and field details
+     * @param sqlDatabase       whether the entity is a JPA entity, so relations may be uninitialized lazy proxies
+     * @param optimisticLocking whether the entity has a version field
+     * @param schemaVersion     the schema version written with every entry
+     * @return a map representing the context for the compact serializer
+     */
+    public static Map<String, Object> computeCompactSerializerContext(final ModelDefinition modelDefinition, final boolean sqlDatabase,
+                final boolean optimisticLocking, final int schemaVersion) {
+
+        final List<Map<String, Object>> fields = new ArrayList<>();
+        modelDefinition.getFields().forEach(field -> fields.add(compactField(field, sqlDatabase)));
+
+        if (Boolean.TRUE.equals(modelDefinition.getSoftDelete())) {
+            fields.add(propertyField("deleted", "boolean", "BOOLEAN", CONVERSION_NONE));
+        }
+
+        if (optimisticLocking) {
+            fields.add(handleField("version", sqlDatabase ? "Integer" : "Long"));
+        }
+
+        if (Objects.nonNull(modelDefinition.getAudit()) && modelDefinition.getAudit().isEnabled()) {
+            final String auditType = AuditUtils.resolveAuditType(modelDefinition.getAudit().getType());
+            fields.add(handleField("createdAt", auditType));
+            fields.add(handleField("updatedAt", auditType));
+        }
+
+        final List<String> conversions = fields.stream()
+                .map(field -> (String) field.get("conversion"))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        final Map<String, Object> context = new HashMap<>();
+        context.put(TemplateContextConstants.CLASS_NAME, modelDefinition.getName());
+        context.put(TemplateContextConstants.FIELDS, fields);
+        context.put("schemaVersion", schemaVersion);
+        context.put("conversions", conversions);
+        context.put("usesHandles", fields.stream().anyMatch(field -> field.containsKey("handle")));
+        context.put("usesObjectMapper", conversions.contains(CONVERSION_JSON));
+        context.put("usesLazyCheck", fields.stream().anyMatch(field -> Boolean.TRUE.equals(field.get("lazy"))));
+        context.put("javaImports", computeJavaImports(fields, conversions));
+
+        return context;
+    }
+
+    /**
+     * Maps a field of the model to its compact field. The field is read and written through its getter and setter.
+     *
+     * @param field       the field definition
+     * @param sqlDatabase whether relations of the entity may be uninitialized lazy proxies
+     * @return the compact field
+     */
+    private static Map<String, Object> compactField(final FieldDefinition field, final boolean sqlDatabase) {
+
+        if (Objects.nonNull(field.getRelation())) {
+            final String type = FieldUtils.isCollectionRelation(field)
+                    ? String.format("%s<%s>", FieldUtils.resolveRelationCollectionType(field), field.getResolvedType())
+                    : field.getResolvedType();
+            final Map<String, Object> compactField = propertyField(field.getName(), type, "ARRAY_OF_INT8", CONVERSION_JSON);
+            compactField.put("lazy", sqlDatabase);
+            return compactField;
+        }
+
+        if (FieldUtils.isFieldEnum(field)) {
+            return propertyField(field.getName(), field.getResolvedType(), "STRING", CONVERSION_ENUM);
+        }
+
+        if (!BasicTypeEnum.isBasicType(field.getResolvedType())) {
+            return propertyField(field.getName(), field.getResolvedType(), "ARRAY_OF_INT8", CONVERSION_JSON);
+        }
+
+        return switch (BasicTypeEnum.fromString(field.getResolvedType())) {
+            case STRING -> propertyField(field.getName(), field.getResolvedType(), "STRING", CONVERSION_NONE);
+            case CHARACTER -> propertyField(field.getName(), field.getResolvedType(), "STRING", CONVERSION_CHARACTER);
+            case INTEGER -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_INT32", CONVERSION_NONE);
+            case LONG -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_INT64", CONVERSION_NONE);
+            case BOOLEAN -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_BOOLEAN", CONVERSION_NONE);
+            case DOUBLE -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_FLOAT64", CONVERSION_NONE);
+            case FLOAT -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_FLOAT32", CONVERSION_NONE);
+            case SHORT -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_INT16", CONVERSION_NONE);
+            case BYTE -> propertyField(field.getName(), field.getResolvedType(), "NULLABLE_INT8", CONVERSION_NONE);
+            case UUID -> propertyField(field.getName(), field.getResolvedType(), "STRING", CONVERSION_UUID);
+            case BIG_DECIMAL -> propertyField(field.getName(), field.getResolvedType(), "DECIMAL", CONVERSION_NONE);
+            case BIG_INTEGER -> propertyField(field.getName(), field.getResolvedType(), "DECIMAL", CONVERSION_BIG_INTEGER);
+            case LOCAL_DATE -> propertyField(field.getName(), field.getResolvedType(), "DATE", CONVERSION_NONE);
+            case LOCAL_DATE_TIME -> propertyField(field.getName(), field.getResolvedType(), "TIMESTAMP", CONVERSION_NONE);
+            case OFFSET_DATE_TIME -> propertyField(field.getName(), field.getResolvedType(), "TIMESTAMP_WITH_TIMEZONE", CONVERSION_NONE);
+            case INSTANT -> propertyField(field.getName(), field.getResolvedType(), "TIMESTAMP_WITH_TIMEZONE", CONVERSION_INSTANT);
+        };
+    }
+
+    /**
+     * Creates a compact field that is read and written through the getter and setter of the entity.
+     *
+     * @param name       the field name
+     * @param type       the Java type of the field
+     * @param kind       the compact field kind
+     * @param conversion the conversion between the Java type and the compact field kind
+     * @return the compact field
+     */
+    private static Map<String, Object> propertyField(final String name, final String type, final String kind, final String conversion) {
+
+        final Map<String, Object> compactField = new HashMap<>();
+        compactField.put("name", name);
+        compactField.put("type", type);
+        compactField.put("kind", kind);
+        compactField.put("method", computeMethodSuffix(kind));
+        compactField.put("conversion", conversion);
+        compactField.put("lazy", false);
+
+        return compactField;
+    }
+
+    /**
+     * Creates a compact field for an entity field without a setter, such as the version or the audit timestamps. The field
+     * is read and written through a {@code VarHandle}.
+     *
+     * @param name the field name
+     * @param type the Java type of the field
+     * @return the compact field
+     */
+    private static Map<String, Object> handleField(final String name, final String type) {
+
+        final Map<String, Object> compactField = switch (type) {
+            case "Integer" -> propertyField(name, type, "NULLABLE_INT32", CONVERSION_NONE);
+            case "Long" -> propertyField(name, type, "NULLABLE_INT64", CONVERSION_NONE);
+            case "LocalDate" -> propertyField(name, type, "DATE", CONVERSION_NONE);
+            case "LocalDateTime" -> propertyField(name, type, "TIMESTAMP", CONVERSION_NONE);
+            default -> propertyField(name, type, "TIMESTAMP_WITH_TIMEZONE", CONVERSION_INSTANT);
+        };
+        compactField.put("handle", ModelNameUtils.toSnakeCase(name).toUpperCase(Locale.ROOT));
+
+        return compactField;
+    }
+
+    /**
+     * Computes the suffix of the {@code CompactWriter} and {@code CompactReader} methods of a compact field kind, for
+     * example {@code NullableInt32} for {@code NULLABLE_INT32}.
+     *
+     * @param kind the compact field kind
+     * @return the method suffix
+     */
+    private static String computeMethodSuffix(final String kind) {
+
+        return List.of(kind.split("_")).stream()
+                .map(part -> StringUtils.capitalize(part.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Computes the java.* imports used by the compact serializer.
+     *
+     * @param fields      the compact fields
+     * @param conversions the conversions used by the compact fields
+     * @return A string containing the necessary import statements
+     */
+    private static String computeJavaImports(final List<Map<String, Object>> fields, final List<String> conversions) {
+
+        final Set<String> imports = new LinkedHashSet<>();
+        final List<String> types = fields.stream()
+                .map(field -> (String) field.get("type"))
+                .collect(Collectors.toList());
+
+        if (conversions.contains(CONVERSION_ENUM) || conversions.contains(CONVERSION_UUID) || conversions.contains(CONVERSION_CHARACTER)) {
+            imports.add(ImportConstants.Java.OBJECTS);
+        }
+        if (conversions.contains(CONVERSION_UUID)) {
+            imports.add(ImportConstants.Java.UUID);
+        }
+        if (conversions.contains(CONVERSION_BIG_INTEGER)) {
+            imports.add(ImportConstants.Java.BIG_INTEGER);
+            imports.add(ImportConstants.Java.BIG_DECIMAL);
+        }
+        if (conversions.contains(CONVERSION_INSTANT)) {
+            imports.add(ImportConstants.Java.INSTANT);
+            imports.add(ImportConstants.Java.OFFSET_DATE_TIME);
+            imports.add(ImportConstants.Java.ZONE_OFFSET);
+        }
+        if (fields.stream().anyMatch(field -> field.containsKey("handle"))) {
+            imports.add(ImportConstants.Java.METHOD_HANDLES);
+            imports.add(ImportConstants.Java.VAR_HANDLE);
+        }
+
+        types.forEach(type -> {
+            if (type.equals(BasicTypeEnum.BIG_DECIMAL.getKey())) {
+                imports.add(ImportConstants.Java.BIG_DECIMAL);
+            }
+            if (type.equals(BasicTypeEnum.LOCAL_DATE.getKey())) {
+                imports.add(ImportConstants.Java.LOCAL_DATE);
+            }
+            if (type.equals(BasicTypeEnum.LOCAL_DATE_TIME.getKey())) {
+                imports.add(ImportConstants.Java.LOCAL_DATE_TIME);
+            }
+            if (type.equals(BasicTypeEnum.OFFSET_DATE_TIME.getKey())) {
+                imports.add(ImportConstants.Java.OFFSET_DATE_TIME);
+            }
+            if (type.contains(SpecialTypeEnum.LIST.getKey() + "<")) {
+                imports.add(ImportConstants.Java.LIST);
+            }
+            if (type.contains(SpecialTypeEnum.SET.getKey() + "<")) {
+                imports.add(ImportConstants.Java.SET);
+            }
+        });
+
+        return imports.stream()
+                .map(imp -> String.format(IMPORT, imp))
+                .sorted()
+                .collect(Collectors.joining());
+    }
+
+}
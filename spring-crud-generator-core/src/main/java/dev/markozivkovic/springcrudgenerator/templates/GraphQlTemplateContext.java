@@ -34,6 +34,7 @@ import dev.markozivkovic.springcrudgenerator.templates.common.ValidationContextB
 import dev.markozivkovic.springcrudgenerator.utils.AuditUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
@@ -63,6 +64,7 @@ public class GraphQlTemplateContext {
         context.put(TemplateContextConstants.JSON_FIELDS, jsonFields);
         context.put(TemplateContextConstants.RELATIONS, !FieldUtils.extractRelationTypes(modelDefinition.getFields()).isEmpty());
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
         
         return context;
     }
@@ -106,6 +108,7 @@ public class GraphQlTemplateContext {
             context.put(TemplateContextConstants.AUDIT_ENABLED, true);
         }
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
 
         return context;
     }
@@ -169,6 +172,7 @@ public class GraphQlTemplateContext {
         context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, ModelNameUtils.stripSuffix(modelDefinition.getName()));
         context.put(TemplateContextConstants.ID_TYPE, idField.getType());
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
 
         return context;
     }
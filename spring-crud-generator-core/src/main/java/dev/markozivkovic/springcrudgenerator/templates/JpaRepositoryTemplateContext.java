@@ -26,6 +26,7 @@ import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 
 public class JpaRepositoryTemplateContext {
 
@@ -63,6 +64,14 @@ public class JpaRepositoryTemplateContext {
             RepositoryImports.computeProjectImports(packagePath, packageConfiguration, modelDefinition.getName())
         );
         context.put(TemplateContextConstants.HAS_LAZY_FIELDS, FieldUtils.hasLazyFetchField(modelDefinition.getFields()));
+        context.put(TemplateContextConstants.EXPORT_ENABLED, modelDefinition.isExportEnabled());
+        if (modelDefinition.isExportEnabled()) {
+            context.put(TemplateContextConstants.EXPORT_FETCH_SIZE, modelDefinition.getExport().resolveFetchSize());
+        }
+        if (modelDefinition.isListProjectionEnabled()) {
+            context.put(TemplateContextConstants.LIST_PROJECTION, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+        }
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
         
         return context;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.templates;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.imports.RepositoryImports;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+
+public class ListProjectionTemplateContext {
+
+    private ListProjectionTemplateContext() {}
+
+    /**
+     * Creates a template context for the list projection record of a model. The record holds the ID field and
+     * the fields listed in the {@code listProjection} of the model, so list queries select only those columns.
+     * 
+     * @param modelDefinition      the model definition
+     * @param packagePath          the package path of the project
+     * @param packageConfiguration the package configuration of the project
+     * @return a template context for the list projection record
+     */
+    public static Map<String, Object> computeListProjectionContext(final ModelDefinition modelDefinition,
+            final String packagePath, final PackageConfiguration packageConfiguration) {
+
+        final Map<String, Object> context = new HashMap<>();
+        context.put(TemplateContextConstants.CLASS_NAME, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+        context.put(
+            TemplateContextConstants.INPUT_ARGS,
+            FieldUtils.extractListProjectionFields(modelDefinition).stream()
+                    .map(field -> String.format("%s %s", field.getResolvedType(), field.getName()))
+                    .collect(Collectors.toList())
+        );
+        context.put(
+            TemplateContextConstants.BASE_IMPORTS,
+            RepositoryImports.computeListProjectionImports(modelDefinition, packagePath, packageConfiguration)
+        );
+
+        return context;
+    }
+
+}
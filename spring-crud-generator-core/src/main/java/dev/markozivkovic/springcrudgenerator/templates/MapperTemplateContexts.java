@@ -67,6 +67,10 @@ public class MapperTemplateContexts {
         if (swagger) {
             context.put(TemplateContextConstants.SWAGGER_MODEL, ModelNameUtils.computeOpenApiModelName(modelDefinition.getName()));
         }
+        if (!isGraphQl && modelDefinition.isListProjectionEnabled()) {
+            context.put(TemplateContextConstants.LIST_PROJECTION, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+            context.put(TemplateContextConstants.LIST_TRANSFER_OBJECT, ModelNameUtils.computeListTOModelName(modelDefinition.getName()));
+        }
         
         if (!relationFields.isEmpty() || !jsonFields.isEmpty()) {
             final String mapperParameters = Stream.concat(relationFields.stream(), jsonFields.stream())
@@ -35,6 +35,7 @@ import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 import dev.markozivkovic.springcrudgenerator.utils.UnitTestUtils;
@@ -62,6 +63,7 @@ public class RestControllerTemplateContext {
         context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, strippedModelName);
         context.put(TemplateContextConstants.RELATIONS, !FieldUtils.extractRelationFields(modelDefinition.getFields()).isEmpty());
         context.put(TemplateContextConstants.JSON_FIELDS, jsonFields);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
 
         return context;
     }
@@ -253,6 +255,11 @@ public class RestControllerTemplateContext {
         context.put(TemplateContextConstants.MODEL_NAME, modelDefinition.getName());
         context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, strippedModelName);
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
+        if (modelDefinition.isListProjectionEnabled()) {
+            context.put(TemplateContextConstants.LIST_PROJECTION, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+            context.put(TemplateContextConstants.LIST_TRANSFER_OBJECT, ModelNameUtils.computeListTOModelName(modelDefinition.getName()));
+        }
 
         return context;
     }
@@ -30,6 +30,7 @@ import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.utils.ContainerUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SortUtils;
 import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
@@ -48,6 +49,9 @@ public class ServiceTemplateContext {
         final Map<String, Object> context = new HashMap<>();
         context.put(TemplateContextConstants.CLASS_NAME, ModelNameUtils.stripSuffix(modelDefinition.getName()) + "Service");
         context.put(TemplateContextConstants.MODEL_NAME, ModelNameUtils.stripSuffix(modelDefinition.getName()));
+        if (modelDefinition.isBulkCreateChunked()) {
+            context.put(TemplateContextConstants.BULK_CREATE_CHUNK_SIZE, modelDefinition.getBulk().getCreate().getChunkSize());
+        }
 
         return context;
     }
@@ -55,10 +59,11 @@ public class ServiceTemplateContext {
     /**
      * Creates a template context for the getAllByIds method of a model.
      *
-     * @param modelDefinition the model definition
+     * @param modelDefinition   the model definition
+     * @param inClauseChunkSize the maximum number of IDs passed to a single repository lookup
      * @return a template context for the getAllByIds method
      */
-    public static Map<String, Object> createGetAllByIdsMethodContext(final ModelDefinition modelDefinition) {
+    public static Map<String, Object> createGetAllByIdsMethodContext(final ModelDefinition modelDefinition, final int inClauseChunkSize) {
 
         final FieldDefinition idField = FieldUtils.extractIdField(modelDefinition.getFields());
 
@@ -69,6 +74,7 @@ public class ServiceTemplateContext {
         context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, StringUtils.uncapitalize(ModelNameUtils.stripSuffix(modelDefinition.getName())));
         context.put(TemplateContextConstants.ID_DESCRIPTION, idField.getDescription());
         context.put(TemplateContextConstants.GENERATE_JAVA_DOC, StringUtils.isNotBlank(idField.getDescription()));
+        context.put(TemplateContextConstants.IN_CLAUSE_CHUNK_SIZE, inClauseChunkSize);
         
         return context;
     }
@@ -88,6 +94,11 @@ public class ServiceTemplateContext {
         context.put(TemplateContextConstants.ID_FIELD, idField.getName());
         context.put(TemplateContextConstants.ID_TYPE, idField.getType());
         SortUtils.contributeSortContext(modelDefinition, context);
+        PaginationUtils.contributePaginationContext(modelDefinition, context);
+        context.put(TemplateContextConstants.CURSOR_FIELDS, PaginationUtils.resolveCursorFields(modelDefinition));
+        if (modelDefinition.isListProjectionEnabled()) {
+            context.put(TemplateContextConstants.LIST_PROJECTION, ModelNameUtils.computeListProjectionName(modelDefinition.getName()));
+        }
         
         return context;
     }
@@ -143,6 +154,25 @@ public class ServiceTemplateContext {
             context.put(TemplateContextConstants.TRANSACTIONAL_ANNOTATION, AnnotationConstants.TRANSACTIONAL_ANNOTATION);
         }
         context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, StringUtils.uncapitalize(ModelNameUtils.stripSuffix(modelDefinition.getName())));
+        if (modelDefinition.isBulkCreateChunked()) {
+            context.put(TemplateContextConstants.BULK_CREATE_CHUNK_SIZE, modelDefinition.getBulk().getCreate().getChunkSize());
+        }
+
+        return context;
+    }
+
+    /**
+     * Creates a template context for the exportAll method of a model.
+     *
+     * @param modelDefinition the model definition
+     * @return a template context for the exportAll method
+     */
+    public static Map<String, Object> computeExportContext(final ModelDefinition modelDefinition) {
+
+        final Map<String, Object> context = new HashMap<>();
+        context.put(TemplateContextConstants.MODEL_NAME, modelDefinition.getName());
+        context.put(TemplateContextConstants.STRIPPED_MODEL_NAME, StringUtils.uncapitalize(ModelNameUtils.stripSuffix(modelDefinition.getName())));
+        context.put(TemplateContextConstants.EXPORT_FETCH_SIZE, modelDefinition.getExport().resolveFetchSize());
 
         return context;
     }
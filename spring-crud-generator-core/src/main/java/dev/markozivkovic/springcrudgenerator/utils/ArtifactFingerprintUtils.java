@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.EntityDependencyGraph;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+
+/**
+ * Computes fingerprints of the artifacts generated for an entity. Each fingerprint is computed only from the inputs
+ * the artifact generator reads: the configuration properties it uses, the package configuration, the entity itself
+ * and the entities it depends on (see {@link EntityDependencyGraph}), so that a change only invalidates the artifacts that depend on it.
+ * Services and their tests also read the entities that reference the entity, for example to decide whether
+ * {@code getAllByIds} is generated, so their fingerprints include those entities as well.
+ * <p>
+ * The inputs are streamed into the digest by {@link CanonicalHasher}. The artifact part is hashed once per artifact
+ * generator and the entity part once per entity; the fingerprint is the hash of both.
+ */
+public final class ArtifactFingerprintUtils {
+
+    /**
+     * Model properties that do not affect the generated code.
+     */
+    private static final Set<String> IGNORED_MODEL_PROPERTIES = Set.of("ignore");
+
+    /**
+     * Configuration properties (dotted property paths into {@link CrudConfiguration}) read by every generator.
+     */
+    private static final List<String> COMMON_CONFIGURATION_INPUTS = List.of(
+        "database", "javaVersion", "springBootVersion"
+    );
+
+    /**
+     * Configuration properties (dotted property paths into {@link CrudConfiguration}) read by each artifact
+     * generator in addition to {@link #COMMON_CONFIGURATION_INPUTS}. Generators that are not listed here depend on
+     * the whole configuration. A generator is listed only with every property it reads, directly or through the
+     * generator context (for example the retryable annotation, which depends on {@code optimisticLocking} and
+     * {@code additionalProperties}), and each listed property is covered by a test.
+     */
+    private static final Map<String, List<String>> CONFIGURATION_INPUTS = Map.ofEntries(
+        Map.entry("enum", List.of()),
+        Map.entry("jpa-model", List.of("optimisticLocking", "additionalProperties")),
+        Map.entry("jpa-repository", List.of("additionalProperties")),
+        Map.entry("migration-script", List.of("migrationScripts", "optimisticLocking")),
+        Map.entry("mongo-model", List.of("optimisticLocking")),
+        Map.entry("mongo-repository", List.of()),
+        Map.entry("mongock-migration-script", List.of("migrationScripts")),
+        Map.entry("service", List.of(
+            "cache.enabled", "cache.type", "cache.expiration", "cache.stampedeProtection", "optimisticLocking",
+            "additionalProperties", "inClauseChunkSize"
+        )),
+        Map.entry("business-service", List.of("optimisticLocking", "additionalProperties")),
+        Map.entry("transfer-object", List.of("graphql.enabled", "openApi.generateResources")),
+        Map.entry("mapper", List.of("additionalProperties", "graphql.enabled", "openApi.apiSpec", "openApi.generateResources")),
+        Map.entry("controller", List.of("additionalProperties", "openApi.apiSpec", "openApi.generateResources")),
+        Map.entry("graphql", List.of("additionalProperties", "graphql")),
+        Map.entry("jpa-service-test", List.of("tests", "cache.enabled", "cache.type", "cache.expiration")),
+        Map.entry("business-service-test", List.of("tests")),
+        Map.entry("mapper-test", List.of("tests", "additionalProperties", "graphql.enabled", "openApi")),
+        Map.entry("controller-test", List.of("tests", "additionalProperties", "errorResponse", "openApi")),
+        Map.entry("graphql-test", List.of("tests", "errorResponse", "graphql"))
+    );
+
+    /**
+     * Artifact generators that also read the entities referencing the entity they generate for.
+     */
+    private static final Set<String> DEPENDENT_AWARE_ARTIFACTS = Set.of(
+        "service", "business-service", "jpa-service-test", "business-service-test"
+    );
+
+    private ArtifactFingerprintUtils() {}
+
+    /**
+     * Computes the fingerprints of the given artifacts for each of the given entities.
+     *
+     * @param entities      the entities for which to compute the fingerprints
+     * @param allEntities   all entities of the specification, used to resolve referenced entities
+     * @param configuration the crud configuration
+     * @param packages      the package configuration
+     * @param artifactKeys  the keys of the artifact generators
+     * @return the artifact fingerprints (artifact key to fingerprint) by entity name
+     * @throws RuntimeException if an exception occurs while computing the fingerprints
+     */
+    public static Map<String, Map<String, String>> computeArtifactFingerprints(final List<ModelDefinition> entities,
+            final List<ModelDefinition> allEntities, final CrudConfiguration configuration,
+            final PackageConfiguration packages, final Collection<String> artifactKeys) {
+
+        try {
+            final Map<String, byte[]> artifactDigests = new LinkedHashMap<>();
+            for (final String artifactKey : artifactKeys) {
+                artifactDigests.put(artifactKey, artifactDigest(artifactKey, configuration, packages));
+            }
+
+            final Map<String, ModelDefinition> entitiesByName = allEntities.stream()
+                    .collect(Collectors.toMap(ModelDefinition::getName, Function.identity(), (a, b) -> a));
+            final EntityDependencyGraph graph = EntityDependencyGraph.of(entitiesByName.values());
+            final Map<String, Map<String, String>> fingerprints = new LinkedHashMap<>();
+            for (final ModelDefinition entity : entities) {
+                final byte[] entityDigest = entityDigest(entity, entitiesByName, graph);
+                final byte[] dependentsDigest = dependentsDigest(entity, entitiesByName, graph);
+                final Map<String, String> entityFingerprints = new TreeMap<>();
+                artifactDigests.forEach((artifactKey, artifactDigest) -> {
+                    final CanonicalHasher hasher = CanonicalHasher.start().add(artifactDigest).add(entityDigest);
+                    if (DEPENDENT_AWARE_ARTIFACTS.contains(artifactKey)) {
+                        hasher.add(dependentsDigest);
+                    }
+                    entityFingerprints.put(artifactKey, hasher.hex());
+                });
+                fingerprints.put(entity.getName(), entityFingerprints);
+            }
+            return fingerprints;
+        } catch (final Exception e) {
+            throw new RuntimeException(
+                String.format("Failed to compute artifact fingerprints: %s", e.getMessage()), e
+            );
+        }
+    }
+
+    /**
+     * Hashes the artifact part of the fingerprint input: the artifact key, the configuration properties read by the
+     * artifact generator and the package configuration.
+     *
+     * @param artifactKey   the artifact generator key
+     * @param configuration the crud configuration
+     * @param packages      the package configuration
+     * @return the digest of the artifact part
+     */
+    private static byte[] artifactDigest(final String artifactKey, final CrudConfiguration configuration,
+            final PackageConfiguration packages) {
+
+        final CanonicalHasher hasher = CanonicalHasher.start().add(artifactKey);
+        final List<String> inputs = CONFIGURATION_INPUTS.get(artifactKey);
+        if (Objects.isNull(inputs) || Objects.isNull(configuration)) {
+            hasher.add(configuration);
+        } else {
+            COMMON_CONFIGURATION_INPUTS.forEach(path -> hasher.add(path).add(CanonicalHasher.property(configuration, path)));
+            inputs.forEach(path -> hasher.add(path).add(CanonicalHasher.property(configuration, path)));
+        }
+        return hasher.add(packages).digest();
+    }
+
+    /**
+     * Hashes the entity part of the fingerprint input: the entity and all entities it depends on, directly or
+     * transitively.
+     *
+     * @param model          the entity
+     * @param entitiesByName all entities by name
+     * @param graph          the entity dependency graph
+     * @return the digest of the entity part
+     */
+    private static byte[] entityDigest(final ModelDefinition model, final Map<String, ModelDefinition> entitiesByName,
+            final EntityDependencyGraph graph) {
+
+        final CanonicalHasher hasher = CanonicalHasher.start().addExcluding(model, IGNORED_MODEL_PROPERTIES);
+        graph.transitiveDependencies(model.getName())
+                .forEach(referenced -> hasher.add(referenced).addExcluding(entitiesByName.get(referenced), IGNORED_MODEL_PROPERTIES));
+        return hasher.digest();
+    }
+
+    /**
+     * Hashes the entities that directly reference the given entity.
+     *
+     * @param model          the entity
+     * @param entitiesByName all entities by name
+     * @param graph          the entity dependency graph
+     * @return the digest of the referencing entities
+     */
+    private static byte[] dependentsDigest(final ModelDefinition model, final Map<String, ModelDefinition> entitiesByName,
+            final EntityDependencyGraph graph) {
+
+        final CanonicalHasher hasher = CanonicalHasher.start();
+        graph.dependentsOf(model.getName())
+                .forEach(dependent -> hasher.add(dependent).addExcluding(entitiesByName.get(dependent), IGNORED_MODEL_PROPERTIES));
+        return hasher.digest();
+    }
+
+}
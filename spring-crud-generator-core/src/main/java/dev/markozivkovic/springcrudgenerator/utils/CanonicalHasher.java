@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Streams spec models into a SHA-256 digest using a canonical binary encoding, without serializing them first.
+ * <p>
+ * Every value is written as a type tag followed by its content; strings, lists and maps are length prefixed, so
+ * different values can never produce the same byte sequence. Model properties are written as name/value pairs in
+ * alphabetical order of their names and map entries in order of their keys, so the hash does not depend on field
+ * declaration order or on the order in which a serializer would emit properties. Properties with a {@code null}
+ * value are skipped, so a new optional spec property does not change the hashes of specs that do not use it.
+ * <p>
+ * Instances are bound to a thread and reused: {@link #start()} returns the reset hasher of the current thread. A
+ * hasher is not reentrant, so a hash must be finished before the next one is started on the same thread.
+ */
+public final class CanonicalHasher {
+
+    private static final String MODELS_PACKAGE = "dev.markozivkovic.springcrudgenerator.models";
+    private static final int BUFFER_SIZE = 512;
+
+    private static final byte NULL = 'N';
+    private static final byte STRING = 'S';
+    private static final byte BOOLEAN = 'Z';
+    private static final byte INTEGRAL = 'J';
+    private static final byte FLOATING = 'F';
+    private static final byte DECIMAL = 'D';
+    private static final byte ENUM = 'E';
+    private static final byte BYTES = 'B';
+    private static final byte LIST = 'L';
+    private static final byte MAP = 'M';
+    private static final byte OBJECT = 'O';
+    private static final byte PROPERTY = 'P';
+    private static final byte END = '.';
+    private static final byte OTHER = 'X';
+
+    private static final ThreadLocal<CanonicalHasher> HASHER = ThreadLocal.withInitial(CanonicalHasher::new);
+
+    /**
+     * Hashed properties of each model class: all non-static, non-transient fields that are not ignored by Jackson,
+     * including inherited ones, sorted by name.
+     */
+    private static final ClassValue<Field[]> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                            || field.isAnnotationPresent(JsonIgnore.class)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            fields.sort(Comparator.comparing(Field::getName));
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private MessageDigest digest;
+
+    private CanonicalHasher() {}
+
+    /**
+     * Returns the hasher of the current thread, reset and ready for a new hash.
+     *
+     * @return the reset hasher of the current thread
+     */
+    public static CanonicalHasher start() {
+
+        final CanonicalHasher hasher = HASHER.get();
+        hasher.digest = HashUtils.sha256Digest();
+        hasher.position = 0;
+        return hasher;
+    }
+
+    /**
+     * Adds the given value to the hash. Supported values are strings, booleans, numbers, enums, byte arrays,
+     * collections, arrays, maps and spec models; any other value is hashed by its string representation.
+     *
+     * @param value the value to add, may be null
+     * @return this hasher
+     */
+    public CanonicalHasher add(final Object value) {
+        this.writeValue(value);
+        return this;
+    }
+
+    /**
+     * Adds the given spec model to the hash, without the given properties.
+     *
+     * @param model              the spec model to add, may be null
+     * @param excludedProperties the names of the properties that are not hashed
+     * @return this hasher
+     */
+    public CanonicalHasher addExcluding(final Object model, final Set<String> excludedProperties) {
+
+        if (Objects.isNull(model)) {
+            this.writeByte(NULL);
+        } else {
+            this.writeModel(model, excludedProperties);
+        }
+        return this;
+    }
+
+    /**
+     * Completes the hash and returns it as a lower case hexadecimal string.
+     *
+     * @return the SHA-256 hash of the added values
+     */
+    public String hex() {
+        return HashUtils.toHex(this.digest());
+    }
+
+    /**
+     * Completes the hash and returns its bytes.
+     *
+     * @return the SHA-256 hash of the added values
+     */
+    public byte[] digest() {
+
+        this.flush();
+        final byte[] result = this.digest.digest();
+        this.digest = null;
+        return result;
+    }
+
+    /**
+     * Resolves a dotted property path (for example {@code cache.enabled}) against the given spec model. Missing
+     * intermediate values resolve to {@code null}.
+     *
+     * @param model the spec model
+     * @param path  the dotted property path
+     * @return the value of the property, or null if it or one of its parents is not set
+     * @throws IllegalArgumentException if the path names a property that does not exist
+     */
+    public static Object property(final Object model, final String path) {
+
+        Object current = model;
+        for (final String name : path.split("\\.")) {
+            if (Objects.isNull(current)) {
+                return null;
+            }
+            current = readProperty(current, name);
+        }
+        return current;
+    }
+
+    private static Object readProperty(final Object model, final String name) {
+
+        for (final Field field : PROPERTIES.get(model.getClass())) {
+            if (field.getName().equals(name)) {
+                return read(field, model);
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format("Unknown property '%s' of %s", name, model.getClass().getSimpleName())
+        );
+    }
+
+    private static Object read(final Field field, final Object model) {
+        try {
+            return field.get(model);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(
+                String.format("Failed to read property '%s' of %s", field.getName(), model.getClass().getSimpleName()), e
+            );
+        }
+    }
+
+    private void writeValue(final Object value) {
+
+        if (Objects.isNull(value)) {
+            this.writeByte(NULL);
+        } else if (value instanceof CharSequence text) {
+            this.writeString(text);
+        } else if (value instanceof Boolean bool) {
+            this.writeByte(BOOLEAN);
+            this.writeByte((byte) (bool ? 1 : 0));
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            this.writeByte(INTEGRAL);
+            this.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            this.writeByte(FLOATING);
+            this.writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof Number) {
+            this.writeByte(DECIMAL);
+            this.writeString(value.toString());
+        } else if (value instanceof Character character) {
+            this.writeString(String.valueOf(character));
+        } else if (value instanceof Enum<?> enumValue) {
+            this.writeByte(ENUM);
+            this.writeString(enumValue.name());
+        } else if (value instanceof byte[] bytes) {
+            this.writeByte(BYTES);
+            this.writeInt(bytes.length);
+            this.writeBytes(bytes);
+        } else if (value instanceof Collection<?> collection) {
+            this.writeByte(LIST);
+            this.writeInt(collection.size());
+            collection.forEach(this::writeValue);
+        } else if (value instanceof Object[] array) {
+            this.writeByte(LIST);
+            this.writeInt(array.length);
+            Arrays.stream(array).forEach(this::writeValue);
+        } else if (value instanceof Map<?, ?> map) {
+            this.writeMap(map);
+        } else if (value.getClass().getPackageName().startsWith(MODELS_PACKAGE)) {
+            this.writeModel(value, Set.of());
+        } else {
+            this.writeByte(OTHER);
+            this.writeString(value.toString());
+        }
+    }
+
+    private void writeMap(final Map<?, ?> map) {
+
+        this.writeByte(MAP);
+        this.writeInt(map.size());
+        final List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+        entries.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+        for (final Map.Entry<?, ?> entry : entries) {
+            this.writeString(String.valueOf(entry.getKey()));
+            this.writeValue(entry.getValue());
+        }
+    }
+
+    private void writeModel(final Object model, final Set<String> excludedProperties) {
+
+        this.writeByte(OBJECT);
+        for (final Field field : PROPERTIES.get(model.getClass())) {
+            if (excludedProperties.contains(field.getName())) {
+                continue;
+            }
+            final Object value = read(field, model);
+            if (Objects.isNull(value)) {
+                continue;
+            }
+            this.writeByte(PROPERTY);
+            this.writeString(field.getName());
+            this.writeValue(value);
+        }
+        this.writeByte(END);
+    }
+
+    /**
+     * Writes the string as its length in chars followed by its UTF-8 encoding, encoded directly into the buffer.
+     */
+    private void writeString(final CharSequence text) {
+
+        final int length = text.length();
+        this.writeByte(STRING);
+        this.writeInt(length);
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                this.writeByte((byte) c);
+            } else if (c < 0x800) {
+                this.writeByte((byte) (0xc0 | (c >> 6)));
+                this.writeByte((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                this.writeByte((byte) (0xf0 | (codePoint >> 18)));
+                this.writeByte((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                this.writeByte((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                this.writeByte((byte) (0x80 | (codePoint & 0x3f)));
+            } else {
+                this.writeByte((byte) (0xe0 | (c >> 12)));
+                this.writeByte((byte) (0x80 | ((c >> 6) & 0x3f)));
+                this.writeByte((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+    }
+
+    private void writeLong(final long value) {
+        this.writeInt((int) (value >>> 32));
+        this.writeInt((int) value);
+    }
+
+    private void writeInt(final int value) {
+        this.writeByte((byte) (value >>> 24));
+        this.writeByte((byte) (value >>> 16));
+        this.writeByte((byte) (value >>> 8));
+        this.writeByte((byte) value);
+    }
+
+    private void writeBytes(final byte[] bytes) {
+        this.flush();
+        this.digest.update(bytes);
+    }
+
+    private void writeByte(final byte value) {
+
+        if (this.position == this.buffer.length) {
+            this.flush();
+        }
+        this.buffer[this.position++] = value;
+    }
+
+    private void flush() {
+
+        if (this.position > 0) {
+            this.digest.update(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+}
@@ -395,6 +395,26 @@ public class FieldUtils {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Extracts the fields selected by the list projection of the given model definition. The ID field is always
+     * included, and the fields keep the order in which they are declared on the model.
+     * 
+     * @param modelDefinition The model definition to extract the list projection fields from.
+     * @return A list of fields selected by the list projection, or an empty list if list projection is not configured.
+     */
+    public static List<FieldDefinition> extractListProjectionFields(final ModelDefinition modelDefinition) {
+
+        if (!modelDefinition.isListProjectionEnabled()) {
+            return List.of();
+        }
+
+        final FieldDefinition idField = extractIdField(modelDefinition.getFields());
+
+        return modelDefinition.getFields().stream()
+                .filter(field -> field.equals(idField) || modelDefinition.getListProjection().contains(field.getName()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Checks if the given model definition is used as a JSON field in any of the other model definitions.
      * 
@@ -794,6 +814,23 @@ public class FieldUtils {
                 .anyMatch(field -> field.getType().equals(modelDefinition.getName()));
     }
 
+    /**
+     * Checks if any model definition with bulk create enabled has a relation to the specified model definition.
+     * Bulk create resolves such relations with {@code getAllByIds} of the related model's service.
+     *
+     * @param modelDefinition The model definition to check for a relation.
+     * @param entities The list of model definitions to search for a relation.
+     * @return true if a bulk create entity has a relation to the given model definition, false otherwise.
+     */
+    public static boolean hasBulkCreateRelation(final ModelDefinition modelDefinition, final List<ModelDefinition> entities) {
+
+        return entities.stream()
+                .filter(ModelDefinition::isBulkCreateEnabled)
+                .flatMap(entity -> entity.getFields().stream())
+                .filter(field -> Objects.nonNull(field.getRelation()))
+                .anyMatch(field -> field.getType().equals(modelDefinition.getName()));
+    }
+
     /**
      * Checks if any field within the provided list of model definitions has a relation
      * to the specified model definition.
@@ -17,13 +17,19 @@
 package dev.markozivkovic.springcrudgenerator.utils;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
+
 public class FileWriterUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileWriterUtils.class);
@@ -34,7 +40,8 @@ public class FileWriterUtils {
 
     /**
      * Writes the given content to a file in the specified directory. The file
-     * name is given as the last part of the subDir parameter.
+     * name is given as the last part of the subDir parameter. The file is left
+     * untouched if its current content is identical to the given content.
      * 
      * @param outputDir   the root directory where the file should be written
      * @param subDir      the subdirectory within the outputDir where the file should
@@ -48,29 +55,15 @@ public class FileWriterUtils {
         final String normilizedSubDir = subDir.replace('.', File.separatorChar)
                 .replace('/', File.separatorChar)
                 .replace('\\', File.separatorChar);
-        final File directory = new File(outputDir + File.separator + normilizedSubDir);
-        
-        if (!directory.exists()) {
-            final boolean created = directory.mkdirs();
-
-            if (!created) {
-                throw new RuntimeException(
-                    String.format("Failed to create directory: %s", directory.getAbsolutePath())
-                );
+        final Path directory = Paths.get(outputDir, normilizedSubDir);
+        final Path file = directory.resolve(fileName.contains(".") ? fileName : fileName + ".java");
+
+        try {
+            if (writeIfChanged(file, content)) {
+                LOGGER.info("Generated : {}", fileName);
+            } else {
+                LOGGER.debug("Unchanged : {}", fileName);
             }
-        }
-
-        final File file;
-
-        if (!fileName.contains(".")) {
-            file = new File(directory, fileName + ".java");
-        } else {
-            file = new File(directory, fileName);
-        }
-
-        try (final FileWriter writer = new FileWriter(file, Charset.defaultCharset())) {
-            writer.write(content);
-            LOGGER.info("Generated : {}", fileName);
         } catch (final IOException e) {
             LOGGER.error("Failed to generate file {}: {}", fileName, e.getMessage());
             throw new RuntimeException(
@@ -81,7 +74,8 @@ public class FileWriterUtils {
 
     /**
      * Writes the given content to a file at the specified output path with the given file name.
-     * If the file does not exist, it will be created. Logs the operation result.
+     * If the file does not exist, it will be created. The file is left untouched if its current
+     * content is identical to the given content. Logs the operation result.
      *
      * @param outputPath the path where the file should be written
      * @param fileName   the name of the file to write
@@ -90,22 +84,14 @@ public class FileWriterUtils {
      */
     public static void writeToFile(final String outputPath, final String fileName, final String content) {
 
-        final File directory = new File(outputPath);
-        if (!directory.exists()) {
-            final boolean created = directory.mkdirs();
+        final Path file = Paths.get(outputPath, fileName);
 
-            if (!created) {
-                throw new RuntimeException(
-                    String.format("Failed to create directory: %s", outputPath)
-                );
+        try {
+            if (writeIfChanged(file, content)) {
+                LOGGER.info("Generated class: {}", fileName);
+            } else {
+                LOGGER.debug("Unchanged class: {}", fileName);
             }
-        }
-
-        final File file = new File(outputPath, fileName);
-
-        try (final FileWriter writer = new FileWriter(file, Charset.defaultCharset())) {
-            writer.write(content);
-            LOGGER.info("Generated class: {}", fileName);
         } catch (final IOException e) {
             LOGGER.error("Failed to generate class {}: {}", fileName, e.getMessage());
             throw new RuntimeException(
@@ -113,5 +99,54 @@ public class FileWriterUtils {
             );
         }
     }
+
+    /**
+     * Writes the given content to the given file using UTF-8 encoding, creating the parent
+     * directories if needed. If the file already exists and its content is identical to the
+     * given content, the file is not written, so its last modified time is preserved and
+     * incremental compilers do not recompile it.
+     *
+     * @param file    the file to write
+     * @param content the content to write
+     * @return true if the file was written, false if it was already up to date
+     * @throws IOException if an I/O error occurs while reading or writing the file
+     */
+    public static boolean writeIfChanged(final Path file, final String content) throws IOException {
+
+        final long start = System.nanoTime();
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final String fileName = String.valueOf(file.getFileName());
+
+        if (isUpToDate(file, bytes)) {
+            GenerationMetrics.record(MetricCategory.FILE_WRITE, fileName, System.nanoTime() - start, 0, true);
+            return false;
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        Files.write(file, bytes);
+        GenerationMetrics.record(MetricCategory.FILE_WRITE, fileName, System.nanoTime() - start, bytes.length, false);
+        return true;
+    }
+
+    /**
+     * Checks whether the given file already contains exactly the given bytes. File sizes are
+     * compared first, so the existing content is only read when the sizes match.
+     *
+     * @param file  the file to check
+     * @param bytes the expected content
+     * @return true if the file exists and contains exactly the given bytes
+     * @throws IOException if an I/O error occurs while reading the file
+     */
+    private static boolean isUpToDate(final Path file, final byte[] bytes) throws IOException {
+
+        if (!Files.isRegularFile(file) || Files.size(file) != bytes.length) {
+            return false;
+        }
+
+        return Arrays.equals(Files.readAllBytes(file), bytes);
+    }
     
 }
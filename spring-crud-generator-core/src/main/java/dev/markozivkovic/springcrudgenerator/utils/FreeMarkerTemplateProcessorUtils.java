@@ -16,17 +16,50 @@
 
 package dev.markozivkovic.springcrudgenerator.utils;
 
+import freemarker.cache.CacheStorage;
+import freemarker.cache.MruCacheStorage;
+import freemarker.cache.SoftCacheStorage;
+import freemarker.cache.StrongCacheStorage;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateExceptionHandler;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
 
 public class FreeMarkerTemplateProcessorUtils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FreeMarkerTemplateProcessorUtils.class);
+
     private static final String TEMPLATES = "templates";
+    private static final String TEMPLATE_EXTENSION = ".ftl";
+    private static final int INITIAL_BUFFER_CAPACITY = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 1024 * 1024;
     private static final Configuration cfg;
+    private static final ThreadLocal<StringBuilderWriter> BUFFERS = ThreadLocal.withInitial(
+            () -> new StringBuilderWriter(INITIAL_BUFFER_CAPACITY)
+    );
 
     private FreeMarkerTemplateProcessorUtils() {
 
@@ -39,10 +72,111 @@ public class FreeMarkerTemplateProcessorUtils {
         cfg.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
         cfg.setLogTemplateExceptions(false);
         cfg.setWrapUncheckedExceptions(true);
+        cfg.setCacheStorage(TemplateCacheStorage.STRONG.create());
+        cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+    }
+
+    /**
+     * Storage policies for the compiled template cache.
+     */
+    public enum TemplateCacheStorage {
+
+        /**
+         * Keeps every parsed template for the lifetime of the generator. Templates are
+         * bundled with the plugin and never change, so this is the default policy.
+         */
+        STRONG,
+
+        /**
+         * Keeps parsed templates softly referenced, so they can be reclaimed under memory pressure.
+         */
+        SOFT,
+
+        /**
+         * Keeps the most recently used templates strongly referenced and the rest softly referenced.
+         */
+        MRU;
+
+        private static final int MRU_STRONG_SIZE = 64;
+
+        /**
+         * Creates the FreeMarker {@link CacheStorage} for this policy.
+         *
+         * @return the cache storage
+         */
+        CacheStorage create() {
+            return switch (this) {
+                case STRONG -> new StrongCacheStorage();
+                case SOFT -> new SoftCacheStorage();
+                case MRU -> new MruCacheStorage(MRU_STRONG_SIZE, Integer.MAX_VALUE);
+            };
+        }
+
+        /**
+         * Resolves the policy from its name (case-insensitive). Returns {@link #STRONG} if the value is blank.
+         *
+         * @param value the policy name
+         * @return the resolved policy
+         * @throws IllegalArgumentException if the value is not a supported policy
+         */
+        public static TemplateCacheStorage fromString(final String value) {
+
+            if (StringUtils.isBlank(value)) {
+                return STRONG;
+            }
+
+            try {
+                return TemplateCacheStorage.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format(
+                    "Unsupported template cache storage: %s. Supported values are: strong, soft, mru", value
+                ), e);
+            }
+        }
+    }
+
+    /**
+     * Sets the storage policy of the compiled template cache. Changing the policy clears the cache.
+     *
+     * @param storage the cache storage policy
+     */
+    public static void setTemplateCacheStorage(final TemplateCacheStorage storage) {
+        cfg.setCacheStorage(Objects.requireNonNull(storage, "storage").create());
+    }
+
+    /**
+     * Parses all templates bundled under the {@code templates} directory and stores them in the
+     * template cache, so subsequent rendering does not pay the template lookup and parse cost.
+     *
+     * @return the parse time in nanoseconds of each template, keyed by template path
+     * @throws RuntimeException if templates cannot be listed or a template cannot be parsed
+     */
+    public static Map<String, Long> warmUp() {
+
+        final long start = System.nanoTime();
+        final Map<String, Long> parseTimes = new LinkedHashMap<>();
+
+        for (final String templatePath : listTemplates()) {
+            final long templateStart = System.nanoTime();
+            try {
+                cfg.getTemplate(templatePath);
+            } catch (final IOException e) {
+                throw new RuntimeException("Error parsing template: " + templatePath, e);
+            }
+            final long parseTime = System.nanoTime() - templateStart;
+            parseTimes.put(templatePath, parseTime);
+            LOGGER.debug("Parsed template {} in {} us", templatePath, parseTime / 1_000);
+        }
+
+        LOGGER.info("Parsed {} templates in {} ms", parseTimes.size(), (System.nanoTime() - start) / 1_000_000);
+
+        return parseTimes;
     }
 
     /**
      * Processes the given FreeMarker template with the provided data model and returns the result as a string.
+     * The template is rendered into a reusable per-thread buffer, so the buffer does not have to grow from
+     * scratch for every rendered template.
      * 
      * @param templatePath the path to the FreeMarker template file
      * @param dataModel the map of data to be used when processing the template
@@ -51,12 +185,165 @@ public class FreeMarkerTemplateProcessorUtils {
      */
     public static String processTemplate(final String templatePath, final Map<String, Object> dataModel) {
 
-        try (final StringWriter out = new StringWriter()) {
+        final StringBuilderWriter buffer = BUFFERS.get();
+        final boolean reuseBuffer = !buffer.inUse;
+        final StringBuilderWriter out = reuseBuffer ? buffer : new StringBuilderWriter(INITIAL_BUFFER_CAPACITY);
+
+        out.inUse = true;
+        try {
+            final long start = System.nanoTime();
+            render(templatePath, dataModel, out);
+            final String result = out.toString();
+            GenerationMetrics.record(MetricCategory.TEMPLATE, templatePath, System.nanoTime() - start, result.length(), false);
+            return result;
+        } finally {
+            out.release();
+            if (reuseBuffer && out.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    /**
+     * Processes the given FreeMarker template with the provided data model and writes the result to the
+     * given writer. The writer is neither flushed nor closed.
+     *
+     * @param templatePath the path to the FreeMarker template file
+     * @param dataModel the map of data to be used when processing the template
+     * @param out the writer the processed template is written to
+     * @throws RuntimeException if an exception occurs during template processing
+     */
+    public static void processTemplate(final String templatePath, final Map<String, Object> dataModel, final Writer out) {
+
+        final long start = System.nanoTime();
+        render(templatePath, dataModel, out);
+        GenerationMetrics.record(MetricCategory.TEMPLATE, templatePath, System.nanoTime() - start, 0, false);
+    }
+
+    /**
+     * Renders the given FreeMarker template with the provided data model into the given writer.
+     *
+     * @param templatePath the path to the FreeMarker template file
+     * @param dataModel the map of data to be used when processing the template
+     * @param out the writer the processed template is written to
+     * @throws RuntimeException if an exception occurs during template processing
+     */
+    private static void render(final String templatePath, final Map<String, Object> dataModel, final Writer out) {
+
+        try {
             final Template template = cfg.getTemplate(templatePath);
             template.process(dataModel, out);
-            return out.toString();
         } catch (final Exception e) {
             throw new RuntimeException("Error processing template: " + templatePath, e);
         }
     }
+
+    /**
+     * Lists the paths (relative to the {@code templates} directory) of all bundled templates,
+     * both when the templates are loaded from a directory and from a jar file.
+     *
+     * @return the sorted list of template paths
+     */
+    private static List<String> listTemplates() {
+
+        final URL url = FreeMarkerTemplateProcessorUtils.class.getClassLoader().getResource(TEMPLATES);
+
+        if (Objects.isNull(url)) {
+            throw new RuntimeException("Templates directory not found on the classpath");
+        }
+
+        try {
+            final URI uri = url.toURI();
+
+            if ("jar".equals(uri.getScheme())) {
+                try {
+                    try (final FileSystem fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+                        return listTemplates(fileSystem.getPath(TEMPLATES));
+                    }
+                } catch (final FileSystemAlreadyExistsException e) {
+                    return listTemplates(FileSystems.getFileSystem(uri).getPath(TEMPLATES));
+                }
+            }
+
+            return listTemplates(Paths.get(uri));
+        } catch (final Exception e) {
+            throw new RuntimeException("Error listing templates", e);
+        }
+    }
+
+    /**
+     * Lists the paths, relative to the given root, of all templates under the given root.
+     *
+     * @param root the templates root directory
+     * @return the sorted list of template paths
+     * @throws IOException if the directory cannot be traversed
+     */
+    private static List<String> listTemplates(final Path root) throws IOException {
+
+        try (final Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .filter(path -> path.endsWith(TEMPLATE_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Unsynchronized {@link Writer} backed by a {@link StringBuilder} that can be reused between renders.
+     */
+    private static final class StringBuilderWriter extends Writer {
+
+        private final StringBuilder sb;
+        private boolean inUse;
+
+        private StringBuilderWriter(final int capacity) {
+            this.sb = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void write(final int c) {
+            sb.append((char) c);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            sb.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            sb.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(final CharSequence csq) {
+            sb.append(csq);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        private int capacity() {
+            return sb.capacity();
+        }
+
+        private void release() {
+            sb.setLength(0);
+            inUse = false;
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricSnapshot;
+
+public final class GenerationReportUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationReportUtils.class);
+
+    private static final String REPORT_DIR = ".crud-generator";
+    private static final String JSON_REPORT_FILE = "generation-report.json";
+    private static final String HTML_REPORT_FILE = "generation-report.html";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private GenerationReportUtils() {}
+
+    /**
+     * Writes the metrics collected by {@link GenerationMetrics} as a JSON and an HTML report to the
+     * {@code .crud-generator} directory of the given base directory.
+     *
+     * @param baseDir    the project base directory
+     * @param totalNanos the total generation wall time in nanoseconds
+     * @throws RuntimeException if the report cannot be written
+     */
+    public static void write(final String baseDir, final long totalNanos) {
+
+        final Map<String, Object> report = buildReport(GenerationMetrics.snapshot(), totalNanos);
+        final Path reportDir = Paths.get(baseDir, REPORT_DIR);
+
+        try {
+            FileWriterUtils.writeIfChanged(
+                reportDir.resolve(JSON_REPORT_FILE),
+                OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report)
+            );
+            FileWriterUtils.writeIfChanged(
+                reportDir.resolve(HTML_REPORT_FILE),
+                FreeMarkerTemplateProcessorUtils.processTemplate("report/generation-report.html.ftl", report)
+            );
+        } catch (final Exception e) {
+            throw new RuntimeException(
+                String.format("Failed to write generation report to '%s': %s", reportDir, e.getMessage()), e
+            );
+        }
+
+        LOGGER.info("Generation report written to: {}", reportDir.resolve(HTML_REPORT_FILE));
+    }
+
+    /**
+     * Builds the report model from the given metrics. Metrics are grouped by category and each
+     * category contains its totals and the individual metrics.
+     *
+     * @param metrics    the recorded metrics
+     * @param totalNanos the total generation wall time in nanoseconds
+     * @return the report model
+     */
+    static Map<String, Object> buildReport(final List<MetricSnapshot> metrics, final long totalNanos) {
+
+        final Map<MetricCategory, List<MetricSnapshot>> byCategory = metrics.stream()
+                .collect(Collectors.groupingBy(MetricSnapshot::category, LinkedHashMap::new, Collectors.toList()));
+
+        final List<Map<String, Object>> categories = new ArrayList<>();
+        byCategory.forEach((category, categoryMetrics) -> {
+            final Map<String, Object> categoryModel = new LinkedHashMap<>();
+            categoryModel.put("name", category.name());
+            categoryModel.put("count", categoryMetrics.stream().mapToLong(MetricSnapshot::count).sum());
+            categoryModel.put("totalMillis", toMillis(categoryMetrics.stream().mapToLong(MetricSnapshot::totalNanos).sum()));
+            categoryModel.put("bytes", categoryMetrics.stream().mapToLong(MetricSnapshot::bytes).sum());
+            categoryModel.put("allocatedBytes", categoryMetrics.stream().mapToLong(MetricSnapshot::allocatedBytes).sum());
+            categoryModel.put("skipped", categoryMetrics.stream().mapToLong(MetricSnapshot::skipped).sum());
+            categoryModel.put("metrics", categoryMetrics.stream().map(GenerationReportUtils::toModel).toList());
+            categories.add(categoryModel);
+        });
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("totalMillis", toMillis(totalNanos));
+        report.put("categories", categories);
+        return report;
+    }
+
+    /**
+     * Converts a single metric to its report model.
+     *
+     * @param metric the metric
+     * @return the report model of the metric
+     */
+    private static Map<String, Object> toModel(final MetricSnapshot metric) {
+
+        final Map<String, Object> model = new LinkedHashMap<>();
+        model.put("name", metric.name());
+        model.put("count", metric.count());
+        model.put("totalMillis", toMillis(metric.totalNanos()));
+        model.put("averageMicros", metric.count() == 0 ? 0 : metric.totalNanos() / metric.count() / 1_000);
+        model.put("bytes", metric.bytes());
+        model.put("allocatedBytes", metric.allocatedBytes());
+        model.put("skipped", metric.skipped());
+        return model;
+    }
+
+    private static long toMillis(final long nanos) {
+        return nanos / 1_000_000;
+    }
+
+}
@@ -22,9 +22,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -133,9 +137,78 @@ public final class GeneratorStateUtils {
         state.setConfiguration(configuration);
     }
 
+    /**
+     * Finds the artifacts of the given model whose fingerprint differs from the fingerprint stored in the given
+     * generator state. Artifacts without a stored fingerprint are considered stale.
+     *
+     * @param state                the generator state to search in
+     * @param modelName            the name of the model
+     * @param artifactFingerprints the current artifact fingerprints of the model (artifact key to fingerprint)
+     * @return the keys of the stale artifacts, in the order of the given fingerprints
+     */
+    public static Set<String> findStaleArtifacts(final GeneratorState state, final String modelName,
+                final Map<String, String> artifactFingerprints) {
+
+        final Map<String, String> previous = findModelState(state, modelName)
+                .map(ModelState::getArtifacts)
+                .orElse(Map.of());
+
+        return artifactFingerprints.entrySet().stream()
+                .filter(entry -> Objects.isNull(previous) || !entry.getValue().equals(previous.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Updates the artifact fingerprints of the given model in the given generator state. Fingerprints of artifacts
+     * that are not present in the given map are kept. If the model does not exist in the generator state, it is added.
+     *
+     * @param state                the generator state to update
+     * @param modelName            the name of the model to update
+     * @param artifactFingerprints the new artifact fingerprints of the model (artifact key to fingerprint)
+     */
+    public static void updateArtifactFingerprints(final GeneratorState state, final String modelName,
+                final Map<String, String> artifactFingerprints) {
+
+        if (Objects.isNull(state.getModels())) {
+            state.setModels(new ArrayList<>());
+        }
+        final ModelState modelState = findModelState(state, modelName)
+                .orElseGet(() -> {
+                    final ModelState created = new ModelState().name(modelName);
+                    state.getModels().add(created);
+                    return created;
+                });
+
+        final Map<String, String> artifacts = Objects.isNull(modelState.getArtifacts())
+                ? new TreeMap<>()
+                : new TreeMap<>(modelState.getArtifacts());
+        artifacts.putAll(artifactFingerprints);
+        modelState.setArtifacts(artifacts);
+    }
+
+    /**
+     * Finds the state of the given model in the given generator state.
+     *
+     * @param state     the generator state to search in
+     * @param modelName the name of the model
+     * @return an optional containing the model state, or empty if not found
+     */
+    private static Optional<ModelState> findModelState(final GeneratorState state, final String modelName) {
+
+        if (Objects.isNull(state.getModels())) {
+            return Optional.empty();
+        }
+        return state.getModels().stream()
+                .filter(m -> modelName.equals(m.getName()))
+                .findFirst();
+    }
+
     /**
      * Computes a fingerprint for a given model definition.
-     * The fingerprint is a SHA-256 hash of a canonical map containing the model's name, storage name, description, fields and audit information.
+     * The fingerprint is a SHA-256 hash of the model's name, storage name, description, fields and audit information,
+     * streamed into the digest in canonical form (see {@link CanonicalHasher}), so it does not depend on the order
+     * in which the properties are declared or serialized.
      * If an exception occurs while computing the fingerprint, a RuntimeException is thrown.
      *
      * @param model the model definition for which to compute the fingerprint
@@ -145,17 +218,13 @@ public final class GeneratorStateUtils {
     public static String computeFingerprint(final ModelDefinition model) {
         
         try {
-            final Map<String, Object> canonical = new LinkedHashMap<>();
-            canonical.put("name", model.getName());
-            canonical.put("storageName", model.getStorageName());
-            canonical.put("description", model.getDescription());
-            canonical.put("fields", model.getFields());
-            canonical.put("audit", model.getAudit());
-            
-            final byte[] bytes = OBJECT_MAPPER.writer()
-                    .writeValueAsBytes(canonical);
-            
-            return HashUtils.sha256(bytes);
+            return CanonicalHasher.start()
+                    .add("name").add(model.getName())
+                    .add("storageName").add(model.getStorageName())
+                    .add("description").add(model.getDescription())
+                    .add("fields").add(model.getFields())
+                    .add("audit").add(model.getAudit())
+                    .hex();
         } catch (final Exception e) {
             throw new RuntimeException(
                     String.format("Failed to compute fingerprint for model %s", model.getName()),
@@ -166,7 +235,7 @@ public final class GeneratorStateUtils {
 
     /**
      * Computes a fingerprint for a given crud configuration.
-     * The fingerprint is a SHA-256 hash of a canonical map containing the configuration.
+     * The fingerprint is a SHA-256 hash of the configuration in canonical form (see {@link CanonicalHasher}).
      * If an exception occurs while computing the fingerprint, a RuntimeException is thrown.
      *
      * @param configuration the crud configuration for which to compute the fingerprint
@@ -176,10 +245,9 @@ public final class GeneratorStateUtils {
     public static String computeFingerprint(final CrudConfiguration configuration) {
         
         try {
-            final byte[] bytes = OBJECT_MAPPER.writer()
-                    .writeValueAsBytes(configuration);
-            
-            return HashUtils.sha256(bytes);
+            return CanonicalHasher.start()
+                    .add(configuration)
+                    .hex();
         } catch (final Exception e) {
             throw new RuntimeException(
                     String.format("Failed to compute fingerprint for configuration"),
@@ -18,9 +18,18 @@ package dev.markozivkovic.springcrudgenerator.utils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 public final class HashUtils {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * SHA-256 digest per thread. Creating a {@link MessageDigest} goes through the security provider lookup, which
+     * costs more than hashing a typical spec fragment, so the instance is created once and reset before every use.
+     */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(HashUtils::newSha256);
+
     private HashUtils() {}
 
     /**
@@ -41,16 +50,45 @@ public final class HashUtils {
      * @return SHA-256 hash of the given string
      */
     public static String sha256(final byte[] data) {
+        return toHex(sha256Digest().digest(data));
+    }
+
+    /**
+     * Returns the SHA-256 digest of the current thread, reset and ready for use. The returned instance must not be
+     * shared with other threads or kept after the hash has been computed.
+     *
+     * @return the reset SHA-256 digest of the current thread
+     */
+    static MessageDigest sha256Digest() {
+
+        final MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest;
+    }
+
+    /**
+     * Encodes the given bytes as a lower case hexadecimal string.
+     *
+     * @param bytes the bytes to encode
+     * @return the hexadecimal representation of the bytes
+     */
+    public static String toHex(final byte[] bytes) {
+
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int value = bytes[i] & 0xff;
+            chars[i * 2] = HEX_DIGITS[value >>> 4];
+            chars[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    private static MessageDigest newSha256() {
         try {
-            final MessageDigest md = MessageDigest.getInstance("SHA-256");
-            final byte[] dig = md.digest(data);
-            final StringBuilder sb = new StringBuilder(dig.length * 2);
-            for (final byte b : dig) {
-                sb.append(String.format("%02x", b & 0xff));
-            }
-            return sb.toString();
-        } catch (Exception e) {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
     }
+
 }
@@ -124,6 +124,28 @@ public class ModelNameUtils {
         return String.format("%sInputTO", stripSuffix(modelName));
     }
 
+    /**
+     * Computes the name of the list projection record, given a model name.
+     * This method strips the suffix from the model name (if it matches any of the known suffixes) and then appends "ListProjection" to the resulting string.
+     * 
+     * @param modelName the model name to compute the list projection name from
+     * @return the computed list projection name
+     */
+    public static String computeListProjectionName(final String modelName) {
+        return String.format("%sListProjection", stripSuffix(modelName));
+    }
+
+    /**
+     * Computes the name of the list transfer object, given a model name.
+     * This method strips the suffix from the model name (if it matches any of the known suffixes) and then appends "ListTO" to the resulting string.
+     * 
+     * @param modelName the model name to compute the list transfer object name from
+     * @return the computed list transfer object name
+     */
+    public static String computeListTOModelName(final String modelName) {
+        return String.format("%sListTO", stripSuffix(modelName));
+    }
+
     /**
      * Computes the name of the entity graph for a model definition.
      * This method formats the entity graph name by concatenating the model name with the lazy field names.
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.BasicTypeEnum;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+public class PaginationUtils {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String ENUM_SUFFIX = "Enum";
+
+    private PaginationUtils() {}
+
+    /**
+     * Checks whether keyset (cursor) pagination is enabled for the given model.
+     *
+     * @param modelDefinition model definition to inspect
+     * @return true when the model uses keyset pagination, false otherwise
+     */
+    public static boolean isKeysetPagination(final ModelDefinition modelDefinition) {
+        return Objects.nonNull(modelDefinition) && modelDefinition.isKeysetPagination();
+    }
+
+    /**
+     * Checks whether slice pagination, which pages by page number without counting the total number of elements, is
+     * enabled for the given model.
+     *
+     * @param modelDefinition model definition to inspect
+     * @return true when the model uses slice pagination, false otherwise
+     */
+    public static boolean isSlicePagination(final ModelDefinition modelDefinition) {
+        return Objects.nonNull(modelDefinition) && modelDefinition.isSlicePagination();
+    }
+
+    /**
+     * Resolves the pagination type of the given model, defaulting to offset pagination when none is configured.
+     *
+     * @param modelDefinition model definition to inspect
+     * @return the pagination type of the model
+     */
+    public static PaginationTypeEnum resolvePaginationType(final ModelDefinition modelDefinition) {
+
+        if (Objects.isNull(modelDefinition) || Objects.isNull(modelDefinition.getPagination())) {
+            return PaginationTypeEnum.OFFSET;
+        }
+        return modelDefinition.getPagination();
+    }
+
+    /**
+     * Resolves the name of the shared transfer object the getAll endpoints of the given model return.
+     *
+     * @param modelDefinition model definition to inspect
+     * @return {@code SliceTO} for slice pagination, {@code PageTO} otherwise
+     */
+    public static String computePageTransferObjectName(final ModelDefinition modelDefinition) {
+        return isSlicePagination(modelDefinition) ? GeneratorConstants.SLICE_TO : GeneratorConstants.PAGE_TO;
+    }
+
+    /**
+     * Checks whether the total count of a slice paginated model is cached. The count is not evicted when entities are
+     * created or deleted, so it is cached only when the cache expires its entries, which bounds how stale the count can
+     * get. The simple cache never expires entries, so the count is not cached with it.
+     *
+     * @param modelDefinition    model definition to inspect
+     * @param cacheConfiguration cache configuration, may be null
+     * @return true when the total count should be cached, false otherwise
+     */
+    public static boolean isCountCached(final ModelDefinition modelDefinition, final CacheConfiguration cacheConfiguration) {
+
+        return isSlicePagination(modelDefinition)
+                && Objects.nonNull(cacheConfiguration)
+                && Boolean.TRUE.equals(cacheConfiguration.getEnabled())
+                && Objects.nonNull(cacheConfiguration.getExpiration())
+                && Objects.nonNull(cacheConfiguration.getType())
+                && !CacheTypeEnum.SIMPLE.equals(cacheConfiguration.getType());
+    }
+
+    /**
+     * Resolves the fields a keyset cursor consists of: the allowed sort fields followed by the ID field. Each entry
+     * contains the field name ({@code name}), the getter that reads the field from the entity ({@code getter}) and the
+     * Java expression that parses the field from its string representation held in a variable named {@code value}
+     * ({@code parser}).
+     *
+     * @param modelDefinition model definition to inspect
+     * @return the cursor fields, or an empty list when keyset pagination is disabled
+     * @throws IllegalArgumentException if a cursor field has a type that cannot be part of a cursor
+     */
+    public static List<Map<String, String>> resolveCursorFields(final ModelDefinition modelDefinition) {
+
+        if (!isKeysetPagination(modelDefinition)) {
+            return List.of();
+        }
+
+        final FieldDefinition idField = FieldUtils.extractIdField(modelDefinition.getFields());
+        final List<Map<String, String>> cursorFields = new ArrayList<>();
+        SortUtils.resolveAllowedFields(modelDefinition).stream()
+                .filter(allowedField -> !allowedField.equals(idField.getName()))
+                .forEach(allowedField -> cursorFields.add(cursorField(allowedField, resolveCursorFieldType(modelDefinition, allowedField))));
+        cursorFields.add(cursorField(idField.getName(), idField.getType()));
+
+        return cursorFields;
+    }
+
+    /**
+     * Contributes pagination-related keys to the provided template context map.
+     *
+     * @param modelDefinition model definition to inspect
+     * @param context template context map to enrich
+     */
+    public static void contributePaginationContext(final ModelDefinition modelDefinition, final Map<String, Object> context) {
+        context.put(TemplateContextConstants.KEYSET_PAGINATION, isKeysetPagination(modelDefinition));
+        context.put(TemplateContextConstants.SLICE_PAGINATION, isSlicePagination(modelDefinition));
+    }
+
+    /**
+     * Returns the Java expression that parses a value of the given type from its string representation, held in a
+     * variable named {@code value}. Types outside of {@code java.lang} are fully qualified, so the expression does not
+     * require additional imports.
+     *
+     * @param type the Java type of the value
+     * @return the parse expression
+     * @throws IllegalArgumentException if values of the given type cannot be part of a cursor
+     */
+    public static String computeCursorValueParser(final String type) {
+
+        if (!BasicTypeEnum.isBasicType(type)) {
+            if (StringUtils.isNotBlank(type) && type.endsWith(ENUM_SUFFIX)) {
+                return String.format("%s.valueOf(value)", type);
+            }
+            throw new IllegalArgumentException(
+                String.format("Type %s is not supported in a keyset cursor", type)
+            );
+        }
+
+        switch (BasicTypeEnum.fromString(type)) {
+            case STRING:
+                return "value";
+            case CHARACTER:
+                return "value.charAt(0)";
+            case INTEGER:
+            case LONG:
+            case BOOLEAN:
+            case DOUBLE:
+            case FLOAT:
+            case SHORT:
+            case BYTE:
+                return String.format("%s.valueOf(value)", type);
+            case UUID:
+                return "java.util.UUID.fromString(value)";
+            case BIG_DECIMAL:
+                return "new java.math.BigDecimal(value)";
+            case BIG_INTEGER:
+                return "new java.math.BigInteger(value)";
+            case LOCAL_DATE:
+            case LOCAL_DATE_TIME:
+            case OFFSET_DATE_TIME:
+            case INSTANT:
+                return String.format("java.time.%s.parse(value)", type);
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Type %s is not supported in a keyset cursor", type)
+                );
+        }
+    }
+
+    /**
+     * Resolves the Java type of the given sort field, including the generated audit fields.
+     *
+     * @param modelDefinition model definition that contains the field
+     * @param fieldName       name of the sort field
+     * @return the Java type of the field
+     */
+    private static String resolveCursorFieldType(final ModelDefinition modelDefinition, final String fieldName) {
+
+        return modelDefinition.getFields().stream()
+                .filter(field -> fieldName.equals(field.getName()))
+                .findFirst()
+                .map(FieldUtils::computeResolvedType)
+                .orElseGet(() -> {
+                    if ((CREATED_AT.equals(fieldName) || UPDATED_AT.equals(fieldName)) && Objects.nonNull(modelDefinition.getAudit())) {
+                        return AuditUtils.resolveAuditType(modelDefinition.getAudit().getType());
+                    }
+                    throw new IllegalArgumentException(
+                        String.format("Sort field %s does not exist in model %s", fieldName, modelDefinition.getName())
+                    );
+                });
+    }
+
+    private static Map<String, String> cursorField(final String name, final String type) {
+
+        final Map<String, String> cursorField = new LinkedHashMap<>();
+        cursorField.put("name", name);
+        cursorField.put("getter", String.format("get%s", StringUtils.capitalize(name)));
+        cursorField.put("parser", computeCursorValueParser(type));
+        return cursorField;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.markozivkovic.springcrudgenerator.generators.CodeGenerator;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+public final class ParallelGenerationUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelGenerationUtils.class);
+
+    private ParallelGenerationUtils() {}
+
+    /**
+     * Resolves the effective parallelism. If the provided value is null or lower than 1,
+     * the number of available processors is used.
+     *
+     * @param parallelism the requested parallelism
+     * @return the effective parallelism
+     */
+    public static int resolveParallelism(final Integer parallelism) {
+
+        if (Objects.isNull(parallelism) || parallelism < 1) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        return parallelism;
+    }
+
+    /**
+     * Runs the given code generator for each of the provided entities. If parallelism is 1 (or there is
+     * only one entity) entities are generated sequentially in the provided order. Otherwise, entities are
+     * generated concurrently on a dedicated fixed-size thread pool. If generation fails for any entity,
+     * the failure of the first such entity (in the provided order) is rethrown after all entities finished.
+     *
+     * @param generator   the code generator to run
+     * @param entities    the entities to generate code for
+     * @param outputDir   the directory where the generated code will be written
+     * @param parallelism the number of entities that can be generated concurrently
+     */
+    public static void generate(final CodeGenerator generator, final List<ModelDefinition> entities,
+            final String outputDir, final int parallelism) {
+
+        if (parallelism <= 1 || entities.size() <= 1) {
+            entities.forEach(entity -> generator.generate(entity, outputDir));
+            return;
+        }
+
+        final int poolSize = Math.min(parallelism, entities.size());
+        LOGGER.info("Generating {} entities with parallelism: {}", entities.size(), poolSize);
+
+        final List<Callable<Void>> tasks = entities.stream()
+                .map(entity -> (Callable<Void>) () -> {
+                    generator.generate(entity, outputDir);
+                    return null;
+                })
+                .toList();
+
+        final ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+        try {
+            for (final Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Code generation was interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Code generation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
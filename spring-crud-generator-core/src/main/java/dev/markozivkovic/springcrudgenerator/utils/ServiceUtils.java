@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.util.List;
+import java.util.Objects;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+public class ServiceUtils {
+
+    private ServiceUtils() {}
+
+    /**
+     * Checks whether the service of the given model exposes the getAllByIds method. It is required by collection
+     * relations and by bulk create of models that reference the given model.
+     *
+     * @param modelDefinition the model definition
+     * @param entities all model definitions
+     * @return true if the getAllByIds method is generated, false otherwise
+     */
+    public static boolean hasGetAllByIds(final ModelDefinition modelDefinition, final List<ModelDefinition> entities) {
+        return FieldUtils.hasCollectionRelation(modelDefinition, entities)
+                || FieldUtils.hasBulkCreateRelation(modelDefinition, entities);
+    }
+
+    /**
+     * Checks whether the bulk create method of the given model flushes the persistence context after each chunk. This
+     * applies to chunked bulk create on JPA only, MongoDB has no persistence context to flush.
+     *
+     * @param configuration the CRUD configuration
+     * @param modelDefinition the model definition
+     * @return true if the persistence context is flushed after each chunk, false otherwise
+     */
+    public static boolean isFlushBulkChunks(final CrudConfiguration configuration, final ModelDefinition modelDefinition) {
+        return !isMongoDB(configuration) && modelDefinition.isBulkCreateChunked();
+    }
+
+    /**
+     * Checks whether the bulk create method of the given model detaches the records of each chunk once it is flushed.
+     * Only the saved records are detached, so the related entities resolved by the caller stay managed for the next
+     * chunks. Detaching is skipped when a relation cascades, because detaching would cascade to those related entities.
+     *
+     * @param configuration the CRUD configuration
+     * @param modelDefinition the model definition
+     * @return true if the saved records are detached after each chunk, false otherwise
+     */
+    public static boolean isDetachBulkChunks(final CrudConfiguration configuration, final ModelDefinition modelDefinition) {
+        return isFlushBulkChunks(configuration, modelDefinition) && !FieldUtils.isCascadeTypeDefined(modelDefinition.getFields());
+    }
+
+    /**
+     * Checks whether the service of the given model is constructed with the {@code EntityManager}. It is used to flush
+     * and detach chunked bulk creates and to detach exported entities, both on JPA only.
+     *
+     * @param configuration the CRUD configuration
+     * @param modelDefinition the model definition
+     * @return true if the service depends on the {@code EntityManager}, false otherwise
+     */
+    public static boolean usesEntityManager(final CrudConfiguration configuration, final ModelDefinition modelDefinition) {
+        return isFlushBulkChunks(configuration, modelDefinition) || (!isMongoDB(configuration) && modelDefinition.isExportEnabled());
+    }
+
+    /**
+     * Checks whether the service of the given model is constructed with the generated {@code CacheHelper}. It is used
+     * to write bulk created entities to the cache once the transaction commits, and by getAllByIds to read many
+     * entities from the cache at once.
+     *
+     * @param configuration the CRUD configuration
+     * @param modelDefinition the model definition
+     * @param entities all model definitions
+     * @return true if the service depends on the {@code CacheHelper}, false otherwise
+     */
+    public static boolean usesCacheHelper(final CrudConfiguration configuration, final ModelDefinition modelDefinition,
+            final List<ModelDefinition> entities) {
+        return Objects.nonNull(configuration.getCache()) && Boolean.TRUE.equals(configuration.getCache().getEnabled())
+                && (modelDefinition.isBulkCreateEnabled() || hasGetAllByIds(modelDefinition, entities));
+    }
+
+    private static boolean isMongoDB(final CrudConfiguration configuration) {
+        return DatabaseType.MONGODB.equals(configuration.getDatabase());
+    }
+
+}
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 
 public class CacheConfigurationValidator {
@@ -37,9 +38,16 @@ public class CacheConfigurationValidator {
      * - If cache.enabled is set to false, but cache.type, cache.maxSize or cache.expiration are set, an {@link IllegalArgumentException} is thrown.
      * - If cache.enabled is not set, but cache.type, cache.maxSize or cache.expiration are set, a warning is logged and cache.enabled is set to true.
      * - If cache.enabled is set to true, but no cache.type, cache.maxSize or cache.expiration are provided, a warning is logged and the cache type is set to SIMPLE.
-     * - If cache.type is set to CAFFEINE, cache.maxSize must be > 0, otherwise an {@link IllegalArgumentException} is thrown.
-     * - If cache.type is not set to CAFFEINE, cache.maxSize is ignored and a warning is logged.
+     * - If cache.type is set to CAFFEINE or TWO_LEVEL, cache.maxSize must be > 0, otherwise an {@link IllegalArgumentException} is thrown.
+     *   For TWO_LEVEL it is the default size of the local cache of each entity.
+     * - If cache.type is not set to CAFFEINE or TWO_LEVEL, cache.maxSize is ignored and a warning is logged.
      * - If cache.expiration is set to {@code <= 0}, an {@link IllegalArgumentException} is thrown.
+     * - If cache.stampedeProtection is enabled without cache.expiration, a warning is logged, since refresh-ahead and
+     *   TTL jitter need an expiration; only the synchronized loading of missing entries is generated.
+     * - If cache.serialization is set to COMPACT and cache.type is not HAZELCAST, an {@link IllegalArgumentException} is thrown.
+     * - If cache.serialization is set for a CAFFEINE or SIMPLE cache, it is ignored and a warning is logged, since these caches
+     *   keep the objects in memory without serializing them.
+     * - If cache.schemaVersion is set to {@code <= 0}, an {@link IllegalArgumentException} is thrown.
      * 
      * @param cacheConfiguration the cache configuration to validate
      * @throws IllegalArgumentException if the cache configuration is invalid
@@ -77,12 +85,12 @@ public class CacheConfigurationValidator {
             return;
         }
 
-        if (CacheTypeEnum.CAFFEINE.equals(cacheConfiguration.getType())) {
+        if (CacheTypeEnum.CAFFEINE.equals(cacheConfiguration.getType()) || CacheTypeEnum.TWO_LEVEL.equals(cacheConfiguration.getType())) {
             if (cacheConfiguration.getMaxSize() != null && cacheConfiguration.getMaxSize() <= 0) {
                 throw new IllegalArgumentException(
                     String.format(
                         "cache.maxSize must be > 0 for %s cache.",
-                        CacheTypeEnum.CAFFEINE.name()
+                        cacheConfiguration.getType().name()
                     )
                 );
             }
@@ -102,5 +110,29 @@ public class CacheConfigurationValidator {
                 )
             );
         }
+
+        if (Boolean.TRUE.equals(cacheConfiguration.getStampedeProtection()) && Objects.isNull(cacheConfiguration.getExpiration())) {
+            LOGGER.warn("cache.stampedeProtection is set without cache.expiration. Only synchronized cache loading is generated.");
+        }
+
+        final CacheTypeEnum cacheType = Objects.nonNull(cacheConfiguration.getType()) ? cacheConfiguration.getType() : CacheTypeEnum.SIMPLE;
+
+        if (CacheSerializationEnum.COMPACT.equals(cacheConfiguration.getSerialization()) && !CacheTypeEnum.HAZELCAST.equals(cacheType)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "cache.serialization COMPACT is supported only for HAZELCAST cache, but cache.type is %s.",
+                    cacheType.name()
+                )
+            );
+        }
+
+        if (Objects.nonNull(cacheConfiguration.getSerialization())
+                && (CacheTypeEnum.CAFFEINE.equals(cacheType) || CacheTypeEnum.SIMPLE.equals(cacheType))) {
+            LOGGER.warn("cache.serialization is ignored for {} cache.", cacheType);
+        }
+
+        if (Objects.nonNull(cacheConfiguration.getSchemaVersion()) && cacheConfiguration.getSchemaVersion() <= 0) {
+            throw new IllegalArgumentException("cache.schemaVersion must be > 0.");
+        }
     }
 }
\ No newline at end of file
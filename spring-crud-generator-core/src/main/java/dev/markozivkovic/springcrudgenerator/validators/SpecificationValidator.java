@@ -31,7 +31,10 @@ import dev.markozivkovic.springcrudgenerator.enums.BasicTypeEnum;
 import dev.markozivkovic.springcrudgenerator.enums.RelationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.enums.SpecialTypeEnum;
 import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
+import dev.markozivkovic.springcrudgenerator.models.CacheDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
@@ -52,6 +55,7 @@ public class SpecificationValidator {
     private static final int MIN_SUPPORTED_JAVA = 17;
     private static final int MAX_SUPPORTED_JAVA = 25;
     private static final String LOWER_SNAKE_CASE_REGEX = "[a-z][a-z0-9_]*";
+    private static final String INDEX_NAME_REGEX = "[A-Za-z][A-Za-z0-9_]*";
 
     private SpecificationValidator() {}
 
@@ -79,6 +83,7 @@ public class SpecificationValidator {
 
         validateJavaVersion(specification.getConfiguration(), errors);
         validateDatabase(database, errors);
+        validateInClauseChunkSize(specification.getConfiguration(), errors);
         validateAdditionalProperties(specification.getConfiguration(), errors);
 
         try {
@@ -100,6 +105,7 @@ public class SpecificationValidator {
         }
 
         specification.getEntities().forEach(model -> validateModel(model, specification.getEntities(), database, errors));
+        specification.getEntities().forEach(model -> validateModelCache(model, specification.getConfiguration().getCache(), errors));
 
         if (!ContainerUtils.isEmpty(errors)) {
             final String errorMessages = errors.stream()
@@ -127,6 +133,39 @@ public class SpecificationValidator {
         }
     }
 
+    /**
+     * Validates the IN clause chunk size set in the CRUD configuration.
+     * 
+     * The chunk size must be positive. For SQL Server it must not exceed the default chunk size,
+     * because Hibernate pads IN clause parameters up to the next power of two and SQL Server
+     * rejects statements with more than 2100 parameters.
+     * 
+     * @param configuration the CRUD configuration containing the chunk size to validate
+     * @param errors        the list to collect validation error messages
+     */
+    private static void validateInClauseChunkSize(final CrudConfiguration configuration, final List<String> errors) {
+
+        final Integer chunkSize = configuration.getInClauseChunkSize();
+
+        if (Objects.isNull(chunkSize)) {
+            return;
+        }
+
+        if (chunkSize <= 0) {
+            errors.add(String.format(
+                    "IN clause chunk size must be greater than 0, but was %d.", chunkSize
+            ));
+            return;
+        }
+
+        if (DatabaseType.MSSQL.equals(configuration.getDatabase())
+                && chunkSize > DatabaseType.MSSQL.getDefaultInClauseChunkSize()) {
+            errors.add(String.format(
+                    "IN clause chunk size %d is not supported for %s. Maximum supported chunk size is %d.",
+                    chunkSize, DatabaseType.MSSQL, DatabaseType.MSSQL.getDefaultInClauseChunkSize()
+            ));
+        }
+    }
 
     /**
      * Validates the Java version set in the CRUD configuration.
@@ -230,6 +269,367 @@ public class SpecificationValidator {
         });
 
         validateSort(model, errors);
+        validatePagination(model, errors);
+        validateBulk(model, errors);
+        validateExport(model, errors);
+        validateListProjection(model, errors);
+        validateIndexes(model, database, errors);
+    }
+
+    /**
+     * Validates explicit index declarations for a model. Every index must reference existing, indexable fields,
+     * index names must be unique within the model and database specific options (partial indexes and included
+     * columns) must be supported by the selected database.
+     *
+     * @param model    model definition that contains index declarations
+     * @param database selected database
+     * @param errors   collected validation errors
+     */
+    private static void validateIndexes(final ModelDefinition model, final DatabaseType database, final List<String> errors) {
+
+        if (ContainerUtils.isEmpty(model.getIndexes())) {
+            return;
+        }
+
+        final Map<String, FieldDefinition> fieldMap = model.getFields().stream()
+                .collect(Collectors.toMap(FieldDefinition::getName, field -> field, (left, right) -> left));
+        final boolean auditEnabled = Objects.nonNull(model.getAudit()) && Boolean.TRUE.equals(model.getAudit().getEnabled());
+
+        final Set<String> indexNames = new HashSet<>();
+        final Set<String> unnamedIndexFields = new HashSet<>();
+        model.getIndexes().forEach(index -> {
+
+            if (Objects.isNull(index) || ContainerUtils.isEmpty(index.getFields())) {
+                errors.add(String.format(
+                        "Index declaration in model %s must define a non-empty fields list.",
+                        model.getName()
+                ));
+                return;
+            }
+
+            if (StringUtils.isNotBlank(index.getName()) && !index.getName().matches(INDEX_NAME_REGEX)) {
+                errors.add(String.format(
+                        "Index name '%s' in model %s is not valid. It must start with a letter and contain only letters, digits and underscores.",
+                        index.getName(), model.getName()
+                ));
+            }
+
+            if (StringUtils.isNotBlank(index.getName()) && !indexNames.add(index.getName())) {
+                errors.add(String.format(
+                        "Index name '%s' in model %s is duplicated.",
+                        index.getName(), model.getName()
+                ));
+            }
+
+            if (StringUtils.isBlank(index.getName()) && !unnamedIndexFields.add(index.getFields().stream()
+                    .map(indexField -> Objects.nonNull(indexField) ? indexField.getName() : null)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")))) {
+                errors.add(String.format(
+                        "Unnamed indexes in model %s declare the same fields. Set a name on one of them.",
+                        model.getName()
+                ));
+            }
+
+            final Set<String> indexedFields = new HashSet<>();
+            index.getFields().forEach(indexField -> {
+                final String fieldName = Objects.nonNull(indexField) ? indexField.getName() : null;
+                if (StringUtils.isBlank(fieldName)) {
+                    errors.add(String.format(
+                            "Index fields contain a blank entry for model %s.",
+                            model.getName()
+                    ));
+                    return;
+                }
+                if (!indexedFields.add(fieldName)) {
+                    errors.add(String.format(
+                            "Index field '%s' in model %s is listed more than once in the same index.",
+                            fieldName, model.getName()
+                    ));
+                }
+                validateIndexedField(model, fieldName, fieldMap, auditEnabled, database, errors);
+            });
+
+            if (StringUtils.isNotBlank(index.getWhere())
+                    && (DatabaseType.MYSQL.equals(database) || DatabaseType.MARIADB.equals(database))) {
+                errors.add(String.format(
+                        "Partial index (where) in model %s is not supported on %s.",
+                        model.getName(), database
+                ));
+            }
+
+            if (ContainerUtils.isEmpty(index.getInclude())) {
+                return;
+            }
+
+            if (!DatabaseType.POSTGRESQL.equals(database) && !DatabaseType.MSSQL.equals(database)) {
+                errors.add(String.format(
+                        "Included columns (include) in index of model %s are only supported on POSTGRESQL and MSSQL, but database is %s.",
+                        model.getName(), database
+                ));
+                return;
+            }
+
+            index.getInclude().forEach(included -> {
+                if (StringUtils.isBlank(included)) {
+                    errors.add(String.format(
+                            "Index include contains a blank entry for model %s.",
+                            model.getName()
+                    ));
+                    return;
+                }
+                if (indexedFields.contains(included)) {
+                    errors.add(String.format(
+                            "Index include field '%s' in model %s is already an index key field.",
+                            included, model.getName()
+                    ));
+                    return;
+                }
+                validateIndexedField(model, included, fieldMap, auditEnabled, database, errors);
+            });
+        });
+    }
+
+    /**
+     * Validates that a field referenced by an index exists and can be stored as an index column.
+     *
+     * @param model        model definition that contains the index
+     * @param fieldName    referenced field name
+     * @param fieldMap     model fields by name
+     * @param auditEnabled whether generated audit fields are available
+     * @param database     selected database
+     * @param errors       collected validation errors
+     */
+    private static void validateIndexedField(final ModelDefinition model, final String fieldName,
+            final Map<String, FieldDefinition> fieldMap, final boolean auditEnabled, final DatabaseType database,
+            final List<String> errors) {
+
+        if (auditEnabled && ("createdAt".equals(fieldName) || "updatedAt".equals(fieldName))) {
+            return;
+        }
+
+        final FieldDefinition field = fieldMap.get(fieldName);
+        if (Objects.isNull(field)) {
+            errors.add(String.format(
+                    "Index field '%s' is not valid for model %s. It must match an existing field%s.",
+                    fieldName,
+                    model.getName(),
+                    auditEnabled ? " or generated audit field (createdAt, updatedAt)" : ""
+            ));
+            return;
+        }
+
+        if (FieldUtils.isSimpleCollectionField(field) || FieldUtils.isJsonField(field)) {
+            errors.add(String.format(
+                    "Index field '%s' in model %s is not supported: simple collection and JSON fields cannot be indexed.",
+                    fieldName, model.getName()
+            ));
+            return;
+        }
+
+        if (Objects.nonNull(field.getRelation())
+                && (FieldUtils.isCollectionRelation(field) || !isSqlDatabase(database))) {
+            errors.add(String.format(
+                    "Index field '%s' in model %s is not supported: only to-one relations of SQL models can be indexed.",
+                    fieldName, model.getName()
+            ));
+        }
+    }
+
+    /**
+     * Validates export configuration for a model. An export fetch size, when set, must be a positive number.
+     *
+     * @param model  model definition that contains export settings
+     * @param errors collected validation errors
+     */
+    private static void validateExport(final ModelDefinition model, final List<String> errors) {
+
+        if (!model.isExportEnabled() || Objects.isNull(model.getExport().getFetchSize())) {
+            return;
+        }
+
+        final Integer fetchSize = model.getExport().getFetchSize();
+        if (fetchSize <= 0) {
+            errors.add(String.format(
+                    "Export fetch size for model %s must be greater than 0, but was %d.",
+                    model.getName(), fetchSize
+            ));
+        }
+    }
+
+    /**
+     * Validates entity level cache settings for a model. They size the local tier of a two-level cache, so they require
+     * cache type TWO_LEVEL, must be positive and the local expiration must not outlive the shared cache entries.
+     *
+     * @param model              model definition that contains cache settings
+     * @param cacheConfiguration global cache configuration, may be null
+     * @param errors             collected validation errors
+     */
+    private static void validateModelCache(final ModelDefinition model, final CacheConfiguration cacheConfiguration,
+            final List<String> errors) {
+
+        final CacheDefinition cache = model.getCache();
+        if (Objects.isNull(cache)) {
+            return;
+        }
+
+        if (Objects.isNull(cacheConfiguration) || !CacheTypeEnum.TWO_LEVEL.equals(cacheConfiguration.getType())) {
+            errors.add(String.format(
+                    "Cache settings of model %s are only supported with cache type %s.",
+                    model.getName(), CacheTypeEnum.TWO_LEVEL.name()
+            ));
+            return;
+        }
+
+        if (Objects.nonNull(cache.getLocalMaxSize()) && cache.getLocalMaxSize() <= 0) {
+            errors.add(String.format(
+                    "Local cache max size for model %s must be greater than 0, but was %d.",
+                    model.getName(), cache.getLocalMaxSize()
+            ));
+        }
+
+        if (Objects.isNull(cache.getLocalExpiration())) {
+            return;
+        }
+
+        if (cache.getLocalExpiration() <= 0) {
+            errors.add(String.format(
+                    "Local cache expiration for model %s must be greater than 0, but was %d.",
+                    model.getName(), cache.getLocalExpiration()
+            ));
+        } else if (Objects.nonNull(cacheConfiguration.getExpiration()) && cache.getLocalExpiration() > cacheConfiguration.getExpiration()) {
+            errors.add(String.format(
+                    "Local cache expiration for model %s must not exceed cache.expiration (%d), but was %d.",
+                    model.getName(), cacheConfiguration.getExpiration(), cache.getLocalExpiration()
+            ));
+        }
+    }
+
+    /**
+     * Validates list projection configuration for a model. Every projected field must be an existing field that maps
+     * to a single column, and keyset pagination is not supported because its cursor is built from the full entity.
+     *
+     * @param model  model definition that contains the list projection
+     * @param errors collected validation errors
+     */
+    private static void validateListProjection(final ModelDefinition model, final List<String> errors) {
+
+        if (Objects.isNull(model.getListProjection())) {
+            return;
+        }
+
+        if (model.getListProjection().isEmpty()) {
+            errors.add(String.format(
+                    "List projection for model %s must define a non-empty list of fields.",
+                    model.getName()
+            ));
+            return;
+        }
+
+        if (model.isKeysetPagination()) {
+            errors.add(String.format(
+                    "List projection for model %s is not supported with keyset pagination.",
+                    model.getName()
+            ));
+        }
+
+        final Set<String> projectedFields = new HashSet<>();
+        model.getListProjection().forEach(fieldName -> {
+
+            if (!projectedFields.add(fieldName)) {
+                errors.add(String.format(
+                        "List projection field '%s' in model %s is duplicated.",
+                        fieldName, model.getName()
+                ));
+                return;
+            }
+
+            final FieldDefinition field = model.getFields().stream()
+                    .filter(candidate -> Objects.equals(candidate.getName(), fieldName))
+                    .findFirst()
+                    .orElse(null);
+            if (Objects.isNull(field)) {
+                errors.add(String.format(
+                        "List projection field '%s' is not valid for model %s. It must match an existing field.",
+                        fieldName, model.getName()
+                ));
+                return;
+            }
+
+            if (Objects.nonNull(field.getRelation()) || FieldUtils.isSimpleCollectionField(field) || FieldUtils.isJsonField(field)) {
+                errors.add(String.format(
+                        "List projection field '%s' in model %s is not supported: relation, simple collection and JSON fields cannot be projected.",
+                        fieldName, model.getName()
+                ));
+            }
+        });
+    }
+
+    /**
+     * Validates bulk configuration for a model. A bulk create chunk size, when set, must be a positive number.
+     * Streaming bulk import commits in chunks, so it requires the chunk size to be set.
+     *
+     * @param model  model definition that contains bulk settings
+     * @param errors collected validation errors
+     */
+    private static void validateBulk(final ModelDefinition model, final List<String> errors) {
+
+        if (model.isBulkCreateStreaming() && !model.isBulkCreateChunked()) {
+            errors.add(String.format(
+                    "Streaming bulk import for model %s requires bulk.create.chunkSize to be set.",
+                    model.getName()
+            ));
+        }
+
+        if (!model.isBulkCreateChunked()) {
+            return;
+        }
+
+        final Integer chunkSize = model.getBulk().getCreate().getChunkSize();
+        if (chunkSize <= 0) {
+            errors.add(String.format(
+                    "Bulk create chunk size for model %s must be greater than 0, but was %d.",
+                    model.getName(), chunkSize
+            ));
+        }
+    }
+
+    /**
+     * Validates keyset pagination configuration for a model. Every cursor field (the ID field and the allowed sort
+     * fields) must have a type whose values can be written to and parsed from a cursor.
+     *
+     * @param model  model definition that contains pagination settings
+     * @param errors collected validation errors
+     */
+    private static void validatePagination(final ModelDefinition model, final List<String> errors) {
+
+        if (!model.isKeysetPagination()) {
+            return;
+        }
+
+        final FieldDefinition idField = model.getFields().stream()
+                .filter(field -> Objects.nonNull(field.getId()))
+                .findFirst()
+                .orElse(null);
+        if (Objects.nonNull(idField) && !BasicTypeEnum.isBasicType(idField.getType())) {
+            errors.add(String.format(
+                    "Keyset pagination for model %s is not supported with ID type %s.",
+                    model.getName(), idField.getType()
+            ));
+        }
+
+        if (Objects.isNull(model.getSort()) || ContainerUtils.isEmpty(model.getSort().getAllowedFields())) {
+            return;
+        }
+
+        model.getSort().getAllowedFields().forEach(allowedField -> model.getFields().stream()
+                .filter(field -> Objects.equals(allowedField, field.getName()))
+                .filter(field -> Objects.nonNull(field.getRelation()))
+                .findFirst()
+                .ifPresent(field -> errors.add(String.format(
+                        "Sort field '%s' in model %s is not supported with keyset pagination: relation fields cannot be part of a cursor.",
+                        allowedField, model.getName()
+                ))));
     }
 
     /**
@@ -36,6 +36,8 @@ Database schema is managed by **Flyway**. Migration scripts are in `src/main/res
 This project uses **${cacheType}** caching.
 <#if cacheType == "REDIS">
 Redis must be running before starting the application (default: `localhost:6379`).
+<#elseif cacheType == "TWO_LEVEL">
+Redis must be running before starting the application (default: `localhost:6379`). Each instance keeps a local Caffeine cache in front of Redis and drops local entries when another instance publishes an eviction on the `cache-invalidation` channel.
 <#elseif cacheType == "HAZELCAST">
 Hazelcast must be configured and available before starting the application.
 <#elseif cacheType == "CAFFEINE">
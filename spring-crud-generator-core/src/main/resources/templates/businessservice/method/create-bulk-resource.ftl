@@ -4,37 +4,71 @@
 
     /**
      * Bulk creates new {@link ${modelName}}.
+     * <p>
+     * Referenced relations are resolved with a single lookup per relation for the whole batch. If any referenced
+     * resource does not exist, nothing is created and all missing IDs are reported in one exception.
      *
-     * @param models list of ${modelName?uncap_first} 
+     * @param models list of ${modelName?uncap_first}
      * @return the created {@link List} of {@link ${modelName}}
      */
     ${transactionalAnnotation}
     public List<${modelName}> bulkCreate(final List<${modelName}> models) {
         ArgumentVerifier.verifyNotEmpty(models);
 
+        <#list relations as rel>
+        <#assign relationServiceClass = rel.strippedRelationClassName?uncap_first + "Service">
+        <#assign relationClassName = rel.relationClassName>
+        <#assign relationField = rel.elementParam>
+        <#assign relationIdGetter = "get" + rel.relationIdField?cap_first>
+        final List<${rel.relationIdType}> ${relationField}Ids = models.stream()
+                .map(${modelName}::get${relationField?cap_first})
+                .filter(Objects::nonNull)
+                <#if rel.isCollection?? && rel.isCollection>
+                .flatMap(${relationField} -> ${relationField}.stream())
+                </#if>
+                .map(${relationClassName}::${relationIdGetter})
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        final Map<${rel.relationIdType}, ${relationClassName}> ${relationField}ById = ${relationField}Ids.isEmpty() ? Map.of() :
+                this.${relationServiceClass}.getAllByIds(${relationField}Ids).stream()
+                        .collect(Collectors.toMap(${relationClassName}::${relationIdGetter}, Function.identity(), (first, second) -> first));
+        </#list>
+
+        final List<String> missingRelations = new ArrayList<>();
+        <#list relations as rel>
+        <#assign relationField = rel.elementParam>
+        final List<${rel.relationIdType}> missing${relationField?cap_first}Ids = ${relationField}Ids.stream()
+                .filter(id -> !${relationField}ById.containsKey(id))
+                .toList();
+        if (!missing${relationField?cap_first}Ids.isEmpty()) {
+            missingRelations.add(String.format("${rel.strippedRelationClassName?cap_first} with ids not found: %s", missing${relationField?cap_first}Ids));
+        }
+        </#list>
+        if (!missingRelations.isEmpty()) {
+            throw new ResourceNotFoundException(String.join("; ", missingRelations));
+        }
+
         final List<${modelName}> resolvedModels = models.stream()
                 .map(model -> {
                     <#list relations as rel>
-                    <#assign relationServiceClass = rel.strippedRelationClassName?uncap_first + "Service">
                     <#assign relationClassName = rel.relationClassName>
                     <#assign relationField = rel.elementParam>
-                    <#assign relationVar = rel.strippedRelationClassName?uncap_first>
+                    <#assign relationIdGetter = "get" + rel.relationIdField?cap_first>
                     <#if rel.isCollection?? && rel.isCollection>
-                    final ${rel.collectionType}<${rel.relationIdType}> ${relationVar}Ids = (model.get${relationField?cap_first}() != null && !model.get${relationField?cap_first}().isEmpty()) ?
-                            model.get${relationField?cap_first}().stream()
-                                    .map(${relationClassName}::get${rel.relationIdField?cap_first})
-                                    .collect(Collectors.${rel.collectMethod}()) :
+                    final ${rel.collectionType}<${relationClassName}> ${relationField} = model.get${relationField?cap_first}() != null ?
+                            model.get${relationField?cap_first}() :
                             ${rel.emptyCollection};
-                    final ${rel.collectionType}<${relationClassName}> ${relationVar}s = <#if rel.collectionType == "Set">new ${rel.collectionImpl}<>(this.${relationServiceClass}.getAllByIds(${relationVar}Ids.stream().toList()))<#else>this.${relationServiceClass}.getAllByIds(${relationVar}Ids)</#if>;
-                    model.set${relationField?cap_first}(${relationVar}s);
+                    model.set${relationField?cap_first}(${relationField}.stream()
+                            .map(${relationClassName}::${relationIdGetter})
+                            .filter(Objects::nonNull)
+                            .map(${relationField}ById::get)
+                            .collect(Collectors.${rel.collectMethod}()));
                     <#else>
-                    final ${rel.relationIdType} ${relationVar}Id = model.get${relationField?cap_first}() != null ?
-                            model.get${relationField?cap_first}().get${rel.relationIdField?cap_first}() :
-                            null;
-                    final ${relationClassName} ${relationVar} = ${relationVar}Id != null ?
-                            this.${relationServiceClass}.getById(${relationVar}Id) :
+                    final ${rel.relationIdType} ${relationField}Id = model.get${relationField?cap_first}() != null ?
+                            model.get${relationField?cap_first}().${relationIdGetter}() :
                             null;
-                    model.set${relationField?cap_first}(${relationVar});
+                    model.set${relationField?cap_first}(${relationField}Id != null ? ${relationField}ById.get(${relationField}Id) : null);
                     </#if>
                     </#list>
                     return model;
@@ -1,22 +1,44 @@
 <#setting number_format="computer">
 <#assign redisSerializer = isSpringBoot3?then("Jackson2JsonRedisSerializer", "JacksonJsonRedisSerializer")>
+<#assign twoLevel = type == "TWO_LEVEL">
+<#assign redisBacked = type == "REDIS" || twoLevel>
+<#assign stampede = stampedeProtection?? && stampedeProtection>
+<#assign format = (serialization!"JSON")?string>
+<#assign mapperClass = (format == "SMILE")?then("SmileMapper", (format == "CBOR")?then("CBORMapper", "JsonMapper"))>
+<#assign compact = type == "HAZELCAST" && format == "COMPACT">
 <#if type == "HAZELCAST">
 import java.util.List;
+<#if stampede>
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+</#if>
 
 </#if>
-<#if type == "REDIS" && expiration??>
+<#if (type == "REDIS" && expiration??) || twoLevel>
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+<#if stampede>
+import java.util.concurrent.ThreadLocalRandom;
+</#if>
 
 </#if><#t>
 <#if type == "CAFFEINE" && expiration??>
+<#if stampede && importUuid?? && importUuid>
+import java.util.UUID;
+</#if>
 import java.util.concurrent.TimeUnit;
 
 </#if><#t>
-<#if type == "REDIS">
+<#if stampede && type == "CAFFEINE">
+import org.springframework.beans.factory.ObjectProvider;
+</#if><#t>
+<#if redisBacked>
 import org.springframework.beans.factory.annotation.Qualifier;
 </#if><#t>
+<#if stampede && type == "HAZELCAST">
+import org.springframework.cache.Cache;
+</#if><#t>
 <#if type == "CAFFEINE" || type == "HAZELCAST">
 import org.springframework.cache.CacheManager;
 </#if><#t>
@@ -25,13 +47,26 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 </#if><#t>
 import org.springframework.context.annotation.Configuration;
+<#if twoLevel>
+import org.springframework.context.annotation.Primary;
+</#if><#t>
 <#if type == "CAFFEINE">
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+<#if stampede && readOnlyTransaction?? && readOnlyTransaction>
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+</#if>
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+<#if stampede>
+
+${serviceImports}</#if>
 </#if><#t>
 <#if type == "HAZELCAST">
 
+<#if compact>
+import com.hazelcast.config.CompactSerializationConfig;
+</#if>
 import com.hazelcast.config.Config;
 <#if maxSize??>
 import com.hazelcast.config.EvictionConfig;
@@ -44,10 +79,15 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 
 </#if><#t>
-<#if type == "REDIS">
+<#if redisBacked>
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+<#if twoLevel>
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+</#if><#t>
 <#if isSpringBoot3>
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 <#else>
@@ -58,10 +98,16 @@ import org.springframework.data.redis.serializer.RedisSerializer;
 
 ${modelImports}
 </#if><#t>
-<#if type == "REDIS">
+<#if redisBacked>
 <#if !isSpringBoot3>
 import tools.jackson.databind.ObjectMapper;
+<#if format == "SMILE">
+import tools.jackson.dataformat.smile.SmileMapper;
+<#elseif format == "CBOR">
+import tools.jackson.dataformat.cbor.CBORMapper;
+<#else>
 import tools.jackson.databind.json.JsonMapper;
+</#if>
 <#else>
 <#if excludeNull?? && excludeNull>
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -69,7 +115,13 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+<#if format == "SMILE">
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+<#elseif format == "CBOR">
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+<#else>
 import com.fasterxml.jackson.databind.json.JsonMapper;
+</#if>
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 </#if>
 
@@ -78,7 +130,12 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 @EnableCaching
 public class CacheConfiguration {
 
-    <#if type == "REDIS">
+    <#if stampede && (redisBacked || type == "HAZELCAST")>
+    private static final long TTL_SECONDS = ${expiration * 60};
+    private static final long TTL_JITTER_SECONDS = ${expiration * 6};
+
+    </#if><#t>
+    <#if redisBacked>
     private static final Map<String, Class<?>> TYPED_CACHES = Map.of(
         <#list entities as entity>
         "${entity?uncap_first}", ${entity}.class<#if entity_has_next>,</#if>
@@ -87,13 +144,18 @@ public class CacheConfiguration {
 
     @Bean
     @SuppressWarnings("unchecked")
-    RedisCacheManager cacheManager(final RedisConnectionFactory factory, @Qualifier("redisObjectMapper") final ObjectMapper redisObjectMapper) {
+    RedisCacheManager ${twoLevel?then("redisCacheManager", "cacheManager")}(final RedisConnectionFactory factory, @Qualifier("redisObjectMapper") final ObjectMapper redisObjectMapper) {
 
         final RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                <#if expiration??>
+                <#if stampede>
+                .entryTtl((key, value) -> Duration.ofSeconds(TTL_SECONDS + ThreadLocalRandom.current().nextLong(TTL_JITTER_SECONDS + 1)))
+                <#elseif expiration??>
                 .entryTtl(Duration.ofMinutes(${expiration}))
                 </#if><#t>
                 .disableCachingNullValues()
+                <#if keyPrefix??>
+                .prefixCacheNameWith("${keyPrefix}")
+                </#if><#t>
                 .serializeKeysWith(SerializationPair.fromSerializer(RedisSerializer.string()));
 
         final Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
@@ -114,13 +176,36 @@ public class CacheConfiguration {
                 .withInitialCacheConfigurations(perCache)
                 .build();
     }
+    <#if twoLevel>
+
+    @Bean
+    @Primary
+    TwoLevelCacheManager cacheManager(final RedisCacheManager redisCacheManager, final StringRedisTemplate stringRedisTemplate) {
+
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, ${localMaxSize}L, Duration.ofMinutes(${localExpiration}))<#if !localCaches?has_content>;</#if>
+                <#list localCaches as localCache>
+                .withLocalCache("${localCache.name}", ${localCache.maxSize}L, Duration.ofMinutes(${localCache.expiration}))<#if !localCache_has_next>;</#if>
+                </#list>
+    }
+
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationListenerContainer(final RedisConnectionFactory factory,
+            final TwoLevelCacheManager cacheManager) {
+
+        final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_TOPIC));
+
+        return container;
+    }
+    </#if>
 
-    <#if type == "REDIS">
+    <#if redisBacked>
     <#if isSpringBoot3>
     @Bean
     ObjectMapper redisObjectMapper() {
         
-        final ObjectMapper objectMapper = JsonMapper.builder()
+        final ObjectMapper objectMapper = ${mapperClass}.builder()
                 <#if includeHibernateLazyNullModule?? && includeHibernateLazyNullModule>
                 .addModule(new HibernateLazyNullModule())
                 </#if><#t>
@@ -144,7 +229,7 @@ public class CacheConfiguration {
     @Bean
     ObjectMapper redisObjectMapper() {
 
-        return JsonMapper.builder()
+        return ${mapperClass}.builder()
                 .changeDefaultVisibility(v -> v.withFieldVisibility(
                     com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY
                 ))
@@ -156,7 +241,46 @@ public class CacheConfiguration {
     </#if>
     </#if>
     </#if><#t>
-    <#if type == "CAFFEINE">
+    <#if type == "CAFFEINE" && stampede>
+    private static final long REFRESH_SECONDS = ${expiration * 30};
+
+    <#assign readOnly = readOnlyTransaction?? && readOnlyTransaction>
+    @Bean
+    CacheManager cacheManager(<#if readOnly>final PlatformTransactionManager transactionManager<#if refreshingCaches?has_content>,
+            </#if></#if><#list refreshingCaches as refreshingCache>final ObjectProvider<${refreshingCache.service}> ${refreshingCache.service?uncap_first}<#sep>,
+            </#sep></#list>) {
+
+        final CaffeineCacheManager manager = new CaffeineCacheManager();
+        <#if readOnly>
+        final TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        </#if>
+
+        manager.setCaffeine(caffeine());
+        <#list refreshingCaches as refreshingCache>
+        manager.registerCustomCache("${refreshingCache.name}", caffeine()
+                .refreshAfterWrite(REFRESH_SECONDS, TimeUnit.SECONDS)
+                <#if readOnly>
+                .buildAsync(key -> readOnlyTransaction.execute(status -> ${refreshingCache.service?uncap_first}.getObject().loadById((${refreshingCache.idType}) key))));
+                <#else>
+                .buildAsync(key -> ${refreshingCache.service?uncap_first}.getObject().loadById((${refreshingCache.idType}) key)));
+                </#if>
+        </#list>
+
+        return manager;
+    }
+
+    private static Caffeine<Object, Object> caffeine() {
+
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .expireAfterWrite(${expiration}, TimeUnit.MINUTES);
+        <#if maxSize??>
+        caffeine.maximumSize(${maxSize});
+        </#if>
+
+        return caffeine;
+    }
+    <#elseif type == "CAFFEINE">
     @Bean
     CacheManager cacheManager() {
 
@@ -178,7 +302,10 @@ public class CacheConfiguration {
     <#if type == "HAZELCAST">
     private static final List<String> CACHE_NAMES = List.of(
         <#list entities as entity>
-        "${entity?uncap_first}"<#if entity_has_next>,</#if>
+        "${entity?uncap_first}"<#if entity_has_next || countCaches?has_content>,</#if>
+        </#list>
+        <#list countCaches as countCache>
+        "${countCache}"<#if countCache_has_next>,</#if>
         </#list>
     );
 
@@ -192,11 +319,25 @@ public class CacheConfiguration {
         config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(false);
         config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
 
+        <#if compact>
+        final HazelcastJacksonGlobalSerializer globalSerializer = new HazelcastJacksonGlobalSerializer();
+        config.getSerializationConfig().setGlobalSerializerConfig(
+            new GlobalSerializerConfig()
+                .setImplementation(globalSerializer)
+                .setOverrideJavaSerialization(true)
+        );
+
+        final CompactSerializationConfig compactConfig = config.getSerializationConfig().getCompactSerializationConfig();
+        <#list compactSerializers as compactSerializer>
+        compactConfig.addSerializer(new ${compactSerializer.name}(<#if compactSerializer.usesObjectMapper>globalSerializer.getObjectMapper()</#if>));
+        </#list>
+        <#else>
         config.getSerializationConfig().setGlobalSerializerConfig(
             new GlobalSerializerConfig()
                 .setImplementation(new HazelcastJacksonGlobalSerializer())
                 .setOverrideJavaSerialization(true)
         );
+        </#if>
 
         CACHE_NAMES.forEach(name -> config.addMapConfig(buildMapConfig(name)));
 
@@ -205,7 +346,21 @@ public class CacheConfiguration {
 
     @Bean
     CacheManager cacheManager(final HazelcastInstance hazelcastInstance) {
+        <#if stampede>
+
+        final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+        return new HazelcastCacheManager(hazelcastInstance) {
+            @Override
+            public Cache getCache(final String name) {
+                return caches.computeIfAbsent(
+                    name, cacheName -> new HazelcastJitteredCache(super.getCache(cacheName), TTL_SECONDS, TTL_JITTER_SECONDS)
+                );
+            }
+        };
+        <#else>
         return new HazelcastCacheManager(hazelcastInstance);
+        </#if>
     }
 
     private MapConfig buildMapConfig(final String cacheName) {
@@ -0,0 +1,217 @@
+<#macro fieldValue field><#if field.handle??>(${field.type}) ${field.handle}.get(entity)<#else>entity.get${field.name?cap_first}()</#if></#macro>
+<#assign ioException = usesObjectMapper && isSpringBoot3>
+<#if ioException>
+import java.io.IOException;
+</#if>
+${javaImports}<#if ioException || javaImports?has_content>
+</#if>
+<#if usesLazyCheck>
+import org.hibernate.Hibernate;
+
+</#if>
+<#if usesObjectMapper>
+<#if isSpringBoot3>
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+<#else>
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+</#if>
+</#if>
+import com.hazelcast.nio.serialization.FieldKind;
+<#if usesObjectMapper && isSpringBoot3>
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+</#if>
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+${modelImports}
+/**
+ * Hazelcast compact serializer of {@link ${className}}. Every entry carries the schema version it was written with.
+ * Entries written with another schema version are read as {@code null}, so they are treated as cache misses and
+ * reloaded, which keeps mixed versions safe during a rolling deploy. Fields missing from an entry or written with
+ * another kind are skipped and keep their default value.
+ */
+public class ${className}CompactSerializer implements CompactSerializer<${className}> {
+
+    public static final int SCHEMA_VERSION = ${schemaVersion};
+
+    private static final String SCHEMA_VERSION_FIELD = "_schemaVersion";
+    <#if usesHandles>
+
+    <#list fields?filter(f -> f.handle??) as field>
+    private static final VarHandle ${field.handle};
+    </#list>
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(${className}.class, MethodHandles.lookup());
+            <#list fields?filter(f -> f.handle??) as field>
+            ${field.handle} = lookup.findVarHandle(${className}.class, "${field.name}", ${field.type}.class);
+            </#list>
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    </#if>
+    <#if usesObjectMapper>
+
+    private final ObjectMapper objectMapper;
+
+    public ${className}CompactSerializer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    </#if>
+
+    @Override
+    public String getTypeName() {
+        return ${className}.class.getName();
+    }
+
+    @Override
+    public Class<${className}> getCompactClass() {
+        return ${className}.class;
+    }
+
+    @Override
+    public void write(final CompactWriter writer, final ${className} entity) {
+
+        writer.writeInt32(SCHEMA_VERSION_FIELD, SCHEMA_VERSION);
+        <#list fields as field>
+        <#if field.conversion == "JSON">
+        writer.write${field.method}("${field.name}", this.toBytes(<#if field.lazy>initializedOrNull(<@fieldValue field/>)<#else><@fieldValue field/></#if>));
+        <#elseif field.conversion == "ENUM" || field.conversion == "UUID" || field.conversion == "CHARACTER">
+        writer.write${field.method}("${field.name}", Objects.toString(<@fieldValue field/>, null));
+        <#elseif field.conversion == "BIG_INTEGER">
+        writer.write${field.method}("${field.name}", toBigDecimal(<@fieldValue field/>));
+        <#elseif field.conversion == "INSTANT">
+        writer.write${field.method}("${field.name}", toOffsetDateTime(<@fieldValue field/>));
+        <#else>
+        writer.write${field.method}("${field.name}", <@fieldValue field/>);
+        </#if>
+        </#list>
+    }
+
+    @Override
+    public ${className} read(final CompactReader reader) {
+
+        if (reader.getFieldKind(SCHEMA_VERSION_FIELD) != FieldKind.INT32 || reader.readInt32(SCHEMA_VERSION_FIELD) != SCHEMA_VERSION) {
+            return null;
+        }
+
+        final ${className} entity = new ${className}();
+        <#list fields as field>
+        <#if field.conversion == "JSON">
+        <#assign readValue = "this.fromBytes(reader.read" + field.method + "(\"" + field.name + "\"), new TypeReference<" + field.type + ">() {})">
+        <#elseif field.conversion == "ENUM">
+        <#assign readValue = "toEnum(reader.read" + field.method + "(\"" + field.name + "\"), " + field.type + ".class)">
+        <#elseif field.conversion == "UUID">
+        <#assign readValue = "toUuid(reader.read" + field.method + "(\"" + field.name + "\"))">
+        <#elseif field.conversion == "CHARACTER">
+        <#assign readValue = "toCharacter(reader.read" + field.method + "(\"" + field.name + "\"))">
+        <#elseif field.conversion == "BIG_INTEGER">
+        <#assign readValue = "toBigInteger(reader.read" + field.method + "(\"" + field.name + "\"))">
+        <#elseif field.conversion == "INSTANT">
+        <#assign readValue = "toInstant(reader.read" + field.method + "(\"" + field.name + "\"))">
+        <#else>
+        <#assign readValue = "reader.read" + field.method + "(\"" + field.name + "\")">
+        </#if>
+        if (reader.getFieldKind("${field.name}") == FieldKind.${field.kind}) {
+            <#if field.handle??>
+            ${field.handle}.set(entity, ${readValue});
+            <#elseif field.conversion == "JSON">
+            final ${field.type} ${field.name}Value = ${readValue};
+            if (${field.name}Value != null) {
+                entity.set${field.name?cap_first}(${field.name}Value);
+            }
+            <#else>
+            entity.set${field.name?cap_first}(${readValue});
+            </#if>
+        }
+        </#list>
+
+        return entity;
+    }
+    <#if usesObjectMapper>
+
+    private byte[] toBytes(final Object value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        <#if isSpringBoot3>
+        try {
+            return this.objectMapper.writeValueAsBytes(value);
+        } catch (final IOException e) {
+            throw new HazelcastSerializationException("Failed to serialize a field of " + ${className}.class.getName(), e);
+        }
+        <#else>
+        return this.objectMapper.writeValueAsBytes(value);
+        </#if>
+    }
+
+    private <T> T fromBytes(final byte[] bytes, final TypeReference<T> type) {
+
+        if (bytes == null) {
+            return null;
+        }
+
+        <#if isSpringBoot3>
+        try {
+            return this.objectMapper.readValue(bytes, type);
+        } catch (final IOException e) {
+            throw new HazelcastSerializationException("Failed to deserialize a field of " + ${className}.class.getName(), e);
+        }
+        <#else>
+        return this.objectMapper.readValue(bytes, type);
+        </#if>
+    }
+    </#if>
+    <#if usesLazyCheck>
+
+    private static Object initializedOrNull(final Object value) {
+        return Hibernate.isInitialized(value) ? value : null;
+    }
+    </#if>
+    <#if conversions?seq_contains("ENUM")>
+
+    private static <E extends Enum<E>> E toEnum(final String value, final Class<E> type) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+    </#if>
+    <#if conversions?seq_contains("UUID")>
+
+    private static UUID toUuid(final String value) {
+        return value != null ? UUID.fromString(value) : null;
+    }
+    </#if>
+    <#if conversions?seq_contains("CHARACTER")>
+
+    private static Character toCharacter(final String value) {
+        return value != null && !value.isEmpty() ? value.charAt(0) : null;
+    }
+    </#if>
+    <#if conversions?seq_contains("BIG_INTEGER")>
+
+    private static BigDecimal toBigDecimal(final BigInteger value) {
+        return value != null ? new BigDecimal(value) : null;
+    }
+
+    private static BigInteger toBigInteger(final BigDecimal value) {
+        return value != null ? value.toBigInteger() : null;
+    }
+    </#if>
+    <#if conversions?seq_contains("INSTANT")>
+
+    private static OffsetDateTime toOffsetDateTime(final Instant value) {
+        return value != null ? value.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private static Instant toInstant(final OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
+    }
+    </#if>
+
+}
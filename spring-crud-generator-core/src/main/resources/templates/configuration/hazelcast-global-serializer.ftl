@@ -1,3 +1,5 @@
+<#assign format = (serialization!"JSON")?string>
+<#assign mapperClass = (format == "SMILE")?then("SmileMapper", (format == "CBOR")?then("CBORMapper", "JsonMapper"))>
 import java.io.IOException;
 
 <#if isSpringBoot3>
@@ -6,7 +8,13 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+<#if format == "SMILE">
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+<#elseif format == "CBOR">
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+<#else>
 import com.fasterxml.jackson.databind.json.JsonMapper;
+</#if>
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.StreamSerializer;
@@ -17,17 +25,23 @@ import com.hazelcast.nio.serialization.StreamSerializer;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 
 import tools.jackson.databind.ObjectMapper;
+<#if format == "SMILE">
+import tools.jackson.dataformat.smile.SmileMapper;
+<#elseif format == "CBOR">
+import tools.jackson.dataformat.cbor.CBORMapper;
+<#else>
 import tools.jackson.databind.json.JsonMapper;
+</#if>
 </#if><#t>
 
 public class HazelcastJacksonGlobalSerializer implements StreamSerializer<Object> {
 
-    private static final int TYPE_ID = 99001;
+    private static final int TYPE_ID = <#if format == "SMILE">99002<#elseif format == "CBOR">99003<#else>99001</#if>;
 
     private final ObjectMapper objectMapper;
 
     public HazelcastJacksonGlobalSerializer() {
-        this.objectMapper = JsonMapper.builder()
+        this.objectMapper = ${mapperClass}.builder()
                 .addModule(new HibernateLazyNullModule())
                 <#if isSpringBoot3>
                 .serializationInclusion(JsonInclude.Include.NON_NULL)
@@ -46,6 +60,10 @@ public class HazelcastJacksonGlobalSerializer implements StreamSerializer<Object
         </#if>
     }
 
+    public ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
     @Override
     public int getTypeId() {
         return TYPE_ID;
@@ -0,0 +1,127 @@
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.hazelcast.map.IMap;
+
+public class HazelcastJitteredCache implements Cache {
+
+    private final Cache delegate;
+    private final IMap<Object, Object> map;
+    private final long timeToLiveSeconds;
+    private final long jitterSeconds;
+
+    @SuppressWarnings("unchecked")
+    public HazelcastJitteredCache(final Cache delegate, final long timeToLiveSeconds, final long jitterSeconds) {
+        this.delegate = delegate;
+        this.map = (IMap<Object, Object>) delegate.getNativeCache();
+        this.timeToLiveSeconds = timeToLiveSeconds;
+        this.jitterSeconds = jitterSeconds;
+    }
+
+    @Override
+    public String getName() {
+        return this.delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.map;
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        return this.delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        return this.delegate.get(key, type);
+    }
+
+    /**
+     * Returns the cached value, or loads it while holding the cluster-wide lock of the key. Concurrent misses on the
+     * same key, on any member, wait for the first load instead of all hitting the database.
+     *
+     * @param key         the cache key
+     * @param valueLoader loads the value on a miss
+     * @param <T>         the value type
+     * @return the cached or loaded value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+
+        final ValueWrapper cached = this.delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        this.map.lock(key);
+        try {
+            final ValueWrapper loaded = this.delegate.get(key);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+
+            final T value;
+            try {
+                value = valueLoader.call();
+            } catch (final Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            this.put(key, value);
+
+            return value;
+        } finally {
+            this.map.unlock(key);
+        }
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+
+        if (value == null) {
+            this.delegate.put(key, null);
+            return;
+        }
+
+        this.map.set(key, value, this.timeToLive(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+
+        if (value == null) {
+            return this.delegate.putIfAbsent(key, null);
+        }
+
+        final Object existing = this.map.putIfAbsent(key, value, this.timeToLive(), TimeUnit.SECONDS);
+
+        return existing != null ? new SimpleValueWrapper(existing) : null;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        this.delegate.clear();
+    }
+
+    /**
+     * Computes the time to live of a new entry: the configured expiration plus a random jitter, so entries written
+     * at the same time expire at different times.
+     *
+     * @return the time to live in seconds
+     */
+    private long timeToLive() {
+        return this.timeToLiveSeconds + ThreadLocalRandom.current().nextLong(this.jitterSeconds + 1);
+    }
+
+}
@@ -0,0 +1,20 @@
+import java.util.Map;
+
+<#if isSpringBoot3>
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+<#else>
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+</#if>
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateBatchingConfig implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", ${batchSize?c});
+        hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+        hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+    }
+
+}
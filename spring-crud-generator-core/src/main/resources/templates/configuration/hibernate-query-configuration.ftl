@@ -0,0 +1,18 @@
+import java.util.Map;
+
+<#if isSpringBoot3>
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+<#else>
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+</#if>
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateQueryConfig implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent("hibernate.query.in_clause_parameter_padding", true);
+    }
+
+}
@@ -0,0 +1,144 @@
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache manager that puts a local Caffeine cache on every node in front of the shared Redis cache. Reads are served
+ * from the local cache when possible. Every put, evict and clear is applied to both levels and published on
+ * {@link #INVALIDATION_TOPIC}, so the other nodes drop their local copies. A message carries the keys to evict,
+ * separated by {@link #KEY_SEPARATOR}, or no key at all when the whole cache is cleared.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_TOPIC = "cache-invalidation";
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, LocalCacheSettings> localCacheSettings = new ConcurrentHashMap<>();
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final LocalCacheSettings defaultLocalCacheSettings;
+
+    public TwoLevelCacheManager(final CacheManager remoteCacheManager, final StringRedisTemplate redisTemplate,
+            final long defaultLocalMaxSize, final Duration defaultLocalExpiration) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.defaultLocalCacheSettings = new LocalCacheSettings(defaultLocalMaxSize, defaultLocalExpiration);
+    }
+
+    /**
+     * Overrides the size and expiration of the local cache with the given name.
+     *
+     * @param cacheName  the cache name
+     * @param maxSize    the maximum number of local entries
+     * @param expiration the time after which local entries expire
+     * @return this cache manager
+     */
+    public TwoLevelCacheManager withLocalCache(final String cacheName, final long maxSize, final Duration expiration) {
+        this.localCacheSettings.put(cacheName, new LocalCacheSettings(maxSize, expiration));
+        return this;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+
+        final TwoLevelCache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        final Cache remoteCache = this.remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        return this.caches.computeIfAbsent(name, cacheName -> {
+            final LocalCacheSettings settings = this.localCacheSettings.getOrDefault(cacheName, this.defaultLocalCacheSettings);
+            return new TwoLevelCache(
+                cacheName,
+                Caffeine.newBuilder()
+                        .maximumSize(settings.maxSize())
+                        .expireAfterWrite(settings.expiration())
+                        .build(),
+                remoteCache,
+                this
+            );
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return this.remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+
+        final String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 2 || this.nodeId.equals(parts[0])) {
+            return;
+        }
+
+        final TwoLevelCache cache = this.caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts.length == 3) {
+            for (final String key : parts[2].split(KEY_SEPARATOR)) {
+                cache.evictLocal(key);
+            }
+        } else {
+            cache.clearLocal();
+        }
+    }
+
+    /**
+     * Tells the other nodes to evict the given key from their local cache.
+     *
+     * @param cacheName the cache name
+     * @param key       the key in its string form
+     */
+    void publishEviction(final String cacheName, final String key) {
+        this.publishEvictions(cacheName, List.of(key));
+    }
+
+    /**
+     * Tells the other nodes to evict all given keys from their local cache, with a single message.
+     *
+     * @param cacheName the cache name
+     * @param keys      the keys in their string form
+     */
+    void publishEvictions(final String cacheName, final List<String> keys) {
+        this.redisTemplate.convertAndSend(
+            INVALIDATION_TOPIC, String.join(SEPARATOR, this.nodeId, cacheName, String.join(KEY_SEPARATOR, keys))
+        );
+    }
+
+    /**
+     * Tells the other nodes to clear their local cache with the given name.
+     *
+     * @param cacheName the cache name
+     */
+    void publishClear(final String cacheName) {
+        this.redisTemplate.convertAndSend(INVALIDATION_TOPIC, String.join(SEPARATOR, this.nodeId, cacheName));
+    }
+
+    private record LocalCacheSettings(long maxSize, Duration expiration) {}
+
+}
@@ -0,0 +1,182 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final TwoLevelCacheManager cacheManager;
+
+    public TwoLevelCache(final String name, final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+            final Cache remoteCache, final TwoLevelCacheManager cacheManager) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this.remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+
+        final Object localValue = this.localCache.getIfPresent(localKey(key));
+        if (localValue != null) {
+            return new SimpleValueWrapper(localValue);
+        }
+
+        final ValueWrapper remoteValue = this.remoteCache.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            this.localCache.put(localKey(key), remoteValue.get());
+        }
+
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+
+        final ValueWrapper wrapper = this.get(key);
+        final Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                String.format("Cached value is not of required type [%s]: %s", type.getName(), value)
+            );
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        return (T) this.localCache.get(localKey(key), localKey -> this.remoteCache.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        this.remoteCache.put(key, value);
+        this.localCache.put(localKey(key), value);
+        this.cacheManager.publishEviction(this.name, localKey(key));
+    }
+
+    @Override
+    public void evict(final Object key) {
+        this.remoteCache.evict(key);
+        this.localCache.invalidate(localKey(key));
+        this.cacheManager.publishEviction(this.name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        this.remoteCache.clear();
+        this.localCache.invalidateAll();
+        this.cacheManager.publishClear(this.name);
+    }
+
+    /**
+     * Looks up the given keys in the local cache first. The keys missing locally are passed to the remote lookup in a
+     * single call, and the values it finds are stored locally as well.
+     *
+     * @param keys         the cache keys
+     * @param remoteLookup looks up many keys in the remote cache at once
+     * @return the values found in either level, by key
+     */
+    public Map<Object, Object> getAll(final Collection<?> keys, final Function<Collection<?>, Map<Object, Object>> remoteLookup) {
+
+        final Map<Object, Object> found = new HashMap<>();
+        final List<Object> misses = new ArrayList<>();
+        keys.forEach(key -> {
+            final Object localValue = this.localCache.getIfPresent(localKey(key));
+            if (localValue != null) {
+                found.put(key, localValue);
+            } else {
+                misses.add(key);
+            }
+        });
+
+        if (!misses.isEmpty()) {
+            remoteLookup.apply(misses).forEach((key, value) -> {
+                this.localCache.put(localKey(key), value);
+                found.put(key, value);
+            });
+        }
+
+        return found;
+    }
+
+    /**
+     * Puts all given entries into both levels. The remote write receives every entry at once, so it can write them in a
+     * single batch, and the other nodes are told to evict all the keys with a single message.
+     *
+     * @param entries     the values to cache, by key
+     * @param remoteWrite writes many entries to the remote cache at once
+     */
+    public void putAll(final Map<?, ?> entries, final Consumer<Map<?, ?>> remoteWrite) {
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        remoteWrite.accept(entries);
+        entries.forEach((key, value) -> this.localCache.put(localKey(key), value));
+        this.cacheManager.publishEvictions(this.name, entries.keySet().stream().map(TwoLevelCache::localKey).toList());
+    }
+
+    /**
+     * Returns the shared remote cache behind the local one.
+     *
+     * @return the remote cache
+     */
+    public Cache getRemoteCache() {
+        return this.remoteCache;
+    }
+
+    /**
+     * Evicts the given key from the local cache of this node only. Called when another node publishes an eviction.
+     *
+     * @param key the key in its string form
+     */
+    void evictLocal(final String key) {
+        this.localCache.invalidate(key);
+    }
+
+    /**
+     * Clears the local cache of this node only. Called when another node publishes a clear.
+     */
+    void clearLocal() {
+        this.localCache.invalidateAll();
+    }
+
+    /**
+     * Local entries are keyed by the string form of the key, the same form the remote cache stores them under,
+     * so evictions received from other nodes match the local entries.
+     *
+     * @param key the cache key
+     * @return the local cache key
+     */
+    private static String localKey(final Object key) {
+        return String.valueOf(key);
+    }
+
+}
@@ -6,28 +6,74 @@
 <#assign mapperClass = strippedModelName?cap_first + "RestMapper">
 <#assign mapperField = strippedModelName?cap_first + "Mapper">
 <#assign transferObjectClass = strippedModelName?cap_first + "TO">
+<#assign streamingImport = bulkCreateStreaming?? && bulkCreateStreaming>
+<#assign usesObjectMapper = (exportEnabled?? && exportEnabled) || streamingImport>
+<#if usesObjectMapper && isSpringBoot3>
+<#if streamingImport>
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+</#if>
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+</#if><#t>
+<#if streamingImport>
+import jakarta.validation.ConstraintViolation;
+</#if>
 <#if !swagger>
 import jakarta.validation.Valid;
+</#if>
+<#if streamingImport>
+import jakarta.validation.Validator;
+</#if>
+<#if streamingImport || !swagger>
 
 </#if><#t>
 import org.mapstruct.factory.Mappers;
+<#if keysetPagination?? && keysetPagination>
+import org.springframework.data.domain.Window;
+<#elseif slicePagination?? && slicePagination>
+import org.springframework.data.domain.Slice;
+<#else>
 import org.springframework.data.domain.Page;
+</#if>
+<#if usesObjectMapper>
+import org.springframework.http.MediaType;
+</#if><#t>
 import org.springframework.http.ResponseEntity;<#if !swagger>
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.DeleteMapping;</#if><#if !swagger || (exportEnabled?? && exportEnabled)>
+import org.springframework.web.bind.annotation.GetMapping;</#if><#if !swagger>
+import org.springframework.web.bind.annotation.PathVariable;</#if><#if !swagger || streamingImport>
+import org.springframework.web.bind.annotation.PostMapping;</#if><#if !swagger>
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;</#if>
 import org.springframework.web.bind.annotation.RequestMapping;<#if !swagger>
 import org.springframework.web.bind.annotation.RequestParam;</#if>
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestController;<#if exportEnabled?? && exportEnabled>
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;</#if>
+<#if usesObjectMapper && !isSpringBoot3>
+
+<#if streamingImport>
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+</#if>
+import tools.jackson.databind.ObjectMapper;
+</#if>
 
 ${projectImports}
 @RestController
 <#if swagger>@RequestMapping("${basePath}")<#else>@RequestMapping("${basePath}/${uncapModelName}s")</#if>
 public class ${className}<#if swagger> implements ${strippedModelName}sApi</#if> {
+    <#if streamingImport>
+
+    private static final int IMPORT_CHUNK_SIZE = ${bulkCreateChunkSize?c};
+    private static final int IMPORT_MAX_ERRORS_PER_CHUNK = 10;
+    private static final int IMPORT_MAX_FAILED_CHUNKS = 100;
+    </#if>
 
     private final ${mapperClass} ${mapperField?uncap_first} = Mappers.getMapper(${mapperClass}.class);
     <#list jsonFields as jsonField>
@@ -40,15 +86,26 @@ public class ${className}<#if swagger> implements ${strippedModelName}sApi</#if>
     <#if relations>
     private final ${businessServiceClass} ${businessServiceField};
     </#if>
+    <#if usesObjectMapper>
+    private final ObjectMapper objectMapper;
+    </#if>
+    <#if streamingImport>
+    private final Validator validator;
+    </#if>
 
-    public ${className}(final ${serviceClass} ${serviceField}<#if relations>, final ${businessServiceClass} ${businessServiceField}</#if>) {
+    public ${className}(final ${serviceClass} ${serviceField}<#if relations>, final ${businessServiceClass} ${businessServiceField}</#if><#if usesObjectMapper>,
+            final ObjectMapper objectMapper</#if><#if streamingImport>, final Validator validator</#if>) {
         this.${serviceField} = ${serviceField};<#if relations>
-        this.${businessServiceField} = ${businessServiceField};</#if>
+        this.${businessServiceField} = ${businessServiceField};</#if><#if usesObjectMapper>
+        this.objectMapper = objectMapper;</#if><#if streamingImport>
+        this.validator = validator;</#if>
     }
     <#if createResource?? && createResource?has_content>${createResource}</#if>
     <#if createBulkResource?? && createBulkResource?has_content>${createBulkResource}</#if>
+    <#if importResources?? && importResources?has_content>${importResources}</#if>
     <#if getResource?? && getResource?has_content>${getResource}</#if>
     <#if getAllResources?? && getAllResources?has_content>${getAllResources}</#if>
+    <#if exportResources?? && exportResources?has_content>${exportResources}</#if>
     <#if updateResource?? && updateResource?has_content>${updateResource}</#if>
     <#if deleteResource?? && deleteResource?has_content>${deleteResource}</#if>
     <#if addResourceRelation?? && addResourceRelation?has_content>${addResourceRelation}</#if><#if removeResourceRelation?? && removeResourceRelation?has_content>${removeResourceRelation}</#if>
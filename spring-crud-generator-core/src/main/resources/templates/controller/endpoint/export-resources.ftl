@@ -0,0 +1,30 @@
+<#assign uncapModelName = strippedModelName?uncap_first>
+<#assign serviceField = strippedModelName?uncap_first + "Service">
+<#assign transferObjectClass = strippedModelName?cap_first + "TO">
+<#assign mapperClass = strippedModelName?uncap_first + "Mapper">
+<#assign openApiModel = strippedModelName + "Payload">
+
+    @GetMapping(value = "<#if swagger>/${uncapModelName}s</#if>/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> ${uncapModelName}sExportGet() {
+
+        final StreamingResponseBody body = outputStream -> this.${serviceField}.exportAll(resource -> {
+            try {
+                outputStream.write(this.objectMapper.writeValueAsBytes(
+                    <#if swagger>
+                    ${mapperClass}.map${transferObjectClass}To${openApiModel}(
+                        ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}<#if openInViewEnabled?? && !openInViewEnabled>Simple</#if>(resource)
+                    )
+                    <#else>
+                    ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}<#if openInViewEnabled?? && !openInViewEnabled>Simple</#if>(resource)
+                    </#if>
+                ));
+                outputStream.write('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
@@ -5,15 +5,122 @@
 <#assign mapperClass = strippedModelName?uncap_first + "Mapper">
 <#if swagger><#assign responseClass = strippedModelName + "sGet200Response"></#if>
 <#assign openApiModel = strippedModelName + "Payload">
+<#assign listProjectionEnabled = listProjection??>
+<#assign getAllMethod = listProjectionEnabled?then("getAllListProjections", "getAll")>
+<#assign contentClass = listProjectionEnabled?then(listProjection!"", modelName?cap_first)>
+<#assign contentTransferObjectClass = listProjectionEnabled?then(listTransferObject!"", transferObjectClass)>
 
+    <#if keysetPagination?? && keysetPagination>
     <#if swagger>@Override<#else>@GetMapping</#if>
     public ResponseEntity<<#if !swagger>PageTO<${transferObjectClass}><#else>${responseClass}</#if>> ${uncapModelName}sGet(
+            <#if !swagger>@RequestParam(required = false) </#if>final String cursor,
+            <#if !swagger>@RequestParam </#if>final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+            <#if !swagger>@RequestParam(required = false) </#if>final String sortBy,
+            <#if !swagger>@RequestParam(required = false) </#if>final String sortDirection</#if>) {
+
+        final Window<${modelName?cap_first}> window = this.${serviceField}.getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
+        );
+        final String nextCursor = this.${serviceField}.nextCursor(window<#if sortEnabled?? && sortEnabled>, sortBy</#if>);
+        <#if !swagger>
+        return ResponseEntity.ok().body(
+            PageTO.ofWindow(
+                window.size(),
+                <#if openInViewEnabled?? && !openInViewEnabled>
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(window.getContent()),
+                <#else>
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(window.getContent()),
+                </#if>
+                nextCursor
+            )
+        );
+        <#else>
+        return ResponseEntity.ok().body(
+            new ${responseClass}()
+                .size(window.size())
+                .content(
+                    ${mapperClass}.map${transferObjectClass}To${openApiModel}(
+                        <#if openInViewEnabled?? && !openInViewEnabled>
+                        ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(
+                            window.getContent()
+                        )
+                        <#else>
+                        ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(
+                            window.getContent()
+                        )
+                        </#if>
+                    )
+                )
+                .nextCursor(nextCursor)
+        );
+        </#if>
+    }
+    <#elseif slicePagination?? && slicePagination>
+    <#if swagger>@Override<#else>@GetMapping</#if>
+    public ResponseEntity<<#if !swagger>SliceTO<${contentTransferObjectClass}><#else>${responseClass}</#if>> ${uncapModelName}sGet(
+            <#if !swagger>@RequestParam </#if>final Integer pageNumber,
+            <#if !swagger>@RequestParam </#if>final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+            <#if !swagger>@RequestParam(required = false) </#if>final String sortBy,
+            <#if !swagger>@RequestParam(required = false) </#if>final String sortDirection</#if>) {
+
+        final Slice<${contentClass}> sliceObject = this.${serviceField}.${getAllMethod}(
+                pageNumber, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
+        );
+        <#if !swagger>
+        return ResponseEntity.ok().body(
+            new SliceTO<>(
+                sliceObject.getSize(),
+                sliceObject.getNumber(),
+                sliceObject.hasNext(),
+                <#if listProjectionEnabled>
+                ${mapperClass}.map${listProjection}To${listTransferObject}(sliceObject.getContent())
+                <#elseif openInViewEnabled?? && !openInViewEnabled>
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(sliceObject.getContent())
+                <#else>
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(sliceObject.getContent())
+                </#if>
+            )
+        );
+        <#else>
+        return ResponseEntity.ok().body(
+            new ${responseClass}()
+                .size(sliceObject.getSize())
+                .number(sliceObject.getNumber())
+                .hasNext(sliceObject.hasNext())
+                .content(
+                    ${mapperClass}.map${contentTransferObjectClass}To${openApiModel}(
+                        <#if listProjectionEnabled>
+                        ${mapperClass}.map${listProjection}To${listTransferObject}(
+                            sliceObject.getContent()
+                        )
+                        <#elseif openInViewEnabled?? && !openInViewEnabled>
+                        ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(
+                            sliceObject.getContent()
+                        )
+                        <#else>
+                        ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(
+                            sliceObject.getContent()
+                        )
+                        </#if>
+                    )
+                )
+        );
+        </#if>
+    }
+
+    <#if swagger>@Override<#else>@GetMapping("/count")</#if>
+    public ResponseEntity<Long> ${uncapModelName}sCountGet() {
+        return ResponseEntity.ok().body(this.${serviceField}.count());
+    }
+    <#else>
+    <#if swagger>@Override<#else>@GetMapping</#if>
+    public ResponseEntity<<#if !swagger>PageTO<${contentTransferObjectClass}><#else>${responseClass}</#if>> ${uncapModelName}sGet(
             <#if !swagger>@RequestParam </#if>final Integer pageNumber,
             <#if !swagger>@RequestParam </#if>final Integer pageSize<#if sortEnabled?? && sortEnabled>,
             <#if !swagger>@RequestParam(required = false) </#if>final String sortBy,
             <#if !swagger>@RequestParam(required = false) </#if>final String sortDirection</#if>) {
 
-        final Page<${modelName?cap_first}> pageObject = this.${serviceField}.getAll(
+        final Page<${contentClass}> pageObject = this.${serviceField}.${getAllMethod}(
                 pageNumber, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
         );
         <#if !swagger>
@@ -23,11 +130,14 @@
                 pageObject.getTotalElements(),
                 pageObject.getSize(),
                 pageObject.getNumber(),
-                <#if openInViewEnabled?? && !openInViewEnabled>
-                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(pageObject.getContent())
+                <#if listProjectionEnabled>
+                ${mapperClass}.map${listProjection}To${listTransferObject}(pageObject.getContent()),
+                <#elseif openInViewEnabled?? && !openInViewEnabled>
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(pageObject.getContent()),
                 <#else>
-                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(pageObject.getContent())
+                ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(pageObject.getContent()),
                 </#if>
+                null
             )
         );
         <#else>
@@ -38,8 +148,12 @@
                 .size(pageObject.getSize())
                 .number(pageObject.getNumber())
                 .content(
-                    ${mapperClass}.map${transferObjectClass}To${openApiModel}(
-                        <#if openInViewEnabled?? && !openInViewEnabled>
+                    ${mapperClass}.map${contentTransferObjectClass}To${openApiModel}(
+                        <#if listProjectionEnabled>
+                        ${mapperClass}.map${listProjection}To${listTransferObject}(
+                            pageObject.getContent()
+                        )
+                        <#elseif openInViewEnabled?? && !openInViewEnabled>
                         ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(
                             pageObject.getContent()
                         )
@@ -52,4 +166,5 @@
                 )
         );
         </#if>
-    }
\ No newline at end of file
+    }
+    </#if>
\ No newline at end of file
@@ -0,0 +1,114 @@
+<#assign uncapModelName = strippedModelName?uncap_first>
+<#if relations>
+    <#assign serviceField = strippedModelName?uncap_first + "BusinessService">
+<#else>
+    <#assign serviceField = strippedModelName?uncap_first + "Service">
+</#if>
+<#assign createTransferObjectClass = strippedModelName?cap_first + "CreateTO">
+<#assign openApiRequest = strippedModelName + "CreatePayload">
+<#assign itemClass = swagger?then(openApiRequest, createTransferObjectClass)>
+<#assign modelClass = modelName?cap_first>
+
+    @PostMapping(value = "<#if swagger>/${uncapModelName}s</#if>/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ImportSummaryTO> ${uncapModelName}sImportPost(final InputStream body) throws IOException {
+
+        final List<ImportSummaryTO.ChunkError> errors = new ArrayList<>();
+        final List<${modelClass}> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        final List<String> chunkErrors = new ArrayList<>();
+        long received = 0;
+        long imported = 0;
+        int chunkNumber = 0;
+        boolean truncated = false;
+
+        try (final JsonParser parser = this.objectMapper.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                final JsonNode node = parser.readValueAsTree();
+                final long index = received++;
+                try {
+                    final ${itemClass} item = this.objectMapper.treeToValue(node, ${itemClass}.class);
+                    final Set<ConstraintViolation<${itemClass}>> violations = this.validator.validate(item);
+                    if (violations.isEmpty()) {
+                        chunk.add(this.map${itemClass}(item));
+                    } else {
+                        violations.forEach(violation -> addImportError(chunkErrors,
+                                String.format("Item %d: %s %s", index, violation.getPropertyPath(), violation.getMessage())
+                        ));
+                    }
+                } catch (final JacksonException e) {
+                    addImportError(chunkErrors, String.format("Item %d: %s", index, e.getOriginalMessage()));
+                } catch (final IllegalArgumentException e) {
+                    addImportError(chunkErrors, String.format("Item %d: %s", index, e.getMessage()));
+                }
+                if (received % IMPORT_CHUNK_SIZE == 0) {
+                    imported += this.importChunk(chunkNumber++, chunk, chunkErrors, errors);
+                }
+                token = parser.nextToken();
+            }
+        } catch (final JacksonException e) {
+            truncated = true;
+            addImportError(chunkErrors, String.format("Item %d: %s", received++, e.getOriginalMessage()));
+        }
+        if (!chunk.isEmpty() || !chunkErrors.isEmpty()) {
+            imported += this.importChunk(chunkNumber, chunk, chunkErrors, errors);
+        }
+
+        return ResponseEntity.ok(new ImportSummaryTO(received, imported, received - imported, truncated, errors));
+    }
+
+    private long importChunk(final int chunkNumber, final List<${modelClass}> chunk, final List<String> chunkErrors,
+            final List<ImportSummaryTO.ChunkError> errors) {
+
+        long imported = 0;
+        if (!chunk.isEmpty()) {
+            try {
+                imported = this.${serviceField}.bulkCreate(chunk).size();
+            } catch (final RuntimeException e) {
+                chunkErrors.add(e.getMessage());
+            }
+        }
+        if (!chunkErrors.isEmpty() && errors.size() < IMPORT_MAX_FAILED_CHUNKS) {
+            errors.add(new ImportSummaryTO.ChunkError(chunkNumber, List.copyOf(chunkErrors)));
+        }
+        chunk.clear();
+        chunkErrors.clear();
+
+        return imported;
+    }
+
+    private static void addImportError(final List<String> chunkErrors, final String message) {
+
+        if (chunkErrors.size() < IMPORT_MAX_ERRORS_PER_CHUNK) {
+            chunkErrors.add(message);
+        }
+    }
+
+    private ${modelClass} map${itemClass}(final ${itemClass} item) {
+
+        <#list inputFields?filter(f -> f.isRelation) as rel>
+        <#if rel.isCollection>
+        final ${rel.collectionType}<${rel.relationClassName}> ${rel.field} = <#if !swagger>(item.${rel.field}() != null && !item.${rel.field}().isEmpty())<#else>(item.get${rel.field?cap_first}() != null && !item.get${rel.field?cap_first}().isEmpty())</#if> ?
+                item.<#if !swagger>${rel.field}<#else>get${rel.field?cap_first}</#if>().stream()
+                        .map(relInput -> new ${rel.relationClassName}().set${rel.relationIdField?cap_first}(<#if !swagger>relInput.${rel.relationIdField}()<#else>relInput.get${rel.relationIdField?cap_first}()</#if>))
+                        .collect(Collectors.${rel.collectMethod}()) :
+                ${rel.emptyCollection};
+        <#else>
+        final ${rel.relationClassName} ${rel.field} = <#if !swagger>item.${rel.field}() != null<#else>item.get${rel.field?cap_first}() != null</#if> ?
+                new ${rel.relationClassName}().set${rel.relationIdField?cap_first}(<#if !swagger>item.${rel.field}().${rel.relationIdField}()<#else>item.get${rel.field?cap_first}().get${rel.relationIdField?cap_first}()</#if>) :
+                null;
+        </#if>
+        </#list>
+        <#list inputFields?filter(f -> f.isEnum) as enumField>
+        <#if swagger>
+        final ${enumField.fieldType} ${enumField.field}Enum = item.get${enumField.field?cap_first}() != null ?
+                ${enumField.fieldType?cap_first}.valueOf(item.get${enumField.field?cap_first}().name()) : null;
+        </#if>
+        </#list>
+
+        return new ${modelClass}(
+            <#list inputFields as arg><#if arg.isRelation>${arg.field}<#else><#if arg.isJsonField><#assign jsonMapperClass = arg.fieldType?uncap_first + "Mapper">${jsonMapperClass}.map${arg.fieldType?cap_first}<#if !swagger>TO<#else>Payload</#if>To${arg.fieldType?cap_first}(item.<#if !swagger>${arg.field}()<#else>get${arg.field?cap_first}()</#if>)<#else><#if swagger && arg.isEnum>${arg.field}Enum<#else>item.<#if !swagger>${arg.field}()<#else>get${arg.field?cap_first}()</#if></#if></#if></#if><#if arg_has_next>, </#if></#list>
+        );
+    }
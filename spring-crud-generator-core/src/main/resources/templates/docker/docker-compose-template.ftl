@@ -28,7 +28,7 @@ services:
             <#elseif dbType == "mongodb">
             SPRING_DATA_MONGODB_URI: mongodb://database:27017/${artifactId}
             </#if>
-            <#if cacheType?? && cacheType?lower_case == "redis">
+            <#if cacheType?? && (cacheType?lower_case == "redis" || cacheType?lower_case == "two_level")>
             SPRING_DATA_REDIS_HOST: redis
             SPRING_DATA_REDIS_PORT: 6379
             </#if><#t>
@@ -39,7 +39,7 @@ services:
         depends_on:
             database:
                 condition: service_healthy
-            <#if cacheType?? && cacheType?lower_case == "redis">
+            <#if cacheType?? && (cacheType?lower_case == "redis" || cacheType?lower_case == "two_level")>
             redis:
                 condition: service_healthy
             </#if><#t>
@@ -156,7 +156,7 @@ services:
             - db_data:/<#if dbType == "postgresql">var/lib/postgresql<#elseif dbType == "mysql" || dbType == "mariadb">var/lib/mysql<#elseif dbType == "mssql">var/opt/mssql<#elseif dbType == "mongodb">data/db</#if>
         networks:
             - ${artifactId}-network
-    <#if cacheType?? && cacheType?lower_case == "redis">
+    <#if cacheType?? && (cacheType?lower_case == "redis" || cacheType?lower_case == "two_level")>
 
     redis:
         image: redis:7-alpine
@@ -196,6 +196,6 @@ networks:
 
 volumes:
     db_data:
-    <#if cacheType?? && cacheType?lower_case == "redis">
+    <#if cacheType?? && (cacheType?lower_case == "redis" || cacheType?lower_case == "two_level")>
     redis_data:
     </#if><#t>
@@ -73,11 +73,22 @@ input ${name}UpdateInput {
 </#if>
 
 type ${name}Page {
+  <#if keysetPagination?? && keysetPagination>
+  size: Int!
+  content: [${name}!]!
+  nextCursor: String
+  <#elseif slicePagination?? && slicePagination>
+  size: Int!
+  number: Int!
+  hasNext: Boolean!
+  content: [${name}!]!
+  <#else>
   totalPages: Int!
   totalElements: Long!
   size: Int!
   number: Int!
   content: [${name}!]!
+  </#if>
 }
 <#if sortEnabled?? && sortEnabled>
 
@@ -95,7 +106,10 @@ input ${name}SortInput {
 
 extend type Query {
   ${name?uncap_first}ById(id: ID!): ${name}
-  ${name?uncap_first}sPage(pageNumber: Int = 0, pageSize: Int = 20<#if sortEnabled?? && sortEnabled>, sort: ${name}SortInput</#if>): ${name}Page!
+  ${name?uncap_first}sPage(<#if keysetPagination?? && keysetPagination>cursor: String<#else>pageNumber: Int = 0</#if>, pageSize: Int = 20<#if sortEnabled?? && sortEnabled>, sort: ${name}SortInput</#if>): ${name}Page!
+  <#if slicePagination?? && slicePagination>
+  ${name?uncap_first}sCount: Long!
+  </#if><#t>
 }
 
 extend type Mutation {
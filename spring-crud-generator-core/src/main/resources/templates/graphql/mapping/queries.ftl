@@ -11,6 +11,57 @@
     }
 
     @QueryMapping
+    <#if keysetPagination?? && keysetPagination>
+    public PageTO<${transferObjectClass}> ${uncapModelName}sPage(@Argument final String cursor,
+                                    @Argument final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+                                    @Argument final java.util.Map<String, Object> sort</#if>) {
+        
+        final Window<${modelName?cap_first}> window = this.${serviceField}.getAll(
+                cursor,
+                pageSize<#if sortEnabled?? && sortEnabled>,
+                extractSortValue(sort, "sortBy"),
+                extractSortValue(sort, "sortDirection")</#if>
+        );
+
+        return PageTO.ofWindow(
+            window.size(),
+            <#if openInViewEnabled?? && !openInViewEnabled>
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(window.getContent()),
+            <#else>
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(window.getContent()),
+            </#if>
+            this.${serviceField}.nextCursor(window<#if sortEnabled?? && sortEnabled>, extractSortValue(sort, "sortBy")</#if>)
+        );
+    }
+    <#elseif slicePagination?? && slicePagination>
+    public SliceTO<${transferObjectClass}> ${uncapModelName}sPage(@Argument final Integer pageNumber,
+                                    @Argument final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+                                    @Argument final java.util.Map<String, Object> sort</#if>) {
+        
+        final Slice<${modelName?cap_first}> sliceObject = this.${serviceField}.getAll(
+                pageNumber,
+                pageSize<#if sortEnabled?? && sortEnabled>,
+                extractSortValue(sort, "sortBy"),
+                extractSortValue(sort, "sortDirection")</#if>
+        );
+
+        return new SliceTO<>(
+            sliceObject.getSize(),
+            sliceObject.getNumber(),
+            sliceObject.hasNext(),
+            <#if openInViewEnabled?? && !openInViewEnabled>
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(sliceObject.getContent())
+            <#else>
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(sliceObject.getContent())
+            </#if>
+        );
+    }
+
+    @QueryMapping
+    public long ${uncapModelName}sCount() {
+        return this.${serviceField}.count();
+    }
+    <#else>
     public PageTO<${transferObjectClass}> ${uncapModelName}sPage(@Argument final Integer pageNumber,
                                     @Argument final Integer pageSize<#if sortEnabled?? && sortEnabled>,
                                     @Argument final java.util.Map<String, Object> sort</#if>) {
@@ -28,9 +79,11 @@
             pageObject.getSize(),
             pageObject.getNumber(),
             <#if openInViewEnabled?? && !openInViewEnabled>
-            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(pageObject.getContent())
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}Simple(pageObject.getContent()),
             <#else>
-            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(pageObject.getContent())
+            ${mapperClass}.map${modelName?cap_first}To${transferObjectClass}(pageObject.getContent()),
             </#if>
+            null
         );
-    }
\ No newline at end of file
+    }
+    </#if>
\ No newline at end of file
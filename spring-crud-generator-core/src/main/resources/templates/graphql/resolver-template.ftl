@@ -8,7 +8,13 @@
 import jakarta.validation.Valid;
 
 import org.mapstruct.factory.Mappers;
+<#if keysetPagination?? && keysetPagination>
+import org.springframework.data.domain.Window;
+<#elseif slicePagination?? && slicePagination>
+import org.springframework.data.domain.Slice;
+<#else>
 import org.springframework.data.domain.Page;
+</#if>
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
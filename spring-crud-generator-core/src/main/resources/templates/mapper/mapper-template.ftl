@@ -9,6 +9,10 @@ import java.util.Set;
 </#if>
 <#assign hasMappingFields = (lazyFields?? && lazyFields?has_content) || (eagerFields?? && eagerFields?has_content)>
 
+<#assign listProjectionPayload = listProjection?? && swagger?? && swagger>
+<#if listProjectionPayload>
+import org.mapstruct.BeanMapping;
+</#if><#t>
 <#if openInViewEnabled?? && !openInViewEnabled>
 import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
@@ -19,6 +23,9 @@ import org.mapstruct.Named;
 <#else>
 import org.mapstruct.Mapper;
 </#if><#t>
+<#if listProjectionPayload>
+import org.mapstruct.ReportingPolicy;
+</#if><#t>
 
 ${projectImports}
 @Mapper(<#if parameters??>uses = { ${parameters} }</#if>)
@@ -66,6 +73,12 @@ public interface ${mapperName} {
     @IterableMapping(qualifiedByName = "simple")
     List<${transferObjectName}> map${modelName}To${transferObjectName}Simple(final List<${modelName}> model);
 
+    </#if><#t>
+    <#if listProjection??>
+    ${listTransferObject} map${listProjection}To${listTransferObject}(final ${listProjection} projection);
+
+    List<${listTransferObject}> map${listProjection}To${listTransferObject}(final List<${listProjection}> projections);
+
     </#if><#t>
     ${modelName} map${transferObjectName}To${modelName}(final ${transferObjectName} transferObject);
 
@@ -84,6 +97,13 @@ public interface ${mapperName} {
 
     Set<${swaggerModel}> map${transferObjectName}To${swaggerModel}(final Set<${transferObjectName}> transferObject);
     </#if><#t>
+    <#if listProjectionPayload>
+
+    @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+    ${swaggerModel} map${listTransferObject}To${swaggerModel}(final ${listTransferObject} transferObject);
+
+    List<${swaggerModel}> map${listTransferObject}To${swaggerModel}(final List<${listTransferObject}> transferObject);
+    </#if><#t>
 
     <#if auditEnabled?? && auditEnabled>
     <#if auditType == "Instant">
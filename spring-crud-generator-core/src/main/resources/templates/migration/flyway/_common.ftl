@@ -8,4 +8,34 @@
         <#return "\"${s}\"">
     </#if>
     <#return "\"${s}\"">
-</#function>
\ No newline at end of file
+</#function>
+<#function indexKeyword ix>
+    <#if ix.unique?? && ix.unique>
+        <#return "UNIQUE INDEX">
+    </#if>
+    <#return "INDEX">
+</#function>
+
+<#function indexColumns ix>
+    <#local cols = []>
+    <#list ix.columns as col>
+        <#local desc = (ix.descending?? && ix.descending?seq_contains(col))>
+        <#local cols = cols + [quoteIdent(col) + desc?then(" DESC", "")]>
+    </#list>
+    <#return cols?join(", ")>
+</#function>
+
+<#function indexSuffix ix>
+    <#local suffix = "">
+    <#if ix.include?? && ix.include?has_content>
+        <#local included = []>
+        <#list ix.include as col>
+            <#local included = included + [quoteIdent(col)]>
+        </#list>
+        <#local suffix = suffix + " INCLUDE (" + included?join(", ") + ")">
+    </#if>
+    <#if ix.where?? && ix.where?has_content>
+        <#local suffix = suffix + " WHERE " + ix.where>
+    </#if>
+    <#return suffix>
+</#function>
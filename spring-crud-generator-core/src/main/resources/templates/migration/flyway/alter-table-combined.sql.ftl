@@ -28,6 +28,18 @@ CREATE INDEX ix_${table}_deleted ON ${quoteIdent(table)} (${quoteIdent("deleted"
 CREATE INDEX ix_${table}_deleted ON ${quoteIdent(table)} (${quoteIdent("deleted")});
 </#if>
 </#if><#t>
+<#if removedIndexes?? && removedIndexes?has_content>
+<#list removedIndexes as ix>
+<#if isPostgres>
+DROP INDEX IF EXISTS ${ix.name};
+<#elseif isMySql || isMariaDB>
+ALTER TABLE ${quoteIdent(table)} DROP INDEX ${ix.name}, ALGORITHM=INPLACE, LOCK=NONE;
+<#elseif isMsSql>
+IF EXISTS (SELECT 1 FROM sys.indexes WHERE name = '${ix.name}' AND object_id = OBJECT_ID('${table}'))
+DROP INDEX ${ix.name} ON ${quoteIdent(table)};
+</#if>
+</#list>
+</#if><#t>
 <#if removedColumns?has_content>
 <#list removedColumns as c>
 ALTER TABLE ${quoteIdent(table)}
@@ -246,4 +258,22 @@ ALTER TABLE ${quoteIdent(table)} MODIFY COLUMN ${quoteIdent("updated_at")} ${aud
 ALTER TABLE ${quoteIdent(table)} ALTER COLUMN ${quoteIdent("created_at")} ${auditCreatedType} NOT NULL;
 ALTER TABLE ${quoteIdent(table)} ALTER COLUMN ${quoteIdent("updated_at")} ${auditUpdatedType} NOT NULL;
 </#if>
-</#if><#t>
\ No newline at end of file
+</#if><#t>
+<#if addedIndexes?? && addedIndexes?has_content>
+<#list addedIndexes as ix>
+<#assign createIndex = "CREATE " + indexKeyword(ix) + " " + ix.name + " ON " + quoteIdent(table) + " (" + indexColumns(ix) + ")" + indexSuffix(ix)>
+<#if isMsSql>
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = '${ix.name}' AND object_id = OBJECT_ID('${table}'))
+BEGIN
+  IF CAST(SERVERPROPERTY('EngineEdition') AS int) IN (3, 5, 8)
+    EXEC(N'${createIndex?replace("'", "''")} WITH (ONLINE = ON)');
+  ELSE
+    EXEC(N'${createIndex?replace("'", "''")}');
+END;
+<#elseif isMySql || isMariaDB>
+ALTER TABLE ${quoteIdent(table)} ADD ${indexKeyword(ix)} ${ix.name} (${indexColumns(ix)}), ALGORITHM=INPLACE, LOCK=NONE;
+<#else>
+CREATE ${indexKeyword(ix)} IF NOT EXISTS ${ix.name} ON ${quoteIdent(table)} (${indexColumns(ix)})${indexSuffix(ix)};
+</#if>
+</#list>
+</#if><#t>
@@ -0,0 +1,7 @@
+<#include "_common.ftl">
+<#list removedIndexes as ix>
+DROP INDEX CONCURRENTLY IF EXISTS ${ix.name};
+</#list>
+<#list addedIndexes as ix>
+CREATE ${indexKeyword(ix)} CONCURRENTLY IF NOT EXISTS ${ix.name} ON ${quoteIdent(table)} (${indexColumns(ix)})${indexSuffix(ix)};
+</#list>
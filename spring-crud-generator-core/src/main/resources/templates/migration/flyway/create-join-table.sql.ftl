@@ -6,3 +6,9 @@ CREATE TABLE<#if db != "MSSQL"> IF NOT EXISTS</#if> ${quoteIdent(joinTable)} (
   CONSTRAINT fk_${joinTable}_${left.column} FOREIGN KEY (${quoteIdent(left.column)}) REFERENCES ${quoteIdent(left.table)}(${quoteIdent(left.pkColumn)}),
   CONSTRAINT fk_${joinTable}_${right.column} FOREIGN KEY (${quoteIdent(right.column)}) REFERENCES ${quoteIdent(right.table)}(${quoteIdent(right.pkColumn)})
 );
+<#if db == "MSSQL">
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_${joinTable}_${right.column}' AND object_id = OBJECT_ID('${joinTable}'))
+CREATE INDEX ix_${joinTable}_${right.column} ON ${quoteIdent(joinTable)} (${quoteIdent(right.column)});
+<#else>
+CREATE INDEX <#if db == "POSTGRESQL">IF NOT EXISTS </#if>ix_${joinTable}_${right.column} ON ${quoteIdent(joinTable)} (${quoteIdent(right.column)});
+</#if>
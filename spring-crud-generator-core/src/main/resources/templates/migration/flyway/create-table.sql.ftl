@@ -39,4 +39,14 @@ CREATE INDEX ix_${tableName}_deleted ON ${quoteIdent(tableName)} (${quoteIdent("
 <#else>
 CREATE INDEX <#if db == "POSTGRESQL">IF NOT EXISTS</#if> ix_${tableName}_deleted ON ${quoteIdent(tableName)} (${quoteIdent("deleted")});
 </#if>
+</#if>
+<#if indexes?? && indexes?has_content>
+<#list indexes as ix>
+<#if db == "MSSQL">
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = '${ix.name}' AND object_id = OBJECT_ID('${tableName}'))
+CREATE ${indexKeyword(ix)} ${ix.name} ON ${quoteIdent(tableName)} (${indexColumns(ix)})${indexSuffix(ix)};
+<#else>
+CREATE ${indexKeyword(ix)} <#if db == "POSTGRESQL">IF NOT EXISTS </#if>${ix.name} ON ${quoteIdent(tableName)} (${indexColumns(ix)})${indexSuffix(ix)};
+</#if>
+</#list>
 </#if>
\ No newline at end of file
@@ -13,5 +13,13 @@ CREATE TABLE<#if db != "MSSQL"> IF NOT EXISTS</#if> ${quoteIdent(ct.tableName)}
     UNIQUE (${quoteIdent(ct.joinColumn)}, ${quoteIdent(ct.valueColumn)})
   </#if>
 );
+<#if ct.isList || !(ct.needsUnique?? && ct.needsUnique)>
+<#if db == "MSSQL">
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_${ct.tableName}_${ct.joinColumn}' AND object_id = OBJECT_ID('${ct.tableName}'))
+CREATE INDEX ix_${ct.tableName}_${ct.joinColumn} ON ${quoteIdent(ct.tableName)} (${quoteIdent(ct.joinColumn)});
+<#else>
+CREATE INDEX <#if db == "POSTGRESQL">IF NOT EXISTS </#if>ix_${ct.tableName}_${ct.joinColumn} ON ${quoteIdent(ct.tableName)} (${quoteIdent(ct.joinColumn)});
+</#if>
+</#if>
 </#list>
 </#if>
\ No newline at end of file
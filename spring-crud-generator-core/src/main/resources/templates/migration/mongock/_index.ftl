@@ -0,0 +1,5 @@
+<#macro ensureIndex ix collection>
+        this.mongoTemplate.indexOps("${collection}")
+                .ensureIndex(new CompoundIndexDefinition(new Document()<#list ix.fields as field>.append("${field}", <#if ix.descending?seq_contains(field)>-1<#else>1</#if>)</#list>)
+                        .named("${ix.name}")<#if ix.unique>.unique()</#if><#if ix.where?? && ix.where?has_content>.partial(PartialIndexFilter.of(Document.parse("${ix.where?j_string}")))</#if>);
+</#macro>
@@ -1,3 +1,4 @@
+<#include "_index.ftl">
 package ${packageName};
 
 import io.mongock.api.annotations.BeforeExecution;
@@ -5,10 +6,17 @@ import io.mongock.api.annotations.ChangeUnit;
 import io.mongock.api.annotations.Execution;
 import io.mongock.api.annotations.RollbackBeforeExecution;
 import io.mongock.api.annotations.RollbackExecution;
+<#if compoundIndexes?? && compoundIndexes?has_content>
+import org.bson.Document;
+</#if>
 <#if indexes?has_content>
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.index.Index;
 </#if>
+<#if compoundIndexes?? && compoundIndexes?has_content>
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+</#if>
 import org.springframework.data.mongodb.core.MongoTemplate;
 
 @ChangeUnit(id = "${changeUnitId}", order = "${order}", author = "spring-crud-generator")
@@ -38,6 +46,11 @@ public class ${className} {
         this.mongoTemplate.indexOps("${collectionName}")
                 .ensureIndex(new Index().on("${index.field}", Sort.Direction.ASC)<#if index.unique>.unique()</#if>);
 </#list>
+<#if compoundIndexes??>
+<#list compoundIndexes as ix>
+<@ensureIndex ix collectionName />
+</#list>
+</#if>
     }
 
     @RollbackExecution
@@ -45,5 +58,10 @@ public class ${className} {
 <#list indexes as index>
         this.mongoTemplate.indexOps("${collectionName}").dropIndex("${index.field}_1");
 </#list>
+<#if compoundIndexes??>
+<#list compoundIndexes as ix>
+        this.mongoTemplate.indexOps("${collectionName}").dropIndex("${ix.name}");
+</#list>
+</#if>
     }
 }
@@ -0,0 +1,40 @@
+<#include "_index.ftl">
+package ${packageName};
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+
+@ChangeUnit(id = "${changeUnitId}", order = "${order}", author = "spring-crud-generator")
+public class ${className} {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ${className}(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Execution
+    public void execution() {
+<#list removedIndexes as ix>
+        this.mongoTemplate.indexOps("${collectionName}").dropIndex("${ix.name}");
+</#list>
+<#list addedIndexes as ix>
+<@ensureIndex ix collectionName />
+</#list>
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {
+<#list addedIndexes as ix>
+        this.mongoTemplate.indexOps("${collectionName}").dropIndex("${ix.name}");
+</#list>
+<#list removedIndexes as ix>
+<@ensureIndex ix collectionName />
+</#list>
+    }
+}
@@ -0,0 +1,27 @@
+<!DOCTYPE html>
+<html lang="en">
+<head>
+<meta charset="UTF-8">
+<title>Spring CRUD Generator - Generation report</title>
+<style>
+  body { font-family: sans-serif; margin: 2em; }
+  table { border-collapse: collapse; margin-bottom: 2em; }
+  th, td { border: 1px solid #ccc; padding: 4px 8px; text-align: right; }
+  th:first-child, td:first-child { text-align: left; }
+  th { background: #f0f0f0; }
+</style>
+</head>
+<body>
+<h1>Generation report</h1>
+<p>Generated at: ${generatedAt}<br>Total time: ${totalMillis} ms</p>
+<#list categories as category>
+<h2>${category.name}</h2>
+<table>
+  <tr><th>Name</th><th>Count</th><th>Total (ms)</th><th>Average (us)</th><th>Bytes</th><th>Allocated bytes</th><th>Skipped</th></tr>
+<#list category.metrics as metric>
+  <tr><td>${metric.name?html}</td><td>${metric.count?c}</td><td>${metric.totalMillis?c}</td><td>${metric.averageMicros?c}</td><td>${metric.bytes?c}</td><td>${metric.allocatedBytes?c}</td><td>${metric.skipped?c}</td></tr>
+</#list>
+</table>
+</#list>
+</body>
+</html>
@@ -0,0 +1,3 @@
+${baseImports}public record ${className}(<#list inputArgs as arg>${arg}<#if arg_has_next>, </#if></#list>) {
+
+}
@@ -3,7 +3,48 @@ public interface ${className} extends MongoRepository<${modelName}, ${idType}> {
 
     Optional<${modelName}> findByIdAndDeletedFalse(${idType} id);
 
+    <#if keysetPagination?? && keysetPagination>
+    Window<${modelName}> findAllByDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+    <#elseif slicePagination?? && slicePagination>
+    Slice<${modelName}> findAllByDeletedFalse(Pageable pageable);
+
+    long countByDeletedFalse();
+    <#else>
     Page<${modelName}> findAllByDeletedFalse(Pageable pageable);
+    </#if>
+    <#if listProjection?? && listProjection?has_content>
+
+    <#if slicePagination?? && slicePagination>Slice<#else>Page</#if><${listProjection}> findListProjectionByDeletedFalse(Pageable pageable);
+    </#if>
+    <#if exportEnabled?? && exportEnabled>
+
+    @Meta(cursorBatchSize = ${exportFetchSize?c})
+    Stream<${modelName}> streamAllByDeletedFalse();
+    </#if>
+
+<#elseif keysetPagination?? && keysetPagination>
+
+    Window<${modelName}> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+<#elseif slicePagination?? && slicePagination>
+
+    Slice<${modelName}> findAllBy(Pageable pageable);
+
+</#if>
+<#assign listProjectionEnabled = listProjection?? && listProjection?has_content>
+<#if listProjectionEnabled && !(softDeleteEnabled?? && softDeleteEnabled)>
+<#if !(slicePagination?? && slicePagination)>
+
+</#if>
+    <#if slicePagination?? && slicePagination>Slice<#else>Page</#if><${listProjection}> findListProjectionBy(Pageable pageable);
+
+</#if>
+<#if exportEnabled?? && exportEnabled && !(softDeleteEnabled?? && softDeleteEnabled)>
+<#if !(keysetPagination?? && keysetPagination) && !(slicePagination?? && slicePagination) && !listProjectionEnabled>
+
+</#if>
+    @Meta(cursorBatchSize = ${exportFetchSize?c})
+    Stream<${modelName}> streamAllBy();
 
 </#if>
 }
@@ -1,10 +1,31 @@
 <#if baseImports?has_content>
 ${baseImports}
 </#if><#t>
+<#if exportEnabled?? && exportEnabled>
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+</#if><#t>
+<#if keysetPagination?? && keysetPagination>
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+</#if><#t>
+<#if slicePagination?? && slicePagination>
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+<#elseif listProjection??>
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+</#if><#t>
 <#if openInViewEnabled?? && !openInViewEnabled && hasLazyFields?? && hasLazyFields>
 import org.springframework.data.jpa.repository.EntityGraph;
 </#if><#t>
 import org.springframework.data.jpa.repository.JpaRepository;
+<#if exportEnabled?? && exportEnabled>
+import org.springframework.data.jpa.repository.QueryHints;
+</#if><#t>
 
 ${projectImports}
 public interface ${className} extends JpaRepository<${modelName}, ${idType}> {
@@ -13,5 +34,26 @@ public interface ${className} extends JpaRepository<${modelName}, ${idType}> {
     @EntityGraph(value = "${entityGraphName}", type = EntityGraph.EntityGraphType.LOAD)
     Optional<${modelName}> findById(final ${idType} ${idField});
     
+    </#if><#t>
+    <#if keysetPagination?? && keysetPagination>
+    Window<${modelName}> findAllBy(final ScrollPosition position, final Sort sort, final Limit limit);
+
+    </#if><#t>
+    <#if slicePagination?? && slicePagination>
+    Slice<${modelName}> findAllBy(final Pageable pageable);
+
+    </#if><#t>
+    <#if listProjection??>
+    <#if slicePagination?? && slicePagination>Slice<#else>Page</#if><${listProjection}> findListProjectionBy(final Pageable pageable);
+
+    </#if><#t>
+    <#if exportEnabled?? && exportEnabled>
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "${exportFetchSize?c}"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<${modelName}> streamAllBy();
+
     </#if><#t>
 }
\ No newline at end of file
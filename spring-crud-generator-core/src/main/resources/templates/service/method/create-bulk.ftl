@@ -1,18 +1,56 @@
     
     /**
      * Bulk creates new {@link ${modelName}}.
+     <#if bulkCreateChunkSize??>
+     * <p>
+     * Records are saved in chunks of {@value #BULK_CREATE_CHUNK_SIZE}<#if flushBulkChunks?? && flushBulkChunks>; after each chunk the
+     * persistence context is flushed<#if detachBulkChunks?? && detachBulkChunks> and the saved records are detached, so memory use does not
+     * grow with the size of the input. Other managed entities, such as the related records, are kept</#if></#if>.
+     </#if>
+     <#if cache>
+     * <p>
+     * The created records are written to the cache once the transaction commits.
+     </#if>
      *
      * @param ${strippedModelName}s list of ${strippedModelName?uncap_first} 
      * @return the created {@link List} of {@link ${modelName}}
      */
     ${transactionalAnnotation}
-    <#if cache>
-    @CacheEvict(value = "${modelName?uncap_first}", allEntries = true)
-    </#if><#t>
     public List<${modelName}> bulkCreate(final List<${modelName}> ${strippedModelName}s) {
         ArgumentVerifier.verifyNotEmpty(${strippedModelName}s);
 
         LOGGER.info("Creating {} ${strippedModelName} records", ${strippedModelName}s.size());
 
+        <#if bulkCreateChunkSize??>
+        final List<${modelName}> created = new ArrayList<>(${strippedModelName}s.size());
+        for (int from = 0; from < ${strippedModelName}s.size(); from += BULK_CREATE_CHUNK_SIZE) {
+            final List<${modelName}> chunk = ${strippedModelName}s.subList(
+                    from, Math.min(from + BULK_CREATE_CHUNK_SIZE, ${strippedModelName}s.size())
+            );
+            <#if detachBulkChunks?? && detachBulkChunks>
+            final List<${modelName}> saved = this.repository.saveAll(chunk);
+            this.entityManager.flush();
+            saved.forEach(this.entityManager::detach);
+            created.addAll(saved);
+            <#else>
+            created.addAll(this.repository.saveAll(chunk));
+            <#if flushBulkChunks?? && flushBulkChunks>
+            this.entityManager.flush();
+            </#if>
+            </#if>
+        }
+
+        <#elseif cache>
+        final List<${modelName}> created = this.repository.saveAllAndFlush(${strippedModelName}s);
+
+        <#else>
         return this.repository.saveAllAndFlush(${strippedModelName}s);
-    }
+        </#if>
+        <#if cache>
+        this.cacheHelper.putAll("${modelName?uncap_first}", created, ${modelName}::get${idField?cap_first});
+
+        </#if>
+        <#if bulkCreateChunkSize?? || cache>
+        return created;
+        </#if>
+    }
\ No newline at end of file
@@ -0,0 +1,27 @@
+    
+    /**
+     * Streams all {@link ${modelName}} to the provided consumer. Records are read from the
+     * database cursor in batches of ${exportFetchSize?c}<#if !isMongoDB>, and each entity is detached
+     * after it has been consumed, so memory use does not grow with the size of the table</#if>.
+     *
+     * @param consumer the consumer that receives each {@link ${modelName}}
+     */
+    <#if !isMongoDB>
+    @Transactional(readOnly = true)
+    </#if><#t>
+    public void exportAll(final Consumer<${modelName}> consumer) {
+        ArgumentVerifier.verifyNotNull(consumer);
+
+        LOGGER.info("Exporting ${strippedModelName} records");
+
+        try (final Stream<${modelName}> ${strippedModelName}s = this.repository.<#if softDeleteEnabled?? && softDeleteEnabled>streamAllByDeletedFalse<#else>streamAllBy</#if>()) {
+            <#if isMongoDB>
+            ${strippedModelName}s.forEach(consumer);
+            <#else>
+            ${strippedModelName}s.forEach(${strippedModelName} -> {
+                consumer.accept(${strippedModelName});
+                this.entityManager.detach(${strippedModelName});
+            });
+            </#if>
+        }
+    }
@@ -1,7 +1,9 @@
 
 <#if generateJavaDoc?? && generateJavaDoc>
     /**
-    * Get all ${modelName} by provided IDs
+    * Get all ${modelName} by provided IDs. IDs are looked up in chunks of ${inClauseChunkSize?c}
+    * and the results are returned in the order of the provided IDs.<#if cache> Cached entities are read from the cache in
+    * one lookup, only the missing ones are loaded from the database and then written to the cache.</#if>
     *
     * @param ids {@link List} of ${idDescription}
     * @return A {@link List} of found {@link ${modelName}}.
@@ -9,5 +11,43 @@
     public List<${modelName}> getAllByIds(final List<${idType}> ids) {
         ArgumentVerifier.verifyNotEmpty(ids);
 
-        return this.repository.findAllById(ids);
-    }
\ No newline at end of file
+        final List<${idType}> distinctIds = ids.stream()
+                .distinct()
+                .toList();
+        <#if cache>
+        final Map<${idType}, ${modelName}> entitiesById = new HashMap<>(
+                this.cacheHelper.getAll("${modelName?uncap_first}", distinctIds, ${modelName}.class)
+        );
+        final List<${idType}> missingIds = distinctIds.stream()
+                .filter(id -> !entitiesById.containsKey(id))
+                .toList();
+
+        for (int from = 0; from < missingIds.size(); from += ${inClauseChunkSize?c}) {
+            final List<${idType}> chunk = missingIds.subList(from, Math.min(from + ${inClauseChunkSize?c}, missingIds.size()));
+            this.repository.findAllById(chunk)
+                    .forEach(entity -> entitiesById.put(entity.get${idField?cap_first}(), entity));
+        }
+
+        this.cacheHelper.putAll(
+                "${modelName?uncap_first}",
+                missingIds.stream()
+                        .filter(entitiesById::containsKey)
+                        .map(entitiesById::get)
+                        .toList(),
+                ${modelName}::get${idField?cap_first}
+        );
+        <#else>
+        final Map<${idType}, ${modelName}> entitiesById = new HashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += ${inClauseChunkSize?c}) {
+            final List<${idType}> chunk = distinctIds.subList(from, Math.min(from + ${inClauseChunkSize?c}, distinctIds.size()));
+            this.repository.findAllById(chunk)
+                    .forEach(entity -> entitiesById.put(entity.get${idField?cap_first}(), entity));
+        }
+        </#if>
+
+        return distinctIds.stream()
+                .filter(entitiesById::containsKey)
+                .map(entitiesById::get)
+                .toList();
+    }
@@ -0,0 +1,146 @@
+<#assign findAllMethod = (softDeleteEnabled?? && softDeleteEnabled)?then("findAllByDeletedFalse", "findAllBy")>
+
+    /**
+     * Get a window of {@link ${modelName}} using keyset pagination.
+     *
+     * @param cursor The cursor returned with the previous window, or null for the first window.
+     * @param pageSize The page size.
+     <#if sortEnabled?? && sortEnabled>
+     * @param sortBy Optional sort field.
+     * @param sortDirection Optional sort direction (ASC or DESC).
+     </#if><#t>
+     * @return A window of {@link ${modelName}}.
+     */
+    public Window<${modelName}> getAll(final String cursor, final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+            final String sortBy, final String sortDirection</#if>) {
+        ArgumentVerifier.verifyNotNull(pageSize);
+
+        <#if sortEnabled?? && sortEnabled>
+        final Sort sort = resolveSort(sortBy, sortDirection);
+        <#else>
+        final Sort sort = Sort.by("${idField}");
+        </#if>
+        return repository.${findAllMethod}(decodeCursor(cursor, sort), sort, Limit.of(pageSize));
+    }
+
+    /**
+     * Computes the cursor of the window that follows the given window of {@link ${modelName}}.
+     *
+     * @param window The window returned by getAll.
+     <#if sortEnabled?? && sortEnabled>
+     * @param sortBy Optional sort field the window was requested with.
+     </#if><#t>
+     * @return The cursor of the next window, or null if the given window is the last one.
+     */
+    public String nextCursor(final Window<${modelName}> window<#if sortEnabled?? && sortEnabled>, final String sortBy</#if>) {
+
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+
+        final ${modelName} last = window.getContent().get(window.size() - 1);
+        final StringBuilder cursor = new StringBuilder();
+        <#if sortEnabled?? && sortEnabled>
+        for (final String property : resolveSortProperties(sortBy)) {
+            if (cursor.length() > 0) {
+                cursor.append('&');
+            }
+            cursor.append(URLEncoder.encode(property, StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(cursorValue(last, property)), StandardCharsets.UTF_8));
+        }
+        <#else>
+        cursor.append(URLEncoder.encode("${idField}", StandardCharsets.UTF_8))
+                .append('=')
+                .append(URLEncoder.encode(String.valueOf(cursorValue(last, "${idField}")), StandardCharsets.UTF_8));
+        </#if>
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    <#if sortEnabled?? && sortEnabled>
+
+    private Sort resolveSort(final String sortBy, final String sortDirection) {
+
+        if (sortBy == null || sortBy.isBlank()) {
+            return Sort.by("${idField}");
+        }
+
+        if (!isAllowedSortField(sortBy)) {
+            throw new IllegalArgumentException(
+                "Invalid sortBy '" + sortBy + "' for ${modelName}. Allowed values are: ${sortAllowedFieldsCsv}."
+            );
+        }
+
+        final String resolvedSortDirection = (sortDirection == null || sortDirection.isBlank())
+                ? "${sortDefaultDirection}" : sortDirection;
+        final Direction direction;
+        try {
+            direction = Direction.fromString(resolvedSortDirection);
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException(
+                "Invalid sortDirection '" + resolvedSortDirection + "' for ${modelName}. Allowed values are: ASC, DESC."
+            );
+        }
+
+        if ("${idField}".equals(sortBy)) {
+            return Sort.by(direction, sortBy);
+        }
+        return Sort.by(direction, sortBy).and(Sort.by(direction, "${idField}"));
+    }
+
+    private List<String> resolveSortProperties(final String sortBy) {
+
+        if (sortBy == null || sortBy.isBlank() || "${idField}".equals(sortBy)) {
+            return List.of("${idField}");
+        }
+        return List.of(sortBy, "${idField}");
+    }
+
+    private boolean isAllowedSortField(final String sortField) {
+        return <#list sortAllowedFields as allowedField>"${allowedField}".equals(sortField)<#if allowedField_has_next> || </#if></#list>;
+    }
+    </#if>
+
+    private ScrollPosition decodeCursor(final String cursor, final Sort sort) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        final Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (final String pair : decoded.split("&")) {
+                final int separator = pair.indexOf('=');
+                final String property = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+                final String value = URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                keys.put(property, parseCursorValue(property, value));
+            }
+        } catch (final RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor for ${modelName}.");
+        }
+
+        if (!keys.keySet().stream().toList().equals(sort.stream().map(Sort.Order::getProperty).toList())) {
+            throw new IllegalArgumentException("Cursor for ${modelName} does not match the requested sort.");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object cursorValue(final ${modelName} entity, final String property) {
+        return switch (property) {
+            <#list cursorFields as cursorField>
+            case "${cursorField.name}" -> entity.${cursorField.getter}();
+            </#list>
+            default -> throw new IllegalArgumentException("Unknown cursor property '" + property + "' for ${modelName}.");
+        };
+    }
+
+    private static Object parseCursorValue(final String property, final String value) {
+        return switch (property) {
+            <#list cursorFields as cursorField>
+            case "${cursorField.name}" -> ${cursorField.parser};
+            </#list>
+            default -> throw new IllegalArgumentException("Unknown cursor property '" + property + "' for ${modelName}.");
+        };
+    }
@@ -1,22 +1,15 @@
-    
-    /**
-     * Get all {@link ${modelName}} with pagination by page number and page size.
-     *
-     * @param pageNumber The page number.
-     * @param pageSize The page size.
-     <#if sortEnabled?? && sortEnabled>
-     * @param sortBy Optional sort field.
-     * @param sortDirection Optional sort direction (ASC or DESC).
-     </#if><#t>
-     * @return A page of {@link ${modelName}}.
-     */
-    public Page<${modelName}> getAll(final Integer pageNumber, final Integer pageSize<#if sortEnabled?? && sortEnabled>,
-            final String sortBy, final String sortDirection</#if>) {
-        ArgumentVerifier.verifyNotNull(pageNumber, pageSize);
-
+<#assign slice = slicePagination?? && slicePagination>
+<#assign pageType = slice?then("Slice", "Page")>
+<#if softDeleteEnabled?? && softDeleteEnabled>
+<#assign findAllMethod = "findAllByDeletedFalse">
+<#else>
+<#assign findAllMethod = slice?then("findAllBy", "findAll")>
+</#if>
+<#assign listProjectionMethod = (softDeleteEnabled?? && softDeleteEnabled)?then("findListProjectionByDeletedFalse", "findListProjectionBy")>
+<#macro pagedQuery findMethod>
         <#if sortEnabled?? && sortEnabled>
         if (sortBy == null || sortBy.isBlank()) {
-            return repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize));
+            return repository.${findMethod}(PageRequest.of(pageNumber, pageSize));
         }
 
         if (!isAllowedSortField(sortBy)) {
@@ -37,11 +30,68 @@
         }
 
         final Sort sort = Sort.by(direction, sortBy);
-        return repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize, sort));
+        return repository.${findMethod}(PageRequest.of(pageNumber, pageSize, sort));
         <#else>
-        return repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize));
+        return repository.${findMethod}(PageRequest.of(pageNumber, pageSize));
         </#if>
+</#macro>
+    
+    /**
+     * Get all {@link ${modelName}} with pagination by page number and page size.
+     *
+     * @param pageNumber The page number.
+     * @param pageSize The page size.
+     <#if sortEnabled?? && sortEnabled>
+     * @param sortBy Optional sort field.
+     * @param sortDirection Optional sort direction (ASC or DESC).
+     </#if><#t>
+     * @return A <#if slice>slice<#else>page</#if> of {@link ${modelName}}.
+     */
+    public ${pageType}<${modelName}> getAll(final Integer pageNumber, final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+            final String sortBy, final String sortDirection</#if>) {
+        ArgumentVerifier.verifyNotNull(pageNumber, pageSize);
+
+        <@pagedQuery findMethod=findAllMethod/>
     }
+    <#if listProjection??>
+
+    /**
+     * Get the list projection of all {@link ${modelName}} with pagination by page number and page size. Only the
+     * columns of {@link ${listProjection}} are selected.
+     *
+     * @param pageNumber The page number.
+     * @param pageSize The page size.
+     <#if sortEnabled?? && sortEnabled>
+     * @param sortBy Optional sort field.
+     * @param sortDirection Optional sort direction (ASC or DESC).
+     </#if><#t>
+     * @return A <#if slice>slice<#else>page</#if> of {@link ${listProjection}}.
+     */
+    public ${pageType}<${listProjection}> getAllListProjections(final Integer pageNumber, final Integer pageSize<#if sortEnabled?? && sortEnabled>,
+            final String sortBy, final String sortDirection</#if>) {
+        ArgumentVerifier.verifyNotNull(pageNumber, pageSize);
+
+        <@pagedQuery findMethod=listProjectionMethod/>
+    }
+    </#if><#t>
+    <#if slice>
+
+    /**
+     * Count all {@link ${modelName}}. Slices do not carry the total number of elements, so clients request it only
+     * when they need it.
+     <#if countCached?? && countCached>
+     * The count is cached until the cache entry expires, so it can lag behind recent creates and deletes.
+     </#if><#t>
+     *
+     * @return The total number of {@link ${modelName}}.
+     */
+    <#if countCached?? && countCached>
+    @Cacheable(value = "${modelName?uncap_first}Count", key = "'total'"<#if cacheSync?? && cacheSync>, sync = true</#if>)
+    </#if><#t>
+    public long count() {
+        return repository.<#if softDeleteEnabled?? && softDeleteEnabled>countByDeletedFalse<#else>count</#if>();
+    }
+    </#if><#t>
     <#if sortEnabled?? && sortEnabled>
 
     private boolean isAllowedSortField(final String sortField) {
@@ -5,9 +5,22 @@
      * @return Found ${modelName} {@link ${modelName}}
      */</#if>
     <#if cache>
-    @Cacheable(value = "${modelName?uncap_first}", key = "#${idField}")
+    @Cacheable(value = "${modelName?uncap_first}", key = "#${idField}"<#if cacheSync?? && cacheSync>, sync = true</#if>)
     </#if><#t>
     public ${modelName} getById(final ${idType} ${idField}) {
+        <#if cacheRefreshLoader?? && cacheRefreshLoader>
+        return this.loadById(${idField});
+    }
+
+    /**
+     * Loads a {@link ${modelName}} by id without going through the cache. The cache refreshes its entries with this
+     * method, so a refreshed entry is read the same way {@link #getById} reads it.
+     *
+     * @param ${idField} the id of the ${modelName}
+     * @return Found ${modelName} {@link ${modelName}}
+     */
+    public ${modelName} loadById(final ${idType} ${idField}) {
+        </#if>
         ArgumentVerifier.verifyNotNull(${idField});
 
         return this.repository.<#if softDeleteEnabled?? && softDeleteEnabled>findByIdAndDeletedFalse<#else>findById</#if>(${idField})
@@ -2,11 +2,27 @@
 public class ${className} {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(${className}.class);
+    <#if bulkCreateChunkSize??>
+    private static final int BULK_CREATE_CHUNK_SIZE = ${bulkCreateChunkSize?c};
+    </#if>
 
     private final ${modelName}Repository repository;
+    <#if usesEntityManager?? && usesEntityManager>
+    private final EntityManager entityManager;
+    </#if>
+    <#if usesCacheHelper?? && usesCacheHelper>
+    private final CacheHelper cacheHelper;
+    </#if>
 
-    public ${className}(final ${modelName}Repository repository) {
+    public ${className}(final ${modelName}Repository repository<#if usesEntityManager?? && usesEntityManager>, final EntityManager entityManager</#if><#if usesCacheHelper?? && usesCacheHelper>,
+            final CacheHelper cacheHelper</#if>) {
         this.repository = repository;
+        <#if usesEntityManager?? && usesEntityManager>
+        this.entityManager = entityManager;
+        </#if>
+        <#if usesCacheHelper?? && usesCacheHelper>
+        this.cacheHelper = cacheHelper;
+        </#if>
     }
     
     <#if getByIdMethod?? && getByIdMethod?has_content>${getByIdMethod}</#if>
@@ -15,5 +31,5 @@ public class ${className} {
     <#if createBulkMethod?? && createBulkMethod?has_content>${createBulkMethod}</#if>
     <#if updateMethod?? && updateMethod?has_content>${updateMethod}</#if>
     <#if deleteMethod?? && deleteMethod?has_content>${deleteMethod}</#if>
-    <#if addRelationMethod?? && addRelationMethod?has_content>${addRelationMethod}</#if><#if removeRelationMethod?? && removeRelationMethod?has_content>${removeRelationMethod}</#if><#if getAllByIds?? && getAllByIds?has_content>${getAllByIds}</#if>
+    <#if addRelationMethod?? && addRelationMethod?has_content>${addRelationMethod}</#if><#if removeRelationMethod?? && removeRelationMethod?has_content>${removeRelationMethod}</#if><#if getAllByIds?? && getAllByIds?has_content>${getAllByIds}</#if><#if exportMethod?? && exportMethod?has_content>${exportMethod}</#if>
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+<#assign uncapModelName = strippedModelName?uncap_first>
+<#assign capModelName = strippedModelName?cap_first>
+get:
+      summary: Count the ${uncapModelName}s
+      tags:
+          - "${capModelName}"
+      description: Count the ${uncapModelName}s
+      operationId: ${uncapModelName}sCountGet
+      responses:
+        '200':
+          description: Total number of ${uncapModelName}s.
+          content:
+            application/json:
+              schema:
+                type: integer
+                format: int64
\ No newline at end of file
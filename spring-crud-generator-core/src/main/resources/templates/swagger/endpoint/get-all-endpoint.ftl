@@ -3,12 +3,21 @@
 <#assign modelName = strippedModelName?cap_first + "Payload">
 get:
       parameters:
+      <#if keysetPagination?? && keysetPagination>
+      - in: query
+        name: cursor
+        description: Cursor returned with the previous page. Omit it to get the first page.
+        required: false
+        schema:
+          type: string
+      <#else>
       - in: query
         name: pageNumber
         description: Page number
         required: true
         schema:
           type: integer
+      </#if>
       - in: query
         name: pageSize
         description: Page size
@@ -50,6 +59,21 @@ get:
             application/json:
               schema:
                 properties:
+                  <#if keysetPagination?? && keysetPagination>
+                  size:
+                    type: integer
+                  nextCursor:
+                    type: string
+                    description: Cursor of the next page, absent on the last page.
+                  <#elseif slicePagination?? && slicePagination>
+                  size:
+                    type: integer
+                  number:
+                    type: integer
+                  hasNext:
+                    type: boolean
+                    description: Whether a next page exists.
+                  <#else>
                   totalPages:
                     type: integer
                   totalElements:
@@ -59,6 +83,7 @@ get:
                     type: integer
                   number:
                     type: integer
+                  </#if>
                   content:
                     type: array
                     items:
@@ -21,6 +21,11 @@ paths:
   /${uncapModelName}s/bulk:
     ${createBulk}
   </#if>
+  <#if count?? && count?has_content>
+
+  /${uncapModelName}s/count:
+    ${count}
+  </#if>
 
   /${uncapModelName}s/{${idField}}:
     parameters:
@@ -9,6 +9,12 @@
 <#assign openApiModel = strippedModelName + "Payload">
 <#assign mockitoAnnotation = isSpringBoot3?then("@MockBean", "@MockitoBean")>
 <#if swagger><#assign responseClass = strippedModelName + "sGet200Response"></#if>
+<#assign slice = slicePagination?? && slicePagination>
+<#assign pageTransferObject = slice?then("SliceTO", "PageTO")>
+<#assign listProjectionEnabled = listProjection??>
+<#assign getAllMethod = listProjectionEnabled?then("getAllListProjections", "getAll")>
+<#assign contentClass = listProjectionEnabled?then(listProjection!"", modelName)>
+<#assign contentTransferObjectClass = listProjectionEnabled?then(listTransferObject!"", transferObjectClass)>
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;<#if hasRelations>
 import static org.mockito.Mockito.verifyNoInteractions;</#if>
@@ -102,6 +108,7 @@ class ${className} {
     }
     </#if><#t>
 
+    <#if keysetPagination?? && keysetPagination>
     @Test
     void ${uncapModelName}sGet() throws Exception {
         <#if dataGenerator == "PODAM">
@@ -111,15 +118,103 @@ class ${className} {
                         .size(10)
                         .create();
         </#if>
-        final Page<${modelName}> page${modelName}s = new PageImpl<>(${modelName?uncap_first}s);
-        final Integer pageNumber = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
+        final Window<${modelName}> window${modelName}s = Window.from(${modelName?uncap_first}s, ScrollPosition::offset, true);
         final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
+        final String cursor = ${generatorFieldName}.${singleObjectMethodName}(String.class);
+        final String nextCursor = ${generatorFieldName}.${singleObjectMethodName}(String.class);
         <#if sortEnabled?? && sortEnabled>
         final String sortBy = "${sortAllowedFields[0]}";
         final String sortDirection = "${sortDefaultDirection}";
         </#if>
 
         when(this.${serviceField}.getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
+        )).thenReturn(window${modelName}s);
+        when(this.${serviceField}.nextCursor(window${modelName}s<#if sortEnabled?? && sortEnabled>, sortBy</#if>)).thenReturn(nextCursor);
+
+        final ResultActions resultActions = this.mockMvc.perform(get("${basePath}/${uncapModelName}s")
+                                .queryParam("cursor", cursor)
+                                .queryParam("pageSize", String.format("%s", pageSize))<#if sortEnabled?? && sortEnabled>
+                                .queryParam("sortBy", sortBy)
+                                .queryParam("sortDirection", sortDirection)</#if>)
+                        .andExpect(status().isOk());
+
+        <#if !swagger>
+        final PageTO<${transferObjectClass}> results = this.mapper.readValue(
+                resultActions.andReturn().getResponse().getContentAsString(),
+                new TypeReference<PageTO<${transferObjectClass?cap_first}>>() {}
+        );
+        <#else>
+        final ${responseClass} results = this.mapper.readValue(
+                resultActions.andReturn().getResponse().getContentAsString(),
+                ${responseClass}.class
+        );
+        </#if>
+
+        assertThat(results).isNotNull();
+        assertThat(results.<#if swagger>getSize<#else>size</#if>()).isEqualTo(${modelName?uncap_first}s.size());
+        assertThat(results.<#if swagger>getNextCursor<#else>nextCursor</#if>()).isEqualTo(nextCursor);
+        assertThat(results.<#if swagger>getContent<#else>content</#if>()).isNotEmpty();
+
+        results.<#if swagger>getContent<#else>content</#if>().forEach(result -> {
+
+            final ${modelName} ${modelName?uncap_first} = ${modelName?uncap_first}s.stream()
+                    .filter(obj -> obj.get${idField?cap_first}().toString().equals(result.<#if !swagger>${idField?uncap_first}<#else>get${idField?cap_first}</#if>().toString()))
+                    .findFirst()
+                    .orElseThrow();
+
+            <#if openInViewEnabled?? && !openInViewEnabled>
+            verify${strippedModelName}Simple(result, ${modelName?uncap_first});
+            <#else>
+            verify${strippedModelName}(result, ${modelName?uncap_first});
+            </#if>
+        });
+
+        verify(this.${serviceField}).getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
+        );
+    }
+
+    @Test
+    void ${uncapModelName}sGet_missingPageSizeParameter() throws Exception {
+
+        this.mockMvc.perform(get("${basePath}/${uncapModelName}s"))
+                        .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ${uncapModelName}sGet_typeMissmatch() throws Exception {
+
+        final String pageSize = ${generatorFieldName}.${singleObjectMethodName}(String.class);
+
+        this.mockMvc.perform(get("${basePath}/${uncapModelName}s")
+                                .queryParam("pageSize", String.format("%s", pageSize)))
+                        .andExpect(status().isBadRequest());
+    }
+
+    <#else>
+    @Test
+    void ${uncapModelName}sGet() throws Exception {
+        <#if dataGenerator == "PODAM">
+        final List<${contentClass}> ${contentClass?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(List.class, ${contentClass}.class);
+        <#else>
+        final List<${contentClass}> ${contentClass?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(${contentClass}.class)
+                        .size(10)
+                        .create();
+        </#if>
+        <#if slice>
+        final Slice<${contentClass}> page${modelName}s = new SliceImpl<>(${contentClass?uncap_first}s);
+        <#else>
+        final Page<${contentClass}> page${modelName}s = new PageImpl<>(${contentClass?uncap_first}s);
+        </#if>
+        final Integer pageNumber = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
+        final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
+        <#if sortEnabled?? && sortEnabled>
+        final String sortBy = "${sortAllowedFields[0]}";
+        final String sortDirection = "${sortDefaultDirection}";
+        </#if>
+
+        when(this.${serviceField}.${getAllMethod}(
                 pageNumber, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
         )).thenReturn(page${modelName}s);
 
@@ -131,9 +226,9 @@ class ${className} {
                         .andExpect(status().isOk());
 
         <#if !swagger>
-        final PageTO<${transferObjectClass}> results = this.mapper.readValue(
+        final ${pageTransferObject}<${contentTransferObjectClass}> results = this.mapper.readValue(
                 resultActions.andReturn().getResponse().getContentAsString(),
-                new TypeReference<PageTO<${transferObjectClass?cap_first}>>() {}
+                new TypeReference<${pageTransferObject}<${contentTransferObjectClass}>>() {}
         );
         <#else>
         final ${responseClass} results = this.mapper.readValue(
@@ -143,31 +238,56 @@ class ${className} {
         </#if>
 
         assertThat(results).isNotNull();
+        <#if slice>
+        assertThat(results.<#if swagger>getSize<#else>size</#if>()).isNotNegative();
+        assertThat(results.<#if swagger>getNumber<#else>number</#if>()).isNotNegative();
+        assertThat(results.<#if swagger>getHasNext<#else>hasNext</#if>()).isFalse();
+        <#else>
         assertThat(results.<#if swagger>getTotalPages<#else>totalPages</#if>()).isNotNegative();
         assertThat(results.<#if swagger>getTotalElements<#else>totalElements</#if>()).isNotNegative();
         assertThat(results.<#if swagger>getSize<#else>size</#if>()).isNotNegative();
         assertThat(results.<#if swagger>getNumber<#else>number</#if>()).isNotNegative();
+        </#if>
         assertThat(results.<#if swagger>getContent<#else>content</#if>()).isNotEmpty();
 
         results.<#if swagger>getContent<#else>content</#if>().forEach(result -> {
 
-            final ${modelName} ${modelName?uncap_first} = ${modelName?uncap_first}s.stream()
-                    .filter(obj -> obj.get${idField?cap_first}().toString().equals(result.<#if !swagger>${idField?uncap_first}<#else>get${idField?cap_first}</#if>().toString()))
+            final ${contentClass} ${contentClass?uncap_first} = ${contentClass?uncap_first}s.stream()
+                    .filter(obj -> obj.<#if listProjectionEnabled>${idField}<#else>get${idField?cap_first}</#if>().toString().equals(result.<#if !swagger>${idField?uncap_first}<#else>get${idField?cap_first}</#if>().toString()))
                     .findFirst()
                     .orElseThrow();
 
-            <#if openInViewEnabled?? && !openInViewEnabled>
+            <#if listProjectionEnabled>
+            verify${strippedModelName}List(result, ${contentClass?uncap_first});
+            <#elseif openInViewEnabled?? && !openInViewEnabled>
             verify${strippedModelName}Simple(result, ${modelName?uncap_first});
             <#else>
             verify${strippedModelName}(result, ${modelName?uncap_first});
             </#if>
         });
 
-        verify(this.${serviceField}).getAll(
+        verify(this.${serviceField}).${getAllMethod}(
                 pageNumber, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
         );
     }
 
+    <#if slice>
+    @Test
+    void ${uncapModelName}sCountGet() throws Exception {
+
+        final Long total = ${generatorFieldName}.${singleObjectMethodName}(Long.class);
+
+        when(this.${serviceField}.count()).thenReturn(total);
+
+        final ResultActions resultActions = this.mockMvc.perform(get("${basePath}/${uncapModelName}s/count"))
+                        .andExpect(status().isOk());
+
+        assertThat(Long.valueOf(resultActions.andReturn().getResponse().getContentAsString())).isEqualTo(total);
+
+        verify(this.${serviceField}).count();
+    }
+
+    </#if>
     @Test
     void ${uncapModelName}sGet_missingPageNumberParameter() throws Exception {
 
@@ -200,6 +320,7 @@ class ${className} {
                         .andExpect(status().isBadRequest());
     }
 
+    </#if>
     private void verify${strippedModelName}(final <#if swagger>${openApiModel}<#else>${transferObjectClass?cap_first}</#if> result, final ${modelName} ${modelName?uncap_first}) {
         
         assertThat(result).isNotNull();
@@ -215,6 +336,23 @@ class ${className} {
         assertThat(result).isEqualTo(mapped${modelName?cap_first});
     }
 
+    <#if listProjectionEnabled && !(keysetPagination?? && keysetPagination)>
+    private void verify${strippedModelName}List(final <#if swagger>${openApiModel}<#else>${listTransferObject}</#if> result, final ${listProjection} ${listProjection?uncap_first}) {
+        
+        assertThat(result).isNotNull();
+        <#if swagger>
+        final ${openApiModel} mapped${listProjection} = ${mapperField}.map${listTransferObject}To${openApiModel}(
+                ${mapperField}.map${listProjection}To${listTransferObject}(${listProjection?uncap_first})
+        );
+        <#else>
+        final ${listTransferObject} mapped${listProjection} = ${mapperField}.map${listProjection}To${listTransferObject}(
+                ${listProjection?uncap_first}
+        );
+        </#if>
+        assertThat(result).isEqualTo(mapped${listProjection});
+    }
+
+    </#if><#t>
     <#if openInViewEnabled?? && !openInViewEnabled>
     private void verify${strippedModelName}Simple(final <#if swagger>${openApiModel}<#else>${transferObjectClass?cap_first}</#if> result, final ${modelName} ${modelName?uncap_first}) {
         
@@ -6,6 +6,9 @@
 <#assign businessServiceField = strippedModelName?uncap_first + "BusinessService">
 <#assign resolverClassName = strippedModelName?cap_first + "Resolver">
 <#assign mockitoAnnotation = isSpringBoot3?then("@MockBean", "@MockitoBean")>
+<#assign slice = slicePagination?? && slicePagination>
+<#assign pageTransferObject = slice?then("SliceTO", "PageTO")>
+<#assign pageSelection = slice?then("hasNext", "totalPages")>
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;<#if hasRelations>
 import static org.mockito.Mockito.verifyNoInteractions;</#if>
@@ -102,6 +105,7 @@ class ${className} {
             .satisfy(errors -> assertThat(errors).isNotEmpty());
     }
 
+    <#if keysetPagination?? && keysetPagination>
     @Test
     void ${uncapModelName}sPage() {
 
@@ -112,7 +116,99 @@ class ${className} {
                 .size(10)
                 .create();
         </#if>
+        final Window<${modelName}> window = Window.from(${modelName?uncap_first}s, ScrollPosition::offset, true);
+        final String cursor = ${generatorFieldName}.${singleObjectMethodName}(String.class);
+        final String nextCursor = ${generatorFieldName}.${singleObjectMethodName}(String.class);
+        final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
+        <#if sortEnabled?? && sortEnabled>
+        final Map<String, Object> sort = Map.of(
+                "sortBy", "${sortAllowedFields[0]}",
+                "sortDirection", "${sortDefaultDirection}"
+        );
+        </#if>
+
+        when(${serviceField}.getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>,
+                String.valueOf(sort.get("sortBy")), String.valueOf(sort.get("sortDirection"))</#if>
+        )).thenReturn(window);
+        when(${serviceField}.nextCursor(window<#if sortEnabled?? && sortEnabled>, String.valueOf(sort.get("sortBy"))</#if>)).thenReturn(nextCursor);
+
+        final String query = """
+            query($cursor: String, $pageSize: Int!<#if sortEnabled?? && sortEnabled>, $sort: ${strippedModelName?cap_first}SortInput</#if>) {
+            ${uncapModelName}sPage(cursor: $cursor, pageSize: $pageSize<#if sortEnabled?? && sortEnabled>, sort: $sort</#if>) {
+                size
+                nextCursor
+                content { ${idField?uncap_first} }
+            }
+            }
+        """;
+
+        final PageTO<${transferObjectClass}> result = this.graphQlTester.document(query)
+                .variable("cursor", cursor)
+                .variable("pageSize", pageSize)
+                <#if sortEnabled?? && sortEnabled>
+                .variable("sort", sort)
+                </#if><#t>
+                .execute()
+                .path("${uncapModelName}sPage")
+                .entity(new ParameterizedTypeReference<PageTO<${transferObjectClass}>>() {})
+                .get();
+
+        assertThat(result).isNotNull();
+        assertThat(result.size()).isEqualTo(${modelName?uncap_first}s.size());
+        assertThat(result.nextCursor()).isEqualTo(nextCursor);
+        assertThat(result.content()).isNotEmpty();
+
+        result.content().forEach(item -> {
+
+            final ${modelName} src = ${modelName?uncap_first}s.stream()
+                .filter(m -> String.valueOf(m.get${idField?cap_first}()).equals(String.valueOf(item.${idField?uncap_first}())))
+                .findFirst()
+                .orElseThrow();
+
+            verify${strippedModelName}(item, src);
+        });
+
+        verify(${serviceField}).getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>,
+                String.valueOf(sort.get("sortBy")), String.valueOf(sort.get("sortDirection"))</#if>
+        );
+    }
+
+    @Test
+    void ${uncapModelName}sPage_typeMismatch_error() {
+
+        final String query = """
+            query($pageSize: Int!) {
+            ${uncapModelName}sPage(pageSize: $pageSize) { size }
+            }
+        """;
+
+        final String pageSize = ${generatorFieldName}.${singleObjectMethodName}(String.class);
+
+        this.graphQlTester.document(query)
+            .variable("pageSize", pageSize)
+            .execute()
+            .errors()
+            .satisfy(errors -> assertThat(errors).isNotEmpty());
+    }
+
+    <#else>
+    @Test
+    void ${uncapModelName}sPage() {
+
+        <#if dataGenerator == "PODAM">
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(List.class, ${modelName}.class);
+        <#else>
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(${modelName}.class)
+                .size(10)
+                .create();
+        </#if>
+        <#if slice>
+        final Slice<${modelName}> pageObject = new SliceImpl<>(${modelName?uncap_first}s);
+        <#else>
         final Page<${modelName}> pageObject = new PageImpl<>(${modelName?uncap_first}s);
+        </#if>
         final Integer pageNumber = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         <#if sortEnabled?? && sortEnabled>
@@ -130,16 +226,22 @@ class ${className} {
         final String query = """
             query($pageNumber: Int!, $pageSize: Int!<#if sortEnabled?? && sortEnabled>, $sort: ${strippedModelName?cap_first}SortInput</#if>) {
             ${uncapModelName}sPage(pageNumber: $pageNumber, pageSize: $pageSize<#if sortEnabled?? && sortEnabled>, sort: $sort</#if>) {
+                <#if slice>
+                size
+                number
+                hasNext
+                <#else>
                 totalPages
                 totalElements
                 size
                 number
+                </#if>
                 content { ${idField?uncap_first} }
             }
             }
         """;
 
-        final PageTO<${transferObjectClass}> result = this.graphQlTester.document(query)
+        final ${pageTransferObject}<${transferObjectClass}> result = this.graphQlTester.document(query)
                 .variable("pageNumber", pageNumber)
                 .variable("pageSize", pageSize)
                 <#if sortEnabled?? && sortEnabled>
@@ -147,14 +249,20 @@ class ${className} {
                 </#if><#t>
                 .execute()
                 .path("${uncapModelName}sPage")
-                .entity(new ParameterizedTypeReference<PageTO<${transferObjectClass}>>() {})
+                .entity(new ParameterizedTypeReference<${pageTransferObject}<${transferObjectClass}>>() {})
                 .get();
 
         assertThat(result).isNotNull();
+        <#if slice>
+        assertThat(result.size()).isGreaterThanOrEqualTo(0);
+        assertThat(result.number()).isGreaterThanOrEqualTo(0);
+        assertThat(result.hasNext()).isFalse();
+        <#else>
         assertThat(result.totalPages()).isGreaterThanOrEqualTo(0);
         assertThat(result.totalElements()).isGreaterThanOrEqualTo(0);
         assertThat(result.size()).isGreaterThanOrEqualTo(0);
         assertThat(result.number()).isGreaterThanOrEqualTo(0);
+        </#if>
         assertThat(result.content()).isNotEmpty();
 
         result.content().forEach(item -> {
@@ -173,12 +281,37 @@ class ${className} {
         );
     }
 
+    <#if slice>
+    @Test
+    void ${uncapModelName}sCount() {
+
+        final Long total = ${generatorFieldName}.${singleObjectMethodName}(Long.class);
+
+        when(${serviceField}.count()).thenReturn(total);
+
+        final String query = """
+            query {
+            ${uncapModelName}sCount
+            }
+        """;
+
+        final Long result = this.graphQlTester.document(query)
+                .execute()
+                .path("${uncapModelName}sCount")
+                .entity(Long.class)
+                .get();
+
+        assertThat(result).isEqualTo(total);
+        verify(${serviceField}).count();
+    }
+
+    </#if>
     @Test
     void ${uncapModelName}sPage_typeMismatch_error() {
 
         final String query = """
             query($pageNumber: Int!, $pageSize: Int!) {
-            ${uncapModelName}sPage(pageNumber: $pageNumber, pageSize: $pageSize) { totalPages }
+            ${uncapModelName}sPage(pageNumber: $pageNumber, pageSize: $pageSize) { ${pageSelection} }
             }
         """;
 
@@ -199,7 +332,7 @@ class ${className} {
         final Integer pageNumber = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         final String queryMissingPage = """
             query($pageSize: Int!) {
-            ${uncapModelName}sPage(pageNumber: 0, pageSize: $pageSize) { totalPages }
+            ${uncapModelName}sPage(pageNumber: 0, pageSize: $pageSize) { ${pageSelection} }
             }
         """;
 
@@ -216,7 +349,7 @@ class ${className} {
         final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         final String queryMissingSize = """
             query($pageNumber: Int!) {
-            ${uncapModelName}sPage(pageNumber: $pageNumber, pageSize: 10) { totalPages }
+            ${uncapModelName}sPage(pageNumber: $pageNumber, pageSize: 10) { ${pageSelection} }
             }
         """;
 
@@ -227,6 +360,7 @@ class ${className} {
             .satisfy(errors -> assertThat(errors).isNotEmpty());
     }
     
+    </#if>
     private void verify${strippedModelName}(final ${transferObjectClass} result, final ${modelName} src) {
         
         assertThat(result).isNotNull();
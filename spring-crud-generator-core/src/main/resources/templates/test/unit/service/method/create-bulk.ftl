@@ -5,8 +5,13 @@
         final ${modelName} ${strippedModelName?uncap_first} = ${generatorFieldName}.${singleObjectMethodName}(${modelName}.class);
         final List<${modelName}> ${strippedModelName?uncap_first}s = List.of(${strippedModelName?uncap_first});
 
+        <#if bulkCreateChunkSize??>
+        when(this.${strippedModelName?uncap_first}Repository.saveAll(${strippedModelName?uncap_first}s))
+                .thenReturn(${strippedModelName?uncap_first}s);
+        <#else>
         when(this.${strippedModelName?uncap_first}Repository.saveAllAndFlush(${strippedModelName?uncap_first}s))
                 .thenReturn(${strippedModelName?uncap_first}s);
+        </#if>
 
         final List<${modelName}> results = this.${strippedModelName?uncap_first}Service.bulkCreate(${strippedModelName?uncap_first}s);
 
@@ -14,5 +19,18 @@
         assertThat(results).hasSize(1);
         verify${strippedModelName?cap_first}(results.get(0), ${strippedModelName?uncap_first});
 
+        <#if bulkCreateChunkSize??>
+        verify(this.${strippedModelName?uncap_first}Repository).saveAll(${strippedModelName?uncap_first}s);
+        <#if flushBulkChunks?? && flushBulkChunks>
+        verify(this.entityManager).flush();
+        <#if detachBulkChunks?? && detachBulkChunks>
+        verify(this.entityManager).detach(${strippedModelName?uncap_first});
+        </#if>
+        </#if>
+        <#else>
         verify(this.${strippedModelName?uncap_first}Repository).saveAllAndFlush(${strippedModelName?uncap_first}s);
+        </#if>
+        <#if usesCacheHelper?? && usesCacheHelper>
+        verify(this.cacheHelper).putAll(eq("${modelName?uncap_first}"), eq(${strippedModelName?uncap_first}s), any());
+        </#if>
     }
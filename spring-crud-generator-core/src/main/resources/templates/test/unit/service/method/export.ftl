@@ -0,0 +1,19 @@
+
+    @Test
+    void exportAll() {
+
+        final ${modelName} ${strippedModelName?uncap_first} = ${generatorFieldName}.${singleObjectMethodName}(${modelName}.class);
+        final List<${modelName}> exported = new ArrayList<>();
+
+        when(this.${strippedModelName?uncap_first}Repository.<#if softDeleteEnabled?? && softDeleteEnabled>streamAllByDeletedFalse<#else>streamAllBy</#if>())
+                .thenReturn(Stream.of(${strippedModelName?uncap_first}));
+
+        this.${strippedModelName?uncap_first}Service.exportAll(exported::add);
+
+        assertThat(exported).containsExactly(${strippedModelName?uncap_first});
+
+        verify(this.${strippedModelName?uncap_first}Repository).<#if softDeleteEnabled?? && softDeleteEnabled>streamAllByDeletedFalse<#else>streamAllBy</#if>();
+        <#if !isMongoDB>
+        verify(this.entityManager).detach(${strippedModelName?uncap_first});
+        </#if>
+    }
\ No newline at end of file
@@ -13,11 +13,23 @@
                 .map(${modelName}::get${idField?cap_first})
                 .toList();
 
-        when(this.${strippedModelName?uncap_first}Repository.findAllById(ids))
-                .thenReturn(${strippedModelName?uncap_first}s);
+        final List<${modelName}> reversed${strippedModelName?cap_first}s = new ArrayList<>(${strippedModelName?uncap_first}s);
+        Collections.reverse(reversed${strippedModelName?cap_first}s);
+
+        when(this.${strippedModelName?uncap_first}Repository.findAllById(any()))
+                .thenAnswer(invocation -> {
+                    final List<${idType}> requestedIds = invocation.getArgument(0);
+                    return reversed${strippedModelName?cap_first}s.stream()
+                            .filter(obj -> requestedIds.contains(obj.get${idField?cap_first}()))
+                            .toList();
+                });
 
         final List<${modelName}> results = this.${strippedModelName}Service.getAllByIds(ids);
 
+        assertThat(results)
+                .extracting(${modelName}::get${idField?cap_first})
+                .containsExactlyElementsOf(ids);
+
         results.forEach(result -> {
 
             final ${modelName} ${strippedModelName?uncap_first} = ${strippedModelName?uncap_first}s.stream()
@@ -28,5 +40,11 @@
             verify${strippedModelName?cap_first}(result, ${strippedModelName?uncap_first});
         });
 
-        verify(this.${strippedModelName?uncap_first}Repository).findAllById(ids);
+        for (int from = 0; from < ids.size(); from += ${inClauseChunkSize?c}) {
+            verify(this.${strippedModelName?uncap_first}Repository).findAllById(ids.subList(from, Math.min(from + ${inClauseChunkSize?c}, ids.size())));
+        }
+        <#if usesCacheHelper?? && usesCacheHelper>
+        verify(this.cacheHelper).getAll("${modelName?uncap_first}", ids, ${modelName}.class);
+        verify(this.cacheHelper).putAll(eq("${modelName?uncap_first}"), eq(${strippedModelName?uncap_first}s), any());
+        </#if>
     }
\ No newline at end of file
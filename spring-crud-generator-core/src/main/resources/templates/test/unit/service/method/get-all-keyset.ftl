@@ -0,0 +1,104 @@
+<#assign findAllMethod = (softDeleteEnabled?? && softDeleteEnabled)?then("findAllByDeletedFalse", "findAllBy")>
+<#assign repositoryField = strippedModelName?uncap_first + "Repository">
+<#assign serviceField = strippedModelName?uncap_first + "Service">
+    @Test
+    void getAll() {
+        <#if dataGenerator == "PODAM">
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(List.class, ${modelName}.class);
+        <#else>
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(${modelName}.class)
+                        .size(10)
+                        .create();
+        </#if>
+        final Window<${modelName}> window = Window.from(${modelName?uncap_first}s, ScrollPosition::offset);
+        final Integer pageSize = 10;
+
+        when(this.${repositoryField}.${findAllMethod}(ScrollPosition.keyset(), Sort.by("${idField}"), Limit.of(pageSize)))
+                .thenReturn(window);
+
+        final Window<${modelName}> results = this.${serviceField}.getAll(
+                null, pageSize<#if sortEnabled?? && sortEnabled>, null, null</#if>
+        );
+
+        assertThat(results).isNotNull();
+
+        results.getContent().forEach(result -> {
+
+            final ${modelName} ${modelName?uncap_first} = ${modelName?uncap_first}s.stream()
+                    .filter(obj -> obj.get${idField?cap_first}().equals(result.get${idField?cap_first}()))
+                    .findFirst()
+                    .orElseThrow();
+
+            verify${strippedModelName?cap_first}(result, ${modelName?uncap_first});
+        });
+        assertThat(this.${serviceField}.nextCursor(results<#if sortEnabled?? && sortEnabled>, null</#if>)).isNull();
+
+        verify(this.${repositoryField}).${findAllMethod}(ScrollPosition.keyset(), Sort.by("${idField}"), Limit.of(pageSize));
+    }
+
+    @Test
+    void getAll_withNextCursor_continuesAfterLastElement() {
+        <#if dataGenerator == "PODAM">
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(List.class, ${modelName}.class);
+        <#else>
+        final List<${modelName}> ${modelName?uncap_first}s = ${generatorFieldName}.${multipleObjectsMethodName}(${modelName}.class)
+                        .size(10)
+                        .create();
+        </#if>
+        final ${modelName} last = ${modelName?uncap_first}s.get(${modelName?uncap_first}s.size() - 1);
+        final Integer pageSize = 10;
+        final ScrollPosition position = ScrollPosition.forward(Map.of("${idField}", last.get${idField?cap_first}()));
+
+        final String cursor = this.${serviceField}.nextCursor(
+                Window.from(${modelName?uncap_first}s, ScrollPosition::offset, true)<#if sortEnabled?? && sortEnabled>, null</#if>
+        );
+
+        when(this.${repositoryField}.${findAllMethod}(position, Sort.by("${idField}"), Limit.of(pageSize)))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        final Window<${modelName}> results = this.${serviceField}.getAll(
+                cursor, pageSize<#if sortEnabled?? && sortEnabled>, null, null</#if>
+        );
+
+        assertThat(cursor).isNotBlank();
+        assertThat(results).isEmpty();
+        verify(this.${repositoryField}).${findAllMethod}(position, Sort.by("${idField}"), Limit.of(pageSize));
+    }
+
+    @Test
+    void getAll_invalidCursor_throwsIllegalArgumentException() {
+
+        assertThatThrownBy(() -> this.${serviceField}.getAll("invalid cursor!", 10<#if sortEnabled?? && sortEnabled>, null, null</#if>))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+    <#if sortEnabled?? && sortEnabled>
+
+    @Test
+    void getAll_withSortByAndSortDirection() {
+        final Integer pageSize = 10;
+        final String sortBy = "${sortAllowedFields[0]}";
+        final String sortDirection = "DESC";
+        final Sort sort = "${idField}".equals(sortBy)
+                ? Sort.by(Direction.DESC, sortBy)
+                : Sort.by(Direction.DESC, sortBy).and(Sort.by(Direction.DESC, "${idField}"));
+
+        when(this.${repositoryField}.${findAllMethod}(ScrollPosition.keyset(), sort, Limit.of(pageSize)))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        final Window<${modelName}> results = this.${serviceField}.getAll(
+                null, pageSize, sortBy, sortDirection
+        );
+
+        assertThat(results).isNotNull();
+        verify(this.${repositoryField}).${findAllMethod}(ScrollPosition.keyset(), sort, Limit.of(pageSize));
+    }
+
+    @Test
+    void getAll_invalidSortBy_throwsIllegalArgumentException() {
+
+        assertThatThrownBy(() -> this.${serviceField}.getAll(null, 10, "invalidSortField", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid sortBy");
+    }
+    </#if><#t>
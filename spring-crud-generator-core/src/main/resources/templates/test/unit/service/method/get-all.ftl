@@ -1,3 +1,11 @@
+<#assign slice = slicePagination?? && slicePagination>
+<#assign pageType = slice?then("Slice", "Page")>
+<#assign pageImplType = slice?then("SliceImpl", "PageImpl")>
+<#if softDeleteEnabled?? && softDeleteEnabled>
+<#assign findAllMethod = "findAllByDeletedFalse">
+<#else>
+<#assign findAllMethod = slice?then("findAllBy", "findAll")>
+</#if>
     @Test
     void getAll() {
         <#if dataGenerator == "PODAM">
@@ -7,21 +15,21 @@
                         .size(10)
                         .create();
         </#if>
-        final Page<${modelName}> page${strippedModelName?cap_first} = new PageImpl<>(${modelName?uncap_first}s);
+        final ${pageType}<${modelName}> page${strippedModelName?cap_first} = new ${pageImplType}<>(${modelName?uncap_first}s);
         final Integer pageNumber = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         final Integer pageSize = ${generatorFieldName}.${singleObjectMethodName}(Integer.class);
         <#if sortEnabled?? && sortEnabled>
         final String sortBy = null;
         final String sortDirection = null;
 
-        when(this.${strippedModelName?uncap_first}Repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize)))
+        when(this.${strippedModelName?uncap_first}Repository.${findAllMethod}(PageRequest.of(pageNumber, pageSize)))
                 .thenReturn(page${strippedModelName?cap_first});
         <#else>
-        when(this.${strippedModelName?uncap_first}Repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize)))
+        when(this.${strippedModelName?uncap_first}Repository.${findAllMethod}(PageRequest.of(pageNumber, pageSize)))
                 .thenReturn(page${strippedModelName?cap_first});
         </#if>
 
-        final Page<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
+        final ${pageType}<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
                 pageNumber, pageSize<#if sortEnabled?? && sortEnabled>, sortBy, sortDirection</#if>
         );
 
@@ -37,8 +45,24 @@
             verify${strippedModelName?cap_first}(result, ${modelName?uncap_first});
         });
 
-        verify(this.${strippedModelName?uncap_first}Repository).<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize));
+        verify(this.${strippedModelName?uncap_first}Repository).${findAllMethod}(PageRequest.of(pageNumber, pageSize));
     }
+    <#if slice>
+    <#assign countMethod = (softDeleteEnabled?? && softDeleteEnabled)?then("countByDeletedFalse", "count")>
+
+    @Test
+    void count() {
+        final long total = ${generatorFieldName}.${singleObjectMethodName}(Long.class);
+
+        when(this.${strippedModelName?uncap_first}Repository.${countMethod}())
+                .thenReturn(total);
+
+        final long result = this.${strippedModelName?uncap_first}Service.count();
+
+        assertThat(result).isEqualTo(total);
+        verify(this.${strippedModelName?uncap_first}Repository).${countMethod}();
+    }
+    </#if>
     <#if sortEnabled?? && sortEnabled>
 
     @Test
@@ -48,17 +72,17 @@
         final String sortBy = "${sortAllowedFields[0]}";
         final String sortDirection = null;
         final Sort sort = Sort.by(Direction.fromString("${sortDefaultDirection}"), sortBy);
-        final Page<${modelName}> page${strippedModelName?cap_first} = new PageImpl<>(List.of());
+        final ${pageType}<${modelName}> page${strippedModelName?cap_first} = new ${pageImplType}<>(List.of());
 
-        when(this.${strippedModelName?uncap_first}Repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize, sort)))
+        when(this.${strippedModelName?uncap_first}Repository.${findAllMethod}(PageRequest.of(pageNumber, pageSize, sort)))
                 .thenReturn(page${strippedModelName?cap_first});
 
-        final Page<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
+        final ${pageType}<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
                 pageNumber, pageSize, sortBy, sortDirection
         );
 
         assertThat(results).isNotNull();
-        verify(this.${strippedModelName?uncap_first}Repository).<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize, sort));
+        verify(this.${strippedModelName?uncap_first}Repository).${findAllMethod}(PageRequest.of(pageNumber, pageSize, sort));
     }
 
     @Test
@@ -68,17 +92,17 @@
         final String sortBy = "${sortAllowedFields[0]}";
         final String sortDirection = "DESC";
         final Sort sort = Sort.by(Direction.fromString(sortDirection), sortBy);
-        final Page<${modelName}> page${strippedModelName?cap_first} = new PageImpl<>(List.of());
+        final ${pageType}<${modelName}> page${strippedModelName?cap_first} = new ${pageImplType}<>(List.of());
 
-        when(this.${strippedModelName?uncap_first}Repository.<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize, sort)))
+        when(this.${strippedModelName?uncap_first}Repository.${findAllMethod}(PageRequest.of(pageNumber, pageSize, sort)))
                 .thenReturn(page${strippedModelName?cap_first});
 
-        final Page<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
+        final ${pageType}<${modelName}> results = this.${strippedModelName?uncap_first}Service.getAll(
                 pageNumber, pageSize, sortBy, sortDirection
         );
 
         assertThat(results).isNotNull();
-        verify(this.${strippedModelName?uncap_first}Repository).<#if softDeleteEnabled?? && softDeleteEnabled>findAllByDeletedFalse<#else>findAll</#if>(PageRequest.of(pageNumber, pageSize, sort));
+        verify(this.${strippedModelName?uncap_first}Repository).${findAllMethod}(PageRequest.of(pageNumber, pageSize, sort));
     }
 
     @Test
@@ -1,6 +1,9 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+<#if usesCacheHelper?? && usesCacheHelper>
+import static org.mockito.ArgumentMatchers.eq;
+</#if>
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,17 +24,27 @@ class ${className} {
     </#if><#t>
     <#if isSpringBoot3>@MockBean<#else>@MockitoBean</#if>
     private ${strippedModelName?cap_first}Repository ${strippedModelName?uncap_first}Repository;
+    <#if usesEntityManager?? && usesEntityManager>
+
+    <#if isSpringBoot3>@MockBean<#else>@MockitoBean</#if>
+    private EntityManager entityManager;
+    </#if>
+    <#if usesCacheHelper?? && usesCacheHelper>
+
+    <#if isSpringBoot3>@MockBean<#else>@MockitoBean</#if>
+    private CacheHelper cacheHelper;
+    </#if>
 
     private ${strippedModelName?cap_first}Service ${strippedModelName?uncap_first}Service;
 
     @AfterEach
     void after() {
-        verifyNoMoreInteractions(this.${strippedModelName?uncap_first}Repository);
+        verifyNoMoreInteractions(this.${strippedModelName?uncap_first}Repository<#if usesEntityManager?? && usesEntityManager>, this.entityManager</#if><#if usesCacheHelper?? && usesCacheHelper>, this.cacheHelper</#if>);
     }
 
     @BeforeEach
     void before() {
-        ${strippedModelName?uncap_first}Service = new ${strippedModelName?cap_first}Service(this.${strippedModelName?uncap_first}Repository);
+        ${strippedModelName?uncap_first}Service = new ${strippedModelName?cap_first}Service(this.${strippedModelName?uncap_first}Repository<#if usesEntityManager?? && usesEntityManager>, this.entityManager</#if><#if usesCacheHelper?? && usesCacheHelper>, this.cacheHelper</#if>);
     }
 
     <#if getByIdMethod?? && getByIdMethod?has_content>${getByIdMethod}</#if>
@@ -41,6 +54,9 @@ class ${className} {
     <#if updateMethod?? && updateMethod?has_content>${updateMethod}</#if>
     <#if deleteMethod?? && deleteMethod?has_content>${deleteMethod}</#if>
     <#if addRelationMethod?? && addRelationMethod?has_content>${addRelationMethod}</#if><#if removeRelationMethod?? && removeRelationMethod?has_content>${removeRelationMethod}</#if><#if getAllByIds?? && getAllByIds?has_content>${getAllByIds}</#if>
+    <#if exportMethod?? && exportMethod?has_content>
+    ${exportMethod}
+    </#if>
 
     private void verify${strippedModelName?cap_first}(final ${modelName} result, final ${modelName} ${modelName?uncap_first}) {
 
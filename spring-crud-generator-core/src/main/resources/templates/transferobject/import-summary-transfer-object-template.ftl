@@ -0,0 +1,11 @@
+import java.util.List;
+
+public record ImportSummaryTO(
+    long received, long imported, long failed, boolean truncated, List<ChunkError> errors
+) {
+
+    public record ChunkError(int chunk, List<String> messages) {
+
+    }
+
+}
@@ -1,7 +1,14 @@
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageTO<T>(
-    int totalPages, long totalElements, int size, int number, List<T> content
+    Integer totalPages, Long totalElements, int size, Integer number, List<T> content, String nextCursor
 ) {
+
+    public static <T> PageTO<T> ofWindow(final int size, final List<T> content, final String nextCursor) {
+        return new PageTO<>(null, null, size, null, content, nextCursor);
+    }
     
 }
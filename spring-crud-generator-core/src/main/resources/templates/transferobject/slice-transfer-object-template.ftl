@@ -0,0 +1,7 @@
+import java.util.List;
+
+public record SliceTO<T>(
+    int size, int number, boolean hasNext, List<T> content
+) {
+
+}
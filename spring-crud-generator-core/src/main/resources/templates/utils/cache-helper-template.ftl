@@ -0,0 +1,301 @@
+<#assign twoLevel = type == "TWO_LEVEL">
+<#assign redisBacked = type == "REDIS" || twoLevel>
+<#if redisBacked>
+import java.nio.ByteBuffer;
+</#if>
+<#if twoLevel>
+import java.time.Duration;
+</#if>
+import java.util.Collection;
+import java.util.HashMap;
+<#if type == "HAZELCAST">
+import java.util.HashSet;
+</#if>
+<#if twoLevel>
+import java.util.LinkedHashMap;
+</#if>
+<#if redisBacked>
+import java.util.List;
+</#if>
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+<#if redisBacked>
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+<#if twoLevel>
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+</#if>
+import org.springframework.data.redis.util.ByteUtils;
+</#if>
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+<#if type == "HAZELCAST">
+
+import com.hazelcast.map.IMap;
+</#if>
+<#if twoLevel>
+
+import ${configurationPackage}.TwoLevelCache;
+</#if>
+
+@Component
+public class CacheHelper {
+
+    private final CacheManager cacheManager;
+    <#if redisBacked>
+    private final RedisConnectionFactory connectionFactory;
+    </#if>
+
+    public CacheHelper(final CacheManager cacheManager<#if redisBacked>, final RedisConnectionFactory connectionFactory</#if>) {
+        this.cacheManager = cacheManager;
+        <#if redisBacked>
+        this.connectionFactory = connectionFactory;
+        </#if>
+    }
+
+    /**
+     * Looks up all given keys in the cache with the given name. Only the values found are returned, keys without a
+     * cached value are left out.
+     <#if type == "CAFFEINE">
+     * <p>
+     * The keys are looked up with a single Caffeine {@code getAllPresent} call.
+     <#elseif type == "HAZELCAST">
+     * <p>
+     * The keys are looked up with a single Hazelcast {@code IMap.getAll} call.
+     <#elseif type == "REDIS">
+     * <p>
+     * The keys are read from Redis with a single {@code MGET}.
+     <#elseif twoLevel>
+     * <p>
+     * The keys are looked up in the local cache first. The local misses are read from Redis with a single
+     * {@code MGET} and stored locally.
+     </#if>
+     *
+     * @param cacheName the cache name
+     * @param keys      the keys to look up
+     * @param type      the value type
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @return the cached values by key
+     */
+    <#if type == "CAFFEINE" || type == "HAZELCAST">
+    @SuppressWarnings("unchecked")
+    </#if>
+    public <K, V> Map<K, V> getAll(final String cacheName, final Collection<K> keys, final Class<V> type) {
+
+        final Cache cache = this.cacheManager.getCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        <#if type == "CAFFEINE">
+        final Map<?, ?> found = cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache
+                ? ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).getAllPresent(keys)
+                : getEach(cache, keys);
+        <#elseif type == "HAZELCAST">
+        final Map<?, ?> found = cache.getNativeCache() instanceof IMap<?, ?> nativeCache
+                ? ((IMap<Object, Object>) nativeCache).getAll(new HashSet<>(keys))
+                : getEach(cache, keys);
+        <#elseif type == "REDIS">
+        final Map<?, ?> found = cache instanceof RedisCache redisCache
+                ? this.getAllFromRedis(redisCache, keys)
+                : getEach(cache, keys);
+        <#elseif twoLevel>
+        final Map<?, ?> found = cache instanceof TwoLevelCache twoLevelCache && twoLevelCache.getRemoteCache() instanceof RedisCache redisCache
+                ? twoLevelCache.getAll(keys, misses -> this.getAllFromRedis(redisCache, misses))
+                : getEach(cache, keys);
+        <#else>
+        final Map<?, ?> found = getEach(cache, keys);
+        </#if>
+
+        final Map<K, V> values = new HashMap<>();
+        keys.forEach(key -> {
+            final Object value = found.get(key);
+            if (type.isInstance(value)) {
+                values.put(key, type.cast(value));
+            }
+        });
+
+        return values;
+    }
+
+    /**
+     * Puts every value into the cache with the given name, under the key computed by the key mapper. Inside a
+     * transaction the values are put once it commits, so a rollback never leaves them in the cache.
+     <#if twoLevel>
+     * <p>
+     * The values are written to Redis in a single pipeline and the other nodes are told to evict all the keys with a
+     * single invalidation message.
+     </#if>
+     *
+     * @param cacheName the cache name
+     * @param values    the values to cache
+     * @param keyMapper computes the cache key of a value
+     * @param <K>       the key type
+     * @param <V>       the value type
+     */
+    public <K, V> void putAll(final String cacheName, final Collection<V> values, final Function<V, K> keyMapper) {
+
+        final Cache cache = this.cacheManager.getCache(cacheName);
+        if (cache == null || values.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    <#if twoLevel>
+                    CacheHelper.this.putEach(cache, values, keyMapper);
+                    <#else>
+                    values.forEach(value -> cache.put(keyMapper.apply(value), value));
+                    </#if>
+                }
+            });
+            return;
+        }
+
+        <#if twoLevel>
+        this.putEach(cache, values, keyMapper);
+        <#else>
+        values.forEach(value -> cache.put(keyMapper.apply(value), value));
+        </#if>
+    }
+    <#if twoLevel>
+
+    /**
+     * Puts the values into the cache. A {@link TwoLevelCache} receives them all at once, so the Redis tier is written
+     * once and a single invalidation message is published for the whole key set.
+     *
+     * @param cache     the cache
+     * @param values    the values to cache
+     * @param keyMapper computes the cache key of a value
+     * @param <K>       the key type
+     * @param <V>       the value type
+     */
+    private <K, V> void putEach(final Cache cache, final Collection<V> values, final Function<V, K> keyMapper) {
+
+        if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+            values.forEach(value -> cache.put(keyMapper.apply(value), value));
+            return;
+        }
+
+        final Map<Object, Object> entries = new LinkedHashMap<>();
+        values.forEach(value -> entries.put(keyMapper.apply(value), value));
+
+        final Cache remoteCache = twoLevelCache.getRemoteCache();
+        twoLevelCache.putAll(entries, remoteCache instanceof RedisCache redisCache
+                ? batch -> this.putAllToRedis(redisCache, batch)
+                : batch -> batch.forEach(remoteCache::put));
+    }
+    </#if>
+    <#if redisBacked>
+
+    /**
+     * Reads the given keys from Redis with a single {@code MGET}, using the key prefix and serializers of the cache.
+     *
+     * @param cache the Redis cache
+     * @param keys  the keys to read
+     * @return the values found, by key
+     */
+    private Map<Object, Object> getAllFromRedis(final RedisCache cache, final Collection<?> keys) {
+
+        final RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        final List<?> keyList = List.copyOf(keys);
+        final byte[][] rawKeys = keyList.stream()
+                .map(key -> redisKey(cache, key))
+                .map(key -> ByteUtils.getBytes(configuration.getKeySerializationPair().write(key)))
+                .toArray(byte[][]::new);
+
+        final List<byte[]> rawValues;
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+
+        final Map<Object, Object> found = new HashMap<>();
+        if (rawValues == null) {
+            return found;
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            final byte[] rawValue = rawValues.get(i);
+            if (rawValue != null) {
+                found.put(keyList.get(i), configuration.getValueSerializationPair().read(ByteBuffer.wrap(rawValue)));
+            }
+        }
+
+        return found;
+    }
+
+    <#if twoLevel>
+
+    /**
+     * Writes the given entries to Redis in a single pipeline, using the key prefix, serializers and time to live of
+     * the cache.
+     *
+     * @param cache   the Redis cache
+     * @param entries the values to write, by key
+     */
+    private void putAllToRedis(final RedisCache cache, final Map<?, ?> entries) {
+
+        final RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> {
+                final byte[] rawKey = ByteUtils.getBytes(configuration.getKeySerializationPair().write(redisKey(cache, key)));
+                final byte[] rawValue = ByteUtils.getBytes(configuration.getValueSerializationPair().write(value));
+                final Duration ttl = configuration.getTtlFunction().getTimeToLive(key, value);
+                final Expiration expiration = ttl == null || ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+                connection.stringCommands().set(rawKey, rawValue, expiration, SetOption.upsert());
+            });
+            connection.closePipeline();
+        }
+    }
+    </#if>
+
+    /**
+     * Computes the Redis key of a cache key the same way {@link RedisCache} does: the key converted to a string,
+     * prefixed with the cache prefix when prefixes are enabled.
+     *
+     * @param cache the Redis cache
+     * @param key   the cache key
+     * @return the Redis key
+     */
+    private static String redisKey(final RedisCache cache, final Object key) {
+
+        final RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        final String convertedKey = configuration.getConversionService().convert(key, String.class);
+
+        return configuration.usePrefix() ? configuration.getKeyPrefixFor(cache.getName()) + convertedKey : convertedKey;
+    }
+    </#if>
+
+    /**
+     * Looks up the given keys one by one. Used for caches without a native multi-get.
+     *
+     * @param cache the cache
+     * @param keys  the keys to look up
+     * @return the values found, by key
+     */
+    private static Map<Object, Object> getEach(final Cache cache, final Collection<?> keys) {
+
+        final Map<Object, Object> found = new HashMap<>();
+        keys.forEach(key -> {
+            final Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        });
+
+        return found;
+    }
+
+}
@@ -0,0 +1,101 @@
+package dev.markozivkovic.springcrudgenerator.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricSnapshot;
+
+class GenerationMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        GenerationMetrics.disable();
+    }
+
+    @Test
+    @DisplayName("record should run the action but not record anything when metrics are disabled")
+    void record_shouldOnlyRunActionWhenDisabled() {
+
+        final AtomicBoolean executed = new AtomicBoolean(false);
+
+        GenerationMetrics.record(MetricCategory.GENERATOR, "entity", () -> executed.set(true));
+        GenerationMetrics.record(MetricCategory.FILE_WRITE, "User.java", 10L, 100L, false);
+
+        assertTrue(executed.get());
+        assertFalse(GenerationMetrics.isEnabled());
+        assertTrue(GenerationMetrics.snapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("record should aggregate measurements by category and name")
+    void record_shouldAggregateMeasurements() {
+
+        GenerationMetrics.enable();
+
+        GenerationMetrics.record(MetricCategory.FILE_WRITE, "User.java", 10L, 100L, false);
+        GenerationMetrics.record(MetricCategory.FILE_WRITE, "User.java", 20L, 100L, true);
+        GenerationMetrics.record(MetricCategory.TEMPLATE, "User.java", 5L, 50L, false);
+
+        final List<MetricSnapshot> snapshot = GenerationMetrics.snapshot();
+
+        assertEquals(2, snapshot.size());
+        assertEquals(new MetricSnapshot(MetricCategory.TEMPLATE, "User.java", 1L, 5L, 50L, 0L, 0L), snapshot.get(0));
+        assertEquals(new MetricSnapshot(MetricCategory.FILE_WRITE, "User.java", 2L, 30L, 200L, 0L, 1L), snapshot.get(1));
+    }
+
+    @Test
+    @DisplayName("snapshot should sort metrics by category and then by total time descending")
+    void snapshot_shouldSortByCategoryAndTotalTime() {
+
+        GenerationMetrics.enable();
+
+        GenerationMetrics.record(MetricCategory.GENERATOR, "fast", 1L, 0L, false);
+        GenerationMetrics.record(MetricCategory.GENERATOR, "slow", 100L, 0L, false);
+        GenerationMetrics.record(MetricCategory.ARTIFACT_GENERATOR, "config", 1L, 0L, false);
+
+        final List<String> names = GenerationMetrics.snapshot().stream()
+                .map(MetricSnapshot::name)
+                .toList();
+
+        assertEquals(List.of("config", "slow", "fast"), names);
+    }
+
+    @Test
+    @DisplayName("record should measure the action and count an invocation when metrics are enabled")
+    void record_shouldMeasureActionWhenEnabled() {
+
+        GenerationMetrics.enable();
+
+        GenerationMetrics.record(MetricCategory.GENERATOR, "entity", () -> {});
+        GenerationMetrics.record(MetricCategory.GENERATOR, "entity", () -> {});
+
+        final List<MetricSnapshot> snapshot = GenerationMetrics.snapshot();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(2L, snapshot.get(0).count());
+        assertTrue(snapshot.get(0).totalNanos() >= 0L);
+    }
+
+    @Test
+    @DisplayName("enable should clear previously recorded metrics")
+    void enable_shouldClearPreviousMetrics() {
+
+        GenerationMetrics.enable();
+        GenerationMetrics.record(MetricCategory.GENERATOR, "entity", 1L, 0L, false);
+
+        GenerationMetrics.enable();
+
+        assertTrue(GenerationMetrics.isEnabled());
+        assertTrue(GenerationMetrics.snapshot().isEmpty());
+    }
+
+}
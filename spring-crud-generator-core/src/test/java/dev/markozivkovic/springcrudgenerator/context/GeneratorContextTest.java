@@ -57,4 +57,17 @@ class GeneratorContextTest {
         assertTrue(GeneratorContext.isGenerated("model"));
         assertFalse(GeneratorContext.isGenerated("repository"));
     }
+
+    @Test
+    @DisplayName("clear: should remove all marked parts")
+    void clear_removesAllMarkedParts() {
+
+        GeneratorContext.markGenerated("model");
+        GeneratorContext.markGenerated("service");
+
+        GeneratorContext.clear();
+
+        assertFalse(GeneratorContext.isGenerated("model"));
+        assertFalse(GeneratorContext.isGenerated("service"));
+    }
 }
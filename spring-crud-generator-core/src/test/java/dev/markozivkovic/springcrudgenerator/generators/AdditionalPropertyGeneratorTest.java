@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -24,9 +26,15 @@ import org.mockito.invocation.InvocationOnMock;
 import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
+import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
 import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ContainerUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
@@ -41,6 +49,7 @@ class AdditionalPropertyGeneratorTest {
         PackageConfiguration pkgConfig;
         ProjectMetadata metadata;
         Map<String, Object> additionalProps;
+        List<ModelDefinition> entities;
         AdditionalPropertyGenerator generator;
     }
 
@@ -50,12 +59,13 @@ class AdditionalPropertyGeneratorTest {
         env.pkgConfig = mock(PackageConfiguration.class);
         env.metadata = mock(ProjectMetadata.class);
         env.additionalProps = new HashMap<>();
+        env.entities = new ArrayList<>();
 
         when(env.config.getAdditionalProperties()).thenReturn(env.additionalProps);
         when(env.config.getOptimisticLocking()).thenReturn(false);
         when(env.metadata.getProjectBaseDir()).thenReturn("/tmp/project");
 
-        env.generator = new AdditionalPropertyGenerator(env.config, env.pkgConfig, env.metadata);
+        env.generator = new AdditionalPropertyGenerator(env.config, env.pkgConfig, env.metadata, env.entities);
         return env;
     }
 
@@ -423,6 +433,166 @@ class AdditionalPropertyGeneratorTest {
         }
     }
 
+    @Test
+    @DisplayName("generate: should generate HibernateBatchingConfig with the largest chunk size when bulk create is chunked")
+    void generate_shouldGenerateHibernateBatchingConfig_whenBulkCreateChunked() {
+
+        final Env env = prepareEnv();
+        env.entities.add(new ModelDefinition().setName("Order")
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(200))));
+        env.entities.add(new ModelDefinition().setName("Product")
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(500))));
+        env.entities.add(new ModelDefinition().setName("User"));
+        when(env.config.getDatabase()).thenReturn(DatabaseType.POSTGRESQL);
+
+        final List<InvocationOnMock> templateInvocations = new ArrayList<>();
+        final List<InvocationOnMock> writerInvocations = new ArrayList<>();
+
+        try (final MockedStatic<ContainerUtils> cont = mockStatic(ContainerUtils.class);
+            final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+            final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+            final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class);
+            final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(
+                    FreeMarkerTemplateProcessorUtils.class, invocation -> {
+                        templateInvocations.add(invocation);
+                        if ("processTemplate".equals(invocation.getMethod().getName())) {
+                            return "TEMPLATE-" + invocation.getArgument(0, String.class);
+                        }
+                        return null;
+                    });
+            final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class, invocation -> {
+                writerInvocations.add(invocation);
+                return null;
+            })) {
+
+            cont.when(() -> ContainerUtils.isEmpty(env.additionalProps)).thenReturn(true);
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_BATCHING_CONFIG))
+                    .thenReturn(false);
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.app");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.app", env.pkgConfig))
+                    .thenReturn("com.example.app.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(env.pkgConfig)).thenReturn("config");
+
+            when(env.config.getSpringBootVersion()).thenReturn("4.0.0");
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("4.0.0")).thenReturn(false);
+
+            env.generator.generate("out");
+
+            final InvocationOnMock batchingTemplate = templateInvocations.stream()
+                    .filter(inv -> "processTemplate".equals(inv.getMethod().getName())
+                            && "configuration/hibernate-batching-configuration.ftl".equals(inv.getArgument(0)))
+                    .findFirst()
+                    .orElseThrow();
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> context = batchingTemplate.getArgument(1, Map.class);
+            assertEquals(500, context.get("batchSize"));
+
+            final boolean wroteBatchingConfig = writerInvocations.stream()
+                    .anyMatch(inv -> "writeToFile".equals(inv.getMethod().getName())
+                            && "config".equals(inv.getArgument(1))
+                            && "HibernateBatchingConfig.java".equals(inv.getArgument(2)));
+            assertTrue(wroteBatchingConfig, "HibernateBatchingConfig.java should be written");
+
+            genCtx.verify(() -> GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_BATCHING_CONFIG));
+            genCtx.verify(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.ADDITIONAL_CONFIG), never());
+        }
+    }
+
+    @Test
+    @DisplayName("generate: should NOT generate HibernateBatchingConfig for MongoDB")
+    void generate_shouldNotGenerateHibernateBatchingConfig_whenMongo() {
+
+        final Env env = prepareEnv();
+        env.entities.add(new ModelDefinition().setName("Order")
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(200))));
+        when(env.config.getDatabase()).thenReturn(DatabaseType.MONGODB);
+
+        try (final MockedStatic<ContainerUtils> cont = mockStatic(ContainerUtils.class);
+                final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+                final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class)) {
+
+            cont.when(() -> ContainerUtils.isEmpty(env.additionalProps)).thenReturn(true);
+
+            env.generator.generate("out");
+
+            genCtx.verifyNoInteractions();
+            writer.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("generate: should generate HibernateQueryConfig when a collection relation is present")
+    void generate_shouldGenerateHibernateQueryConfig_whenCollectionRelationPresent() {
+
+        final Env env = prepareEnv();
+        env.entities.add(new ModelDefinition().setName("Order")
+                .setFields(List.of(new FieldDefinition().setName("products").setType("Product")
+                        .setRelation(new RelationDefinition().setType("OneToMany")))));
+        when(env.config.getDatabase()).thenReturn(DatabaseType.MSSQL);
+
+        final List<InvocationOnMock> writerInvocations = new ArrayList<>();
+
+        try (final MockedStatic<ContainerUtils> cont = mockStatic(ContainerUtils.class);
+            final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+            final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+            final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class);
+            final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+            final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class, invocation -> {
+                writerInvocations.add(invocation);
+                return null;
+            })) {
+
+            cont.when(() -> ContainerUtils.isEmpty(env.additionalProps)).thenReturn(true);
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_QUERY_CONFIG))
+                    .thenReturn(false);
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.app");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.app", env.pkgConfig))
+                    .thenReturn("com.example.app.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(env.pkgConfig)).thenReturn("config");
+
+            when(env.config.getSpringBootVersion()).thenReturn("3.5.0");
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.5.0")).thenReturn(true);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/hibernate-query-configuration.ftl"), anyMap())).thenReturn("QUERY_CONFIG");
+
+            env.generator.generate("out");
+
+            final boolean wroteQueryConfig = writerInvocations.stream()
+                    .anyMatch(inv -> "writeToFile".equals(inv.getMethod().getName())
+                            && "config".equals(inv.getArgument(1))
+                            && "HibernateQueryConfig.java".equals(inv.getArgument(2))
+                            && inv.getArgument(3, String.class).contains("QUERY_CONFIG"));
+            assertTrue(wroteQueryConfig, "HibernateQueryConfig.java should be written");
+
+            genCtx.verify(() -> GeneratorContext.markGenerated(GeneratorConstants.GeneratorContextKeys.HIBERNATE_QUERY_CONFIG));
+        }
+    }
+
+    @Test
+    @DisplayName("generate: should NOT generate HibernateQueryConfig when there are no ID list lookups")
+    void generate_shouldNotGenerateHibernateQueryConfig_whenNoIdListLookups() {
+
+        final Env env = prepareEnv();
+        env.entities.add(new ModelDefinition().setName("Order")
+                .setFields(List.of(new FieldDefinition().setName("product").setType("Product")
+                        .setRelation(new RelationDefinition().setType("ManyToOne")))));
+        when(env.config.getDatabase()).thenReturn(DatabaseType.POSTGRESQL);
+
+        try (final MockedStatic<ContainerUtils> cont = mockStatic(ContainerUtils.class);
+                final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+                final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class)) {
+
+            cont.when(() -> ContainerUtils.isEmpty(env.additionalProps)).thenReturn(true);
+
+            env.generator.generate("out");
+
+            genCtx.verifyNoInteractions();
+            writer.verifyNoInteractions();
+        }
+    }
+
     @Test
     @DisplayName("generate: should generate JacksonNullExclusionConfig when rest.response.excludeNull is true")
     void generate_shouldGenerateJacksonNullExclusionConfig_whenExcludeNullEnabled() {
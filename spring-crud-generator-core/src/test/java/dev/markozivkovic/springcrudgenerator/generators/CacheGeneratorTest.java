@@ -1,5 +1,7 @@
 package dev.markozivkovic.springcrudgenerator.generators;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -11,6 +13,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,10 +25,16 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.imports.ConfigurationImports;
+import dev.markozivkovic.springcrudgenerator.imports.ModelImports;
+import dev.markozivkovic.springcrudgenerator.models.CacheDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IdDefinition.IdStrategyEnum;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
@@ -553,4 +562,417 @@ class CacheGeneratorTest {
             writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("HibernateLazyNullModule.java"), anyString()), never());
         }
     }
+
+    @Test
+    void generate_shouldGenerateTwoLevelCacheArtifacts_withEntityLocalCacheOverrides() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.TWO_LEVEL);
+        when(cc.cacheConfig.getMaxSize()).thenReturn(200L);
+        when(cc.cacheConfig.getExpiration()).thenReturn(30);
+        when(cc.crudConfig.getDatabase()).thenReturn(DatabaseType.MONGODB);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final ModelDefinition product = model("Product", "products");
+        when(product.getCache()).thenReturn(new CacheDefinition().setLocalExpiration(5));
+        final ModelDefinition user = model("User", "users");
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(product, user));
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            imports.when(() -> ConfigurationImports.getModelImports(eq("com.example.demo"), eq(packageConfiguration), eq(List.of("Product", "User"))))
+                    .thenReturn("// IMPORTS");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(anyString(), anyMap()))
+                    .thenReturn("// TEMPLATE");
+
+            generator.generate("out");
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/cache-configuration.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return map.get("type") == CacheTypeEnum.TWO_LEVEL
+                                && Objects.equals(map.get("localMaxSize"), 200L)
+                                && Objects.equals(map.get("localExpiration"), CacheDefinition.DEFAULT_LOCAL_EXPIRATION)
+                                && Objects.equals(map.get("localCaches"), List.of(
+                                        Map.of("name", "product", "maxSize", 200L, "expiration", 5)
+                                ));
+                    })
+            ));
+
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("CacheConfiguration.java"), anyString()));
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("TwoLevelCache.java"), anyString()));
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("utils/cache-helper-template.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return map.get("type") == CacheTypeEnum.TWO_LEVEL
+                                && Objects.equals(map.get("configurationPackage"), "com.example.demo.config");
+                    })
+            ));
+
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("TwoLevelCacheManager.java"), anyString()));
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("HazelcastJacksonGlobalSerializer.java"), anyString()), never());
+        }
+    }
+
+    @Test
+    void generate_shouldBatchTwoLevelBulkPutsIntoOneRedisWriteAndOneInvalidationMessage() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.TWO_LEVEL);
+        when(cc.cacheConfig.getMaxSize()).thenReturn(200L);
+        when(cc.cacheConfig.getExpiration()).thenReturn(30);
+        when(cc.crudConfig.getDatabase()).thenReturn(DatabaseType.MONGODB);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final ModelDefinition product = model("Product", "products");
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(product));
+        final Map<String, String> written = new HashMap<>();
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            imports.when(() -> ConfigurationImports.getModelImports(eq("com.example.demo"), eq(packageConfiguration), eq(List.of("Product"))))
+                    .thenReturn("");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            writer.when(() -> FileWriterUtils.writeToFile(anyString(), any(), anyString(), anyString()))
+                    .thenAnswer(inv -> written.put(inv.getArgument(2), inv.getArgument(3)));
+
+            generator.generate("out");
+        }
+
+        final String cacheHelper = written.get(GeneratorConstants.CACHE_HELPER);
+        assertTrue(cacheHelper.contains("twoLevelCache.putAll(entries, remoteCache instanceof RedisCache redisCache"));
+        assertTrue(cacheHelper.contains("connection.openPipeline();"));
+        assertFalse(cacheHelper.contains("values.forEach(value -> cache.put(keyMapper.apply(value), value));\n    }"));
+
+        final String twoLevelCache = written.get("TwoLevelCache.java");
+        assertTrue(twoLevelCache.contains("public void putAll(final Map<?, ?> entries, final Consumer<Map<?, ?>> remoteWrite)"));
+        assertTrue(twoLevelCache.contains("this.cacheManager.publishEvictions(this.name, entries.keySet()"));
+
+        final String cacheManager = written.get("TwoLevelCacheManager.java");
+        assertTrue(cacheManager.contains("void publishEvictions(final String cacheName, final List<String> keys)"));
+        assertTrue(cacheManager.contains("parts[2].split(KEY_SEPARATOR)"));
+    }
+
+    @Test
+    void generate_shouldAddRefreshingCaches_forCaffeineWithStampedeProtection() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.CAFFEINE);
+        when(cc.cacheConfig.getExpiration()).thenReturn(10);
+        when(cc.cacheConfig.getStampedeProtection()).thenReturn(true);
+        when(cc.crudConfig.getDatabase()).thenReturn(DatabaseType.MONGODB);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final ModelDefinition product = model("ProductModel", "products");
+        when(product.getFields()).thenReturn(List.of(idField("String")));
+        when(product.getSoftDelete()).thenReturn(true);
+        final ModelDefinition user = model("User", "users");
+        when(user.getFields()).thenReturn(List.of(idField("UUID")));
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(product, user));
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            imports.when(() -> ConfigurationImports.getServiceImports(
+                    eq("com.example.demo"), eq(packageConfiguration), eq(List.of("ProductService", "UserService"))
+            )).thenReturn("// SERVICE_IMPORTS");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(anyString(), anyMap()))
+                    .thenReturn("// TEMPLATE");
+
+            generator.generate("out");
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/cache-configuration.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return Objects.equals(map.get("stampedeProtection"), true)
+                                && Objects.equals(map.get("serviceImports"), "// SERVICE_IMPORTS")
+                                && Objects.equals(map.get("readOnlyTransaction"), false)
+                                && Objects.equals(map.get("importUuid"), true)
+                                && Objects.equals(map.get("refreshingCaches"), List.of(
+                                        Map.of("name", "productModel", "service", "ProductService", "idType", "String"),
+                                        Map.of("name", "user", "service", "UserService", "idType", "UUID")
+                                ));
+                    })
+            ));
+
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("HazelcastJitteredCache.java"), anyString()), never());
+        }
+    }
+
+    @Test
+    void generate_shouldRefreshCaffeineEntriesThroughServiceInReadOnlyTransaction_forSqlDatabase() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.CAFFEINE);
+        when(cc.cacheConfig.getExpiration()).thenReturn(10);
+        when(cc.cacheConfig.getStampedeProtection()).thenReturn(true);
+        when(cc.crudConfig.getDatabase()).thenReturn(DatabaseType.POSTGRESQL);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final ModelDefinition product = model("ProductEntity", "products");
+        when(product.getFields()).thenReturn(List.of(idField("Long")));
+        when(product.getSoftDelete()).thenReturn(true);
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(product));
+        final Map<String, String> written = new HashMap<>();
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            imports.when(() -> ConfigurationImports.getModelImports(eq("com.example.demo"), eq(packageConfiguration), eq(List.of("ProductEntity"))))
+                    .thenReturn("");
+            imports.when(() -> ConfigurationImports.getServiceImports(eq("com.example.demo"), eq(packageConfiguration), eq(List.of("ProductService"))))
+                    .thenReturn("import com.example.demo.service.ProductService;\n");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            writer.when(() -> FileWriterUtils.writeToFile(anyString(), any(), anyString(), anyString()))
+                    .thenAnswer(inv -> written.put(inv.getArgument(2), inv.getArgument(3)));
+
+            generator.generate("out");
+        }
+
+        final String cacheConfiguration = written.get("CacheConfiguration.java");
+        assertTrue(cacheConfiguration.contains("import org.springframework.transaction.support.TransactionTemplate;"));
+        assertTrue(cacheConfiguration.contains("final PlatformTransactionManager transactionManager"));
+        assertTrue(cacheConfiguration.contains("readOnlyTransaction.setReadOnly(true);"));
+        assertTrue(cacheConfiguration.contains(
+                "readOnlyTransaction.execute(status -> productService.getObject().loadById((Long) key))"
+        ));
+        assertFalse(cacheConfiguration.contains("findById"));
+    }
+
+    @Test
+    void generate_shouldGenerateHazelcastJitteredCache_forHazelcastWithStampedeProtection() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.HAZELCAST);
+        when(cc.cacheConfig.getExpiration()).thenReturn(10);
+        when(cc.cacheConfig.getStampedeProtection()).thenReturn(true);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(model("Product", "products")));
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(anyString(), anyMap()))
+                    .thenReturn("// TEMPLATE");
+
+            generator.generate("out");
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/cache-configuration.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return Objects.equals(map.get("stampedeProtection"), true)
+                                && !map.containsKey("refreshingCaches");
+                    })
+            ));
+
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("HazelcastJitteredCache.java"), anyString()));
+            imports.verify(() -> ConfigurationImports.getServiceImports(anyString(), any(), any()), never());
+        }
+    }
+
+    @Test
+    void generate_shouldGenerateCompactSerializers_forHazelcastWithCompactSerialization() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.HAZELCAST);
+        when(cc.cacheConfig.getSerialization()).thenReturn(CacheSerializationEnum.COMPACT);
+        when(cc.cacheConfig.getSchemaVersion()).thenReturn(3);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getDatabase()).thenReturn(DatabaseType.POSTGRESQL);
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final ModelDefinition product = new ModelDefinition()
+                .setName("Product")
+                .setStorageName("products")
+                .setFields(List.of(idField("Long")));
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(product));
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<ModelImports> modelImports = mockStatic(ModelImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            imports.when(() -> ConfigurationImports.getModelImports(anyString(), any(), any())).thenReturn("");
+            modelImports.when(() -> ModelImports.computeEnumsAndHelperEntitiesImport(any(), anyString(), any())).thenReturn("");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(anyString(), anyMap()))
+                    .thenReturn("// TEMPLATE");
+
+            generator.generate("out");
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/cache-configuration.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return Objects.equals(map.get("serialization"), "COMPACT")
+                                && Objects.equals(map.get("keyPrefix"), "compact-v3:")
+                                && Objects.equals(map.get("compactSerializers"), List.of(
+                                        Map.of("name", "ProductCompactSerializer", "usesObjectMapper", false)
+                                ));
+                    })
+            ));
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/hazelcast-compact-serializer.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return Objects.equals(map.get(TemplateContextConstants.CLASS_NAME), "Product")
+                                && Objects.equals(map.get("schemaVersion"), 3);
+                    })
+            ));
+
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("ProductCompactSerializer.java"), anyString()));
+            writer.verify(() -> FileWriterUtils.writeToFile(eq("out"), eq("config"), eq("HazelcastJacksonGlobalSerializer.java"), anyString()));
+        }
+    }
+
+    @Test
+    void generate_shouldUseSmileMapperAndVersionedKeyPrefix_forRedisWithSmileSerialization() {
+
+        final CrudAndCache cc = prepareCrudWithCache();
+        when(cc.cacheConfig.getEnabled()).thenReturn(true);
+        when(cc.cacheConfig.getType()).thenReturn(CacheTypeEnum.REDIS);
+        when(cc.cacheConfig.getSerialization()).thenReturn(CacheSerializationEnum.SMILE);
+        when(cc.cacheConfig.getSchemaVersion()).thenReturn(null);
+        when(cc.crudConfig.getSpringBootVersion()).thenReturn("3.2.0");
+        when(cc.crudConfig.getAdditionalProperties()).thenReturn(Collections.emptyMap());
+
+        final PackageConfiguration packageConfiguration = mock(PackageConfiguration.class);
+        final CacheGenerator generator = new CacheGenerator(cc.crudConfig, packageConfiguration, List.of(model("Product", "products")));
+
+        try (final MockedStatic<GeneratorContext> genCtx = mockStatic(GeneratorContext.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ConfigurationImports> imports = mockStatic(ConfigurationImports.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<SpringBootVersionUtils> sbv = mockStatic(SpringBootVersionUtils.class)) {
+
+            genCtx.when(() -> GeneratorContext.isGenerated(GeneratorConstants.GeneratorContextKeys.CACHE_CONFIGURATION)).thenReturn(false);
+            sbv.when(() -> SpringBootVersionUtils.isSpringBoot3("3.2.0")).thenReturn(true);
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.demo");
+            pkg.when(() -> PackageUtils.computeConfigurationPackage("com.example.demo", packageConfiguration)).thenReturn("com.example.demo.config");
+            pkg.when(() -> PackageUtils.computeConfigurationSubPackage(packageConfiguration)).thenReturn("config");
+            addProps.when(() -> AdditionalPropertiesUtils.shouldExcludeNullValuesInRestResponse(any())).thenReturn(false);
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(any())).thenReturn(false);
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(anyString(), anyMap()))
+                    .thenReturn("// TEMPLATE");
+
+            generator.generate("out");
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("configuration/cache-configuration.ftl"),
+                    argThat(ctx -> {
+                        final Map<String, Object> map = (Map<String, Object>) ctx;
+                        return Objects.equals(map.get("serialization"), "SMILE")
+                                && Objects.equals(map.get("keyPrefix"), "smile-v1:")
+                                && Objects.equals(map.get("compactSerializers"), List.of());
+                    })
+            ));
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("configuration/hazelcast-compact-serializer.ftl"), anyMap()), never());
+        }
+    }
+
+    private static FieldDefinition idField(final String type) {
+        final FieldDefinition id = new FieldDefinition();
+        id.setName("id");
+        id.setType(type);
+        id.setId(new IdDefinition().setStrategy(IdStrategyEnum.IDENTITY));
+        return id;
+    }
 }
@@ -20,7 +20,10 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.imports.RestControllerImports;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -434,5 +437,110 @@ class RestControllerGeneratorTest {
 
         final Map<String, Object> ctx = controllerTemplateContexts.get(0);
         assertEquals("CREATE_BULK_ENDPOINT", ctx.get("createBulkResource"));
+        assertNull(ctx.get("importResources"));
+        assertNull(ctx.get(TemplateContextConstants.BULK_CREATE_CHUNK_SIZE));
+    }
+
+    @Test
+    void generate_shouldGenerateImportEndpointWhenBulkCreateStreaming() {
+
+        final CrudConfiguration cfg = mock(CrudConfiguration.class);
+        when(cfg.getOpenApi()).thenReturn(null);
+
+        final PackageConfiguration pkgCfg = mock(PackageConfiguration.class);
+        final FieldDefinition idField = mock(FieldDefinition.class);
+        final ModelDefinition model = newModel("UserEntity", List.of(idField));
+        when(model.isBulkCreateEnabled()).thenReturn(true);
+        when(model.isBulkCreateStreaming()).thenReturn(true);
+        when(model.getBulk()).thenReturn(new BulkDefinition().setCreate(new BulkCreateDefinition().setEnabled(true).setStreaming(true).setChunkSize(500)));
+        final List<ModelDefinition> allEntities = List.of(model);
+        final RestControllerGenerator generator = new RestControllerGenerator(cfg, allEntities, pkgCfg);
+
+        final String outputDir = "out";
+        final List<Map<String, Object>> controllerTemplateContexts = new ArrayList<>();
+
+        try (final MockedStatic<FieldUtils> fieldUtils = mockStatic(FieldUtils.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ModelNameUtils> nameUtils = mockStatic(ModelNameUtils.class);
+             final MockedStatic<RestControllerImports> imports = mockStatic(RestControllerImports.class);
+             final MockedStatic<RestControllerTemplateContext> controllerCtx = mockStatic(RestControllerTemplateContext.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class);
+             final MockedStatic<AdditionalPropertiesUtils> addProps = mockStatic(AdditionalPropertiesUtils.class)) {
+
+            fieldUtils.when(() -> FieldUtils.isAnyFieldId(model.getFields()))
+                    .thenReturn(true);
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir(outputDir))
+                    .thenReturn("com.example.app");
+            pkg.when(() -> PackageUtils.computeControllerPackage("com.example.app", pkgCfg))
+                    .thenReturn("com.example.app.web");
+            pkg.when(() -> PackageUtils.computeControllerSubPackage(pkgCfg))
+                    .thenReturn("controller/rest");
+
+            nameUtils.when(() -> ModelNameUtils.stripSuffix("UserEntity"))
+                    .thenReturn("User");
+
+            imports.when(() -> RestControllerImports.computeControllerBaseImports(model, allEntities))
+                    .thenReturn("import BASE;\n");
+            imports.when(() -> RestControllerImports.computeControllerProjectImports(
+                    model, outputDir, false, pkgCfg))
+                    .thenReturn("import PROJECT;\n");
+
+            addProps.when(() -> AdditionalPropertiesUtils.resolveBasePath(cfg))
+                    .thenReturn("/api");
+            addProps.when(() -> AdditionalPropertiesUtils.isOpenInViewEnabled(anyMap()))
+                    .thenReturn(true);
+
+            controllerCtx.when(() -> RestControllerTemplateContext.computeControllerClassContext(model))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeCreateEndpointContext(model, allEntities))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeGetByIdEndpointContext(model))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeGetAllEndpointContext(model))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeUpdateEndpointContext(model, false))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeDeleteEndpointContext(model))
+                    .thenReturn(new HashMap<>());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeAddResourceRelationEndpointContext(model, allEntities))
+                    .thenReturn(Collections.emptyMap());
+            controllerCtx.when(() -> RestControllerTemplateContext.computeRemoveResourceRelationEndpointContext(model, allEntities))
+                    .thenReturn(Collections.emptyMap());
+
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/create-resource.ftl"), anyMap()))
+                    .thenReturn("CREATE_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/create-bulk-resource.ftl"), anyMap()))
+                    .thenReturn("CREATE_BULK_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/import-resources.ftl"), anyMap()))
+                    .thenReturn("IMPORT_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/get-resource.ftl"), anyMap()))
+                    .thenReturn("GET_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/get-all-resources.ftl"), anyMap()))
+                    .thenReturn("GET_ALL_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/update-resource.ftl"), anyMap()))
+                    .thenReturn("UPDATE_ENDPOINT");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/endpoint/delete-resource.ftl"), anyMap()))
+                    .thenReturn("DELETE_ENDPOINT");
+
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(eq("controller/controller-template.ftl"), anyMap()))
+                    .thenAnswer(inv -> {
+                        final Map<String, Object> ctx = inv.getArgument(1);
+                        controllerTemplateContexts.add(ctx);
+                        return "CONTROLLER_CLASS";
+                    });
+
+            generator.generate(model, outputDir);
+
+            tpl.verify(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("controller/endpoint/import-resources.ftl"), anyMap()
+            ));
+        }
+
+        final Map<String, Object> ctx = controllerTemplateContexts.get(0);
+        assertEquals("IMPORT_ENDPOINT", ctx.get("importResources"));
+        assertEquals(true, ctx.get(TemplateContextConstants.BULK_CREATE_STREAMING));
+        assertEquals(500, ctx.get(TemplateContextConstants.BULK_CREATE_CHUNK_SIZE));
     }
 }
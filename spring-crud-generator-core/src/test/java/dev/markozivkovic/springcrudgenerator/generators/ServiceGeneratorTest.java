@@ -1,8 +1,10 @@
 package dev.markozivkovic.springcrudgenerator.generators;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -21,14 +23,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.ServiceImports;
 import dev.markozivkovic.springcrudgenerator.imports.ServiceImports.ServiceImportScope;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
 import dev.markozivkovic.springcrudgenerator.templates.ServiceTemplateContext;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
@@ -125,12 +133,12 @@ class ServiceGeneratorTest {
             pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg))
                     .thenReturn("service");
 
-            svcImports.when(() -> ServiceImports.getBaseImport(model, false))
+            svcImports.when(() -> ServiceImports.getBaseImport(model, false, false))
                     .thenReturn("//BASE_IMPORTS\n");
-            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false))
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false))
                     .thenReturn("//JPA_BASE_IMPORTS\n");
             svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg)))
+                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg), eq(false)))
                     .thenReturn("//MODELS_IMPORTS\n");
 
             final Map<String, Object> getByIdCtx = new HashMap<>();
@@ -148,7 +156,7 @@ class ServiceGeneratorTest {
                     .thenReturn(Collections.emptyMap());
             svcCtx.when(() -> ServiceTemplateContext.createRemoveRelationMethodContext(model, allEntities))
                     .thenReturn(Collections.emptyMap());
-            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(model))
+            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(eq(model), anyInt()))
                     .thenReturn(new HashMap<>());
 
             tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
@@ -250,12 +258,12 @@ class ServiceGeneratorTest {
             pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg))
                     .thenReturn("service");
 
-            svcImports.when(() -> ServiceImports.getBaseImport(model, false))
+            svcImports.when(() -> ServiceImports.getBaseImport(model, false, false))
                     .thenReturn("//BASE_IMPORTS\n");
-            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(true, false))
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(true, false, PaginationTypeEnum.OFFSET, false, false))
                     .thenReturn("//JPA_BASE_IMPORTS_CACHE\n");
             svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg)))
+                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg), eq(false)))
                     .thenReturn("//MODELS_IMPORTS\n");
 
             svcCtx.when(() -> ServiceTemplateContext.createAddRelationMethodContext(model))
@@ -272,7 +280,7 @@ class ServiceGeneratorTest {
                     .thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.computeCreateContext(model))
                     .thenReturn(new HashMap<>());
-            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(model))
+            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(eq(model), anyInt()))
                     .thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.createServiceClassContext(model))
                     .thenReturn(new HashMap<>());
@@ -365,10 +373,10 @@ class ServiceGeneratorTest {
             pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.app");
             pkg.when(() -> PackageUtils.computeServicePackage("com.example.app", pkgCfg)).thenReturn("com.example.app.service");
             pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg)).thenReturn("service");
-            svcImports.when(() -> ServiceImports.getBaseImport(model, false)).thenReturn("");
-            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false)).thenReturn("");
+            svcImports.when(() -> ServiceImports.getBaseImport(model, false, false)).thenReturn("");
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false)).thenReturn("");
             svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq("out"), eq(ServiceImports.ServiceImportScope.SERVICE), eq(pkgCfg))).thenReturn("");
+                    eq(model), eq("out"), eq(ServiceImports.ServiceImportScope.SERVICE), eq(pkgCfg), eq(false))).thenReturn("");
 
             svcCtx.when(() -> ServiceTemplateContext.computeGetByIdContext(model)).thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.computeDeleteByIdContext(model)).thenReturn(new HashMap<>());
@@ -429,10 +437,10 @@ class ServiceGeneratorTest {
             pkg.when(() -> PackageUtils.getPackagePathFromOutputDir("out")).thenReturn("com.example.app");
             pkg.when(() -> PackageUtils.computeServicePackage("com.example.app", pkgCfg)).thenReturn("com.example.app.service");
             pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg)).thenReturn("service");
-            svcImports.when(() -> ServiceImports.getBaseImport(model, false)).thenReturn("");
-            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false)).thenReturn("");
+            svcImports.when(() -> ServiceImports.getBaseImport(model, false, false)).thenReturn("");
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false)).thenReturn("");
             svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq("out"), eq(ServiceImports.ServiceImportScope.SERVICE), eq(pkgCfg))).thenReturn("");
+                    eq(model), eq("out"), eq(ServiceImports.ServiceImportScope.SERVICE), eq(pkgCfg), eq(false))).thenReturn("");
 
             svcCtx.when(() -> ServiceTemplateContext.computeGetByIdContext(model)).thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.computeDeleteByIdContext(model)).thenReturn(new HashMap<>());
@@ -501,12 +509,12 @@ class ServiceGeneratorTest {
             pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg))
                     .thenReturn("service");
 
-            svcImports.when(() -> ServiceImports.getBaseImport(model, true))
+            svcImports.when(() -> ServiceImports.getBaseImport(model, true, false))
                     .thenReturn("//BASE_IMPORTS\n");
-            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false))
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false))
                     .thenReturn("//JPA_BASE_IMPORTS\n");
             svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg)))
+                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg), eq(false)))
                     .thenReturn("//MODELS_IMPORTS\n");
 
             svcCtx.when(() -> ServiceTemplateContext.computeCreateContext(model)).thenReturn(new HashMap<>());
@@ -517,7 +525,7 @@ class ServiceGeneratorTest {
             svcCtx.when(() -> ServiceTemplateContext.computeDeleteByIdContext(model)).thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.createAddRelationMethodContext(model)).thenReturn(Collections.emptyMap());
             svcCtx.when(() -> ServiceTemplateContext.createRemoveRelationMethodContext(model, allEntities)).thenReturn(Collections.emptyMap());
-            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(eq(model), anyInt())).thenReturn(new HashMap<>());
             svcCtx.when(() -> ServiceTemplateContext.createServiceClassContext(model)).thenReturn(new HashMap<>());
 
             tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
@@ -548,4 +556,175 @@ class ServiceGeneratorTest {
         assertNotNull(serviceClassCtx);
         assertEquals("CREATE_BULK_METHOD", serviceClassCtx.get("createBulkMethod"));
     }
+
+    @Test
+    void generate_shouldGenerateExportMethodWithEntityManagerWhenExportEnabled() {
+
+        final CrudConfiguration cfg = mock(CrudConfiguration.class);
+        when(cfg.getCache()).thenReturn(null);
+
+        final PackageConfiguration pkgCfg = mock(PackageConfiguration.class);
+        final FieldDefinition idField = mock(FieldDefinition.class);
+        final ModelDefinition model = newModel("ProductEntity", List.of(idField));
+        when(model.isExportEnabled()).thenReturn(true);
+        final List<ModelDefinition> allEntities = List.of(model);
+        final ServiceGenerator generator = new ServiceGenerator(cfg, allEntities, pkgCfg);
+
+        final String outputDir = "out";
+        final AtomicReference<Map<String, Object>> serviceClassContextRef = new AtomicReference<>();
+
+        try (final MockedStatic<FieldUtils> fieldUtils = mockStatic(FieldUtils.class);
+             final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class);
+             final MockedStatic<ModelNameUtils> nameUtils = mockStatic(ModelNameUtils.class);
+             final MockedStatic<ServiceImports> svcImports = mockStatic(ServiceImports.class);
+             final MockedStatic<ServiceTemplateContext> svcCtx = mockStatic(ServiceTemplateContext.class);
+             final MockedStatic<FreeMarkerTemplateProcessorUtils> tpl = mockStatic(FreeMarkerTemplateProcessorUtils.class);
+             final MockedStatic<FileWriterUtils> writer = mockStatic(FileWriterUtils.class)) {
+
+            fieldUtils.when(() -> FieldUtils.isAnyFieldId(model.getFields()))
+                    .thenReturn(true);
+            fieldUtils.when(() -> FieldUtils.hasCollectionRelation(model, allEntities))
+                    .thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.hasRelation(model, allEntities))
+                    .thenReturn(false);
+
+            nameUtils.when(() -> ModelNameUtils.stripSuffix("ProductEntity"))
+                    .thenReturn("Product");
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir(outputDir))
+                    .thenReturn("com.example.app");
+            pkg.when(() -> PackageUtils.computeServicePackage("com.example.app", pkgCfg))
+                    .thenReturn("com.example.app.service");
+            pkg.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg))
+                    .thenReturn("service");
+
+            svcImports.when(() -> ServiceImports.getBaseImport(model, false, false))
+                    .thenReturn("//BASE_IMPORTS\n");
+            svcImports.when(() -> ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, true, true))
+                    .thenReturn("//JPA_BASE_IMPORTS\n");
+            svcImports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
+                    eq(model), eq(outputDir), eq(ServiceImportScope.SERVICE), eq(pkgCfg), eq(false)))
+                    .thenReturn("//MODELS_IMPORTS\n");
+
+            svcCtx.when(() -> ServiceTemplateContext.computeCreateContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.computeExportContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.computeGetAllContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.computeGetByIdContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.computeUpdateByIdContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.computeDeleteByIdContext(model)).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.createAddRelationMethodContext(model)).thenReturn(Collections.emptyMap());
+            svcCtx.when(() -> ServiceTemplateContext.createRemoveRelationMethodContext(model, allEntities)).thenReturn(Collections.emptyMap());
+            svcCtx.when(() -> ServiceTemplateContext.createGetAllByIdsMethodContext(eq(model), anyInt())).thenReturn(new HashMap<>());
+            svcCtx.when(() -> ServiceTemplateContext.createServiceClassContext(model)).thenReturn(new HashMap<>());
+
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/get-by-id.ftl"), anyMap())).thenReturn("GET_BY_ID_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/get-all.ftl"), anyMap())).thenReturn("GET_ALL_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/create.ftl"), anyMap())).thenReturn("CREATE_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/export.ftl"), anyMap())).thenReturn("EXPORT_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/update-by-id.ftl"), anyMap())).thenReturn("UPDATE_BY_ID_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/method/delete-by-id.ftl"), anyMap())).thenReturn("DELETE_BY_ID_METHOD");
+            tpl.when(() -> FreeMarkerTemplateProcessorUtils.processTemplate(
+                    eq("service/service-class-template.ftl"), anyMap()))
+                    .thenAnswer(inv -> {
+                        @SuppressWarnings("unchecked")
+                        final Map<String, Object> ctx = inv.getArgument(1, Map.class);
+                        serviceClassContextRef.set(ctx);
+                        return "SERVICE_CLASS_TEMPLATE";
+                    });
+
+            generator.generate(model, outputDir);
+        }
+
+        final Map<String, Object> serviceClassCtx = serviceClassContextRef.get();
+        assertNotNull(serviceClassCtx);
+        assertEquals("EXPORT_METHOD", serviceClassCtx.get("exportMethod"));
+        assertEquals(true, serviceClassCtx.get(TemplateContextConstants.USES_ENTITY_MANAGER));
+    }
+
+    private ModelDefinition newChunkedBulkCreateModel(final RelationDefinition categoryRelation) {
+
+        return new ModelDefinition()
+                .setName("ProductEntity")
+                .setStorageName("product_table")
+                .setFields(List.of(
+                        new FieldDefinition().setName("id").setType("Long"),
+                        new FieldDefinition().setName("category").setType("CategoryEntity").setRelation(categoryRelation)
+                ))
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(100)));
+    }
+
+    @Test
+    void generateCreateBulkMethod_shouldFlushWithoutDetachingChunksWhenRelationCascades() {
+
+        final CrudConfiguration cfg = new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL);
+        final ModelDefinition model = this.newChunkedBulkCreateModel(
+                new RelationDefinition().setType("ManyToOne").setCascade("PERSIST")
+        );
+        final ServiceGenerator generator = new ServiceGenerator(cfg, List.of(model), new PackageConfiguration());
+
+        final String method = generator.generateCreateBulkMethod(model);
+
+        assertTrue(method.contains("from += BULK_CREATE_CHUNK_SIZE"));
+        assertTrue(method.contains("this.entityManager.flush();"));
+        assertFalse(method.contains("this.entityManager.clear();"));
+        assertFalse(method.contains("detach"));
+    }
+
+    @Test
+    void generateCreateBulkMethod_shouldDetachOnlySavedChunkWhenNoRelationCascades() {
+
+        final CrudConfiguration cfg = new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL);
+        final ModelDefinition model = this.newChunkedBulkCreateModel(new RelationDefinition().setType("ManyToOne"));
+        final ServiceGenerator generator = new ServiceGenerator(cfg, List.of(model), new PackageConfiguration());
+
+        final String method = generator.generateCreateBulkMethod(model);
+
+        assertTrue(method.contains("this.entityManager.flush();"));
+        assertTrue(method.contains("saved.forEach(this.entityManager::detach);"));
+        assertFalse(method.contains("this.entityManager.clear();"));
+    }
+
+    @Test
+    void generateGetByIdMethod_shouldDelegateToUncachedLoadById_forCaffeineWithStampedeProtection() {
+
+        final CrudConfiguration cfg = new CrudConfiguration()
+                .setDatabase(DatabaseType.POSTGRESQL)
+                .setCache(new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.CAFFEINE).setStampedeProtection(true));
+        final ModelDefinition model = new ModelDefinition()
+                .setName("ProductEntity")
+                .setStorageName("product_table")
+                .setFields(List.of(new FieldDefinition().setName("id").setType("Long").setId(new IdDefinition())));
+        final ServiceGenerator generator = new ServiceGenerator(cfg, List.of(model), new PackageConfiguration());
+
+        final String method = generator.generateGetByIdMethod(model);
+
+        assertTrue(method.contains("public ProductEntity getById(final Long id) {\n        return this.loadById(id);"));
+        assertTrue(method.contains("public ProductEntity loadById(final Long id) {"));
+        assertTrue(method.contains("this.repository.findById(id)"));
+    }
+
+    @Test
+    void generateGetByIdMethod_shouldNotGenerateLoadById_whenCacheIsNotCaffeine() {
+
+        final CrudConfiguration cfg = new CrudConfiguration()
+                .setDatabase(DatabaseType.POSTGRESQL)
+                .setCache(new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.REDIS).setStampedeProtection(true));
+        final ModelDefinition model = new ModelDefinition()
+                .setName("ProductEntity")
+                .setStorageName("product_table")
+                .setFields(List.of(new FieldDefinition().setName("id").setType("Long").setId(new IdDefinition())));
+        final ServiceGenerator generator = new ServiceGenerator(cfg, List.of(model), new PackageConfiguration());
+
+        final String method = generator.generateGetByIdMethod(model);
+
+        assertFalse(method.contains("loadById"));
+        assertTrue(method.contains("this.repository.findById(id)"));
+    }
+
 }
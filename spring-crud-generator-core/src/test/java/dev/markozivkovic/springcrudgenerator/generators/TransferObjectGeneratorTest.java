@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.imports.TransferObjectImports;
 import dev.markozivkovic.springcrudgenerator.models.AuditDefinition;
 import dev.markozivkovic.springcrudgenerator.resolvers.FieldValidationResolver;
@@ -51,10 +52,8 @@ class TransferObjectGeneratorTest {
     }
 
     @BeforeEach
-    void resetPageToGenerated() throws Exception {
-        final Field f = TransferObjectGenerator.class.getDeclaredField("PAGE_TO_GENERATED");
-        f.setAccessible(true);
-        f.set(null, false);
+    void resetPageToGenerated() {
+        GeneratorContext.clear();
     }
 
     @Test
@@ -197,7 +197,7 @@ class GraphQlUnitTestGeneratorTest {
             unitUtils.when(() -> UnitTestUtils.computeInvalidIdType(any())).thenReturn("String");
 
             dgCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any())).thenReturn(Map.of());
-            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString())).thenReturn("");
+            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString(), any())).thenReturn("");
             resolverImports.when(() -> ResolverImports.computeProjectImportsForQueryUnitTests(anyString(), any(), any(), anyBoolean()))
                     .thenReturn("");
             gqlCtx.when(() -> GraphQlTemplateContext.computeMutationUnitTestContext(
@@ -291,7 +291,7 @@ class GraphQlUnitTestGeneratorTest {
             unitUtils.when(() -> UnitTestUtils.computeInvalidIdType(any())).thenReturn("String");
 
             dgCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any())).thenReturn(Map.of());
-            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString())).thenReturn("");
+            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString(), any())).thenReturn("");
             resolverImports.when(() -> ResolverImports.computeProjectImportsForQueryUnitTests(anyString(), any(), any(), anyBoolean())).thenReturn("");
             gqlCtx.when(() -> GraphQlTemplateContext.computeMutationUnitTestContext(
                     eq(user), eq(cfg), eq(pkgCfg), anyList(), eq(outputDir), eq(testOutputDir)
@@ -378,7 +378,7 @@ class GraphQlUnitTestGeneratorTest {
             unitUtils.when(() -> UnitTestUtils.computeInvalidIdType(any())).thenReturn("String");
 
             dgCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any())).thenReturn(Map.of());
-            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString())).thenReturn("");
+            resolverImports.when(() -> ResolverImports.computeQueryResolverTestImports(anyBoolean(), anyString(), any())).thenReturn("");
             resolverImports.when(() -> ResolverImports.computeProjectImportsForQueryUnitTests(anyString(), any(), any(), anyBoolean()))
                     .thenReturn("");
 
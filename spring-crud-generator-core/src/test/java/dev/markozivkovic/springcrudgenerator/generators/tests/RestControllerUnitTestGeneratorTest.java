@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.RestControllerImports;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.ErrorResponse;
@@ -166,7 +167,7 @@ class RestControllerUnitTestGeneratorTest {
                             TemplateContextConstants.DATA_GENERATOR_SINGLE_OBJ, "one"
                     ));
 
-            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion()))
+            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion(), PaginationTypeEnum.OFFSET))
                     .thenReturn("// GET IMPORTS");
             imports.when(() -> RestControllerImports.computeUpdateEndpointTestImports(false, cfg.getSpringBootVersion()))
                     .thenReturn("// UPDATE IMPORTS");
@@ -258,7 +259,7 @@ class RestControllerUnitTestGeneratorTest {
                             TemplateContextConstants.DATA_GENERATOR_SINGLE_OBJ, "one"
                     ));
 
-            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion()))
+            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion(), PaginationTypeEnum.OFFSET))
                     .thenReturn("// GET IMPORTS");
             imports.when(() -> RestControllerImports.computeUpdateEndpointTestImports(false, cfg.getSpringBootVersion()))
                     .thenReturn("// UPDATE IMPORTS");
@@ -365,7 +366,7 @@ class RestControllerUnitTestGeneratorTest {
                             TemplateContextConstants.DATA_GENERATOR_SINGLE_OBJ, "one"
                     ));
 
-            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion()))
+            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion(), PaginationTypeEnum.OFFSET))
                     .thenReturn("// GET IMPORTS");
             imports.when(() -> RestControllerImports.computeUpdateEndpointTestImports(false, cfg.getSpringBootVersion()))
                     .thenReturn("// UPDATE IMPORTS");
@@ -457,7 +458,7 @@ class RestControllerUnitTestGeneratorTest {
                             TemplateContextConstants.DATA_GENERATOR_SINGLE_OBJ, "one"
                     ));
 
-            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion())).thenReturn("//");
+            imports.when(() -> RestControllerImports.computeGetEndpointTestImports(false, cfg.getSpringBootVersion(), PaginationTypeEnum.OFFSET)).thenReturn("//");
             imports.when(() -> RestControllerImports.computeUpdateEndpointTestImports(false, cfg.getSpringBootVersion())).thenReturn("//");
             imports.when(() -> RestControllerImports.computeDeleteEndpointTestImports(false, cfg.getSpringBootVersion())).thenReturn("//");
             imports.when(() -> RestControllerImports.computeControllerTestProjectImports(any(), anyString(), anyBoolean(), any(), any(), anyBoolean()))
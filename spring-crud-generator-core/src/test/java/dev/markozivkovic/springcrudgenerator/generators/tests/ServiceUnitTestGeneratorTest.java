@@ -145,11 +145,11 @@ class ServiceUnitTestGeneratorTest {
             pkgUtils.when(() -> PackageUtils.computeServicePackage("com/acme", pkgCfg)).thenReturn("com.acme.service");
             pkgUtils.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg)).thenReturn("service");
 
-            imports.when(() -> ServiceImports.getTestBaseImport(model)).thenReturn("import base;");
+            imports.when(() -> ServiceImports.getTestBaseImport(model, false)).thenReturn("import base;");
             imports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg)
+                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg), eq(false)
             )).thenReturn("import project;");
-            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(List.of()), eq(false), eq(true)))
+            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(List.of()), eq(false), eq(true), eq(false)))
                     .thenReturn("import test;");
 
             dataCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any()))
@@ -228,11 +228,11 @@ class ServiceUnitTestGeneratorTest {
             pkgUtils.when(() -> PackageUtils.computeServicePackage("com/acme", pkgCfg)).thenReturn("com.acme.service");
             pkgUtils.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg)).thenReturn("service");
 
-            imports.when(() -> ServiceImports.getTestBaseImport(model)).thenReturn("import base;");
+            imports.when(() -> ServiceImports.getTestBaseImport(model, false)).thenReturn("import base;");
             imports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg)
+                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg), eq(false)
             )).thenReturn("import project;");
-            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(entities), eq(false), eq(true)))
+            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(entities), eq(false), eq(true), eq(false)))
                     .thenReturn("import test;");
 
             dataCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any())).thenReturn(Map.of());
@@ -319,11 +319,11 @@ class ServiceUnitTestGeneratorTest {
             pkgUtils.when(() -> PackageUtils.computeServicePackage("com/acme", pkgCfg)).thenReturn("com.acme.service");
             pkgUtils.when(() -> PackageUtils.computeServiceSubPackage(pkgCfg)).thenReturn("service");
 
-            imports.when(() -> ServiceImports.getTestBaseImport(model)).thenReturn("import base;");
+            imports.when(() -> ServiceImports.getTestBaseImport(model, false)).thenReturn("import base;");
             imports.when(() -> ServiceImports.computeModelsEnumsAndRepositoryImports(
-                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg)
+                    eq(model), eq("/project/src/main/java/com/acme"), eq(ServiceImportScope.SERVICE_TEST), eq(pkgCfg), eq(false)
             )).thenReturn("import project;");
-            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(entities), eq(false), eq(true)))
+            imports.when(() -> ServiceImports.computeTestServiceImports(eq(model), eq(entities), eq(false), eq(true), eq(false)))
                     .thenReturn("import test;");
 
             dataCtx.when(() -> DataGeneratorTemplateContext.computeDataGeneratorContext(any())).thenReturn(Map.of());
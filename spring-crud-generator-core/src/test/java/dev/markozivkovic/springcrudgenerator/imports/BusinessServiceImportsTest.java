@@ -22,6 +22,8 @@ import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.models.AuditDefinition.AuditTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
@@ -186,8 +188,8 @@ class BusinessServiceImportsTest {
     }
 
     @Test
-    @DisplayName("getBaseImport: bulk create without collection relations should not import Collectors")
-    void getBaseImport_bulkCreateWithoutCollectionRelations_doesNotImportCollectors() {
+    @DisplayName("getBaseImport: bulk create without collection relations should import batched relation lookup types")
+    void getBaseImport_bulkCreateWithoutCollectionRelations_importsBatchLookupTypes() {
 
         final ModelDefinition model = emptyModel();
         Mockito.when(model.isBulkCreateEnabled()).thenReturn(true);
@@ -206,8 +208,11 @@ class BusinessServiceImportsTest {
             final String result = BusinessServiceImports.getBaseImport(model, true);
 
             assertTrue(result.contains("import " + ImportConstants.Java.LIST + ";"), "Expected List import");
-            assertFalse(result.contains("import " + ImportConstants.Java.COLLECTORS + ";"),
-                    "Collectors import should not be present without collection relations");
+            assertTrue(result.contains("import " + ImportConstants.Java.ARRAY_LIST + ";"), "Expected ArrayList import");
+            assertTrue(result.contains("import " + ImportConstants.Java.MAP + ";"), "Expected Map import");
+            assertTrue(result.contains("import " + ImportConstants.Java.OBJECTS + ";"), "Expected Objects import");
+            assertTrue(result.contains("import " + ImportConstants.Java.FUNCTION + ";"), "Expected Function import");
+            assertTrue(result.contains("import " + ImportConstants.Java.COLLECTORS + ";"), "Expected Collectors import");
         }
     }
 
@@ -398,6 +403,7 @@ class BusinessServiceImportsTest {
             final String result = BusinessServiceImports.getTestBaseImport(model);
 
             assertTrue(result.contains("import " + ImportConstants.Java.LIST + ";"));
+            assertTrue(result.contains("import " + ImportConstants.Java.OBJECTS + ";"));
             assertFalse(result.contains("import " + ImportConstants.Java.COLLECTORS + ";"));
         }
     }
@@ -700,6 +706,52 @@ class BusinessServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("computeModelsEnumsAndServiceImports: bulk create should import ResourceNotFoundException only for scope=BUSINESS_SERVICE")
+    void computeModelsEnumsAndServiceImports_bulkCreate_importsResourceNotFoundException() {
+
+        final ModelDefinition model = new ModelDefinition()
+                .setName("User")
+                .setFields(Collections.emptyList())
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true)));
+
+        final PackageConfiguration packageConfiguration = new PackageConfiguration();
+        final String outputDir = "/some/output/dir";
+
+        try (final MockedStatic<PackageUtils> pkg = Mockito.mockStatic(PackageUtils.class);
+             final MockedStatic<ModelNameUtils> names = Mockito.mockStatic(ModelNameUtils.class);
+             final MockedStatic<FieldUtils> fields = Mockito.mockStatic(FieldUtils.class);
+             final MockedStatic<ModelImports> modelImports = Mockito.mockStatic(ModelImports.class);
+             final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir(outputDir)).thenReturn("com.example");
+            pkg.when(() -> PackageUtils.computeEntityPackage("com.example", packageConfiguration)).thenReturn("com.example.model");
+            pkg.when(() -> PackageUtils.computeServicePackage("com.example", packageConfiguration)).thenReturn("com.example.service");
+            pkg.when(() -> PackageUtils.computeUtilsPackage("com.example", packageConfiguration)).thenReturn("com.example.utils");
+            pkg.when(() -> PackageUtils.computeExceptionPackage("com.example", packageConfiguration)).thenReturn("com.example.exception");
+            pkg.when(() -> PackageUtils.join("com.example.model", "User")).thenReturn("com.example.model.User");
+            pkg.when(() -> PackageUtils.join("com.example.service", "UserService")).thenReturn("com.example.service.UserService");
+            pkg.when(() -> PackageUtils.join("com.example.exception", "ResourceNotFoundException"))
+                    .thenReturn("com.example.exception.ResourceNotFoundException");
+
+            names.when(() -> ModelNameUtils.stripSuffix("User")).thenReturn("User");
+            fields.when(() -> FieldUtils.extractRelationFields(anyList())).thenReturn(Collections.emptyList());
+            modelImports.when(() -> ModelImports.computeEnumsAndHelperEntitiesImport(model, outputDir, packageConfiguration))
+                    .thenReturn("");
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION)).thenReturn(false);
+
+            final String businessService = BusinessServiceImports.computeModelsEnumsAndServiceImports(
+                    model, outputDir, BusinessServiceImports.BusinessServiceImportScope.BUSINESS_SERVICE, packageConfiguration
+            );
+            final String businessServiceTest = BusinessServiceImports.computeModelsEnumsAndServiceImports(
+                    model, outputDir, BusinessServiceImports.BusinessServiceImportScope.BUSINESS_SERVICE_TEST, packageConfiguration
+            );
+
+            assertTrue(businessService.contains("import com.example.exception.ResourceNotFoundException;"));
+            assertFalse(businessServiceTest.contains("ResourceNotFoundException"));
+        }
+    }
+
     @Test
     @DisplayName("computeTestBusinessServiceImports: Instancio enabled + Spring Boot 4 → includes Instancio and @MockitoBean")
     void computeTestBusinessServiceImports_withInstancio_springBoot4() {
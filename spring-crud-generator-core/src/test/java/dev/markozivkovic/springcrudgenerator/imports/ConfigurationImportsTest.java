@@ -95,4 +95,24 @@ class ConfigurationImportsTest {
         }
     }
     
+    @Test
+    @DisplayName("getServiceImports: imports from the service package, sorted")
+    void getServiceImports_sortedServiceImports() {
+
+        final PackageConfiguration pkg = mock(PackageConfiguration.class);
+
+        try (final MockedStatic<PackageUtils> pkgUtils = mockStatic(PackageUtils.class)) {
+
+            pkgUtils.when(() -> PackageUtils.computeServicePackage("com.example", pkg)).thenReturn("com.example.service");
+
+            final String result = ConfigurationImports.getServiceImports(
+                    "com.example", pkg, List.of("UserService", "OrderService")
+            );
+
+            assertEquals(String.format(
+                    "import com.example.service.OrderService;%nimport com.example.service.UserService;%n"
+            ), result);
+        }
+    }
+
 }
@@ -13,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
@@ -170,7 +172,9 @@ class RepositoryImportsTest {
             pkg.when(() -> PackageUtils.computeEntityPackage(packagePath, pkgCfg)).thenReturn("com.example.app.models");
             pkg.when(() -> PackageUtils.join("com.example.app.models", modelName)).thenReturn("com.example.app.models.UserEntity");
 
-            final String result = RepositoryImports.computeMongoRepositoryImports(packagePath, pkgCfg, modelName, false);
+            final String result = RepositoryImports.computeMongoRepositoryImports(
+                    packagePath, pkgCfg, modelName, false, PaginationTypeEnum.OFFSET, false, false
+            );
             final String nl = System.lineSeparator();
             final String expected = "import " + ImportConstants.SpringData.MONGO_REPOSITORY + ";" + nl
                     + nl
@@ -198,7 +202,9 @@ class RepositoryImportsTest {
             pkg.when(() -> PackageUtils.computeEntityPackage(packagePath, pkgCfg)).thenReturn("com.example.app.models");
             pkg.when(() -> PackageUtils.join("com.example.app.models", modelName)).thenReturn("com.example.app.models.ProductModel");
 
-            final String result = RepositoryImports.computeMongoRepositoryImports(packagePath, pkgCfg, modelName, true);
+            final String result = RepositoryImports.computeMongoRepositoryImports(
+                    packagePath, pkgCfg, modelName, true, PaginationTypeEnum.OFFSET, false, false
+            );
             final String nl = System.lineSeparator();
             final String expected = "import " + ImportConstants.Java.OPTIONAL + ";" + nl
                     + nl
@@ -216,4 +222,92 @@ class RepositoryImportsTest {
             assertTrue(result.equals(expected), "Expected import groups order: java, blank line, org, blank line, project");
         }
     }
+
+    @Test
+    @DisplayName("computeMongoRepositoryImports: slice pagination -> adds Pageable and Slice imports instead of Page")
+    void computeMongoRepositoryImports_slicePagination_addsSliceImports() {
+
+        final String packagePath = "com.example.app";
+        final PackageConfiguration pkgCfg = mock(PackageConfiguration.class);
+        final String modelName = "ProductModel";
+
+        try (final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class)) {
+
+            pkg.when(() -> PackageUtils.computeEntityPackage(packagePath, pkgCfg)).thenReturn("com.example.app.models");
+            pkg.when(() -> PackageUtils.join("com.example.app.models", modelName)).thenReturn("com.example.app.models.ProductModel");
+
+            final String result = RepositoryImports.computeMongoRepositoryImports(
+                    packagePath, pkgCfg, modelName, true, PaginationTypeEnum.SLICE, false, false
+            );
+
+            assertTrue(result.contains("import " + ImportConstants.SpringData.SLICE + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.PAGEABLE + ";"));
+            assertFalse(result.contains("import " + ImportConstants.SpringData.PAGE + ";"));
+        }
+    }
+
+    @Test
+    @DisplayName("computeMongoRepositoryImports: export enabled -> adds Stream and Meta imports")
+    void computeMongoRepositoryImports_exportEnabled_addsStreamImports() {
+
+        final String packagePath = "com.example.app";
+        final PackageConfiguration pkgCfg = mock(PackageConfiguration.class);
+        final String modelName = "ProductModel";
+
+        try (final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class)) {
+
+            pkg.when(() -> PackageUtils.computeEntityPackage(packagePath, pkgCfg)).thenReturn("com.example.app.models");
+            pkg.when(() -> PackageUtils.join("com.example.app.models", modelName)).thenReturn("com.example.app.models.ProductModel");
+
+            final String result = RepositoryImports.computeMongoRepositoryImports(
+                    packagePath, pkgCfg, modelName, false, PaginationTypeEnum.OFFSET, true, false
+            );
+
+            assertTrue(result.contains("import " + ImportConstants.Java.STREAM + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.MONGO_META + ";"));
+        }
+    }
+
+    @Test
+    @DisplayName("computeMongoRepositoryImports: list projection enabled -> adds Page and Pageable imports")
+    void computeMongoRepositoryImports_listProjectionEnabled_addsPageImports() {
+
+        final String packagePath = "com.example.app";
+        final PackageConfiguration pkgCfg = mock(PackageConfiguration.class);
+        final String modelName = "ProductModel";
+
+        try (final MockedStatic<PackageUtils> pkg = mockStatic(PackageUtils.class)) {
+
+            pkg.when(() -> PackageUtils.computeEntityPackage(packagePath, pkgCfg)).thenReturn("com.example.app.models");
+            pkg.when(() -> PackageUtils.join("com.example.app.models", modelName)).thenReturn("com.example.app.models.ProductModel");
+
+            final String result = RepositoryImports.computeMongoRepositoryImports(
+                    packagePath, pkgCfg, modelName, false, PaginationTypeEnum.OFFSET, false, true
+            );
+
+            assertTrue(result.contains("import " + ImportConstants.SpringData.PAGE + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.PAGEABLE + ";"));
+            assertFalse(result.contains("import " + ImportConstants.Java.OPTIONAL + ";"));
+        }
+    }
+
+    @Test
+    @DisplayName("computeListProjectionImports: only projected field types are imported")
+    void computeListProjectionImports_importsOnlyProjectedFieldTypes() {
+
+        final FieldDefinition id = new FieldDefinition().setName("id").setType("UUID")
+                .setId(new IdDefinition());
+        final FieldDefinition price = new FieldDefinition().setName("price").setType("BigDecimal");
+        final FieldDefinition releaseDate = new FieldDefinition().setName("releaseDate").setType("LocalDate");
+        final ModelDefinition model = new ModelDefinition()
+                .setName("ProductModel")
+                .setFields(List.of(id, price, releaseDate))
+                .setListProjection(List.of("price"));
+
+        final String result = RepositoryImports.computeListProjectionImports(model, "com.example.app", mock(PackageConfiguration.class));
+
+        assertTrue(result.contains("import " + ImportConstants.Java.UUID + ";"));
+        assertTrue(result.contains("import " + ImportConstants.Java.BIG_DECIMAL + ";"));
+        assertFalse(result.contains("import " + ImportConstants.Java.LOCAL_DATE + ";"));
+    }
 }
@@ -13,6 +13,7 @@ import org.mockito.Mockito;
 
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
@@ -303,7 +304,7 @@ class ResolverImportsTest {
     @DisplayName("computeQueryResolverTestImports: Instancio disabled, Spring Boot 3 → should NOT include Instancio import")
     void computeQueryResolverTestImports_instancioDisabled_springBoot3() {
 
-        final String result = ResolverImports.computeQueryResolverTestImports(false, "3");
+        final String result = ResolverImports.computeQueryResolverTestImports(false, "3", PaginationTypeEnum.OFFSET);
 
         assertFalse(result.contains(ImportConstants.INSTANCIO.INSTANCIO));
         assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH + ";"));
@@ -327,7 +328,7 @@ class ResolverImportsTest {
     @DisplayName("computeQueryResolverTestImports: Instancio disabled, Spring Boot 4 → should NOT include Instancio import")
     void computeQueryResolverTestImports_instancioDisabled_springBoot4() {
         
-        final String result = ResolverImports.computeQueryResolverTestImports(false, "4");
+        final String result = ResolverImports.computeQueryResolverTestImports(false, "4", PaginationTypeEnum.OFFSET);
 
         assertFalse(result.contains(ImportConstants.INSTANCIO.INSTANCIO));
         assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH + ";"));
@@ -351,7 +352,7 @@ class ResolverImportsTest {
     @DisplayName("computeQueryResolverTestImports: Instancio enabled → should include Instancio import")
     void computeQueryResolverTestImports_instancioEnabled() {
         
-        final String result = ResolverImports.computeQueryResolverTestImports(true, null);
+        final String result = ResolverImports.computeQueryResolverTestImports(true, null, PaginationTypeEnum.OFFSET);
 
         assertTrue(result.contains("import " + ImportConstants.INSTANCIO.INSTANCIO + ";"));
     }
@@ -17,6 +17,7 @@ import org.mockito.Mockito;
 
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
 import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
@@ -87,6 +88,40 @@ class RestControllerImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("Streaming bulk create enabled → InputStream, IOException, ArrayList and Set imports are added")
+    void computeControllerBaseImports_bulkCreateStreaming_addsStreamingImports() {
+
+        final ModelDefinition model = new ModelDefinition();
+        model.setFields(Collections.emptyList());
+        model.setBulk(new BulkDefinition().setCreate(
+                new BulkCreateDefinition().setEnabled(true).setChunkSize(100).setStreaming(true)
+        ));
+
+        final List<ModelDefinition> entities = Collections.emptyList();
+
+        try (final MockedStatic<FieldUtils> fieldUtils = Mockito.mockStatic(FieldUtils.class)) {
+            fieldUtils.when(() -> FieldUtils.isAnyRelationCollectionList(model.getFields()))
+                    .thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyRelationCollectionSet(model.getFields()))
+                    .thenReturn(false);
+            final FieldDefinition idField = new FieldDefinition();
+            fieldUtils.when(() -> FieldUtils.extractIdField(model.getFields()))
+                    .thenReturn(idField);
+            fieldUtils.when(() -> FieldUtils.isIdFieldUUID(idField))
+                    .thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.extractRelationFields(model.getFields()))
+                    .thenReturn(Collections.emptyList());
+
+            final String result = RestControllerImports.computeControllerBaseImports(model, entities);
+
+            assertTrue(result.contains("import " + ImportConstants.Java.INPUT_STREAM + ";"));
+            assertTrue(result.contains("import " + ImportConstants.Java.IO_EXCEPTION + ";"));
+            assertTrue(result.contains("import " + ImportConstants.Java.ARRAY_LIST + ";"));
+            assertTrue(result.contains("import " + ImportConstants.Java.SET + ";"));
+        }
+    }
+
     @Test
     @DisplayName("Model id is UUID → UUID import is added")
     void computeControllerBaseImports_modelUuidId() {
@@ -908,7 +943,7 @@ class RestControllerImportsTest {
     @DisplayName("computeGetEndpointTestImports: Instancio disabled, Spring Boot 3 → no Instancio import, base imports present")
     void computeGetEndpointTestImports_instancioDisabled_springBoot3() {
 
-        final String result = RestControllerImports.computeGetEndpointTestImports(false, "3");
+        final String result = RestControllerImports.computeGetEndpointTestImports(false, "3", PaginationTypeEnum.OFFSET);
 
         assertFalse(result.contains(ImportConstants.INSTANCIO.INSTANCIO));
         assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH + ";"));
@@ -931,7 +966,7 @@ class RestControllerImportsTest {
     @DisplayName("computeGetEndpointTestImports: Instancio disabled, Spring Boot 4 → no Instancio import, base imports present")
     void computeGetEndpointTestImports_instancioDisabled_springBoot4() {
 
-        final String result = RestControllerImports.computeGetEndpointTestImports(false, "4");
+        final String result = RestControllerImports.computeGetEndpointTestImports(false, "4", PaginationTypeEnum.OFFSET);
 
         assertFalse(result.contains(ImportConstants.INSTANCIO.INSTANCIO));
         assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH + ";"));
@@ -954,7 +989,7 @@ class RestControllerImportsTest {
     @DisplayName("computeGetEndpointTestImports: Instancio enabled → Instancio import added")
     void computeGetEndpointTestImports_instancioEnabled() {
 
-        final String result = RestControllerImports.computeGetEndpointTestImports(true, "4");
+        final String result = RestControllerImports.computeGetEndpointTestImports(true, "4", PaginationTypeEnum.OFFSET);
 
         assertTrue(result.contains("import " + ImportConstants.INSTANCIO.INSTANCIO + ";"),
                 "Instancio import should be present when enabled");
@@ -964,11 +999,11 @@ class RestControllerImportsTest {
     @DisplayName("computeGetEndpointTestImports: Boot 3 uses @MockBean, Boot 4 uses @MockitoBean")
     void computeGetEndpointTestImports_mockAnnotationDependsOnBootVersion() {
 
-        final String boot3 = RestControllerImports.computeGetEndpointTestImports(false, "3");
+        final String boot3 = RestControllerImports.computeGetEndpointTestImports(false, "3", PaginationTypeEnum.OFFSET);
         assertTrue(boot3.contains("import " + ImportConstants.SpringTest.MOCK_BEAN + ";"));
         assertFalse(boot3.contains("import " + ImportConstants.SpringTest.MOCKITO_BEAN + ";"));
 
-        final String boot4 = RestControllerImports.computeGetEndpointTestImports(false, "4");
+        final String boot4 = RestControllerImports.computeGetEndpointTestImports(false, "4", PaginationTypeEnum.OFFSET);
         assertTrue(boot4.contains("import " + ImportConstants.SpringTest.MOCKITO_BEAN + ";"));
         assertFalse(boot4.contains("import " + ImportConstants.SpringTest.MOCK_BEAN + ";"));
     }
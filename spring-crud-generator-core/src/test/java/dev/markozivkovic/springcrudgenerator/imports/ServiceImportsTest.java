@@ -22,6 +22,7 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants.GeneratorContextKeys;
 import dev.markozivkovic.springcrudgenerator.constants.ImportConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.imports.common.ImportCommon;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
@@ -64,7 +65,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertEquals("", result);
         }
@@ -102,7 +103,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.BIG_DECIMAL), "Expected BigDecimal import");
             assertTrue(result.contains("import " + ImportConstants.Java.UUID), "Expected UUID import");
@@ -146,7 +147,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.SET + ";"), "Expected Set import");
             assertFalse(result.contains("import " + ImportConstants.Java.LIST + ";"),
@@ -186,7 +187,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, true);
+            final String result = ServiceImports.getBaseImport(model, true, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.LIST), "Expected List import");
             assertFalse(result.contains("import " + ImportConstants.Java.SET + ";"), "Did not expect Set import");
@@ -194,6 +195,47 @@ class ServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("getBaseImport: importMap flag adds Map and HashMap imports used by getAllByIds")
+    void getBaseImport_importMapFlagAddsMapImports() {
+
+        final ModelDefinition model = Mockito.mock(ModelDefinition.class);
+        Mockito.when(model.getFields()).thenReturn(Collections.emptyList());
+
+        try (final MockedStatic<FieldUtils> fieldUtils = Mockito.mockStatic(FieldUtils.class);
+             final MockedStatic<ImportCommon> importCommon = Mockito.mockStatic(ImportCommon.class)) {
+
+            fieldUtils.when(() -> FieldUtils.isAnyFieldBigDecimal(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyFieldBigInteger(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyFieldLocalDate(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyFieldLocalDateTime(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyFieldUUID(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyRelationCollectionList(anyList())).thenReturn(false);
+            fieldUtils.when(() -> FieldUtils.isAnyRelationCollectionSet(anyList())).thenReturn(false);
+            importCommon.when(() -> ImportCommon.importListAndSetForJsonFields(
+                            eq(model), anySet(), eq(ImportCommon.CollectionImplImportsMode.INTERFACES_ONLY)))
+                    .thenAnswer(inv -> null);
+            importCommon.when(() -> ImportCommon.importListAndSetForSimpleCollection(eq(model), anySet()))
+                    .thenAnswer(inv -> null);
+            importCommon.when(() -> ImportCommon.addIf(anyBoolean(), anySet(), anyString()))
+                    .thenAnswer(inv -> {
+                        final boolean cond = inv.getArgument(0);
+                        @SuppressWarnings("unchecked")
+                        final Set<String> set = (Set<String>) inv.getArgument(1);
+                        final String value = inv.getArgument(2);
+                        if (cond) set.add(value);
+                        return null;
+                    });
+
+            final String result = ServiceImports.getBaseImport(model, false, true);
+
+            assertTrue(result.contains("import " + ImportConstants.Java.MAP + ";"), "Expected Map import");
+            assertTrue(result.contains("import " + ImportConstants.Java.HASH_MAP + ";"), "Expected HashMap import");
+            assertFalse(result.contains("import " + ImportConstants.Java.LIST + ";"), "Did not expect List import");
+            assertTrue(result.endsWith("\n"));
+        }
+    }
+
     @Test
     @DisplayName("getBaseImport: should import List+Set when model has simple element collections (via ImportCommon helper)")
     void getBaseImport_shouldImportListAndSet_forSimpleCollections() {
@@ -232,7 +274,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.LIST + ";"), "Expected List import");
             assertTrue(result.contains("import " + ImportConstants.Java.SET + ";"), "Expected Set import");
@@ -280,7 +322,7 @@ class ServiceImportsTest {
                         return null;
                     });
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             final String needle = "import " + ImportConstants.Java.LIST + ";";
             assertTrue(result.contains(needle), "Expected List import");
@@ -326,7 +368,7 @@ class ServiceImportsTest {
             importCommon.when(() -> ImportCommon.importListAndSetForSimpleCollection(eq(model), anySet()))
                     .thenAnswer(inv -> null);
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.LIST + ";"));
             assertFalse(result.contains("import " + ImportConstants.Java.ARRAY_LIST + ";"));
@@ -371,7 +413,7 @@ class ServiceImportsTest {
             importCommon.when(() -> ImportCommon.importListAndSetForSimpleCollection(eq(model), anySet()))
                     .thenAnswer(inv -> null);
 
-            final String result = ServiceImports.getBaseImport(model, false);
+            final String result = ServiceImports.getBaseImport(model, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.SET + ";"));
             assertFalse(result.contains("import " + ImportConstants.Java.HASH_SET + ";"));
@@ -387,7 +429,7 @@ class ServiceImportsTest {
             genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
                     .thenReturn(false);
 
-            final String result = ServiceImports.computeJpaServiceBaseImport(false, false);
+            final String result = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER), "LOGGER import missing");
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER_FACTORY), "LOGGER_FACTORY import missing");
@@ -412,7 +454,7 @@ class ServiceImportsTest {
             genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
                     .thenReturn(false);
 
-            final String result = ServiceImports.computeJpaServiceBaseImport(true, false);
+            final String result = ServiceImports.computeJpaServiceBaseImport(true, false, PaginationTypeEnum.OFFSET, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER));
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER_FACTORY));
@@ -435,13 +477,67 @@ class ServiceImportsTest {
             genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
                     .thenReturn(false);
 
-            final String result = ServiceImports.computeJpaServiceBaseImport(false, true);
+            final String result = ServiceImports.computeJpaServiceBaseImport(false, true, PaginationTypeEnum.OFFSET, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.SpringData.SORT));
             assertTrue(result.contains("import " + ImportConstants.SpringData.SORT_DIRECTION));
         }
     }
 
+    @Test
+    @DisplayName("computeJpaServiceBaseImport: keyset pagination includes Window, ScrollPosition and Limit instead of Page imports")
+    void computeJpaServiceBaseImport_keysetPagination_includesWindowImports() {
+
+        try (final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
+                    .thenReturn(false);
+
+            final String result = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.KEYSET, false, false);
+
+            assertTrue(result.contains("import " + ImportConstants.SpringData.WINDOW + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.SCROLL_POSITION + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.LIMIT + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.SORT + ";"));
+            assertFalse(result.contains("import " + ImportConstants.SpringData.PAGE + ";"));
+            assertFalse(result.contains("import " + ImportConstants.SpringData.PAGE_REQUEST + ";"));
+        }
+    }
+
+    @Test
+    @DisplayName("computeJpaServiceBaseImport: slice pagination includes Slice and PageRequest instead of Page imports")
+    void computeJpaServiceBaseImport_slicePagination_includesSliceImports() {
+
+        try (final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
+                    .thenReturn(false);
+
+            final String result = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.SLICE, false, false);
+
+            assertTrue(result.contains("import " + ImportConstants.SpringData.SLICE + ";"));
+            assertTrue(result.contains("import " + ImportConstants.SpringData.PAGE_REQUEST + ";"));
+            assertFalse(result.contains("import " + ImportConstants.SpringData.PAGE + ";"));
+        }
+    }
+
+    @Test
+    @DisplayName("computeJpaServiceBaseImport: flushing bulk chunks includes EntityManager import")
+    void computeJpaServiceBaseImport_entityManager_includesEntityManagerImport() {
+
+        try (final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
+                    .thenReturn(false);
+
+            final String withEntityManager = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, true, false);
+            final String withoutEntityManager = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false);
+
+            assertTrue(withEntityManager.contains("import " + ImportConstants.Jakarta.ENTITY_MANAGER + ";"));
+            assertFalse(withoutEntityManager.contains("import " + ImportConstants.Jakarta.ENTITY_MANAGER + ";"));
+        }
+    }
+
     @Test
     @DisplayName("computeJpaServiceBaseImport: cache=true and retryable annotation IS generated → no @Transactional, but has cache imports")
     void computeJpaServiceBaseImport_cacheEnabled_retryGenerated_noTransactionalButCacheImports() {
@@ -451,7 +547,7 @@ class ServiceImportsTest {
             genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
                     .thenReturn(true);
 
-            final String result = ServiceImports.computeJpaServiceBaseImport(true, false);
+            final String result = ServiceImports.computeJpaServiceBaseImport(true, false, PaginationTypeEnum.OFFSET, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER));
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER_FACTORY));
@@ -477,7 +573,7 @@ class ServiceImportsTest {
             genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
                     .thenReturn(true);
 
-            final String result = ServiceImports.computeJpaServiceBaseImport(false, false);
+            final String result = ServiceImports.computeJpaServiceBaseImport(false, false, PaginationTypeEnum.OFFSET, false, false);
 
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER));
             assertTrue(result.contains("import " + ImportConstants.Logger.LOGGER_FACTORY));
@@ -491,6 +587,22 @@ class ServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("computeJpaServiceBaseImport: read-only transaction keeps @Transactional even when retryable annotation IS generated")
+    void computeJpaServiceBaseImport_readOnlyTransaction_retryGenerated_includesTransactional() {
+
+        try (final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
+                    .thenReturn(true);
+
+            final String result = ServiceImports.computeJpaServiceBaseImport(true, false, PaginationTypeEnum.OFFSET, false, true);
+
+            assertTrue(result.contains("import " + ImportConstants.SpringTransaction.TRANSACTIONAL));
+            assertTrue(result.contains("import " + ImportConstants.SpringCache.CACHEABLE));
+        }
+    }
+
     @Test
     @DisplayName("computeModelsEnumsAndRepositoryImports: SERVICE scope, with relation and retryable → enums + entity + repo + exceptions + annotation + relation entity")
     void computeModelsEnumsAndRepositoryImports_serviceScope_withRelationAndRetryable() {
@@ -559,7 +671,8 @@ class ServiceImportsTest {
                     model,
                     outputDir,
                     ServiceImports.ServiceImportScope.SERVICE,
-                    packageConfiguration
+                    packageConfiguration,
+                    false
             );
 
             assertTrue(result.contains("import com.shop.common.OrderEnums;"), "Enums import");
@@ -632,7 +745,8 @@ class ServiceImportsTest {
                     model,
                     outputDir,
                     ServiceImports.ServiceImportScope.SERVICE_TEST,
-                    packageConfiguration
+                    packageConfiguration,
+                    false
             );
 
             assertTrue(result.contains("import com.example.entity.User;"));
@@ -647,6 +761,62 @@ class ServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("computeModelsEnumsAndRepositoryImports: SERVICE_TEST scope with cache helper → CacheHelper imported")
+    void computeModelsEnumsAndRepositoryImports_serviceTestScope_withCacheHelper() {
+
+        final String outputDir = "/test/output";
+        final PackageConfiguration packageConfiguration = new PackageConfiguration();
+
+        final ModelDefinition model = Mockito.mock(ModelDefinition.class);
+        Mockito.when(model.getName()).thenReturn("User");
+        Mockito.when(model.getFields()).thenReturn(Collections.emptyList());
+
+        try (final MockedStatic<PackageUtils> pkg = Mockito.mockStatic(PackageUtils.class);
+             final MockedStatic<ModelNameUtils> names = Mockito.mockStatic(ModelNameUtils.class);
+             final MockedStatic<GeneratorContext> genContext = Mockito.mockStatic(GeneratorContext.class)) {
+
+            pkg.when(() -> PackageUtils.getPackagePathFromOutputDir(outputDir))
+                    .thenReturn("com.example");
+            pkg.when(() -> PackageUtils.computeEntityPackage("com.example", packageConfiguration))
+                    .thenReturn("com.example.entity");
+            pkg.when(() -> PackageUtils.computeRepositoryPackage("com.example", packageConfiguration))
+                    .thenReturn("com.example.repository");
+            pkg.when(() -> PackageUtils.computeExceptionPackage("com.example", packageConfiguration))
+                    .thenReturn("com.example.exception");
+            pkg.when(() -> PackageUtils.computeUtilsPackage("com.example", packageConfiguration))
+                    .thenReturn("com.example.utils");
+
+            pkg.when(() -> PackageUtils.join("com.example.entity", "User"))
+                    .thenReturn("com.example.entity.User");
+            pkg.when(() -> PackageUtils.join("com.example.repository", "UserRepository"))
+                    .thenReturn("com.example.repository.UserRepository");
+            pkg.when(() -> PackageUtils.join("com.example.exception", "ResourceNotFoundException"))
+                    .thenReturn("com.example.exception.ResourceNotFoundException");
+            pkg.when(() -> PackageUtils.join("com.example.utils", GeneratorConstants.CACHE_HELPER))
+                    .thenReturn("com.example.utils." + GeneratorConstants.CACHE_HELPER);
+
+            names.when(() -> ModelNameUtils.stripSuffix("User"))
+                    .thenReturn("User");
+
+            genContext.when(() -> GeneratorContext.isGenerated(GeneratorContextKeys.RETRYABLE_ANNOTATION))
+                    .thenReturn(false);
+
+            final String result = ServiceImports.computeModelsEnumsAndRepositoryImports(
+                    model,
+                    outputDir,
+                    ServiceImports.ServiceImportScope.SERVICE_TEST,
+                    packageConfiguration,
+                    true
+            );
+
+            assertTrue(result.contains("import com.example.utils.CacheHelper;"), "CacheHelper import");
+            assertTrue(result.contains("import com.example.repository.UserRepository;"));
+            assertFalse(result.contains("ArgumentVerifier"),
+                    "SERVICE_TEST scope => ArgumentVerifier should NOT be imported");
+        }
+    }
+
     @Test
     @DisplayName("computeTestServiceImports: Instancio disabled + Spring Boot 4 → uses @MockitoBean")
     void computeTestServiceImports_noInstancio_springBoot4() {
@@ -663,6 +833,7 @@ class ServiceImportsTest {
                     model,
                     Collections.emptyList(),
                     false,
+                    false,
                     false
             );
 
@@ -680,6 +851,30 @@ class ServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("computeTestServiceImports: flushing bulk chunks includes EntityManager import")
+    void computeTestServiceImports_entityManager_includesEntityManagerImport() {
+
+        final ModelDefinition model = Mockito.mock(ModelDefinition.class);
+        Mockito.when(model.getFields()).thenReturn(Collections.emptyList());
+
+        try (final MockedStatic<FieldUtils> fieldUtils = Mockito.mockStatic(FieldUtils.class)) {
+
+            fieldUtils.when(() -> FieldUtils.isAnyFieldEnum(anyList()))
+                    .thenReturn(false);
+
+            final String result = ServiceImports.computeTestServiceImports(
+                    model,
+                    Collections.emptyList(),
+                    false,
+                    false,
+                    true
+            );
+
+            assertTrue(result.contains("import " + ImportConstants.Jakarta.ENTITY_MANAGER));
+        }
+    }
+
     @Test
     @DisplayName("computeTestServiceImports: Instancio enabled + Spring Boot 4 → includes Instancio and uses @MockitoBean")
     void computeTestServiceImports_instancioEnabled_springBoot4() {
@@ -696,6 +891,7 @@ class ServiceImportsTest {
                     model,
                     Collections.emptyList(),
                     true,
+                    false,
                     false
             );
 
@@ -729,7 +925,8 @@ class ServiceImportsTest {
                     model,
                     Collections.emptyList(),
                     false,
-                    true
+                    true,
+                    false
             );
 
             assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH));
@@ -762,7 +959,8 @@ class ServiceImportsTest {
                     model,
                     Collections.emptyList(),
                     true,
-                    true
+                    true,
+                    false
             );
 
             assertTrue(result.contains("import " + ImportConstants.JUnit.AFTER_EACH));
@@ -796,7 +994,7 @@ class ServiceImportsTest {
             fieldUtils.when(() -> FieldUtils.isIdFieldUUID(idField))
                     .thenReturn(false);
 
-            final String result = ServiceImports.getTestBaseImport(model);
+            final String result = ServiceImports.getTestBaseImport(model, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.OPTIONAL), "Optional import missing");
             assertTrue(result.contains("import " + ImportConstants.Java.LIST), "List import missing");
@@ -822,7 +1020,7 @@ class ServiceImportsTest {
             fieldUtils.when(() -> FieldUtils.isIdFieldUUID(idField))
                     .thenReturn(true);
 
-            final String result = ServiceImports.getTestBaseImport(model);
+            final String result = ServiceImports.getTestBaseImport(model, false);
 
             assertTrue(result.contains("import " + ImportConstants.Java.OPTIONAL));
             assertTrue(result.contains("import " + ImportConstants.Java.LIST));
@@ -831,6 +1029,33 @@ class ServiceImportsTest {
         }
     }
 
+    @Test
+    @DisplayName("getTestBaseImport: importCollections flag adds ArrayList and Collections used by the getAllByIds test")
+    void getTestBaseImport_importCollectionsFlag() {
+        
+        final ModelDefinition model = Mockito.mock(ModelDefinition.class);
+        final List<FieldDefinition> fields = List.of(Mockito.mock(FieldDefinition.class));
+        Mockito.when(model.getFields()).thenReturn(fields);
+
+        final FieldDefinition idField = Mockito.mock(FieldDefinition.class);
+
+        try (final MockedStatic<FieldUtils> fieldUtils = Mockito.mockStatic(FieldUtils.class)) {
+
+            fieldUtils.when(() -> FieldUtils.extractIdField(fields))
+                    .thenReturn(idField);
+            fieldUtils.when(() -> FieldUtils.isIdFieldUUID(idField))
+                    .thenReturn(false);
+
+            final String result = ServiceImports.getTestBaseImport(model, true);
+
+            assertTrue(result.contains("import " + ImportConstants.Java.OPTIONAL));
+            assertTrue(result.contains("import " + ImportConstants.Java.LIST));
+            assertTrue(result.contains("import " + ImportConstants.Java.ARRAY_LIST + ";"));
+            assertTrue(result.contains("import " + ImportConstants.Java.COLLECTIONS + ";"));
+            assertTrue(result.endsWith("\n"));
+        }
+    }
+
     @Test
     @DisplayName("getTestBaseImport: should include Set when ImportCommon adds it for simple collections")
     void getTestBaseImport_shouldIncludeSet_whenSimpleCollectionsExist() {
@@ -864,7 +1089,7 @@ class ServiceImportsTest {
                                 return null;
                         });
 
-                final String result = ServiceImports.getTestBaseImport(model);
+                final String result = ServiceImports.getTestBaseImport(model, false);
 
                 assertTrue(result.contains("import " + ImportConstants.Java.OPTIONAL + ";"));
                 assertTrue(result.contains("import " + ImportConstants.Java.LIST + ";"));
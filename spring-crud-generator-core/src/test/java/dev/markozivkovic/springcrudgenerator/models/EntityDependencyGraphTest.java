@@ -0,0 +1,97 @@
+package dev.markozivkovic.springcrudgenerator.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EntityDependencyGraphTest {
+
+    private FieldDefinition field(final String name, final String type) {
+        return new FieldDefinition().setName(name).setType(type);
+    }
+
+    private FieldDefinition relation(final String name, final String type) {
+        return field(name, type).setRelation(new RelationDefinition().setType("ManyToOne"));
+    }
+
+    private ModelDefinition model(final String name, final FieldDefinition... fields) {
+        return new ModelDefinition()
+                .setName(name)
+                .setFields(new ArrayList<>(List.of(fields)));
+    }
+
+    private EntityDependencyGraph graph() {
+        return EntityDependencyGraph.of(List.of(
+                model("Order", field("id", "Long"), relation("product", "Product"), field("address", "JSON<Address>")),
+                model("Product", field("id", "Long"), relation("category", "Category")),
+                model("Category", field("id", "Long"), relation("parent", "Category")),
+                model("Address", field("street", "String")),
+                model("User", field("id", "Long"), relation("external", "Unknown"))
+        ));
+    }
+
+    @Test
+    @DisplayName("of builds direct dependencies from relations and JSON fields, ignoring self and unknown references")
+    void of_shouldBuildDirectDependencies() {
+
+        final EntityDependencyGraph graph = graph();
+
+        assertEquals(Set.of("Address", "Product"), graph.dependenciesOf("Order"));
+        assertEquals(Set.of("Category"), graph.dependenciesOf("Product"));
+        assertTrue(graph.dependenciesOf("Category").isEmpty());
+        assertTrue(graph.dependenciesOf("User").isEmpty());
+        assertTrue(graph.dependenciesOf("Missing").isEmpty());
+    }
+
+    @Test
+    @DisplayName("dependentsOf returns entities that directly reference the given entity")
+    void dependentsOf_shouldReturnDirectDependents() {
+
+        final EntityDependencyGraph graph = graph();
+
+        assertEquals(Set.of("Order"), graph.dependentsOf("Product"));
+        assertEquals(Set.of("Product"), graph.dependentsOf("Category"));
+        assertTrue(graph.dependentsOf("Order").isEmpty());
+    }
+
+    @Test
+    @DisplayName("transitiveDependencies returns all direct and transitive dependencies without the entity itself")
+    void transitiveDependencies_shouldReturnClosure() {
+
+        final EntityDependencyGraph graph = graph();
+
+        assertEquals(Set.of("Address", "Category", "Product"), graph.transitiveDependencies("Order"));
+        assertTrue(graph.transitiveDependencies("Category").isEmpty());
+    }
+
+    @Test
+    @DisplayName("transitiveDependents returns the given entities and all their direct and transitive dependents")
+    void transitiveDependents_shouldReturnClosure() {
+
+        final EntityDependencyGraph graph = graph();
+
+        assertEquals(Set.of("Category", "Order", "Product"), graph.transitiveDependents(List.of("Category")));
+        assertEquals(Set.of("Address", "Order", "User"), graph.transitiveDependents(List.of("Address", "User")));
+        assertTrue(graph.transitiveDependents(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("transitiveDependents terminates on cyclic dependencies")
+    void transitiveDependents_shouldHandleCycles() {
+
+        final EntityDependencyGraph graph = EntityDependencyGraph.of(List.of(
+                model("A", relation("b", "B")),
+                model("B", relation("a", "A"))
+        ));
+
+        assertEquals(Set.of("A", "B"), graph.transitiveDependents(List.of("A")));
+        assertEquals(Set.of("B"), graph.transitiveDependencies("A"));
+    }
+
+}
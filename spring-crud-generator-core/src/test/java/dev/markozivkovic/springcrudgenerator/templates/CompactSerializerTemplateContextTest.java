@@ -0,0 +1,141 @@
+package dev.markozivkovic.springcrudgenerator.templates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.models.AuditDefinition;
+import dev.markozivkovic.springcrudgenerator.models.AuditDefinition.AuditTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
+
+class CompactSerializerTemplateContextTest {
+
+    private static FieldDefinition field(final String name, final String type) {
+        return new FieldDefinition().setName(name).setType(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> fieldByName(final Map<String, Object> ctx, final String name) {
+        return ((List<Map<String, Object>>) ctx.get(TemplateContextConstants.FIELDS)).stream()
+                .filter(field -> name.equals(field.get("name")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void computeCompactSerializerContext_shouldMapBasicTypesToNativeKinds() {
+
+        final ModelDefinition model = new ModelDefinition()
+                .setName("Product")
+                .setFields(List.of(
+                        field("id", "Long"),
+                        field("name", "String"),
+                        field("price", "BigDecimal"),
+                        field("uuid", "UUID"),
+                        field("releaseDate", "LocalDate")
+                ));
+
+        final Map<String, Object> ctx = CompactSerializerTemplateContext.computeCompactSerializerContext(model, true, false, 2);
+
+        assertEquals("Product", ctx.get(TemplateContextConstants.CLASS_NAME));
+        assertEquals(2, ctx.get("schemaVersion"));
+        assertEquals("NULLABLE_INT64", fieldByName(ctx, "id").get("kind"));
+        assertEquals("NullableInt64", fieldByName(ctx, "id").get("method"));
+        assertEquals("STRING", fieldByName(ctx, "name").get("kind"));
+        assertEquals("DECIMAL", fieldByName(ctx, "price").get("kind"));
+        assertEquals("STRING", fieldByName(ctx, "uuid").get("kind"));
+        assertEquals("UUID", fieldByName(ctx, "uuid").get("conversion"));
+        assertEquals("DATE", fieldByName(ctx, "releaseDate").get("kind"));
+        assertEquals(List.of("NONE", "UUID"), ctx.get("conversions"));
+        assertEquals(false, ctx.get("usesObjectMapper"));
+        assertEquals(false, ctx.get("usesHandles"));
+
+        final String javaImports = (String) ctx.get("javaImports");
+        assertTrue(javaImports.contains("import java.math.BigDecimal;"));
+        assertTrue(javaImports.contains("import java.time.LocalDate;"));
+        assertTrue(javaImports.contains("import java.util.UUID;"));
+        assertTrue(javaImports.contains("import java.util.Objects;"));
+    }
+
+    @Test
+    void computeCompactSerializerContext_shouldWriteEnumsAsStringsAndJsonFieldsAsBytes() {
+
+        final ModelDefinition model = new ModelDefinition()
+                .setName("Product")
+                .setFields(List.of(
+                        field("id", "Long"),
+                        field("status", "Enum"),
+                        field("details", "JSON<ProductDetails>")
+                ));
+
+        final Map<String, Object> ctx = CompactSerializerTemplateContext.computeCompactSerializerContext(model, true, false, 1);
+
+        assertEquals("STRING", fieldByName(ctx, "status").get("kind"));
+        assertEquals("ENUM", fieldByName(ctx, "status").get("conversion"));
+        assertEquals("StatusEnum", fieldByName(ctx, "status").get("type"));
+        assertEquals("ARRAY_OF_INT8", fieldByName(ctx, "details").get("kind"));
+        assertEquals("JSON", fieldByName(ctx, "details").get("conversion"));
+        assertEquals(false, fieldByName(ctx, "details").get("lazy"));
+        assertEquals(true, ctx.get("usesObjectMapper"));
+        assertEquals(false, ctx.get("usesLazyCheck"));
+    }
+
+    @Test
+    void computeCompactSerializerContext_shouldWriteRelationsAsBytes_andCheckLazyLoadingOnlyForSqlDatabases() {
+
+        final FieldDefinition users = field("users", "User")
+                .setRelation(new RelationDefinition().setType("OneToMany").setUniqueItems(true));
+        final ModelDefinition model = new ModelDefinition()
+                .setName("Product")
+                .setFields(List.of(field("id", "Long"), users));
+
+        final Map<String, Object> sqlCtx = CompactSerializerTemplateContext.computeCompactSerializerContext(model, true, false, 1);
+        final Map<String, Object> mongoCtx = CompactSerializerTemplateContext.computeCompactSerializerContext(model, false, false, 1);
+
+        assertEquals("Set<User>", fieldByName(sqlCtx, "users").get("type"));
+        assertEquals("ARRAY_OF_INT8", fieldByName(sqlCtx, "users").get("kind"));
+        assertEquals(true, fieldByName(sqlCtx, "users").get("lazy"));
+        assertEquals(true, sqlCtx.get("usesLazyCheck"));
+        assertTrue(((String) sqlCtx.get("javaImports")).contains("import java.util.Set;"));
+        assertEquals(false, fieldByName(mongoCtx, "users").get("lazy"));
+        assertEquals(false, mongoCtx.get("usesLazyCheck"));
+    }
+
+    @Test
+    void computeCompactSerializerContext_shouldAddVersionAuditAndSoftDeleteFields() {
+
+        final ModelDefinition model = new ModelDefinition()
+                .setName("Product")
+                .setFields(List.of(field("id", "Long")))
+                .setSoftDelete(true)
+                .setAudit(new AuditDefinition().setEnabled(true).setType(AuditTypeEnum.INSTANT));
+
+        final Map<String, Object> ctx = CompactSerializerTemplateContext.computeCompactSerializerContext(model, false, true, 1);
+
+        assertEquals("BOOLEAN", fieldByName(ctx, "deleted").get("kind"));
+        assertNull(fieldByName(ctx, "deleted").get("handle"));
+        assertEquals("Long", fieldByName(ctx, "version").get("type"));
+        assertEquals("VERSION", fieldByName(ctx, "version").get("handle"));
+        assertEquals("TIMESTAMP_WITH_TIMEZONE", fieldByName(ctx, "createdAt").get("kind"));
+        assertEquals("INSTANT", fieldByName(ctx, "createdAt").get("conversion"));
+        assertEquals("CREATED_AT", fieldByName(ctx, "createdAt").get("handle"));
+        assertEquals("UPDATED_AT", fieldByName(ctx, "updatedAt").get("handle"));
+        assertEquals(true, ctx.get("usesHandles"));
+
+        final String javaImports = (String) ctx.get("javaImports");
+        assertTrue(javaImports.contains("import java.lang.invoke.VarHandle;"));
+        assertTrue(javaImports.contains("import java.time.Instant;"));
+        assertTrue(javaImports.contains("import java.time.ZoneOffset;"));
+        assertFalse(javaImports.contains("import java.util.UUID;"));
+    }
+
+}
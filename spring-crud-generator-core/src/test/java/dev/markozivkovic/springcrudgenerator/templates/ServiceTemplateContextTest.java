@@ -18,6 +18,7 @@ import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
 import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.SortDefinition;
@@ -66,7 +67,7 @@ class ServiceTemplateContextTest {
             nameUtils.when(() -> ModelNameUtils.stripSuffix("OrderEntity"))
                      .thenReturn("Order");
 
-            final Map<String, Object> ctx = ServiceTemplateContext.createGetAllByIdsMethodContext(model);
+            final Map<String, Object> ctx = ServiceTemplateContext.createGetAllByIdsMethodContext(model, DatabaseType.DEFAULT_IN_CLAUSE_CHUNK_SIZE);
 
             assertEquals("OrderEntity", ctx.get(TemplateContextConstants.MODEL_NAME));
             assertEquals("java.util.UUID", ctx.get(TemplateContextConstants.ID_TYPE));
@@ -74,6 +75,30 @@ class ServiceTemplateContextTest {
             assertEquals("order", ctx.get(TemplateContextConstants.STRIPPED_MODEL_NAME));
             assertEquals("Primary id", ctx.get(TemplateContextConstants.ID_DESCRIPTION));
             assertEquals(true, ctx.get(TemplateContextConstants.GENERATE_JAVA_DOC));
+            assertEquals(2048, ctx.get(TemplateContextConstants.IN_CLAUSE_CHUNK_SIZE));
+        }
+    }
+
+    @Test
+    void createGetAllByIdsMethodContext_shouldSetConfiguredInClauseChunkSize() {
+        final FieldDefinition idField = mock(FieldDefinition.class);
+        when(idField.getType()).thenReturn("Long");
+        when(idField.getName()).thenReturn("id");
+
+        final ModelDefinition model = newModel("OrderEntity", List.of(idField));
+
+        try (final MockedStatic<FieldUtils> fieldUtils = mockStatic(FieldUtils.class);
+             final MockedStatic<ModelNameUtils> nameUtils = mockStatic(ModelNameUtils.class)) {
+
+            fieldUtils.when(() -> FieldUtils.extractIdField(model.getFields()))
+                      .thenReturn(idField);
+
+            nameUtils.when(() -> ModelNameUtils.stripSuffix("OrderEntity"))
+                     .thenReturn("Order");
+
+            final Map<String, Object> ctx = ServiceTemplateContext.createGetAllByIdsMethodContext(model, 4096);
+
+            assertEquals(4096, ctx.get(TemplateContextConstants.IN_CLAUSE_CHUNK_SIZE));
         }
     }
 
@@ -95,7 +120,7 @@ class ServiceTemplateContextTest {
             nameUtils.when(() -> ModelNameUtils.stripSuffix("OrderEntity"))
                      .thenReturn("Order");
 
-            final Map<String, Object> ctx = ServiceTemplateContext.createGetAllByIdsMethodContext(model);
+            final Map<String, Object> ctx = ServiceTemplateContext.createGetAllByIdsMethodContext(model, DatabaseType.DEFAULT_IN_CLAUSE_CHUNK_SIZE);
 
             assertEquals("OrderEntity", ctx.get(TemplateContextConstants.MODEL_NAME));
             assertEquals("Long", ctx.get(TemplateContextConstants.ID_TYPE));
@@ -0,0 +1,282 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
+
+class ArtifactFingerprintUtilsTest {
+
+    private static final List<String> ARTIFACT_KEYS = List.of("service", "controller", "unknown-generator");
+
+    private FieldDefinition field(final String name, final String type) {
+        return new FieldDefinition().setName(name).setType(type);
+    }
+
+    private ModelDefinition model(final String name, final FieldDefinition... fields) {
+        return new ModelDefinition()
+                .setName(name)
+                .setStorageName(name.toLowerCase())
+                .setFields(new ArrayList<>(List.of(fields)));
+    }
+
+    private CrudConfiguration configuration(final boolean cacheEnabled, final int expiration) {
+        return new CrudConfiguration()
+                .setJavaVersion(17)
+                .setCache(new CacheConfiguration().setEnabled(cacheEnabled).setExpiration(expiration));
+    }
+
+    private Map<String, Map<String, String>> fingerprints(final List<ModelDefinition> entities,
+                                                          final CrudConfiguration configuration) {
+        return ArtifactFingerprintUtils.computeArtifactFingerprints(
+                entities, entities, configuration, new PackageConfiguration(), ARTIFACT_KEYS
+        );
+    }
+
+    private void assertInvalidates(final String artifactKey, final CrudConfiguration before, final CrudConfiguration after) {
+
+        final List<ModelDefinition> entities = List.of(model("User", field("id", "Long")));
+        final String beforeFingerprint = ArtifactFingerprintUtils.computeArtifactFingerprints(
+                entities, entities, before, new PackageConfiguration(), List.of(artifactKey)
+        ).get("User").get(artifactKey);
+        final String afterFingerprint = ArtifactFingerprintUtils.computeArtifactFingerprints(
+                entities, entities, after, new PackageConfiguration(), List.of(artifactKey)
+        ).get("User").get(artifactKey);
+
+        assertNotEquals(beforeFingerprint, afterFingerprint);
+    }
+
+    @Test
+    @DisplayName("computeArtifactFingerprints returns one fingerprint per artifact for every entity")
+    void computeArtifactFingerprints_shouldReturnFingerprintPerArtifact() {
+
+        final List<ModelDefinition> entities = List.of(
+                model("User", field("id", "Long")),
+                model("Order", field("id", "Long"))
+        );
+
+        final Map<String, Map<String, String>> result = fingerprints(entities, configuration(true, 60));
+
+        assertEquals(List.of("User", "Order"), List.copyOf(result.keySet()));
+        assertEquals(List.of("controller", "service", "unknown-generator"), List.copyOf(result.get("User").keySet()));
+        assertNotEquals(result.get("User").get("service"), result.get("User").get("controller"));
+        assertNotEquals(result.get("User").get("service"), result.get("Order").get("service"));
+    }
+
+    @Test
+    @DisplayName("computeArtifactFingerprints is stable for equal inputs")
+    void computeArtifactFingerprints_shouldBeStable() {
+
+        final List<ModelDefinition> entities = List.of(model("User", field("id", "Long")));
+
+        assertEquals(
+                fingerprints(entities, configuration(true, 60)),
+                fingerprints(List.of(model("User", field("id", "Long"))), configuration(true, 60))
+        );
+    }
+
+    @Test
+    @DisplayName("Configuration change only invalidates artifacts that read the changed property")
+    void computeArtifactFingerprints_shouldOnlyInvalidateArtifactsReadingChangedProperty() {
+
+        final List<ModelDefinition> entities = List.of(model("User", field("id", "Long")));
+
+        final Map<String, String> before = fingerprints(entities, configuration(true, 60)).get("User");
+        final Map<String, String> expirationChanged = fingerprints(entities, configuration(true, 120)).get("User");
+        final Map<String, String> cacheDisabled = fingerprints(entities, configuration(false, 60)).get("User");
+
+        assertNotEquals(before.get("service"), expirationChanged.get("service"));
+        assertEquals(before.get("controller"), expirationChanged.get("controller"));
+        assertNotEquals(before.get("unknown-generator"), expirationChanged.get("unknown-generator"));
+
+        assertNotEquals(before.get("service"), cacheDisabled.get("service"));
+        assertEquals(before.get("controller"), cacheDisabled.get("controller"));
+    }
+
+    @Test
+    @DisplayName("Change of a referenced entity invalidates the artifacts of the referencing entity")
+    void computeArtifactFingerprints_shouldInvalidateWhenReferencedEntityChanges() {
+
+        final FieldDefinition relation = field("product", "Product").setRelation(new RelationDefinition().setType("ManyToOne"));
+        final ModelDefinition order = model("Order", field("id", "Long"), relation);
+        final ModelDefinition user = model("User", field("id", "Long"));
+
+        final Map<String, Map<String, String>> before = fingerprints(
+                List.of(order, user, model("Product", field("id", "Long"))), configuration(true, 60)
+        );
+        final Map<String, Map<String, String>> after = fingerprints(
+                List.of(order, user, model("Product", field("id", "Long"), field("name", "String"))), configuration(true, 60)
+        );
+
+        assertNotEquals(before.get("Order"), after.get("Order"));
+        assertEquals(before.get("User"), after.get("User"));
+    }
+
+    @Test
+    @DisplayName("Ignore flag does not affect the fingerprints")
+    void computeArtifactFingerprints_shouldIgnoreIgnoreFlag() {
+
+        final Map<String, String> before = fingerprints(
+                List.of(model("User", field("id", "Long"))), configuration(true, 60)
+        ).get("User");
+        final Map<String, String> after = fingerprints(
+                List.of(model("User", field("id", "Long")).setIgnore(false)), configuration(true, 60)
+        ).get("User");
+
+        assertEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("Change of a transitively referenced entity invalidates the artifacts of the referencing entity")
+    void computeArtifactFingerprints_shouldInvalidateWhenTransitivelyReferencedEntityChanges() {
+
+        final ModelDefinition order = model(
+                "Order", field("id", "Long"), field("product", "Product").setRelation(new RelationDefinition().setType("ManyToOne"))
+        );
+        final ModelDefinition product = model(
+                "Product", field("id", "Long"), field("category", "Category").setRelation(new RelationDefinition().setType("ManyToOne"))
+        );
+
+        final Map<String, Map<String, String>> before = fingerprints(
+                List.of(order, product, model("Category", field("id", "Long"))), configuration(true, 60)
+        );
+        final Map<String, Map<String, String>> after = fingerprints(
+                List.of(order, product, model("Category", field("id", "UUID"))), configuration(true, 60)
+        );
+
+        assertNotEquals(before.get("Order").get("service"), after.get("Order").get("service"));
+        assertNotEquals(before.get("Product").get("service"), after.get("Product").get("service"));
+    }
+
+    @Test
+    @DisplayName("Unknown artifact keys depend on the whole configuration")
+    void computeArtifactFingerprints_shouldUseWholeConfigurationForUnknownKey() {
+
+        final List<ModelDefinition> entities = List.of(model("User", field("id", "Long")));
+        final CrudConfiguration changed = configuration(true, 60).setCache(
+                new CacheConfiguration().setEnabled(true).setExpiration(60).setMaxSize(100L)
+        );
+
+        final Map<String, String> before = fingerprints(entities, configuration(true, 60)).get("User");
+        final Map<String, String> after = fingerprints(entities, changed).get("User");
+
+        assertNotEquals(before.get("unknown-generator"), after.get("unknown-generator"));
+        assertEquals(before.get("service"), after.get("service"));
+    }
+
+    @Test
+    @DisplayName("Optimistic locking change invalidates the service")
+    void computeArtifactFingerprints_shouldInvalidateServiceWhenOptimisticLockingChanges() {
+
+        assertInvalidates("service", configuration(true, 60), configuration(true, 60).setOptimisticLocking(true));
+    }
+
+    @Test
+    @DisplayName("Additional properties change invalidates the service")
+    void computeArtifactFingerprints_shouldInvalidateServiceWhenAdditionalPropertiesChange() {
+
+        assertInvalidates("service", configuration(true, 60),
+                configuration(true, 60).setAdditionalProperties(Map.of(AdditionalConfigurationConstants.OPT_LOCK_MAX_ATTEMPTS, 5)));
+    }
+
+    @Test
+    @DisplayName("Optimistic locking change invalidates the business service")
+    void computeArtifactFingerprints_shouldInvalidateBusinessServiceWhenOptimisticLockingChanges() {
+
+        assertInvalidates("business-service", configuration(true, 60), configuration(true, 60).setOptimisticLocking(true));
+    }
+
+    @Test
+    @DisplayName("Additional properties change invalidates the business service")
+    void computeArtifactFingerprints_shouldInvalidateBusinessServiceWhenAdditionalPropertiesChange() {
+
+        assertInvalidates("business-service", configuration(true, 60),
+                configuration(true, 60).setAdditionalProperties(Map.of(AdditionalConfigurationConstants.OPT_LOCK_MAX_ATTEMPTS, 5)));
+    }
+
+    @Test
+    @DisplayName("Cache enabled change invalidates the service test")
+    void computeArtifactFingerprints_shouldInvalidateServiceTestWhenCacheEnabledChanges() {
+
+        assertInvalidates("jpa-service-test", configuration(true, 60), configuration(false, 60));
+    }
+
+    @Test
+    @DisplayName("Cache type change invalidates the service and its test")
+    void computeArtifactFingerprints_shouldInvalidateServiceAndTestWhenCacheTypeChanges() {
+
+        final CrudConfiguration simple = configuration(true, 60);
+        simple.getCache().setType(CacheTypeEnum.SIMPLE);
+        final CrudConfiguration redis = configuration(true, 60);
+        redis.getCache().setType(CacheTypeEnum.REDIS);
+
+        assertInvalidates("service", simple, redis);
+        assertInvalidates("jpa-service-test", simple, redis);
+    }
+
+    @Test
+    @DisplayName("Cache expiration change invalidates the service and its test")
+    void computeArtifactFingerprints_shouldInvalidateServiceAndTestWhenCacheExpirationChanges() {
+
+        assertInvalidates("service", configuration(true, 60), configuration(true, 120));
+        assertInvalidates("jpa-service-test", configuration(true, 60), configuration(true, 120));
+    }
+
+    @Test
+    @DisplayName("IN clause chunk size change invalidates the service")
+    void computeArtifactFingerprints_shouldInvalidateServiceWhenInClauseChunkSizeChanges() {
+
+        assertInvalidates("service", configuration(true, 60), configuration(true, 60).setInClauseChunkSize(500));
+    }
+
+    @Test
+    @DisplayName("Stampede protection change invalidates the service")
+    void computeArtifactFingerprints_shouldInvalidateServiceWhenStampedeProtectionChanges() {
+
+        final CrudConfiguration protectedCache = configuration(true, 60);
+        protectedCache.getCache().setStampedeProtection(true);
+
+        assertInvalidates("service", configuration(true, 60), protectedCache);
+    }
+
+    @Test
+    @DisplayName("New collection relation invalidates the services and service tests of the relation target")
+    void computeArtifactFingerprints_shouldInvalidateTargetServicesWhenReferencingEntityAddsCollectionRelation() {
+
+        final List<String> artifactKeys = List.of("service", "business-service", "jpa-service-test", "business-service-test", "controller");
+        final ModelDefinition product = model("Product", field("id", "Long"));
+        final List<ModelDefinition> before = List.of(model("Order", field("id", "Long")), product);
+        final List<ModelDefinition> after = List.of(
+                model("Order", field("id", "Long"), field("products", "Product").setRelation(new RelationDefinition().setType("OneToMany"))),
+                product
+        );
+
+        final Map<String, String> productBefore = ArtifactFingerprintUtils.computeArtifactFingerprints(
+                before, before, configuration(true, 60), new PackageConfiguration(), artifactKeys
+        ).get("Product");
+        final Map<String, String> productAfter = ArtifactFingerprintUtils.computeArtifactFingerprints(
+                after, after, configuration(true, 60), new PackageConfiguration(), artifactKeys
+        ).get("Product");
+
+        assertNotEquals(productBefore.get("service"), productAfter.get("service"));
+        assertNotEquals(productBefore.get("business-service"), productAfter.get("business-service"));
+        assertNotEquals(productBefore.get("jpa-service-test"), productAfter.get("jpa-service-test"));
+        assertNotEquals(productBefore.get("business-service-test"), productAfter.get("business-service-test"));
+        assertEquals(productBefore.get("controller"), productAfter.get("controller"));
+    }
+
+}
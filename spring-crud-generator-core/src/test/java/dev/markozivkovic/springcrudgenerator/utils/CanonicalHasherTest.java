@@ -0,0 +1,117 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+class CanonicalHasherTest {
+
+    private ModelDefinition model(final String name) {
+        return new ModelDefinition()
+                .setName(name)
+                .setStorageName(name.toLowerCase())
+                .setFields(new ArrayList<>(List.of(new FieldDefinition().setName("id").setType("Long"))));
+    }
+
+    @Test
+    @DisplayName("Equal models produce equal hashes")
+    void add_shouldBeDeterministic() {
+
+        assertEquals(
+                CanonicalHasher.start().add(model("User")).hex(),
+                CanonicalHasher.start().add(model("User")).hex()
+        );
+        assertNotEquals(
+                CanonicalHasher.start().add(model("User")).hex(),
+                CanonicalHasher.start().add(model("Order")).hex()
+        );
+    }
+
+    @Test
+    @DisplayName("Map hashes do not depend on insertion order")
+    void add_shouldHashMapsIndependentOfEntryOrder() {
+
+        final Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", "two");
+        final Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", "two");
+        second.put("a", 1);
+
+        assertEquals(CanonicalHasher.start().add(first).hex(), CanonicalHasher.start().add(second).hex());
+    }
+
+    @Test
+    @DisplayName("Model hashes do not depend on the order in which properties are set")
+    void add_shouldHashModelsIndependentOfPropertyOrder() {
+
+        final CrudConfiguration first = new CrudConfiguration().setJavaVersion(17).setMigrationScripts(true);
+        final CrudConfiguration second = new CrudConfiguration().setMigrationScripts(true).setJavaVersion(17);
+
+        assertEquals(CanonicalHasher.start().add(first).hex(), CanonicalHasher.start().add(second).hex());
+    }
+
+    @Test
+    @DisplayName("Values of different types or boundaries produce different hashes")
+    void add_shouldSeparateTypesAndBoundaries() {
+
+        assertNotEquals(CanonicalHasher.start().add("1").hex(), CanonicalHasher.start().add(1).hex());
+        assertNotEquals(CanonicalHasher.start().add("ab").add("c").hex(), CanonicalHasher.start().add("a").add("bc").hex());
+        assertNotEquals(CanonicalHasher.start().add(null).hex(), CanonicalHasher.start().add("").hex());
+        assertNotEquals(CanonicalHasher.start().add(List.of()).hex(), CanonicalHasher.start().add(Map.of()).hex());
+    }
+
+    @Test
+    @DisplayName("Strings are hashed by their UTF-8 encoding, including supplementary characters")
+    void add_shouldEncodeStringsAsUtf8() {
+
+        assertNotEquals(CanonicalHasher.start().add("é").hex(), CanonicalHasher.start().add("e").hex());
+        assertNotEquals(CanonicalHasher.start().add("😀").hex(), CanonicalHasher.start().add("😁").hex());
+        assertEquals(
+                CanonicalHasher.start().add("x".repeat(2000) + "€").hex(),
+                CanonicalHasher.start().add("x".repeat(2000) + "€").hex()
+        );
+    }
+
+    @Test
+    @DisplayName("addExcluding ignores the excluded properties")
+    void addExcluding_shouldIgnoreExcludedProperties() {
+
+        assertEquals(
+                CanonicalHasher.start().addExcluding(model("User").setIgnore(true), Set.of("ignore")).hex(),
+                CanonicalHasher.start().addExcluding(model("User").setIgnore(false), Set.of("ignore")).hex()
+        );
+        assertNotEquals(
+                CanonicalHasher.start().add(model("User").setIgnore(true)).hex(),
+                CanonicalHasher.start().add(model("User").setIgnore(false)).hex()
+        );
+    }
+
+    @Test
+    @DisplayName("property resolves dotted paths and returns null for unset parents")
+    void property_shouldResolveDottedPaths() {
+
+        final CrudConfiguration configuration = new CrudConfiguration()
+                .setCache(new CacheConfiguration().setEnabled(true));
+
+        assertEquals(true, CanonicalHasher.property(configuration, "cache.enabled"));
+        assertNull(CanonicalHasher.property(configuration, "graphql.enabled"));
+        assertThrows(IllegalArgumentException.class, () -> CanonicalHasher.property(configuration, "cache.unknown"));
+    }
+
+}
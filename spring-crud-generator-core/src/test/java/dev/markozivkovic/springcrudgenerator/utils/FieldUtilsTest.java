@@ -15,6 +15,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import dev.markozivkovic.springcrudgenerator.enums.RelationTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ColumnDefinition;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
@@ -1983,6 +1985,41 @@ class FieldUtilsTest {
         assertTrue(result);
     }
 
+    @Test
+    @DisplayName("hasBulkCreateRelation returns false when the related model has bulk create disabled")
+    void hasBulkCreateRelation_shouldReturnFalse_whenBulkCreateDisabled() {
+
+        final ModelDefinition target = model("Category", List.of());
+
+        final FieldDefinition relationField = fieldWithNameTypeAndRelation(
+                "category", "Category", "ManyToOne", "ALL", "EAGER"
+        );
+
+        final ModelDefinition other = model("Product", List.of(relationField));
+
+        final boolean result = FieldUtils.hasBulkCreateRelation(target, List.of(other));
+
+        assertFalse(result);
+    }
+
+    @Test
+    @DisplayName("hasBulkCreateRelation returns true when a bulk create model has a relation to the target model")
+    void hasBulkCreateRelation_shouldReturnTrue_whenBulkCreateModelHasRelation() {
+
+        final ModelDefinition target = model("Category", List.of());
+
+        final FieldDefinition relationField = fieldWithNameTypeAndRelation(
+                "category", "Category", "ManyToOne", "ALL", "EAGER"
+        );
+
+        final ModelDefinition other = model("Product", List.of(relationField))
+                .setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true)));
+
+        final boolean result = FieldUtils.hasBulkCreateRelation(target, List.of(other));
+
+        assertTrue(result);
+    }
+
     @Test
     @DisplayName("hasRelation returns false when there are no relations")
     void hasRelation_shouldReturnFalse_whenNoRelations() {
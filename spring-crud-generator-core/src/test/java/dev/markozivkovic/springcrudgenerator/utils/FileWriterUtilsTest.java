@@ -1,11 +1,15 @@
 package dev.markozivkovic.springcrudgenerator.utils;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -107,4 +111,46 @@ class FileWriterUtilsTest {
         assertTrue(Files.exists(expectedFile));
         assertEquals(content, Files.readString(expectedFile));
     }
+
+    @Test
+    @DisplayName("writeIfChanged does not rewrite a file whose content is identical")
+    void writeIfChanged_shouldSkipWrite_whenContentIsIdentical() throws IOException {
+
+        final Path file = tempDir.resolve("Same.java");
+        final String content = "class Same {}";
+        final FileTime past = FileTime.fromMillis(1_000_000L);
+
+        assertTrue(FileWriterUtils.writeIfChanged(file, content));
+        Files.setLastModifiedTime(file, past);
+
+        assertFalse(FileWriterUtils.writeIfChanged(file, content));
+        assertEquals(past, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    @DisplayName("writeIfChanged rewrites a file when content differs, including same-size content")
+    void writeIfChanged_shouldWrite_whenContentDiffers() throws IOException {
+
+        final Path file = tempDir.resolve("Changed.java");
+
+        FileWriterUtils.writeIfChanged(file, "class A {}");
+
+        assertTrue(FileWriterUtils.writeIfChanged(file, "class B {}"));
+        assertEquals("class B {}", Files.readString(file));
+
+        assertTrue(FileWriterUtils.writeIfChanged(file, "class Longer {}"));
+        assertEquals("class Longer {}", Files.readString(file));
+    }
+
+    @Test
+    @DisplayName("writeIfChanged creates missing parent directories and writes UTF-8")
+    void writeIfChanged_shouldCreateParentsAndWriteUtf8() throws IOException {
+
+        final Path file = tempDir.resolve("a").resolve("b").resolve("Utf8.java");
+        final String content = "// Žćčđš € ✓";
+
+        assertTrue(FileWriterUtils.writeIfChanged(file, content));
+
+        assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
 }
@@ -1,10 +1,12 @@
 package dev.markozivkovic.springcrudgenerator.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
@@ -14,7 +16,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils.TemplateCacheStorage;
 import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MruCacheStorage;
+import freemarker.cache.SoftCacheStorage;
+import freemarker.cache.StrongCacheStorage;
 import freemarker.template.Configuration;
 
 class FreeMarkerTemplateProcessorUtilsTest {
@@ -31,6 +37,7 @@ class FreeMarkerTemplateProcessorUtilsTest {
     @AfterEach
     void resetTemplateLoader() throws Exception {
         final Configuration cfg = getInternalConfiguration();
+        cfg.setCacheStorage(new StrongCacheStorage());
         cfg.setClassLoaderForTemplateLoading(
                 FreeMarkerTemplateProcessorUtils.class.getClassLoader(),
                 "templates"
@@ -77,4 +84,80 @@ class FreeMarkerTemplateProcessorUtilsTest {
         assertTrue(ex.getMessage().contains("Error processing template: missing.ftl"));
         assertNotNull(ex.getCause());
     }
+
+    @Test
+    @DisplayName("processTemplate writes the rendered template to the supplied writer")
+    void processTemplate_shouldRenderIntoSuppliedWriter() throws Exception {
+
+        Files.writeString(tempDir.resolve("writer.ftl"), "Hi ${name}");
+
+        final Configuration cfg = getInternalConfiguration();
+        cfg.setTemplateLoader(new FileTemplateLoader(tempDir.toFile()));
+
+        final StringWriter out = new StringWriter();
+        out.write("prefix:");
+
+        FreeMarkerTemplateProcessorUtils.processTemplate("writer.ftl", Map.of("name", "Writer"), out);
+
+        assertEquals("prefix:Hi Writer", out.toString());
+    }
+
+    @Test
+    @DisplayName("processTemplate returns independent results when the per-thread buffer is reused")
+    void processTemplate_shouldNotLeakContentBetweenRenders() throws Exception {
+
+        Files.writeString(tempDir.resolve("reuse.ftl"), "${value}");
+
+        final Configuration cfg = getInternalConfiguration();
+        cfg.setTemplateLoader(new FileTemplateLoader(tempDir.toFile()));
+
+        final String first = FreeMarkerTemplateProcessorUtils.processTemplate("reuse.ftl", Map.of("value", "a much longer first value"));
+        final String second = FreeMarkerTemplateProcessorUtils.processTemplate("reuse.ftl", Map.of("value", "short"));
+
+        assertEquals("a much longer first value", first);
+        assertEquals("short", second);
+    }
+
+    @Test
+    @DisplayName("warmUp parses every bundled template")
+    void warmUp_shouldParseAllBundledTemplates() {
+
+        final Map<String, Long> parseTimes = FreeMarkerTemplateProcessorUtils.warmUp();
+
+        assertTrue(parseTimes.containsKey("banner.ftl"));
+        assertTrue(parseTimes.containsKey("service/method/get-all.ftl"));
+        assertTrue(parseTimes.keySet().stream().allMatch(path -> path.endsWith(".ftl")));
+        assertTrue(parseTimes.values().stream().allMatch(time -> time >= 0));
+    }
+
+    @Test
+    @DisplayName("setTemplateCacheStorage applies the selected cache storage policy")
+    void setTemplateCacheStorage_shouldApplyPolicy() throws Exception {
+
+        final Configuration cfg = getInternalConfiguration();
+
+        FreeMarkerTemplateProcessorUtils.setTemplateCacheStorage(TemplateCacheStorage.SOFT);
+        assertInstanceOf(SoftCacheStorage.class, cfg.getCacheStorage());
+
+        FreeMarkerTemplateProcessorUtils.setTemplateCacheStorage(TemplateCacheStorage.MRU);
+        assertInstanceOf(MruCacheStorage.class, cfg.getCacheStorage());
+
+        FreeMarkerTemplateProcessorUtils.setTemplateCacheStorage(TemplateCacheStorage.STRONG);
+        assertInstanceOf(StrongCacheStorage.class, cfg.getCacheStorage());
+    }
+
+    @Test
+    @DisplayName("TemplateCacheStorage.fromString resolves names case-insensitively and defaults to STRONG")
+    void templateCacheStorage_fromString() {
+
+        assertEquals(TemplateCacheStorage.STRONG, TemplateCacheStorage.fromString(null));
+        assertEquals(TemplateCacheStorage.STRONG, TemplateCacheStorage.fromString(" "));
+        assertEquals(TemplateCacheStorage.SOFT, TemplateCacheStorage.fromString("soft"));
+        assertEquals(TemplateCacheStorage.MRU, TemplateCacheStorage.fromString("Mru"));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class, () -> TemplateCacheStorage.fromString("weak")
+        );
+        assertTrue(ex.getMessage().contains("Unsupported template cache storage: weak"));
+    }
 }
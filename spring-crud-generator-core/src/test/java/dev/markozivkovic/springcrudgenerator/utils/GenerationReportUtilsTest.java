@@ -0,0 +1,86 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricCategory;
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics.MetricSnapshot;
+
+class GenerationReportUtilsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        GenerationMetrics.disable();
+    }
+
+    @Test
+    @DisplayName("buildReport should group metrics by category and sum their totals")
+    @SuppressWarnings("unchecked")
+    void buildReport_shouldGroupMetricsByCategory() {
+
+        final List<MetricSnapshot> metrics = List.of(
+            new MetricSnapshot(MetricCategory.TEMPLATE, "a.ftl", 2L, 4_000_000L, 100L, 0L, 0L),
+            new MetricSnapshot(MetricCategory.TEMPLATE, "b.ftl", 1L, 2_000_000L, 50L, 0L, 0L),
+            new MetricSnapshot(MetricCategory.FILE_WRITE, "User.java", 1L, 1_000_000L, 10L, 0L, 1L)
+        );
+
+        final Map<String, Object> report = GenerationReportUtils.buildReport(metrics, 10_000_000L);
+
+        assertEquals(10L, report.get("totalMillis"));
+        final List<Map<String, Object>> categories = (List<Map<String, Object>>) report.get("categories");
+        assertEquals(2, categories.size());
+
+        final Map<String, Object> templates = categories.get(0);
+        assertEquals("TEMPLATE", templates.get("name"));
+        assertEquals(3L, templates.get("count"));
+        assertEquals(6L, templates.get("totalMillis"));
+        assertEquals(150L, templates.get("bytes"));
+        assertEquals(2, ((List<?>) templates.get("metrics")).size());
+
+        final Map<String, Object> fileWrites = categories.get(1);
+        assertEquals("FILE_WRITE", fileWrites.get("name"));
+        assertEquals(1L, fileWrites.get("skipped"));
+    }
+
+    @Test
+    @DisplayName("write should create JSON and HTML reports in the .crud-generator directory")
+    void write_shouldCreateJsonAndHtmlReports() throws Exception {
+
+        GenerationMetrics.enable();
+        GenerationMetrics.record(MetricCategory.GENERATOR, "entity", 3_000_000L, 0L, false);
+
+        GenerationReportUtils.write(tempDir.toString(), 5_000_000L);
+
+        final Path json = tempDir.resolve(".crud-generator").resolve("generation-report.json");
+        final Path html = tempDir.resolve(".crud-generator").resolve("generation-report.html");
+        assertTrue(Files.exists(json));
+        assertTrue(Files.exists(html));
+
+        final JsonNode report = new ObjectMapper().readTree(json.toFile());
+        assertEquals(5L, report.get("totalMillis").asLong());
+        assertEquals("GENERATOR", report.get("categories").get(0).get("name").asText());
+        assertEquals("entity", report.get("categories").get(0).get("metrics").get(0).get("name").asText());
+
+        final String content = Files.readString(html);
+        assertTrue(content.contains("<h2>GENERATOR</h2>"));
+        assertTrue(content.contains("<td>entity</td>"));
+    }
+
+}
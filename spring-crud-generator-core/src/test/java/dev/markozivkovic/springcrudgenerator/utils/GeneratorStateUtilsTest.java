@@ -12,6 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -290,4 +292,49 @@ class GeneratorStateUtilsTest {
         assertNotNull(fp2);
         assertNotEquals(fp1, fp2);
     }
+
+    @Test
+    @DisplayName("findStaleArtifacts returns all artifacts when the model has no stored state")
+    void findStaleArtifacts_shouldReturnAllArtifacts_whenModelStateMissing() {
+
+        final GeneratorState state = generatorState("1.0", "cfg", new ArrayList<>());
+
+        final Set<String> stale = GeneratorStateUtils.findStaleArtifacts(
+                state, "User", Map.of("controller", "fp-controller")
+        );
+
+        assertEquals(Set.of("controller"), stale);
+    }
+
+    @Test
+    @DisplayName("findStaleArtifacts returns only artifacts whose fingerprint changed or is missing")
+    void findStaleArtifacts_shouldReturnChangedAndMissingArtifacts() {
+
+        final ModelState user = modelState("User", "fp-user")
+                .artifacts(new TreeMap<>(Map.of("controller", "fp-controller", "service", "fp-service")));
+        final GeneratorState state = generatorState("1.0", "cfg", new ArrayList<>(List.of(user)));
+
+        final Set<String> stale = GeneratorStateUtils.findStaleArtifacts(
+                state, "User", Map.of("controller", "fp-controller", "service", "fp-service-new", "mapper", "fp-mapper")
+        );
+
+        assertEquals(Set.of("service", "mapper"), stale);
+    }
+
+    @Test
+    @DisplayName("updateArtifactFingerprints adds model state and merges fingerprints into existing state")
+    void updateArtifactFingerprints_shouldAddAndMergeFingerprints() {
+
+        final ModelState user = modelState("User", "fp-user")
+                .artifacts(new TreeMap<>(Map.of("controller", "fp-controller", "service", "fp-service")));
+        final GeneratorState state = generatorState("1.0", "cfg", new ArrayList<>(List.of(user)));
+
+        GeneratorStateUtils.updateArtifactFingerprints(state, "User", Map.of("service", "fp-service-new"));
+        GeneratorStateUtils.updateArtifactFingerprints(state, "Order", Map.of("controller", "fp-order-controller"));
+
+        assertEquals(2, state.getModels().size());
+        assertEquals(Map.of("controller", "fp-controller", "service", "fp-service-new"), state.getModels().get(0).getArtifacts());
+        assertEquals("Order", state.getModels().get(1).getName());
+        assertEquals(Map.of("controller", "fp-order-controller"), state.getModels().get(1).getArtifacts());
+    }
 }
@@ -63,4 +63,22 @@ class HashUtilsTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    @DisplayName("toHex encodes bytes as zero-padded lower case hexadecimal")
+    void toHex_shouldEncodeBytesAsLowerCaseHex() {
+
+        assertEquals("00017f80ff", HashUtils.toHex(new byte[] { 0x00, 0x01, 0x7f, (byte) 0x80, (byte) 0xff }));
+        assertEquals("", HashUtils.toHex(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("sha256 returns the same hash when called repeatedly on the same thread")
+    void sha256_shouldNotCarryStateBetweenCalls() {
+
+        final String first = HashUtils.sha256("hello");
+        HashUtils.sha256("something else");
+
+        assertEquals(first, HashUtils.sha256("hello"));
+    }
 }
@@ -0,0 +1,170 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
+import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.AuditDefinition;
+import dev.markozivkovic.springcrudgenerator.models.AuditDefinition.AuditTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.SortDefinition;
+
+class PaginationUtilsTest {
+
+    private static ModelDefinition newKeysetModel(final List<String> sortFields) {
+        final FieldDefinition id = new FieldDefinition()
+                .setName("id")
+                .setType("Long")
+                .setId(new IdDefinition());
+        final FieldDefinition name = new FieldDefinition()
+                .setName("name")
+                .setType("String");
+        final FieldDefinition releaseDate = new FieldDefinition()
+                .setName("releaseDate")
+                .setType("LocalDate");
+
+        final ModelDefinition model = new ModelDefinition()
+                .setName("ProductModel")
+                .setFields(List.of(id, name, releaseDate))
+                .setPagination(PaginationTypeEnum.KEYSET);
+        if (!sortFields.isEmpty()) {
+            model.setSort(new SortDefinition().setAllowedFields(sortFields));
+        }
+        return model;
+    }
+
+    @Test
+    @DisplayName("isKeysetPagination should be false for null model, missing and offset pagination")
+    void isKeysetPagination_shouldBeFalse_whenNotConfigured() {
+        assertFalse(PaginationUtils.isKeysetPagination(null));
+        assertFalse(PaginationUtils.isKeysetPagination(new ModelDefinition()));
+        assertFalse(PaginationUtils.isKeysetPagination(new ModelDefinition().setPagination(PaginationTypeEnum.OFFSET)));
+    }
+
+    @Test
+    @DisplayName("isKeysetPagination should be true when pagination is keyset")
+    void isKeysetPagination_shouldBeTrue_whenKeyset() {
+        assertTrue(PaginationUtils.isKeysetPagination(newKeysetModel(List.of())));
+    }
+
+    @Test
+    @DisplayName("isSlicePagination should be true only when pagination is slice")
+    void isSlicePagination_shouldBeTrue_onlyWhenSlice() {
+        assertFalse(PaginationUtils.isSlicePagination(null));
+        assertFalse(PaginationUtils.isSlicePagination(new ModelDefinition()));
+        assertFalse(PaginationUtils.isSlicePagination(newKeysetModel(List.of())));
+        assertTrue(PaginationUtils.isSlicePagination(new ModelDefinition().setPagination(PaginationTypeEnum.SLICE)));
+    }
+
+    @Test
+    @DisplayName("resolvePaginationType should default to offset when pagination is not configured")
+    void resolvePaginationType_shouldDefaultToOffset() {
+        assertEquals(PaginationTypeEnum.OFFSET, PaginationUtils.resolvePaginationType(null));
+        assertEquals(PaginationTypeEnum.OFFSET, PaginationUtils.resolvePaginationType(new ModelDefinition()));
+        assertEquals(PaginationTypeEnum.SLICE, PaginationUtils.resolvePaginationType(new ModelDefinition().setPagination(PaginationTypeEnum.SLICE)));
+    }
+
+    @Test
+    @DisplayName("computePageTransferObjectName should return SliceTO for slice pagination and PageTO otherwise")
+    void computePageTransferObjectName_shouldDependOnPagination() {
+        assertEquals(GeneratorConstants.SLICE_TO, PaginationUtils.computePageTransferObjectName(new ModelDefinition().setPagination(PaginationTypeEnum.SLICE)));
+        assertEquals(GeneratorConstants.PAGE_TO, PaginationUtils.computePageTransferObjectName(newKeysetModel(List.of())));
+        assertEquals(GeneratorConstants.PAGE_TO, PaginationUtils.computePageTransferObjectName(new ModelDefinition()));
+    }
+
+    @Test
+    @DisplayName("isCountCached should be true only for slice pagination with an expiring, non-simple cache")
+    void isCountCached_shouldRequireSliceAndExpiringCache() {
+        final ModelDefinition slice = new ModelDefinition().setPagination(PaginationTypeEnum.SLICE);
+        final CacheConfiguration caffeine = new CacheConfiguration()
+                .setEnabled(true)
+                .setType(CacheTypeEnum.CAFFEINE)
+                .setExpiration(10);
+
+        assertTrue(PaginationUtils.isCountCached(slice, caffeine));
+        assertFalse(PaginationUtils.isCountCached(new ModelDefinition(), caffeine));
+        assertFalse(PaginationUtils.isCountCached(slice, null));
+        assertFalse(PaginationUtils.isCountCached(slice, new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.CAFFEINE)));
+        assertFalse(PaginationUtils.isCountCached(slice, new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.SIMPLE).setExpiration(10)));
+        assertFalse(PaginationUtils.isCountCached(slice, new CacheConfiguration().setEnabled(false).setType(CacheTypeEnum.REDIS).setExpiration(10)));
+    }
+
+    @Test
+    @DisplayName("resolveCursorFields should return empty list when keyset pagination is disabled")
+    void resolveCursorFields_shouldReturnEmpty_whenOffset() {
+        final ModelDefinition model = newKeysetModel(List.of("name")).setPagination(null);
+
+        assertEquals(List.of(), PaginationUtils.resolveCursorFields(model));
+    }
+
+    @Test
+    @DisplayName("resolveCursorFields should return sort fields followed by the ID field")
+    void resolveCursorFields_shouldReturnSortFieldsThenId() {
+        final ModelDefinition model = newKeysetModel(List.of("name", "id", "releaseDate"));
+
+        final List<Map<String, String>> result = PaginationUtils.resolveCursorFields(model);
+
+        assertEquals(List.of("name", "releaseDate", "id"), result.stream().map(field -> field.get("name")).toList());
+        assertEquals(
+                Map.of("name", "releaseDate", "getter", "getReleaseDate", "parser", "java.time.LocalDate.parse(value)"),
+                result.get(1)
+        );
+        assertEquals("Long.valueOf(value)", result.get(2).get("parser"));
+    }
+
+    @Test
+    @DisplayName("resolveCursorFields should resolve generated audit fields by audit type")
+    void resolveCursorFields_shouldResolveAuditFields() {
+        final ModelDefinition model = newKeysetModel(List.of("createdAt"))
+                .setAudit(new AuditDefinition().setEnabled(true).setType(AuditTypeEnum.INSTANT));
+
+        final List<Map<String, String>> result = PaginationUtils.resolveCursorFields(model);
+
+        assertEquals("java.time.Instant.parse(value)", result.get(0).get("parser"));
+    }
+
+    @Test
+    @DisplayName("computeCursorValueParser should map basic and enum types to parse expressions")
+    void computeCursorValueParser_shouldMapTypes() {
+        assertEquals("value", PaginationUtils.computeCursorValueParser("String"));
+        assertEquals("value.charAt(0)", PaginationUtils.computeCursorValueParser("Character"));
+        assertEquals("Integer.valueOf(value)", PaginationUtils.computeCursorValueParser("Integer"));
+        assertEquals("java.util.UUID.fromString(value)", PaginationUtils.computeCursorValueParser("UUID"));
+        assertEquals("new java.math.BigDecimal(value)", PaginationUtils.computeCursorValueParser("BigDecimal"));
+        assertEquals("java.time.LocalDateTime.parse(value)", PaginationUtils.computeCursorValueParser("LocalDateTime"));
+        assertEquals("StatusEnum.valueOf(value)", PaginationUtils.computeCursorValueParser("StatusEnum"));
+    }
+
+    @Test
+    @DisplayName("computeCursorValueParser should reject types that cannot be part of a cursor")
+    void computeCursorValueParser_shouldThrow_whenTypeNotSupported() {
+        assertThrows(IllegalArgumentException.class, () -> PaginationUtils.computeCursorValueParser("Byte[]"));
+    }
+
+    @Test
+    @DisplayName("contributePaginationContext should put keysetPagination and slicePagination flags")
+    void contributePaginationContext_shouldPutFlag() {
+        final Map<String, Object> context = new HashMap<>();
+
+        PaginationUtils.contributePaginationContext(newKeysetModel(List.of()), context);
+
+        assertEquals(true, context.get(TemplateContextConstants.KEYSET_PAGINATION));
+        assertEquals(false, context.get(TemplateContextConstants.SLICE_PAGINATION));
+    }
+
+}
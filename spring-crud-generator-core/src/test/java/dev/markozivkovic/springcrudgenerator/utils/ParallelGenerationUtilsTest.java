@@ -0,0 +1,84 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+class ParallelGenerationUtilsTest {
+
+    private static List<ModelDefinition> entities(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ModelDefinition().setName("Entity" + i))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("resolveParallelism returns available processors for null or non-positive values")
+    void resolveParallelism_nonPositive_returnsAvailableProcessors() {
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+
+        assertEquals(processors, ParallelGenerationUtils.resolveParallelism(null));
+        assertEquals(processors, ParallelGenerationUtils.resolveParallelism(0));
+        assertEquals(processors, ParallelGenerationUtils.resolveParallelism(-3));
+        assertEquals(4, ParallelGenerationUtils.resolveParallelism(4));
+    }
+
+    @Test
+    @DisplayName("generate with parallelism 1 processes entities sequentially in order")
+    void generate_sequential_preservesOrder() {
+
+        final List<ModelDefinition> entities = entities(5);
+        final List<String> visited = new ArrayList<>();
+
+        ParallelGenerationUtils.generate((model, outputDir) -> visited.add(model.getName()), entities, "out", 1);
+
+        assertEquals(entities.stream().map(ModelDefinition::getName).toList(), visited);
+    }
+
+    @Test
+    @DisplayName("generate with parallelism > 1 processes every entity exactly once")
+    void generate_parallel_processesAllEntities() {
+
+        final List<ModelDefinition> entities = entities(50);
+        final Set<String> visited = ConcurrentHashMap.newKeySet();
+        final Set<String> outputDirs = ConcurrentHashMap.newKeySet();
+
+        ParallelGenerationUtils.generate((model, outputDir) -> {
+            assertTrue(visited.add(model.getName()));
+            outputDirs.add(outputDir);
+        }, entities, "out", 4);
+
+        assertEquals(50, visited.size());
+        assertEquals(Set.of("out"), outputDirs);
+    }
+
+    @Test
+    @DisplayName("generate rethrows the failure of the first failing entity")
+    void generate_parallel_rethrowsFirstFailure() {
+
+        final List<ModelDefinition> entities = entities(10);
+
+        final IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                ParallelGenerationUtils.generate((model, outputDir) -> {
+                    if (model.getName().equals("Entity3") || model.getName().equals("Entity7")) {
+                        throw new IllegalStateException(model.getName());
+                    }
+                }, entities, "out", 4)
+        );
+
+        assertEquals("Entity3", ex.getMessage());
+    }
+
+}
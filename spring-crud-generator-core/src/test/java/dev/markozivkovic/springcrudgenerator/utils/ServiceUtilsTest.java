@@ -0,0 +1,120 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.ExportDefinition;
+import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
+
+class ServiceUtilsTest {
+
+    private static ModelDefinition newModel(final String name, final List<FieldDefinition> fields) {
+        return new ModelDefinition()
+                .setName(name)
+                .setFields(fields);
+    }
+
+    private static BulkDefinition chunkedBulkCreate() {
+        return new BulkDefinition().setCreate(new BulkCreateDefinition().setEnabled(true).setChunkSize(100));
+    }
+
+    private static FieldDefinition relationTo(final String type, final String relationType, final String cascade) {
+        return new FieldDefinition()
+                .setName(type.toLowerCase())
+                .setType(type)
+                .setRelation(new RelationDefinition().setType(relationType).setCascade(cascade));
+    }
+
+    @Test
+    @DisplayName("hasGetAllByIds should be true for collection relations and bulk create relations only")
+    void hasGetAllByIds_shouldDependOnReferencingEntities() {
+
+        final ModelDefinition tag = newModel("TagModel", List.of());
+        final ModelDefinition category = newModel("CategoryModel", List.of());
+        final ModelDefinition brand = newModel("BrandModel", List.of());
+        final ModelDefinition product = newModel("ProductModel", List.of(
+                relationTo("TagModel", "ManyToMany", null),
+                relationTo("BrandModel", "ManyToOne", null)
+        ));
+        final ModelDefinition order = newModel("OrderModel", List.of(relationTo("CategoryModel", "ManyToOne", null)))
+                .setBulk(chunkedBulkCreate());
+        final List<ModelDefinition> entities = List.of(tag, category, brand, product, order);
+
+        assertTrue(ServiceUtils.hasGetAllByIds(tag, entities));
+        assertTrue(ServiceUtils.hasGetAllByIds(category, entities));
+        assertFalse(ServiceUtils.hasGetAllByIds(brand, entities));
+        assertFalse(ServiceUtils.hasGetAllByIds(product, entities));
+    }
+
+    @Test
+    @DisplayName("isFlushBulkChunks should be true only for chunked bulk create on JPA")
+    void isFlushBulkChunks_shouldRequireChunkedBulkCreateOnJpa() {
+
+        final ModelDefinition chunked = newModel("ProductModel", List.of()).setBulk(chunkedBulkCreate());
+        final ModelDefinition unchunked = newModel("ProductModel", List.of())
+                .setBulk(new BulkDefinition().setCreate(new BulkCreateDefinition().setEnabled(true)));
+
+        assertTrue(ServiceUtils.isFlushBulkChunks(new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL), chunked));
+        assertFalse(ServiceUtils.isFlushBulkChunks(new CrudConfiguration().setDatabase(DatabaseType.MONGODB), chunked));
+        assertFalse(ServiceUtils.isFlushBulkChunks(new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL), unchunked));
+    }
+
+    @Test
+    @DisplayName("isDetachBulkChunks should be false when a relation cascades")
+    void isDetachBulkChunks_shouldBeFalse_whenCascadeDefined() {
+
+        final CrudConfiguration configuration = new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL);
+        final ModelDefinition plain = newModel("ProductModel", List.of(relationTo("BrandModel", "ManyToOne", null)))
+                .setBulk(chunkedBulkCreate());
+        final ModelDefinition cascading = newModel("ProductModel", List.of(relationTo("BrandModel", "ManyToOne", "ALL")))
+                .setBulk(chunkedBulkCreate());
+
+        assertTrue(ServiceUtils.isDetachBulkChunks(configuration, plain));
+        assertFalse(ServiceUtils.isDetachBulkChunks(configuration, cascading));
+    }
+
+    @Test
+    @DisplayName("usesEntityManager should be true for chunked bulk create or export on JPA")
+    void usesEntityManager_shouldRequireFlushOrExportOnJpa() {
+
+        final CrudConfiguration jpa = new CrudConfiguration().setDatabase(DatabaseType.POSTGRESQL);
+        final CrudConfiguration mongo = new CrudConfiguration().setDatabase(DatabaseType.MONGODB);
+        final ModelDefinition exported = newModel("ProductModel", List.of()).setExport(new ExportDefinition().setEnabled(true));
+
+        assertTrue(ServiceUtils.usesEntityManager(jpa, exported));
+        assertTrue(ServiceUtils.usesEntityManager(jpa, newModel("ProductModel", List.of()).setBulk(chunkedBulkCreate())));
+        assertFalse(ServiceUtils.usesEntityManager(mongo, exported));
+        assertFalse(ServiceUtils.usesEntityManager(jpa, newModel("ProductModel", List.of())));
+    }
+
+    @Test
+    @DisplayName("usesCacheHelper should require an enabled cache and bulk create or getAllByIds")
+    void usesCacheHelper_shouldRequireEnabledCache() {
+
+        final CrudConfiguration cached = new CrudConfiguration().setCache(new CacheConfiguration().setEnabled(true));
+        final CrudConfiguration uncached = new CrudConfiguration().setCache(new CacheConfiguration().setEnabled(false));
+        final ModelDefinition bulk = newModel("ProductModel", List.of()).setBulk(chunkedBulkCreate());
+        final ModelDefinition tag = newModel("TagModel", List.of());
+        final ModelDefinition product = newModel("ProductModel", List.of(relationTo("TagModel", "OneToMany", null)));
+        final List<ModelDefinition> entities = List.of(tag, product);
+
+        assertTrue(ServiceUtils.usesCacheHelper(cached, bulk, List.of(bulk)));
+        assertTrue(ServiceUtils.usesCacheHelper(cached, tag, entities));
+        assertFalse(ServiceUtils.usesCacheHelper(cached, product, entities));
+        assertFalse(ServiceUtils.usesCacheHelper(uncached, bulk, List.of(bulk)));
+        assertFalse(ServiceUtils.usesCacheHelper(new CrudConfiguration(), bulk, List.of(bulk)));
+    }
+
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 
 class CacheConfigurationValidatorTest {
@@ -153,4 +154,56 @@ class CacheConfigurationValidatorTest {
 
         assertDoesNotThrow(() -> CacheConfigurationValidator.validate(config));
     }
+
+    @Test
+    @DisplayName("Should throw when COMPACT serialization is used without HAZELCAST cache")
+    void validate_compactSerializationWithRedis_throwsIllegalArgumentException() {
+
+        final CacheConfiguration config = new CacheConfiguration();
+        config.setEnabled(true);
+        config.setType(CacheTypeEnum.REDIS);
+        config.setSerialization(CacheSerializationEnum.COMPACT);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CacheConfigurationValidator.validate(config));
+    }
+
+    @Test
+    @DisplayName("Should accept COMPACT serialization for HAZELCAST cache")
+    void validate_compactSerializationWithHazelcast_doesNotThrow() {
+
+        final CacheConfiguration config = new CacheConfiguration();
+        config.setEnabled(true);
+        config.setType(CacheTypeEnum.HAZELCAST);
+        config.setSerialization(CacheSerializationEnum.COMPACT);
+        config.setSchemaVersion(2);
+
+        assertDoesNotThrow(() -> CacheConfigurationValidator.validate(config));
+    }
+
+    @Test
+    @DisplayName("Should ignore serialization for CAFFEINE cache")
+    void validate_serializationWithCaffeine_ignoredWithoutException() {
+
+        final CacheConfiguration config = new CacheConfiguration();
+        config.setEnabled(true);
+        config.setType(CacheTypeEnum.CAFFEINE);
+        config.setSerialization(CacheSerializationEnum.SMILE);
+
+        assertDoesNotThrow(() -> CacheConfigurationValidator.validate(config));
+    }
+
+    @Test
+    @DisplayName("Should throw when cache.schemaVersion <= 0")
+    void validate_schemaVersionZero_throwsIllegalArgumentException() {
+
+        final CacheConfiguration config = new CacheConfiguration();
+        config.setEnabled(true);
+        config.setType(CacheTypeEnum.REDIS);
+        config.setSerialization(CacheSerializationEnum.CBOR);
+        config.setSchemaVersion(0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CacheConfigurationValidator.validate(config));
+    }
 }
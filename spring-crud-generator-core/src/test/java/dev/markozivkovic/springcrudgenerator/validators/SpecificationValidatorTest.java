@@ -15,16 +15,24 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
+import dev.markozivkovic.springcrudgenerator.enums.PaginationTypeEnum;
 import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
+import dev.markozivkovic.springcrudgenerator.models.BulkCreateDefinition;
+import dev.markozivkovic.springcrudgenerator.models.BulkDefinition;
+import dev.markozivkovic.springcrudgenerator.models.CacheDefinition;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DockerConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.TestConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.ExportDefinition;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition.IdStrategyEnum;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition.IndexFieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition.JoinTableDefinition;
@@ -316,6 +324,38 @@ class SpecificationValidatorTest {
         assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
     }
 
+    @Test
+    @DisplayName("Should throw when IN clause chunk size is not positive")
+    void validate_inClauseChunkSizeNotPositive_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getConfiguration().setInClauseChunkSize(0);
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("IN clause chunk size must be greater than 0"));
+    }
+
+    @Test
+    @DisplayName("Should throw when IN clause chunk size exceeds the SQL Server parameter limit")
+    void validate_inClauseChunkSizeAboveMssqlLimit_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getConfiguration()
+                .setDatabase(DatabaseType.MSSQL)
+                .setInClauseChunkSize(2049);
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Maximum supported chunk size is 2048"));
+    }
+
     @Test
     @DisplayName("Should throw when model name is blank")
     void validate_modelNameBlank_throwsIllegalArgumentException() {
@@ -593,6 +633,219 @@ class SpecificationValidatorTest {
         assertTrue(ex.getMessage().contains("Sort field 'unknownField' is not valid for model User"));
     }
 
+    @Test
+    @DisplayName("Should allow keyset pagination with basic ID type and sort fields")
+    void validate_keysetPaginationWithBasicTypes_ok() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        final ModelDefinition model = spec.getEntities().get(0);
+
+        model.setPagination(PaginationTypeEnum.KEYSET);
+        model.setSort(newSort(List.of("name")));
+
+        assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
+    }
+
+    @Test
+    @DisplayName("Should throw when keyset pagination is used with a non-basic ID type")
+    void validate_keysetPaginationWithNonBasicIdType_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        final ModelDefinition model = spec.getEntities().get(0);
+
+        model.setPagination(PaginationTypeEnum.KEYSET);
+        getFirstField(model).setType("Byte[]");
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Keyset pagination for model User is not supported with ID type Byte[]"));
+    }
+
+    @Test
+    @DisplayName("Should allow bulk create with a positive chunk size")
+    void validate_bulkCreateWithPositiveChunkSize_ok() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(500)));
+
+        assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
+    }
+
+    @Test
+    @DisplayName("Should throw when bulk create chunk size is not positive")
+    void validate_bulkCreateWithNonPositiveChunkSize_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setBulk(new BulkDefinition(new BulkCreateDefinition().setEnabled(true).setChunkSize(0)));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Bulk create chunk size for model User must be greater than 0, but was 0."));
+    }
+
+    @Test
+    @DisplayName("Should throw when export fetch size is not positive")
+    void validate_exportWithNonPositiveFetchSize_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setExport(new ExportDefinition(true, -1));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Export fetch size for model User must be greater than 0, but was -1."));
+    }
+
+    @Test
+    @DisplayName("Should throw when streaming bulk import has no chunk size")
+    void validate_bulkStreamingWithoutChunkSize_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setBulk(new BulkDefinition(
+                new BulkCreateDefinition().setEnabled(true).setStreaming(true)
+        ));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Streaming bulk import for model User requires bulk.create.chunkSize to be set."));
+    }
+
+    @Test
+    @DisplayName("Should allow list projection of existing fields")
+    void validate_listProjectionOfExistingFields_ok() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setListProjection(List.of("name"));
+
+        assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
+    }
+
+    @Test
+    @DisplayName("Should throw when list projection references unknown field or keyset pagination is used")
+    void validate_listProjectionUnknownFieldWithKeyset_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0)
+                .setListProjection(List.of("missing"))
+                .setPagination(PaginationTypeEnum.KEYSET);
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("List projection field 'missing' is not valid for model User. It must match an existing field."));
+        assertTrue(ex.getMessage().contains("List projection for model User is not supported with keyset pagination."));
+    }
+
+    @Test
+    @DisplayName("Should throw when entity cache settings are used without a two-level cache or are out of range")
+    void validate_entityCacheSettings_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setCache(new CacheDefinition().setLocalExpiration(5));
+
+        final IllegalArgumentException withoutTwoLevel = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+        assertTrue(withoutTwoLevel.getMessage().contains("Cache settings of model User are only supported with cache type TWO_LEVEL."));
+
+        spec.getConfiguration().setCache(new CacheConfiguration(true, CacheTypeEnum.TWO_LEVEL, null, 2));
+        spec.getEntities().get(0).setCache(new CacheDefinition().setLocalMaxSize(0L).setLocalExpiration(5));
+
+        final IllegalArgumentException outOfRange = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+        assertTrue(outOfRange.getMessage().contains("Local cache max size for model User must be greater than 0, but was 0."));
+        assertTrue(outOfRange.getMessage().contains("Local cache expiration for model User must not exceed cache.expiration (2), but was 5."));
+    }
+
+    @Test
+    @DisplayName("Should allow explicit indexes on existing fields")
+    void validate_indexesOnExistingFields_ok() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getConfiguration().setDatabase(DatabaseType.POSTGRESQL);
+        spec.getEntities().get(0).setIndexes(List.of(new IndexDefinition()
+                .setName("ix_user_name")
+                .setFields(List.of(new IndexFieldDefinition().setName("name").setDirection(SortDirection.DESC)))
+                .setInclude(List.of("id"))
+                .setWhere("name IS NOT NULL")));
+
+        assertDoesNotThrow(() -> SpecificationValidator.validate(spec));
+    }
+
+    @Test
+    @DisplayName("Should throw when an index references an unknown field or has no fields")
+    void validate_indexWithUnknownOrMissingFields_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setIndexes(List.of(
+                new IndexDefinition().setFields(List.of(new IndexFieldDefinition().setName("email"))),
+                new IndexDefinition().setName("ix_user_empty")
+        ));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Index field 'email' is not valid for model User. It must match an existing field."));
+        assertTrue(ex.getMessage().contains("Index declaration in model User must define a non-empty fields list."));
+    }
+
+    @Test
+    @DisplayName("Should throw when index names are duplicated")
+    void validate_indexDuplicatedName_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setIndexes(List.of(
+                new IndexDefinition().setName("ix_user_name").setFields(List.of(new IndexFieldDefinition().setName("name"))),
+                new IndexDefinition().setName("ix_user_name").setFields(List.of(new IndexFieldDefinition().setName("id")))
+        ));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Index name 'ix_user_name' in model User is duplicated."));
+    }
+
+    @Test
+    @DisplayName("Should throw when partial indexes or included columns are not supported by the database")
+    void validate_indexOptionsNotSupportedByDatabase_throwsIllegalArgumentException() {
+
+        final CrudSpecification spec = buildValidSpecification();
+        spec.getEntities().get(0).setIndexes(List.of(new IndexDefinition()
+                .setFields(List.of(new IndexFieldDefinition().setName("name")))
+                .setInclude(List.of("id"))
+                .setWhere("name IS NOT NULL")));
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationValidator.validate(spec)
+        );
+
+        assertTrue(ex.getMessage().contains("Partial index (where) in model User is not supported on MYSQL."));
+        assertTrue(ex.getMessage().contains(
+                "Included columns (include) in index of model User are only supported on POSTGRESQL and MSSQL, but database is MYSQL."
+        ));
+    }
+
     @Test
     @DisplayName("Should allow sort by generated audit fields when audit is enabled")
     void validate_sortAuditFieldsAllowedWhenAuditEnabled_ok() {
@@ -27,11 +27,13 @@ import dev.markozivkovic.springcrudgenerator.imports.RepositoryImports;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+import dev.markozivkovic.springcrudgenerator.templates.ListProjectionTemplateContext;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
 import dev.markozivkovic.springcrudgenerator.utils.PackageUtils;
+import dev.markozivkovic.springcrudgenerator.utils.PaginationUtils;
 
 /**
  * Generates Spring Data MongoDB repository interfaces.
@@ -62,17 +64,25 @@ public class MongoRepositoryGenerator implements CodeGenerator {
 
         final StringBuilder sb = new StringBuilder();
         sb.append(String.format(PACKAGE, PackageUtils.computeRepositoryPackage(packagePath, this.packageConfiguration)));
+        final boolean softDeleteEnabled = Boolean.TRUE.equals(modelDefinition.getSoftDelete());
+        final boolean keysetPagination = PaginationUtils.isKeysetPagination(modelDefinition);
+        final boolean slicePagination = PaginationUtils.isSlicePagination(modelDefinition);
+
         sb.append(RepositoryImports.computeMongoRepositoryImports(packagePath, this.packageConfiguration, modelDefinition.getName(),
-                Boolean.TRUE.equals(modelDefinition.getSoftDelete())));
+                softDeleteEnabled, PaginationUtils.resolvePaginationType(modelDefinition), modelDefinition.isExportEnabled(),
+                modelDefinition.isListProjectionEnabled()));
         sb.append(System.lineSeparator());
 
-        final boolean softDeleteEnabled = Boolean.TRUE.equals(modelDefinition.getSoftDelete());
-
         final Map<String, Object> context = Map.of(
                 "className", className,
                 "modelName", modelDefinition.getName(),
                 "idType", idField.getType(),
-                "softDeleteEnabled", softDeleteEnabled
+                "softDeleteEnabled", softDeleteEnabled,
+                "keysetPagination", keysetPagination,
+                "slicePagination", slicePagination,
+                "exportEnabled", modelDefinition.isExportEnabled(),
+                "exportFetchSize", modelDefinition.isExportEnabled() ? modelDefinition.getExport().resolveFetchSize() : 0,
+                "listProjection", modelDefinition.isListProjectionEnabled() ? ModelNameUtils.computeListProjectionName(modelDefinition.getName()) : ""
         );
 
         sb.append(FreeMarkerTemplateProcessorUtils.processTemplate("repository/mongo-repository-interface-template.ftl", context));
@@ -84,6 +94,35 @@ public class MongoRepositoryGenerator implements CodeGenerator {
                 sb.toString()
         );
 
+        if (modelDefinition.isListProjectionEnabled()) {
+            this.generateListProjection(modelDefinition, outputDir, packagePath);
+        }
+
         LOGGER.info("MongoDB repository generation completed for model: {}", modelDefinition.getName());
     }
+
+    /**
+     * Generates the list projection record for the given model definition. The record is returned by the
+     * list query of the repository, so only the projected fields are read from the documents.
+     *
+     * @param modelDefinition the model definition containing the list projection
+     * @param outputDir       the directory where the generated record will be written
+     * @param packagePath     the package path of the project
+     */
+    private void generateListProjection(final ModelDefinition modelDefinition, final String outputDir, final String packagePath) {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeRepositoryPackage(packagePath, this.packageConfiguration)));
+        sb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                "repository/list-projection-template.ftl",
+                ListProjectionTemplateContext.computeListProjectionContext(modelDefinition, packagePath, this.packageConfiguration)
+        ));
+
+        FileWriterUtils.writeToFile(
+                outputDir,
+                PackageUtils.computeRepositorySubPackage(this.packageConfiguration),
+                ModelNameUtils.computeListProjectionName(modelDefinition.getName()),
+                sb.toString()
+        );
+    }
 }
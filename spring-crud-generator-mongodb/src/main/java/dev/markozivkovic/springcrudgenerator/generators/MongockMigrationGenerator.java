@@ -28,12 +28,15 @@ import org.slf4j.LoggerFactory;
 
 import dev.markozivkovic.springcrudgenerator.constants.GeneratorConstants;
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition.IndexFieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockCollectionState;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockFieldState;
+import dev.markozivkovic.springcrudgenerator.models.mongock.MongockIndexState;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockState;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
@@ -51,6 +54,7 @@ public class MongockMigrationGenerator implements CodeGenerator {
     private static final String CREATE_COLLECTION_TEMPLATE = "migration/mongock/create-collection-changeunit.ftl";
     private static final String ADD_FIELDS_TEMPLATE = "migration/mongock/add-fields-changeunit.ftl";
     private static final String REMOVE_FIELDS_TEMPLATE = "migration/mongock/remove-fields-changeunit.ftl";
+    private static final String UPDATE_INDEXES_TEMPLATE = "migration/mongock/update-indexes-changeunit.ftl";
 
     private final CrudConfiguration configuration;
     private final ProjectMetadata projectMetadata;
@@ -64,7 +68,7 @@ public class MongockMigrationGenerator implements CodeGenerator {
     }
 
     @Override
-    public void generate(final ModelDefinition modelDefinition, final String outputDir) {
+    public synchronized void generate(final ModelDefinition modelDefinition, final String outputDir) {
 
         if (configuration == null || configuration.isMigrationScripts() == null || !configuration.isMigrationScripts()) {
             return;
@@ -147,6 +151,7 @@ public class MongockMigrationGenerator implements CodeGenerator {
         ctx.put("className", className);
         ctx.put("collectionName", model.getStorageName());
         ctx.put("indexes", indexes);
+        ctx.put("compoundIndexes", buildIndexStates(model));
 
         final String content = FreeMarkerTemplateProcessorUtils.processTemplate(CREATE_COLLECTION_TEMPLATE, ctx);
         FileWriterUtils.writeToFile(outputDir, MIGRATION_SUB_PACKAGE, className, content);
@@ -159,7 +164,7 @@ public class MongockMigrationGenerator implements CodeGenerator {
      * Generates incremental Mongock migration scripts for a given model.
      *
      * This method compares the current state of the model with the previous state and generates
-     * migration scripts for any added or removed fields.
+     * migration scripts for any added or removed fields and for any changed explicit indexes.
      *
      * @param model the model to generate migration scripts for
      * @param previousState the previous state of the model
@@ -198,9 +203,63 @@ public class MongockMigrationGenerator implements CodeGenerator {
                     outputDir, migrationPackage, version);
         }
 
+        final List<MongockIndexState> currentIndexes = buildIndexStates(model);
+        final List<MongockIndexState> previousIndexes = previousState.getIndexes() != null ?
+                previousState.getIndexes() : List.of();
+
+        final List<MongockIndexState> addedIndexes = currentIndexes.stream()
+                .filter(index -> !previousIndexes.contains(index))
+                .collect(Collectors.toList());
+
+        final List<MongockIndexState> removedIndexes = previousIndexes.stream()
+                .filter(index -> !currentIndexes.contains(index))
+                .collect(Collectors.toList());
+
+        if (!addedIndexes.isEmpty() || !removedIndexes.isEmpty()) {
+            final String stripped = ModelNameUtils.stripSuffix(model.getName());
+            final String className = buildClassName(version, "Update", "IndexesOf", stripped);
+            version = writeIndexMigration(className, model.getStorageName(), addedIndexes, removedIndexes,
+                    outputDir, migrationPackage, version);
+        }
+
         return version;
     }
 
+    /**
+     * Generates a Mongock migration script that drops removed or redefined indexes of a collection and creates
+     * the added ones.
+     *
+     * @param className the name of the migration class
+     * @param collectionName the name of the collection
+     * @param addedIndexes the indexes to create
+     * @param removedIndexes the indexes to drop
+     * @param outputDir the output directory for the migration script
+     * @param migrationPackage the package for the migration script
+     * @param version the version of the migration script
+     * @return the next version number
+     */
+    private int writeIndexMigration(final String className, final String collectionName,
+            final List<MongockIndexState> addedIndexes, final List<MongockIndexState> removedIndexes,
+            final String outputDir, final String migrationPackage, final int version) {
+
+        final String order = String.format("%03d", version);
+
+        final Map<String, Object> ctx = new LinkedHashMap<>();
+        ctx.put("packageName", migrationPackage);
+        ctx.put("changeUnitId", className);
+        ctx.put("order", order);
+        ctx.put("className", className);
+        ctx.put("collectionName", collectionName);
+        ctx.put("addedIndexes", addedIndexes);
+        ctx.put("removedIndexes", removedIndexes);
+
+        final String content = FreeMarkerTemplateProcessorUtils.processTemplate(UPDATE_INDEXES_TEMPLATE, ctx);
+        FileWriterUtils.writeToFile(outputDir, MIGRATION_SUB_PACKAGE, className, content);
+
+        LOGGER.info("Generated Mongock index migration: {}", className);
+        return version + 1;
+    }
+
     /**
      * Generates a Mongock migration script that adds or removes fields from a collection.
      *
@@ -256,6 +315,38 @@ public class MongockMigrationGenerator implements CodeGenerator {
         return indexes;
     }
 
+    /**
+     * Builds the states of the indexes declared explicitly in the {@code indexes} section of a model.
+     * An index without an explicit name is named {@code ix_<collection>_<fields>}.
+     *
+     * @param model the model definition
+     * @return the list of index states
+     */
+    private List<MongockIndexState> buildIndexStates(final ModelDefinition model) {
+
+        if (model.getIndexes() == null) {
+            return new ArrayList<>();
+        }
+
+        return model.getIndexes().stream()
+                .map(index -> {
+                    final List<String> fields = index.getFields().stream()
+                            .map(IndexFieldDefinition::getName)
+                            .collect(Collectors.toList());
+                    final List<String> descending = index.getFields().stream()
+                            .filter(field -> SortDirection.DESC.equals(field.getDirection()))
+                            .map(IndexFieldDefinition::getName)
+                            .collect(Collectors.toList());
+                    final String name = StringUtils.isNotBlank(index.getName()) ?
+                            index.getName() :
+                            String.format("ix_%s_%s", model.getStorageName(), String.join("_", fields));
+                    return new MongockIndexState(
+                            name, fields, descending, Boolean.TRUE.equals(index.getUnique()), index.getWhere()
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns the names of all non-id, non-relation fields of the model.
      * Relation fields are tracked as well (they are stored as DBRef values in the document).
@@ -284,7 +375,7 @@ public class MongockMigrationGenerator implements CodeGenerator {
                 ))
                 .collect(Collectors.toList());
 
-        return new MongockCollectionState(model.getName(), model.getStorageName(), fieldStates);
+        return new MongockCollectionState(model.getName(), model.getStorageName(), fieldStates, buildIndexStates(model));
     }
 
     /**
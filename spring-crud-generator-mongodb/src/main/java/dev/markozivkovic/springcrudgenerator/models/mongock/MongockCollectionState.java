@@ -25,15 +25,18 @@ public class MongockCollectionState {
     private String entityName;
     private String collection;
     private List<MongockFieldState> fields = new ArrayList<>();
+    private List<MongockIndexState> indexes = new ArrayList<>();
 
     public MongockCollectionState() {
 
     }
 
-    public MongockCollectionState(final String entityName, final String collection, final List<MongockFieldState> fields) {
+    public MongockCollectionState(final String entityName, final String collection, final List<MongockFieldState> fields,
+            final List<MongockIndexState> indexes) {
         this.entityName = entityName;
         this.collection = collection;
         this.fields = fields;
+        this.indexes = indexes;
     }
 
     public String getEntityName() {
@@ -63,6 +66,15 @@ public class MongockCollectionState {
         return this;
     }
 
+    public List<MongockIndexState> getIndexes() {
+        return this.indexes;
+    }
+
+    public MongockCollectionState setIndexes(final List<MongockIndexState> indexes) {
+        this.indexes = indexes;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) return true;
@@ -70,12 +82,13 @@ public class MongockCollectionState {
         final MongockCollectionState that = (MongockCollectionState) o;
         return Objects.equals(entityName, that.entityName) &&
                 Objects.equals(collection, that.collection) &&
-                Objects.equals(fields, that.fields);
+                Objects.equals(fields, that.fields) &&
+                Objects.equals(indexes, that.indexes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entityName, collection, fields);
+        return Objects.hash(entityName, collection, fields, indexes);
     }
 
     @Override
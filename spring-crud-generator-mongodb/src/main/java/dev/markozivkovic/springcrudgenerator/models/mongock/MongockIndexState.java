@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models.mongock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class MongockIndexState {
+
+    private String name;
+    private List<String> fields = new ArrayList<>();
+    private List<String> descending = new ArrayList<>();
+    private boolean unique;
+    private String where;
+
+    public MongockIndexState() {
+
+    }
+
+    public MongockIndexState(final String name, final List<String> fields, final List<String> descending,
+            final boolean unique, final String where) {
+        this.name = name;
+        this.fields = fields;
+        this.descending = descending;
+        this.unique = unique;
+        this.where = where;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public MongockIndexState setName(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    public List<String> getFields() {
+        return this.fields;
+    }
+
+    public MongockIndexState setFields(final List<String> fields) {
+        this.fields = fields;
+        return this;
+    }
+
+    public List<String> getDescending() {
+        return this.descending;
+    }
+
+    public MongockIndexState setDescending(final List<String> descending) {
+        this.descending = descending;
+        return this;
+    }
+
+    public boolean isUnique() {
+        return this.unique;
+    }
+
+    public MongockIndexState setUnique(final boolean unique) {
+        this.unique = unique;
+        return this;
+    }
+
+    public String getWhere() {
+        return this.where;
+    }
+
+    public MongockIndexState setWhere(final String where) {
+        this.where = where;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) return true;
+        if (!(o instanceof MongockIndexState)) return false;
+        final MongockIndexState that = (MongockIndexState) o;
+        return unique == that.unique &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(fields, that.fields) &&
+                Objects.equals(descending, that.descending) &&
+                Objects.equals(where, that.where);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, fields, descending, unique, where);
+    }
+
+    @Override
+    public String toString() {
+        return "{name='" + name + "', fields=" + fields + ", descending=" + descending + ", unique=" + unique +
+                ", where='" + where + "'}";
+    }
+}
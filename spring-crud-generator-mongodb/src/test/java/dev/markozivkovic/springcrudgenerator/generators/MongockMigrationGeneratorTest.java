@@ -15,10 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition.IndexFieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
@@ -170,6 +173,57 @@ class MongockMigrationGeneratorTest {
         assertTrue(content.contains("\"email\""));
     }
 
+    @Test
+    void generate_shouldGenerateExplicitCompoundIndex() throws Exception {
+        final Path out = outputDir();
+        final ModelDefinition product = productModel().setIndexes(List.of(new IndexDefinition()
+                .setFields(List.of(
+                        new IndexFieldDefinition().setName("name"),
+                        new IndexFieldDefinition().setName("price").setDirection(SortDirection.DESC)
+                ))
+                .setUnique(true)
+                .setWhere("{ \"price\": { \"$gt\": 0 } }")));
+        final MongockMigrationGenerator gen = new MongockMigrationGenerator(
+                enabledConfig(), new ProjectMetadata("app", "1.0", tempDir.toString()), List.of(product));
+
+        gen.generate(product, out.toAbsolutePath().toString());
+
+        final String content = Files.readString(out.resolve("migration/V001__Create_Products_Collection.java"));
+        assertTrue(content.contains("new CompoundIndexDefinition(new Document().append(\"name\", 1).append(\"price\", -1))"));
+        assertTrue(content.contains(".named(\"ix_products_name_price\").unique()"));
+        assertTrue(content.contains("PartialIndexFilter.of(Document.parse(\"{ \\\"price\\\": { \\\"$gt\\\": 0 } }\"))"));
+        assertTrue(content.contains("dropIndex(\"ix_products_name_price\")"));
+        assertEquals(1, MongockUtils.loadOrEmpty(tempDir.toString()).getCollections().get(0).getIndexes().size());
+    }
+
+    @Test
+    void generate_shouldGenerateIndexMigrationWhenIndexesChangeOnSecondRun() throws Exception {
+        final Path out = outputDir();
+        final ModelDefinition productV1 = productModel().setIndexes(List.of(new IndexDefinition()
+                .setName("ix_products_name")
+                .setFields(List.of(new IndexFieldDefinition().setName("name")))));
+        new MongockMigrationGenerator(
+                enabledConfig(), new ProjectMetadata("app", "1.0", tempDir.toString()), List.of(productV1))
+                .generate(productV1, out.toAbsolutePath().toString());
+
+        resetGeneratorContext();
+
+        final ModelDefinition productV2 = productModel().setIndexes(List.of(new IndexDefinition()
+                .setName("ix_products_name")
+                .setFields(List.of(new IndexFieldDefinition().setName("name")))
+                .setUnique(true)));
+        new MongockMigrationGenerator(
+                enabledConfig(), new ProjectMetadata("app", "1.0", tempDir.toString()), List.of(productV2))
+                .generate(productV2, out.toAbsolutePath().toString());
+
+        final Path indexMigration = out.resolve("migration/V002__Update_IndexesOf_Product.java");
+        assertTrue(Files.exists(indexMigration), "Index migration must be generated");
+
+        final String content = Files.readString(indexMigration);
+        assertTrue(content.contains("dropIndex(\"ix_products_name\")"));
+        assertTrue(content.contains(".named(\"ix_products_name\").unique()"));
+    }
+
     @Test
     void generate_shouldNotGenerateIndexWhenNoUniqueFields() throws Exception {
         final Path out = outputDir();
@@ -17,6 +17,7 @@ import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ValidationDefinition;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockCollectionState;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockFieldState;
+import dev.markozivkovic.springcrudgenerator.models.mongock.MongockIndexState;
 import dev.markozivkovic.springcrudgenerator.models.mongock.MongockState;
 
 class MongockUtilsTest {
@@ -78,7 +79,7 @@ class MongockUtilsTest {
     void save_shouldCreateDirectoryAndWriteFile() {
         final MongockState state = new MongockState("1.0", 2,
                 List.of(new MongockCollectionState("UserEntity", "users",
-                        List.of(new MongockFieldState("email", "string", true)))));
+                        List.of(new MongockFieldState("email", "string", true)), List.of())));
 
         MongockUtils.save(tempDir.toString(), state);
 
@@ -108,12 +109,14 @@ class MongockUtilsTest {
     @Test
     void save_shouldPersistCollections() {
         final MongockCollectionState col = new MongockCollectionState("ProductModel", "products",
-                List.of(new MongockFieldState("name", "string", false)));
+                List.of(new MongockFieldState("name", "string", false)),
+                List.of(new MongockIndexState("ix_products_name", List.of("name"), List.of("name"), true, null)));
         MongockUtils.save(tempDir.toString(), new MongockState("1.0", 1, List.of(col)));
 
         final MongockState loaded = MongockUtils.loadOrEmpty(tempDir.toString());
         assertEquals(1, loaded.getCollections().size());
         assertEquals("products", loaded.getCollections().get(0).getCollection());
+        assertEquals(col.getIndexes(), loaded.getCollections().get(0).getIndexes());
     }
 
     @Test
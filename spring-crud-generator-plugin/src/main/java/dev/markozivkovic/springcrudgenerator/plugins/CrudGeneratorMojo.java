@@ -18,12 +18,12 @@ package dev.markozivkovic.springcrudgenerator.plugins;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.maven.project.MavenProject;
@@ -36,17 +36,23 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import dev.markozivkovic.springcrudgenerator.context.GenerationMetrics;
 import dev.markozivkovic.springcrudgenerator.generators.SpringCrudGenerator;
 import dev.markozivkovic.springcrudgenerator.generators.tests.SpringCrudTestGenerator;
 import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
 import dev.markozivkovic.springcrudgenerator.models.GeneratorState;
+import dev.markozivkovic.springcrudgenerator.models.GeneratorState.SpecFileState;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ProjectMetadata;
+import dev.markozivkovic.springcrudgenerator.utils.ArtifactFingerprintUtils;
 import dev.markozivkovic.springcrudgenerator.utils.CrudMojoUtils;
 import dev.markozivkovic.springcrudgenerator.utils.DependencyCheckUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
+import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils.TemplateCacheStorage;
 import dev.markozivkovic.springcrudgenerator.utils.GeneratorStateUtils;
+import dev.markozivkovic.springcrudgenerator.utils.GenerationReportUtils;
+import dev.markozivkovic.springcrudgenerator.utils.ParallelGenerationUtils;
+import dev.markozivkovic.springcrudgenerator.utils.SpecLoaderUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.validators.PackageConfigurationValidator;
 import dev.markozivkovic.springcrudgenerator.validators.SpecificationValidator;
@@ -74,6 +80,18 @@ public class CrudGeneratorMojo extends AbstractMojo {
     @Parameter(property = "forceRegeneration", defaultValue = "false")
     private boolean forceRegeneration;
 
+    @Parameter(property = "parallelism", defaultValue = "1")
+    private int parallelism;
+
+    @Parameter(property = "templateCacheStorage", defaultValue = "strong")
+    private String templateCacheStorage;
+
+    @Parameter(property = "warmupTemplates", defaultValue = "false")
+    private boolean warmupTemplates;
+
+    @Parameter(property = "generationReport", defaultValue = "false")
+    private boolean generationReport;
+
     @Parameter(defaultValue = "${project.parent.version}", readonly = true)
     private String parentVersion;
 
@@ -85,6 +103,23 @@ public class CrudGeneratorMojo extends AbstractMojo {
 
     public void execute() throws MojoExecutionException {
 
+        this.validateParameters();
+        
+        try {
+            CrudMojoUtils.printBanner(pluginDescriptor, inputSpecFile, outputDir);
+            this.generate();
+        } catch (final Exception e) {
+            throw new MojoExecutionException("Code generation failed", e);
+        }
+    }
+
+    /**
+     * Validates the required parameters of the goal.
+     *
+     * @throws MojoExecutionException if a required parameter is missing
+     */
+    protected void validateParameters() throws MojoExecutionException {
+
         if (Objects.isNull(inputSpecFile)) {
             throw new MojoExecutionException("inputSpecFile must be specified");
         }
@@ -92,95 +127,159 @@ public class CrudGeneratorMojo extends AbstractMojo {
         if (Objects.isNull(outputDir)) {
             throw new MojoExecutionException("outputDir must be specified");
         }
+    }
+
+    /**
+     * Runs a single generation: loads the spec, detects the stale artifacts and regenerates them.
+     *
+     * @throws Exception if the spec cannot be loaded or the generation fails
+     */
+    protected void generate() throws Exception {
+
+        final List<Path> specFiles = SpecLoaderUtils.resolveSpecFiles(projectBaseDir.toPath(), inputSpecFile);
+
+        LOGGER.info("Generator started for spec files: {}", specFiles);
+
+        final ProjectMetadata projectMetadata = new ProjectMetadata(artifactId, version, projectBaseDir.getAbsolutePath());
+        final GeneratorState generatorState = GeneratorStateUtils.loadOrEmpty(projectMetadata.getProjectBaseDir());
+        final Map<String, SpecFileState> specFileStates = SpecLoaderUtils.computeSpecFileStates(
+                projectBaseDir.toPath(), specFiles, generatorState.getSpecFiles()
+        );
+
+        if (!forceRegeneration && SpecLoaderUtils.isUnchanged(specFileStates, parentVersion, generatorState)) {
+            LOGGER.info("No changes detected in CRUD spec files. Skipping spec parsing and code generation.");
+            return;
+        }
+
+        final CrudSpecification spec = SpecLoaderUtils.load(specFiles);
+        SpecificationValidator.validate(spec);
+        PackageConfigurationValidator.validate(spec.getPackages(), spec.getConfiguration());
+        SpringBootVersionUtils.resolveAndSetSpringBootMajor(spec, parentVersion);
         
-        try {
-            CrudMojoUtils.printBanner(pluginDescriptor, inputSpecFile, outputDir);
-            final ObjectMapper mapper = CrudMojoUtils.createSpecMapper(inputSpecFile);
-            final Path specPath = Paths.get(inputSpecFile).toAbsolutePath().normalize();
-
-            LOGGER.info("Generator started for file: {}", specPath);
-
-            final CrudSpecification spec = mapper.readValue(specPath.toFile(), CrudSpecification.class);
-            SpecificationValidator.validate(spec);
-            PackageConfigurationValidator.validate(spec.getPackages(), spec.getConfiguration());
-            SpringBootVersionUtils.resolveAndSetSpringBootMajor(spec, parentVersion);
-            
-            final ProjectMetadata projectMetadata = new ProjectMetadata(artifactId, version, projectBaseDir.getAbsolutePath());
-            final GeneratorState generatorState = GeneratorStateUtils.loadOrEmpty(projectMetadata.getProjectBaseDir());
-            final List<ModelDefinition> activeEntities = spec.getEntities().stream()
-                    .filter(entity -> !Boolean.TRUE.equals(entity.getIgnore()))
-                    .toList();
-
-            final Map<String, String> fingerprints = activeEntities.stream()
-                    .collect(Collectors.toMap(ModelDefinition::getName, entity -> GeneratorStateUtils.computeFingerprint(entity)));
-            final String configurationFingerprints = GeneratorStateUtils.computeFingerprint(spec.getConfiguration());
-            final List<ModelDefinition> entitiesToGenerate = this.computeEntitiesToGenerate(
-                    activeEntities, forceRegeneration, generatorState, fingerprints, configurationFingerprints
-            );
+        final List<ModelDefinition> activeEntities = spec.getEntities().stream()
+                .filter(entity -> !Boolean.TRUE.equals(entity.getIgnore()))
+                .toList();
 
-            if (entitiesToGenerate.isEmpty()) {
-                DependencyCheckUtils.warnMissingDependencies(spec.getConfiguration(), project);
-                LOGGER.info("No changes detected in CRUD spec. Skipping code generation.");
-                return;
-            }
-            
-            final SpringCrudGenerator generator = new SpringCrudGenerator(
-                    spec.getConfiguration(), entitiesToGenerate, projectMetadata, spec.getPackages()
-            );
-            final SpringCrudTestGenerator testGenerator = new SpringCrudTestGenerator(
-                    spec.getConfiguration(), entitiesToGenerate, spec.getPackages()
-            );
-            generator.generate(outputDir);
-            entitiesToGenerate.forEach(entity -> generator.generate(entity, outputDir));
-            entitiesToGenerate.forEach(entity -> testGenerator.generate(entity, outputDir));
-            entitiesToGenerate.forEach(entity ->
-                GeneratorStateUtils.updateFingerprint(generatorState, entity.getName(), fingerprints.get(entity.getName()), configurationFingerprints)
+        final Map<String, String> fingerprints = activeEntities.stream()
+                .collect(Collectors.toMap(ModelDefinition::getName, entity -> GeneratorStateUtils.computeFingerprint(entity)));
+        final String configurationFingerprints = GeneratorStateUtils.computeFingerprint(spec.getConfiguration());
+        final boolean configurationChanged = !configurationFingerprints.equals(generatorState.getConfiguration());
+
+        final SpringCrudGenerator generator = new SpringCrudGenerator(
+                spec.getConfiguration(), activeEntities, projectMetadata, spec.getPackages()
+        );
+        final SpringCrudTestGenerator testGenerator = new SpringCrudTestGenerator(
+                spec.getConfiguration(), activeEntities, spec.getPackages()
+        );
+        final Set<String> artifactKeys = new LinkedHashSet<>(generator.getArtifactKeys());
+        artifactKeys.addAll(testGenerator.getArtifactKeys());
+        final Map<String, Map<String, String>> artifactFingerprints = ArtifactFingerprintUtils.computeArtifactFingerprints(
+                activeEntities, activeEntities, spec.getConfiguration(), spec.getPackages(), artifactKeys
+        );
+        final Map<String, Set<String>> staleArtifacts = this.computeStaleArtifacts(
+                activeEntities, forceRegeneration, generatorState, artifactFingerprints
+        );
+
+        if (staleArtifacts.isEmpty() && !configurationChanged) {
+            GeneratorStateUtils.save(
+                    projectMetadata.getProjectBaseDir(),
+                    generatorState.setParentVersion(parentVersion).setSpecFiles(specFileStates)
             );
-            GeneratorStateUtils.save(projectMetadata.getProjectBaseDir(), generatorState);
             DependencyCheckUtils.warnMissingDependencies(spec.getConfiguration(), project);
+            LOGGER.info("No changes detected in CRUD spec. Skipping code generation.");
+            return;
+        }
+        
+        FreeMarkerTemplateProcessorUtils.setTemplateCacheStorage(TemplateCacheStorage.fromString(templateCacheStorage));
+        if (warmupTemplates) {
+            FreeMarkerTemplateProcessorUtils.warmUp();
+        }
 
-            LOGGER.info("Generator finished for file: {}", inputSpecFile);
-        } catch (final Exception e) {
-            throw new MojoExecutionException("Code generation failed", e);
+        final List<ModelDefinition> entitiesToGenerate = activeEntities.stream()
+                .filter(entity -> staleArtifacts.containsKey(entity.getName()))
+                .toList();
+        final int effectiveParallelism = ParallelGenerationUtils.resolveParallelism(parallelism);
+        if (generationReport) {
+            GenerationMetrics.enable();
         }
+        final long generationStart = System.nanoTime();
+        generator.generate(outputDir);
+        ParallelGenerationUtils.generate(
+                (entity, dir) -> generator.generate(entity, dir, staleArtifacts.get(entity.getName())),
+                entitiesToGenerate, outputDir, effectiveParallelism
+        );
+        ParallelGenerationUtils.generate(
+                (entity, dir) -> testGenerator.generate(entity, dir, staleArtifacts.get(entity.getName())),
+                entitiesToGenerate, outputDir, effectiveParallelism
+        );
+        if (generationReport) {
+            GenerationReportUtils.write(projectMetadata.getProjectBaseDir(), System.nanoTime() - generationStart);
+            GenerationMetrics.disable();
+        }
+        entitiesToGenerate.forEach(entity -> {
+            GeneratorStateUtils.updateFingerprint(generatorState, entity.getName(), fingerprints.get(entity.getName()), configurationFingerprints);
+            GeneratorStateUtils.updateArtifactFingerprints(generatorState, entity.getName(), artifactFingerprints.get(entity.getName()));
+        });
+        generatorState.setConfiguration(configurationFingerprints)
+                .setParentVersion(parentVersion)
+                .setSpecFiles(specFileStates);
+        GeneratorStateUtils.save(projectMetadata.getProjectBaseDir(), generatorState);
+        DependencyCheckUtils.warnMissingDependencies(spec.getConfiguration(), project);
+
+        LOGGER.info("Generator finished for spec: {}", inputSpecFile);
+    }
+
+    protected String getInputSpecFile() {
+        return this.inputSpecFile;
+    }
+
+    protected File getProjectBaseDir() {
+        return this.projectBaseDir;
+    }
+
+    protected String getOutputDir() {
+        return this.outputDir;
+    }
+
+    protected PluginDescriptor getPluginDescriptor() {
+        return this.pluginDescriptor;
     }
 
     /**
-     * Computes the list of entities to generate based on the provided active entities and the generator state.
-     * If forceRegeneration is true, all active entities are included in the list.
-     * Otherwise, only entities with a changed fingerprint are included in the list.
+     * Computes the stale artifacts of each active entity based on the provided artifact fingerprints and the generator state.
+     * If forceRegeneration is true, all artifacts of all active entities are stale.
+     * Otherwise, only artifacts whose fingerprint changed (or was never recorded) are stale.
      *
-     * @param activeEntities            the list of active entities
-     * @param forceRegeneration         whether to force regeneration for all active entities
-     * @param generatorState            the generator state
-     * @param fingerprints              the map of entity names to their respective fingerprints
-     * @param configurationFingerprints the fingerprint of the configuration
-     * @return the {@link List} of entities {@link ModelDefinition} to generate
+     * @param activeEntities       the list of active entities
+     * @param forceRegeneration    whether to force regeneration for all active entities
+     * @param generatorState       the generator state
+     * @param artifactFingerprints the artifact fingerprints (artifact key to fingerprint) by entity name
+     * @return the keys of the stale artifacts by entity name, containing only entities with at least one stale artifact
      */
-    private List<ModelDefinition> computeEntitiesToGenerate(final List<ModelDefinition> activeEntities, final boolean forceRegeneration,
-            final GeneratorState generatorState, final Map<String, String> fingerprints, final String configurationFingerprints) {
+    private Map<String, Set<String>> computeStaleArtifacts(final List<ModelDefinition> activeEntities, final boolean forceRegeneration,
+            final GeneratorState generatorState, final Map<String, Map<String, String>> artifactFingerprints) {
 
-        final List<ModelDefinition> entitiesToGenerate;
+        final Map<String, Set<String>> staleArtifacts = new LinkedHashMap<>();
 
-        if (forceRegeneration || !configurationFingerprints.equals(generatorState.getConfiguration())) {
-            final List<String> entityNames = activeEntities.stream()
-                    .map(ModelDefinition::getName)
-                    .toList();
-            LOGGER.info("forceRegeneration=true or configuration has changed -> regeneration for all active entities: {}", String.join(", ", entityNames));
-            entitiesToGenerate = new ArrayList<>(activeEntities);
+        activeEntities.forEach(entity -> {
+            final Map<String, String> entityFingerprints = artifactFingerprints.get(entity.getName());
+            final Set<String> stale = forceRegeneration
+                    ? new LinkedHashSet<>(entityFingerprints.keySet())
+                    : GeneratorStateUtils.findStaleArtifacts(generatorState, entity.getName(), entityFingerprints);
+            if (!stale.isEmpty()) {
+                staleArtifacts.put(entity.getName(), stale);
+            }
+        });
+
+        if (forceRegeneration) {
+            LOGGER.info("forceRegeneration=true -> regeneration for all active entities: {}", String.join(", ", staleArtifacts.keySet()));
         } else {
-            entitiesToGenerate = activeEntities.stream()
-                    .filter(entity -> {
-                        final Optional<String> previousFingerprint = GeneratorStateUtils.findPreviousFingerprint(generatorState, entity.getName());
-                        return previousFingerprint.isEmpty() || !previousFingerprint.get().equals(fingerprints.get(entity.getName()));
-                    }).toList();
-            final List<String> entityNames = entitiesToGenerate.stream()
-                    .map(ModelDefinition::getName)
-                    .toList();
-            LOGGER.info("Entities with changed fingerprint: {}", String.join(", ", entityNames));
+            staleArtifacts.forEach((entityName, artifacts) ->
+                LOGGER.info("Stale artifacts of entity {}: {}", entityName, String.join(", ", artifacts))
+            );
         }
 
-        return entitiesToGenerate;
+        return staleArtifacts;
     }
 
 }
@@ -17,7 +17,7 @@
 package dev.markozivkovic.springcrudgenerator.plugins;
 
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.maven.project.MavenProject;
@@ -30,11 +30,10 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
 import dev.markozivkovic.springcrudgenerator.utils.CrudMojoUtils;
 import dev.markozivkovic.springcrudgenerator.utils.DependencyCheckUtils;
+import dev.markozivkovic.springcrudgenerator.utils.SpecLoaderUtils;
 import dev.markozivkovic.springcrudgenerator.utils.SpringBootVersionUtils;
 import dev.markozivkovic.springcrudgenerator.validators.PackageConfigurationValidator;
 import dev.markozivkovic.springcrudgenerator.validators.SpecificationValidator;
@@ -67,18 +66,17 @@ public class CrudValidateMojo extends AbstractMojo {
             CrudMojoUtils.printBanner(
                     pluginDescriptor, inputSpecFile, "N/A (validate goal - dry run)"
             );
-            final ObjectMapper mapper = CrudMojoUtils.createSpecMapper(inputSpecFile);
-            final Path specPath = Paths.get(inputSpecFile).toAbsolutePath().normalize();
+            final List<Path> specFiles = SpecLoaderUtils.resolveSpecFiles(project.getBasedir().toPath(), inputSpecFile);
 
-            LOGGER.info("Validation started for file: {}", specPath);
+            LOGGER.info("Validation started for spec files: {}", specFiles);
 
-            final CrudSpecification spec = mapper.readValue(specPath.toFile(), CrudSpecification.class);
+            final CrudSpecification spec = SpecLoaderUtils.load(specFiles);
             SpecificationValidator.validate(spec);
             PackageConfigurationValidator.validate(spec.getPackages(), spec.getConfiguration());
             SpringBootVersionUtils.resolveAndSetSpringBootMajor(spec, parentVersion);
             DependencyCheckUtils.warnMissingDependencies(spec.getConfiguration(), project);
 
-            LOGGER.info("Spec file is valid for generation: {}", specPath);
+            LOGGER.info("Spec is valid for generation: {}", inputSpecFile);
         } catch (final Exception e) {
             throw new MojoExecutionException("Spec validation failed", e);
         }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.plugins;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+import dev.markozivkovic.springcrudgenerator.utils.CrudMojoUtils;
+import dev.markozivkovic.springcrudgenerator.utils.SpecFileWatcher;
+
+/**
+ * Runs the generation once and then keeps the generator resident, watching the spec files and regenerating the
+ * affected artifacts on every change. Compiled templates, the database support registry and the rest of the generator
+ * stay loaded between runs. Stop the goal with Ctrl+C.
+ */
+@Mojo(name = "watch", requiresDirectInvocation = true)
+public class CrudWatchMojo extends CrudGeneratorMojo {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrudWatchMojo.class);
+
+    @Parameter(property = "watchDebounce", defaultValue = "300")
+    private long watchDebounce;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+
+        this.validateParameters();
+        CrudMojoUtils.printBanner(this.getPluginDescriptor(), this.getInputSpecFile(), this.getOutputDir());
+
+        try (final SpecFileWatcher watcher = new SpecFileWatcher(this.getProjectBaseDir().toPath(), this.getInputSpecFile())) {
+            this.regenerate();
+            LOGGER.info("Watching {} for changes. Press Ctrl+C to stop.", this.getInputSpecFile());
+
+            while (!Thread.currentThread().isInterrupted()) {
+                final Set<Path> changedSpecFiles = watcher.awaitChanges(this.watchDebounce);
+                if (changedSpecFiles.isEmpty()) {
+                    continue;
+                }
+                LOGGER.info("Spec files changed: {}", changedSpecFiles);
+                this.regenerate();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Watch stopped.");
+        } catch (final IOException e) {
+            throw new MojoExecutionException("Failed to watch spec files", e);
+        }
+    }
+
+    /**
+     * Runs a single generation. Failures are logged and do not stop the watch, so the spec can be fixed and saved
+     * again.
+     *
+     * @return true if the generation succeeded, false otherwise
+     */
+    boolean regenerate() {
+
+        GeneratorContext.clear();
+        final long start = System.nanoTime();
+        try {
+            this.generate();
+            LOGGER.info("Regeneration finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return true;
+        } catch (final Exception e) {
+            LOGGER.error("Code generation failed: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
+}
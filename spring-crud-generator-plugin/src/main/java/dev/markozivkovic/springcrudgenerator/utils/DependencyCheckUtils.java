@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.TestConfiguration.DataGeneratorEnum;
@@ -243,7 +244,7 @@ public final class DependencyCheckUtils {
             addTestDataGeneratorRequirement(requirements, configuration);
 
             if (isRedisCacheEnabled(configuration)) {
-                addRequirement(requirements, "tests.unit=true with cache.type=REDIS",
+                addRequirement(requirements, "tests.unit=true with a Redis backed cache",
                         coordinate("org.springframework.boot", "spring-boot-starter-data-redis-test"));
             }
 
@@ -320,13 +321,14 @@ public final class DependencyCheckUtils {
     }
 
     /**
-     * Returns true if Redis cache is explicitly enabled in the given configuration.
+     * Returns true if a Redis backed cache (REDIS or TWO_LEVEL) is explicitly enabled in the given configuration.
      *
      * @param configuration the Crud configuration
      * @return true if Redis cache is enabled, false otherwise
      */
     private static boolean isRedisCacheEnabled(final CrudConfiguration configuration) {
-        return isCacheEnabled(configuration) && CacheTypeEnum.REDIS.equals(configuration.getCache().getType());
+        return isCacheEnabled(configuration) && (CacheTypeEnum.REDIS.equals(configuration.getCache().getType())
+                || CacheTypeEnum.TWO_LEVEL.equals(configuration.getCache().getType()));
     }
 
     /**
@@ -390,8 +392,8 @@ public final class DependencyCheckUtils {
 
     /**
      * Adds cache-related dependency requirements to the list based on the given configuration.
-     * The added requirements are based on the cache type and are used to determine the required dependencies
-     * for a given project.
+     * The added requirements are based on the cache type and serialization format and are used to determine
+     * the required dependencies for a given project.
      *
      * @param requirements the list to which the requirements are added
      * @param configuration the configuration used to determine the cache type and added requirements
@@ -410,9 +412,23 @@ public final class DependencyCheckUtils {
                 addRequirement(requirements, "cache.type=HAZELCAST", coordinate("com.hazelcast", "hazelcast"));
                 addRequirement(requirements, "cache.type=HAZELCAST", coordinate("com.hazelcast", "hazelcast-spring"));
             }
+            case TWO_LEVEL -> {
+                addRequirement(requirements, "cache.type=TWO_LEVEL",
+                        coordinate("org.springframework.boot", "spring-boot-starter-data-redis"));
+                addRequirement(requirements, "cache.type=TWO_LEVEL", coordinate("com.github.ben-manes.caffeine", "caffeine"));
+            }
             case SIMPLE -> { }
             default -> { }
         }
+
+        final CacheSerializationEnum serialization = configuration.getCache().getSerialization();
+        final boolean distributedCache = !CacheTypeEnum.SIMPLE.equals(cacheType) && !CacheTypeEnum.CAFFEINE.equals(cacheType);
+        if (distributedCache && (CacheSerializationEnum.SMILE.equals(serialization) || CacheSerializationEnum.CBOR.equals(serialization))) {
+            final String groupId = SpringBootVersionUtils.isSpringBoot4(configuration.getSpringBootVersion())
+                    ? "tools.jackson.dataformat" : "com.fasterxml.jackson.dataformat";
+            addRequirement(requirements, String.format("cache.serialization=%s", serialization.name()),
+                    coordinate(groupId, String.format("jackson-dataformat-%s", serialization.name().toLowerCase(Locale.ROOT))));
+        }
     }
 
     /**
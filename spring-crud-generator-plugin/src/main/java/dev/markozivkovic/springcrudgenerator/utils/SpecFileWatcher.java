@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the spec files of an input spec location (a single file, a directory or a glob pattern, see
+ * {@link SpecLoaderUtils#resolveSpecFiles(Path, String)}) for changes, using a {@link WatchService}.
+ */
+public final class SpecFileWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecFileWatcher.class);
+
+    private final Path baseDir;
+    private final String inputSpecFile;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private Set<Path> specFiles = new TreeSet<>();
+
+    /**
+     * Creates a watcher for the given input spec location and registers the directories that contain its spec files.
+     *
+     * @param baseDir       the project base directory, against which a relative location is resolved
+     * @param inputSpecFile the input spec location
+     * @throws IOException if the watch service cannot be created or a directory cannot be registered
+     */
+    public SpecFileWatcher(final Path baseDir, final String inputSpecFile) throws IOException {
+        this.baseDir = baseDir;
+        this.inputSpecFile = inputSpecFile;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.refresh();
+    }
+
+    /**
+     * Blocks until at least one spec file is created, modified or deleted and returns the changed spec files.
+     * Events that follow each other within the given debounce interval are collected into a single change, so an
+     * editor that writes a file in several steps triggers a single regeneration.
+     *
+     * @param debounceMillis the quiet period, in milliseconds, after the last event before the change is reported
+     * @return the changed spec files, sorted by path; empty if only files that are not spec files changed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws IOException if a new directory cannot be registered
+     */
+    public Set<Path> awaitChanges(final long debounceMillis) throws InterruptedException, IOException {
+
+        final Set<Path> changedPaths = new TreeSet<>();
+        boolean overflow = false;
+        WatchKey key = this.watchService.take();
+        while (key != null) {
+            overflow |= this.collectEvents(key, changedPaths);
+            key = this.watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+
+        final Set<Path> previousSpecFiles = this.specFiles;
+        this.refresh();
+
+        final Set<Path> changedSpecFiles = new TreeSet<>();
+        if (overflow) {
+            changedSpecFiles.addAll(previousSpecFiles);
+            changedSpecFiles.addAll(this.specFiles);
+        }
+        changedPaths.stream()
+                .filter(path -> previousSpecFiles.contains(path) || this.specFiles.contains(path))
+                .forEach(changedSpecFiles::add);
+        return changedSpecFiles;
+    }
+
+    /**
+     * Returns the spec files resolved after the last change.
+     *
+     * @return the current spec files
+     */
+    public Set<Path> getSpecFiles() {
+        return Set.copyOf(this.specFiles);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+    }
+
+    /**
+     * Collects the paths of the events of the given key and resets the key. Keys of directories that no longer
+     * exist are removed.
+     *
+     * @param key          the watch key
+     * @param changedPaths the set to add the changed paths to
+     * @return true if events were lost (overflow), false otherwise
+     */
+    private boolean collectEvents(final WatchKey key, final Set<Path> changedPaths) {
+
+        final Path directory = this.watchedDirectories.get(key);
+        boolean overflow = false;
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) {
+                overflow = true;
+                continue;
+            }
+            changedPaths.add(directory.resolve((Path) event.context()).toAbsolutePath().normalize());
+        }
+        if (!key.reset()) {
+            this.watchedDirectories.remove(key);
+        }
+        return overflow;
+    }
+
+    /**
+     * Resolves the current spec files and registers the directories that may contain spec files. When the input
+     * spec location is a directory or a glob pattern, all subdirectories are registered, so that new directories are
+     * picked up after the first change in them.
+     *
+     * @throws IOException if a directory cannot be registered
+     */
+    private void refresh() throws IOException {
+
+        try {
+            this.specFiles = new TreeSet<>(SpecLoaderUtils.resolveSpecFiles(this.baseDir, this.inputSpecFile));
+        } catch (final IllegalArgumentException e) {
+            LOGGER.warn(e.getMessage());
+            this.specFiles = new TreeSet<>();
+        }
+
+        final Path specDirectory = SpecLoaderUtils.resolveSpecDirectory(this.baseDir, this.inputSpecFile);
+        if (!Files.isDirectory(specDirectory)) {
+            return;
+        }
+
+        final List<Path> directories;
+        if (SpecLoaderUtils.isRecursive(this.baseDir, this.inputSpecFile)) {
+            try (final Stream<Path> paths = Files.walk(specDirectory)) {
+                directories = paths.filter(Files::isDirectory).toList();
+            }
+        } else {
+            directories = List.of(specDirectory);
+        }
+
+        for (final Path directory : directories) {
+            if (!this.watchedDirectories.containsValue(directory)) {
+                this.watchedDirectories.put(directory.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+            }
+        }
+    }
+
+}
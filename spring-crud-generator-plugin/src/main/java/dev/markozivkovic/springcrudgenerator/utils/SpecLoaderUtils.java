@@ -0,0 +1,397 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.GeneratorState;
+import dev.markozivkovic.springcrudgenerator.models.GeneratorState.SpecFileState;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
+
+public final class SpecLoaderUtils {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecLoaderUtils.class);
+
+    private static final String CONFIGURATION = "configuration";
+    private static final String PACKAGES = "packages";
+    private static final String ENTITIES = "entities";
+    private static final String ENTITY_NAME = "name";
+    private static final String GLOB_CHARACTERS = "*?{[";
+
+    private SpecLoaderUtils() {}
+
+    /**
+     * Resolves the spec files of the given input spec location. The location can be a single spec file, a directory
+     * (all .yaml, .yml and .json files in the directory and its subdirectories) or a glob pattern
+     * (e.g. {@code src/main/resources/specs/**&#47;*.yaml}). A relative location is resolved against the given base
+     * directory. The resolved files are sorted by path.
+     *
+     * @param baseDir       the project base directory
+     * @param inputSpecFile the input spec location
+     * @return the resolved spec files
+     * @throws IllegalArgumentException if no spec files are found
+     * @throws RuntimeException if an exception occurs while listing the spec files
+     */
+    public static List<Path> resolveSpecFiles(final Path baseDir, final String inputSpecFile) {
+
+        final List<Path> specFiles;
+        if (isGlob(inputSpecFile)) {
+            specFiles = resolveGlob(baseDir, inputSpecFile);
+        } else {
+            final Path specPath = resolvePath(baseDir, inputSpecFile);
+            specFiles = Files.isDirectory(specPath)
+                    ? listFiles(specPath, path -> isSupportedSpecFile(path))
+                    : List.of(specPath);
+        }
+
+        if (specFiles.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "No spec files found for: %s. Supported file formats are: .yaml, .yml, .json", inputSpecFile
+            ));
+        }
+
+        return specFiles;
+    }
+
+    /**
+     * Resolves the directory that contains the spec files of the given input spec location: the parent directory of
+     * a single spec file, the directory itself, or the deepest directory of a glob pattern that does not contain
+     * glob characters. A relative location is resolved against the given base directory.
+     *
+     * @param baseDir       the project base directory
+     * @param inputSpecFile the input spec location
+     * @return the base directory of the spec files
+     */
+    public static Path resolveSpecDirectory(final Path baseDir, final String inputSpecFile) {
+
+        if (isGlob(inputSpecFile)) {
+            return globBaseDirectory(baseDir, inputSpecFile.replace('\\', '/'));
+        }
+        final Path specPath = resolvePath(baseDir, inputSpecFile);
+        return Files.isDirectory(specPath) ? specPath : specPath.getParent();
+    }
+
+    /**
+     * Returns true if the spec files of the given input spec location can be located in subdirectories of
+     * {@link #resolveSpecDirectory(Path, String)}, that is, if the location is a directory or a glob pattern.
+     *
+     * @param baseDir       the project base directory
+     * @param inputSpecFile the input spec location
+     * @return true if the spec files are resolved recursively, false otherwise
+     */
+    public static boolean isRecursive(final Path baseDir, final String inputSpecFile) {
+        return isGlob(inputSpecFile) || Files.isDirectory(resolvePath(baseDir, inputSpecFile));
+    }
+
+    /**
+     * Loads the CRUD specification from the given spec files. Each file is read with a streaming parser and may
+     * contain any of the top-level sections {@code configuration}, {@code packages} and {@code entities}, or a
+     * single entity definition. Entities are deserialized one at a time, in file order.
+     *
+     * @param specFiles the spec files
+     * @return the loaded CRUD specification
+     * @throws IllegalArgumentException if the configuration or the packages are defined in more than one file
+     * @throws RuntimeException if an exception occurs while reading a spec file
+     */
+    public static CrudSpecification load(final List<Path> specFiles) {
+
+        final CrudSpecification spec = new CrudSpecification();
+        final Map<String, Path> sectionSources = new TreeMap<>();
+        specFiles.forEach(specFile -> readSpecFile(specFile, spec, sectionSources));
+        return spec;
+    }
+
+    /**
+     * Computes the state (last modified time, size and content hash) of each of the given spec files. The content
+     * hash is reused from the previous state when the last modified time and size of a file did not change, so
+     * unchanged files are not read.
+     *
+     * @param baseDir           the project base directory, used to compute the state keys
+     * @param specFiles         the spec files
+     * @param previousSpecFiles the previous spec file states by key, may be null
+     * @return the spec file states by key (path relative to the base directory)
+     * @throws RuntimeException if an exception occurs while reading a spec file
+     */
+    public static Map<String, SpecFileState> computeSpecFileStates(final Path baseDir, final List<Path> specFiles,
+            final Map<String, SpecFileState> previousSpecFiles) {
+
+        final Map<String, SpecFileState> states = new TreeMap<>();
+        specFiles.forEach(specFile -> {
+            final String key = stateKey(baseDir, specFile);
+            try {
+                final long lastModified = Files.getLastModifiedTime(specFile).toMillis();
+                final long size = Files.size(specFile);
+                final SpecFileState previous = Objects.nonNull(previousSpecFiles) ? previousSpecFiles.get(key) : null;
+                final String hash = Objects.nonNull(previous) && previous.getLastModified() == lastModified && previous.getSize() == size
+                        ? previous.getHash()
+                        : HashUtils.sha256(Files.readAllBytes(specFile));
+                states.put(key, new SpecFileState(lastModified, size, hash));
+            } catch (final IOException e) {
+                throw new RuntimeException(
+                    String.format("Failed to read spec file '%s': %s", specFile, e.getMessage()), e
+                );
+            }
+        });
+        return states;
+    }
+
+    /**
+     * Checks whether the spec files and the parent version are unchanged since the last generation stored in the
+     * given generator state. Spec files are compared by content hash, so files that were only touched are unchanged.
+     *
+     * @param specFileStates the current spec file states by key
+     * @param parentVersion  the current parent version of the project
+     * @param generatorState the generator state of the last generation
+     * @return true if a previous generation exists and none of its inputs changed, false otherwise
+     */
+    public static boolean isUnchanged(final Map<String, SpecFileState> specFileStates, final String parentVersion,
+            final GeneratorState generatorState) {
+
+        if (Objects.isNull(generatorState.getSpecFiles()) || generatorState.getSpecFiles().isEmpty()
+                || Objects.isNull(generatorState.getConfiguration()) || generatorState.getConfiguration().isBlank()
+                || !Objects.equals(parentVersion, generatorState.getParentVersion())
+                || !specFileStates.keySet().equals(generatorState.getSpecFiles().keySet())) {
+            return false;
+        }
+
+        return specFileStates.entrySet().stream()
+                .allMatch(entry -> Objects.equals(
+                        entry.getValue().getHash(), generatorState.getSpecFiles().get(entry.getKey()).getHash()
+                ));
+    }
+
+    /**
+     * Reads a single spec file with a streaming parser and merges its content into the given specification.
+     *
+     * @param specFile       the spec file
+     * @param spec           the specification to merge into
+     * @param sectionSources the files in which the configuration and packages sections were defined
+     */
+    private static void readSpecFile(final Path specFile, final CrudSpecification spec, final Map<String, Path> sectionSources) {
+
+        final ObjectMapper mapper = CrudMojoUtils.createSpecMapper(specFile.getFileName().toString());
+
+        try (final JsonParser parser = mapper.createParser(specFile.toFile())) {
+
+            if (Objects.isNull(parser.nextToken())) {
+                LOGGER.warn("Spec file {} is empty", specFile);
+                return;
+            }
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(String.format(
+                        "Spec file %s must contain an object at the top level", specFile
+                ));
+            }
+
+            TokenBuffer entityFields = null;
+            boolean hasSections = false;
+            boolean hasEntityName = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case CONFIGURATION -> {
+                        hasSections = true;
+                        registerSection(CONFIGURATION, specFile, sectionSources);
+                        spec.setConfiguration(mapper.readValue(parser, CrudConfiguration.class));
+                    }
+                    case PACKAGES -> {
+                        hasSections = true;
+                        registerSection(PACKAGES, specFile, sectionSources);
+                        spec.setPackages(mapper.readValue(parser, PackageConfiguration.class));
+                    }
+                    case ENTITIES -> {
+                        hasSections = true;
+                        readEntities(parser, mapper, spec);
+                    }
+                    default -> {
+                        if (Objects.isNull(entityFields)) {
+                            entityFields = new TokenBuffer(parser);
+                            entityFields.writeStartObject();
+                        }
+                        hasEntityName |= ENTITY_NAME.equals(fieldName);
+                        entityFields.writeFieldName(fieldName);
+                        entityFields.copyCurrentStructure(parser);
+                    }
+                }
+            }
+
+            if (Objects.nonNull(entityFields) && hasEntityName && !hasSections) {
+                entityFields.writeEndObject();
+                try (final JsonParser entityParser = entityFields.asParser(mapper)) {
+                    entityParser.nextToken();
+                    entities(spec).add(mapper.readValue(entityParser, ModelDefinition.class));
+                }
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException(
+                String.format("Failed to read spec file '%s': %s", specFile, e.getMessage()), e
+            );
+        }
+    }
+
+    /**
+     * Reads the entities array at the current position of the given parser, one entity at a time.
+     *
+     * @param parser the parser positioned at the start of the entities array
+     * @param mapper the mapper used to deserialize the entities
+     * @param spec   the specification to add the entities to
+     * @throws IOException if an exception occurs while reading the entities
+     */
+    private static void readEntities(final JsonParser parser, final ObjectMapper mapper, final CrudSpecification spec) throws IOException {
+
+        final List<ModelDefinition> entities = entities(spec);
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Entities must be defined as a list");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            entities.add(mapper.readValue(parser, ModelDefinition.class));
+        }
+    }
+
+    private static List<ModelDefinition> entities(final CrudSpecification spec) {
+
+        if (Objects.isNull(spec.getEntities())) {
+            spec.setEntities(new ArrayList<>());
+        }
+        return spec.getEntities();
+    }
+
+    private static void registerSection(final String section, final Path specFile, final Map<String, Path> sectionSources) {
+
+        final Path previous = sectionSources.putIfAbsent(section, specFile);
+        if (Objects.nonNull(previous)) {
+            throw new IllegalArgumentException(String.format(
+                    "Section '%s' is defined in multiple spec files: %s, %s", section, previous, specFile
+            ));
+        }
+    }
+
+    private static boolean isGlob(final String inputSpecFile) {
+        return inputSpecFile.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Resolves the files matching the given glob pattern. The pattern is matched against the paths relative to the
+     * deepest directory of the pattern that does not contain glob characters. A leading {@code **&#47;} also matches
+     * files directly in that directory.
+     *
+     * @param projectBaseDir the project base directory, against which a relative pattern is resolved
+     * @param glob           the glob pattern
+     * @return the matching files sorted by path
+     */
+    private static List<Path> resolveGlob(final Path projectBaseDir, final String glob) {
+
+        final String normalized = glob.replace('\\', '/');
+        final int baseEnd = globBaseEnd(normalized);
+        final Path baseDir = globBaseDirectory(projectBaseDir, normalized);
+        final String pattern = normalized.substring(baseEnd + 1);
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        // "**/" also matches zero directories, so that "specs/**/*.yaml" includes the files directly in "specs"
+        final PathMatcher rootMatcher = pattern.startsWith("**/")
+                ? FileSystems.getDefault().getPathMatcher("glob:" + pattern.substring(3))
+                : matcher;
+
+        if (!Files.isDirectory(baseDir)) {
+            return List.of();
+        }
+        return listFiles(baseDir, path -> {
+            final Path relative = baseDir.relativize(path);
+            return matcher.matches(relative) || rootMatcher.matches(relative);
+        });
+    }
+
+    /**
+     * Returns the index of the last separator before the first glob character of the given normalized glob pattern,
+     * or -1 if the pattern has no separator before its first glob character.
+     */
+    private static int globBaseEnd(final String normalized) {
+
+        int firstGlobChar = 0;
+        while (firstGlobChar < normalized.length() && GLOB_CHARACTERS.indexOf(normalized.charAt(firstGlobChar)) < 0) {
+            firstGlobChar++;
+        }
+        return normalized.lastIndexOf('/', firstGlobChar);
+    }
+
+    private static Path globBaseDirectory(final Path baseDir, final String normalized) {
+
+        final int baseEnd = globBaseEnd(normalized);
+        return resolvePath(baseDir, baseEnd < 0 ? "." : (baseEnd == 0 ? "/" : normalized.substring(0, baseEnd)));
+    }
+
+    /**
+     * Resolves the given location against the project base directory. Absolute locations are kept as they are.
+     */
+    private static Path resolvePath(final Path baseDir, final String location) {
+        return baseDir.toAbsolutePath().resolve(Paths.get(location)).normalize();
+    }
+
+    private static List<Path> listFiles(final Path dir, final Predicate<Path> filter) {
+
+        try (final Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(filter)
+                    .sorted()
+                    .toList();
+        } catch (final IOException e) {
+            throw new RuntimeException(
+                String.format("Failed to list spec files in '%s': %s", dir, e.getMessage()), e
+            );
+        }
+    }
+
+    private static boolean isSupportedSpecFile(final Path path) {
+
+        final String fileName = path.getFileName().toString().toLowerCase();
+        return fileName.endsWith(".yaml") || fileName.endsWith(".yml") || fileName.endsWith(".json");
+    }
+
+    private static String stateKey(final Path baseDir, final Path specFile) {
+
+        final Path absolute = specFile.toAbsolutePath().normalize();
+        final Path base = baseDir.toAbsolutePath().normalize();
+        return (absolute.startsWith(base) ? base.relativize(absolute) : absolute).toString().replace('\\', '/');
+    }
+
+}
@@ -13,7 +13,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.jupiter.api.Test;
@@ -48,29 +48,26 @@ class CrudGeneratorMojoTest {
     }
 
     @SuppressWarnings("unchecked")
-    private List<ModelDefinition> invokeComputeEntitiesToGenerate(
+    private Map<String, Set<String>> invokeComputeStaleArtifacts(
             final CrudGeneratorMojo mojo,
             final List<ModelDefinition> activeEntities,
             final boolean forceRegeneration,
             final GeneratorState generatorState,
-            final Map<String, String> fingerprints,
-            final String configurationFingerprints) {
+            final Map<String, Map<String, String>> artifactFingerprints) {
         try {
             Method m = CrudGeneratorMojo.class.getDeclaredMethod(
-                    "computeEntitiesToGenerate",
+                    "computeStaleArtifacts",
                     List.class,
                     boolean.class,
                     GeneratorState.class,
-                    Map.class,
-                    String.class);
+                    Map.class);
             m.setAccessible(true);
-            return (List<ModelDefinition>) m.invoke(
+            return (Map<String, Set<String>>) m.invoke(
                     mojo,
                     activeEntities,
                     forceRegeneration,
                     generatorState,
-                    fingerprints,
-                    configurationFingerprints);
+                    artifactFingerprints);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -134,7 +131,7 @@ class CrudGeneratorMojoTest {
     }
 
     @Test
-    void computeEntitiesToGenerate_forceRegeneration_returnsAllActiveEntities() {
+    void computeStaleArtifacts_forceRegeneration_returnsAllArtifactsOfAllActiveEntities() {
         
         final CrudGeneratorMojo mojo = newMojo();
 
@@ -144,48 +141,27 @@ class CrudGeneratorMojoTest {
         when(e2.getName()).thenReturn("Order");
 
         final List<ModelDefinition> active = List.of(e1, e2);
-
         final GeneratorState generatorState = mock(GeneratorState.class);
-        when(generatorState.getConfiguration()).thenReturn("config-fp");
-
-        final Map<String, String> fingerprints = Map.of(
-                "User", "fp-user",
-                "Order", "fp-order"
-        );
 
-        final List<ModelDefinition> result = invokeComputeEntitiesToGenerate(
-                mojo, active, true, generatorState, fingerprints, "config-fp"
+        final Map<String, Map<String, String>> artifactFingerprints = Map.of(
+                "User", Map.of("controller", "fp-user-controller", "mapper", "fp-user-mapper"),
+                "Order", Map.of("controller", "fp-order-controller")
         );
 
-        assertEquals(2, result.size());
-        assertTrue(result.containsAll(active));
-    }
-
-    @Test
-    void computeEntitiesToGenerate_configurationChanged_returnsAllActiveEntities() {
-        
-        final CrudGeneratorMojo mojo = newMojo();
-
-        final ModelDefinition e1 = mock(ModelDefinition.class);
-        when(e1.getName()).thenReturn("User");
-
-        final List<ModelDefinition> active = List.of(e1);
-
-        final GeneratorState generatorState = mock(GeneratorState.class);
-        when(generatorState.getConfiguration()).thenReturn("old-config-fp");
-
-        final Map<String, String> fingerprints = Map.of("User", "fp-user");
-
-        final List<ModelDefinition> result = invokeComputeEntitiesToGenerate(
-                mojo, active, false, generatorState, fingerprints, "new-config-fp"
-        );
+        try (final MockedStatic<GeneratorStateUtils> utils = Mockito.mockStatic(GeneratorStateUtils.class)) {
+            final Map<String, Set<String>> result = invokeComputeStaleArtifacts(
+                    mojo, active, true, generatorState, artifactFingerprints
+            );
 
-        assertEquals(1, result.size());
-        assertEquals(e1, result.get(0));
+            assertEquals(List.of("User", "Order"), List.copyOf(result.keySet()));
+            assertEquals(Set.of("controller", "mapper"), result.get("User"));
+            assertEquals(Set.of("controller"), result.get("Order"));
+            utils.verifyNoInteractions();
+        }
     }
 
     @Test
-    void computeEntitiesToGenerate_fingerprintChanged_returnsOnlyChangedEntities() {
+    void computeStaleArtifacts_artifactFingerprintChanged_returnsOnlyStaleArtifacts() {
         
         final CrudGeneratorMojo mojo = newMojo();
 
@@ -195,32 +171,32 @@ class CrudGeneratorMojoTest {
         when(e2.getName()).thenReturn("Order");
 
         final List<ModelDefinition> active = List.of(e1, e2);
-
         final GeneratorState generatorState = mock(GeneratorState.class);
-        when(generatorState.getConfiguration()).thenReturn("config-fp");
 
-        final Map<String, String> fingerprints = Map.of(
-                "User", "fp-user-new",
-                "Order", "fp-order-same"
+        final Map<String, String> userFingerprints = Map.of("controller", "fp-user-controller", "service", "fp-user-service-new");
+        final Map<String, String> orderFingerprints = Map.of("controller", "fp-order-controller");
+        final Map<String, Map<String, String>> artifactFingerprints = Map.of(
+                "User", userFingerprints,
+                "Order", orderFingerprints
         );
 
         try (final MockedStatic<GeneratorStateUtils> utils = Mockito.mockStatic(GeneratorStateUtils.class)) {
-            utils.when(() -> GeneratorStateUtils.findPreviousFingerprint(generatorState, "User"))
-                    .thenReturn(Optional.of("fp-user-old"));
-            utils.when(() -> GeneratorStateUtils.findPreviousFingerprint(generatorState, "Order"))
-                    .thenReturn(Optional.of("fp-order-same"));
+            utils.when(() -> GeneratorStateUtils.findStaleArtifacts(generatorState, "User", userFingerprints))
+                    .thenReturn(Set.of("service"));
+            utils.when(() -> GeneratorStateUtils.findStaleArtifacts(generatorState, "Order", orderFingerprints))
+                    .thenReturn(Set.of());
 
-            final List<ModelDefinition> result = invokeComputeEntitiesToGenerate(
-                    mojo, active, false, generatorState, fingerprints, "config-fp"
+            final Map<String, Set<String>> result = invokeComputeStaleArtifacts(
+                    mojo, active, false, generatorState, artifactFingerprints
             );
 
             assertEquals(1, result.size());
-            assertEquals("User", result.get(0).getName());
+            assertEquals(Set.of("service"), result.get("User"));
         }
     }
 
     @Test
-    void computeEntitiesToGenerate_noPreviousFingerprint_includesEntity() {
+    void computeStaleArtifacts_noChanges_returnsEmptyMap() {
         
         final CrudGeneratorMojo mojo = newMojo();
 
@@ -228,53 +204,16 @@ class CrudGeneratorMojoTest {
         when(e1.getName()).thenReturn("User");
 
         final List<ModelDefinition> active = List.of(e1);
-
         final GeneratorState generatorState = mock(GeneratorState.class);
-        when(generatorState.getConfiguration()).thenReturn("config-fp");
 
-        final Map<String, String> fingerprints = Map.of("User", "fp-user");
-
-        try (final MockedStatic<GeneratorStateUtils> utils = Mockito.mockStatic(GeneratorStateUtils.class)) {
-            utils.when(() -> GeneratorStateUtils.findPreviousFingerprint(generatorState, "User"))
-                    .thenReturn(Optional.empty());
-
-            final List<ModelDefinition> result = invokeComputeEntitiesToGenerate(
-                    mojo, active, false, generatorState, fingerprints, "config-fp"
-            );
-
-            assertEquals(1, result.size());
-            assertEquals("User", result.get(0).getName());
-        }
-    }
-
-    @Test
-    void computeEntitiesToGenerate_noChanges_returnsEmptyList() {
-        
-        final CrudGeneratorMojo mojo = newMojo();
-
-        final ModelDefinition e1 = mock(ModelDefinition.class);
-        final ModelDefinition e2 = mock(ModelDefinition.class);
-        when(e1.getName()).thenReturn("User");
-        when(e2.getName()).thenReturn("Order");
-
-        final List<ModelDefinition> active = List.of(e1, e2);
-
-        final GeneratorState generatorState = mock(GeneratorState.class);
-        when(generatorState.getConfiguration()).thenReturn("config-fp");
-
-        final Map<String, String> fingerprints = Map.of(
-                "User", "fp-user",
-                "Order", "fp-order"
-        );
+        final Map<String, String> userFingerprints = Map.of("controller", "fp-user-controller");
 
         try (final MockedStatic<GeneratorStateUtils> utils = Mockito.mockStatic(GeneratorStateUtils.class)) {
-            utils.when(() -> GeneratorStateUtils.findPreviousFingerprint(generatorState, "User"))
-                    .thenReturn(Optional.of("fp-user"));
-            utils.when(() -> GeneratorStateUtils.findPreviousFingerprint(generatorState, "Order"))
-                    .thenReturn(Optional.of("fp-order"));
+            utils.when(() -> GeneratorStateUtils.findStaleArtifacts(generatorState, "User", userFingerprints))
+                    .thenReturn(Set.of());
 
-            final List<ModelDefinition> result = invokeComputeEntitiesToGenerate(
-                    mojo, active, false, generatorState, fingerprints, "config-fp"
+            final Map<String, Set<String>> result = invokeComputeStaleArtifacts(
+                    mojo, active, false, generatorState, Map.of("User", userFingerprints)
             );
 
             assertTrue(result.isEmpty());
@@ -11,6 +11,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -28,7 +29,12 @@ class CrudValidateMojoTest {
     Path tempDir;
 
     private CrudValidateMojo newMojo() {
-        return new CrudValidateMojo();
+        final MavenProject project = new MavenProject();
+        project.setFile(tempDir.resolve("pom.xml").toFile());
+
+        final CrudValidateMojo mojo = new CrudValidateMojo();
+        setField(mojo, "project", project);
+        return mojo;
     }
 
     private void setField(final Object target, final String fieldName, final Object value) {
@@ -115,6 +121,33 @@ class CrudValidateMojoTest {
         assertDoesNotThrow(mojo::execute);
     }
 
+    @Test
+    void execute_relativeSpecPath_isResolvedAgainstProjectBaseDir() throws Exception {
+        final CrudValidateMojo mojo = newMojo();
+        final Path specPath = Files.createDirectories(tempDir.resolve("specs")).resolve("crud-spec.yaml");
+
+        final String spec = """
+                configuration:
+                  database: postgresql
+                entities:
+                  - name: ProductModel
+                    storageName: product_table
+                    fields:
+                      - name: id
+                        type: Long
+                        id:
+                          strategy: TABLE
+                      - name: name
+                        type: String
+                """;
+        Files.writeString(specPath, spec);
+
+        setField(mojo, "inputSpecFile", "specs/*.yaml");
+        setField(mojo, "parentVersion", "4.0.1");
+
+        assertDoesNotThrow(mojo::execute);
+    }
+
     @Test
     void execute_invalidSpec_shouldThrowMojoExecutionException() throws Exception {
         final CrudValidateMojo mojo = newMojo();
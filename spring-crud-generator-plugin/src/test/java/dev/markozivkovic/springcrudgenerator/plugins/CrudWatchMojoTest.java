@@ -0,0 +1,73 @@
+package dev.markozivkovic.springcrudgenerator.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.markozivkovic.springcrudgenerator.context.GeneratorContext;
+
+class CrudWatchMojoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CrudWatchMojo newMojo() {
+        return new CrudWatchMojo();
+    }
+
+    private void setField(final Object target, final String fieldName, final Object value) {
+        try {
+            final Field f = CrudGeneratorMojo.class.getDeclaredField(fieldName);
+            f.setAccessible(true);
+            f.set(target, value);
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    void execute_shouldThrowWhenInputSpecFileIsNull() {
+        final CrudWatchMojo mojo = newMojo();
+
+        setField(mojo, "inputSpecFile", null);
+        setField(mojo, "outputDir", "target/out");
+
+        final MojoExecutionException ex = assertThrows(MojoExecutionException.class, mojo::execute);
+
+        assertTrue(ex.getMessage().contains("inputSpecFile must be specified"));
+    }
+
+    @Test
+    void execute_shouldThrowWhenOutputDirIsNull() {
+        final CrudWatchMojo mojo = newMojo();
+
+        setField(mojo, "inputSpecFile", "spec.yaml");
+        setField(mojo, "outputDir", null);
+
+        final MojoExecutionException ex = assertThrows(MojoExecutionException.class, mojo::execute);
+
+        assertTrue(ex.getMessage().contains("outputDir must be specified"));
+    }
+
+    @Test
+    void regenerate_failingGeneration_returnsFalseAndClearsGeneratorContext() {
+        final CrudWatchMojo mojo = newMojo();
+
+        setField(mojo, "inputSpecFile", tempDir.resolve("missing-spec.yaml").toString());
+        setField(mojo, "outputDir", tempDir.resolve("out").toString());
+        setField(mojo, "projectBaseDir", new File(tempDir.toString()));
+        GeneratorContext.markGenerated("watch-test-part");
+
+        assertFalse(mojo.regenerate());
+        assertFalse(GeneratorContext.isGenerated("watch-test-part"));
+    }
+
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 import dev.markozivkovic.springcrudgenerator.constants.AdditionalConfigurationConstants;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration;
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheSerializationEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.CacheConfiguration.CacheTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.GraphQLDefinition;
@@ -365,6 +366,66 @@ class DependencyCheckUtilsTest {
         assertFalse(containsDependency(missingDependencies, "org.springframework.boot:spring-boot-starter-data-jpa-test"));
     }
 
+    @Test
+    void findMissingDependencies_redisCacheWithSmileSerialization_requiresSmileDataformat() {
+
+        final CrudConfiguration configuration = new CrudConfiguration()
+                .setDatabase(DatabaseType.POSTGRESQL)
+                .setSpringBootVersion("3")
+                .setCache(new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.REDIS)
+                        .setSerialization(CacheSerializationEnum.SMILE));
+
+        final MavenProject project = createProjectWithDependencies(
+                dep("org.springframework.boot", "spring-boot-starter-web"),
+                dep("org.springframework.boot", "spring-boot-starter-data-jpa"),
+                dep("org.springframework.boot", "spring-boot-starter-validation"),
+                dep("org.mapstruct", "mapstruct"),
+                dep("org.springframework.boot", "spring-boot-starter-cache"),
+                dep("org.springframework.boot", "spring-boot-starter-data-redis")
+        );
+
+        final List<String> missingDependencies = DependencyCheckUtils.findMissingDependencies(configuration, project);
+
+        assertTrue(containsDependency(missingDependencies, "com.fasterxml.jackson.dataformat:jackson-dataformat-smile"));
+        assertFalse(containsDependency(missingDependencies, "jackson-dataformat-cbor"));
+    }
+
+    @Test
+    void findMissingDependencies_springBoot4_hazelcastCacheWithCborSerialization_requiresJackson3CborDataformat() {
+
+        final CrudConfiguration configuration = new CrudConfiguration()
+                .setDatabase(DatabaseType.POSTGRESQL)
+                .setSpringBootVersion("4")
+                .setCache(new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.HAZELCAST)
+                        .setSerialization(CacheSerializationEnum.CBOR));
+
+        final MavenProject project = createProjectWithDependencies(
+                dep("org.springframework.boot", "spring-boot-starter-webmvc")
+        );
+
+        final List<String> missingDependencies = DependencyCheckUtils.findMissingDependencies(configuration, project);
+
+        assertTrue(containsDependency(missingDependencies, "tools.jackson.dataformat:jackson-dataformat-cbor"));
+    }
+
+    @Test
+    void findMissingDependencies_caffeineCacheWithSmileSerialization_doesNotRequireSmileDataformat() {
+
+        final CrudConfiguration configuration = new CrudConfiguration()
+                .setDatabase(DatabaseType.POSTGRESQL)
+                .setSpringBootVersion("3")
+                .setCache(new CacheConfiguration().setEnabled(true).setType(CacheTypeEnum.CAFFEINE)
+                        .setSerialization(CacheSerializationEnum.SMILE));
+
+        final MavenProject project = createProjectWithDependencies(
+                dep("org.springframework.boot", "spring-boot-starter-web")
+        );
+
+        final List<String> missingDependencies = DependencyCheckUtils.findMissingDependencies(configuration, project);
+
+        assertFalse(containsDependency(missingDependencies, "jackson-dataformat-smile"));
+    }
+
     private Dependency dep(final String groupId, final String artifactId) {
         final Dependency dependency = new Dependency();
         dependency.setGroupId(groupId);
@@ -0,0 +1,58 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpecFileWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void awaitChanges_modifiedSpecFile_returnsChangedFile() throws Exception {
+        final Path spec = Files.writeString(tempDir.resolve("crud-spec.yaml"), "configuration: {}\n");
+
+        try (final SpecFileWatcher watcher = new SpecFileWatcher(tempDir, spec.toString())) {
+            Files.writeString(tempDir.resolve("other.txt"), "not a spec");
+            Files.writeString(spec, "configuration:\n  database: postgresql\n");
+
+            final Set<Path> changed = assertTimeoutPreemptively(
+                    Duration.ofSeconds(30), () -> watcher.awaitChanges(200)
+            );
+
+            assertEquals(Set.of(spec.toAbsolutePath().normalize()), changed);
+        }
+    }
+
+    @Test
+    void awaitChanges_newSpecFileInNewSubdirectory_isPickedUpOnNextChange() throws Exception {
+        final Path specs = Files.createDirectories(tempDir.resolve("specs"));
+        final Path config = Files.writeString(specs.resolve("config.yaml"), "configuration: {}\n");
+
+        try (final SpecFileWatcher watcher = new SpecFileWatcher(tempDir, "specs")) {
+            final Path catalog = Files.createDirectories(specs.resolve("catalog"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> watcher.awaitChanges(200));
+
+            final Path product = Files.writeString(catalog.resolve("product.yaml"), "name: ProductModel\n");
+            final Set<Path> changed = assertTimeoutPreemptively(
+                    Duration.ofSeconds(30), () -> watcher.awaitChanges(200)
+            );
+
+            assertEquals(Set.of(product.toAbsolutePath().normalize()), changed);
+            assertEquals(
+                    Set.of(config.toAbsolutePath().normalize(), product.toAbsolutePath().normalize()),
+                    watcher.getSpecFiles()
+            );
+        }
+    }
+
+}
@@ -0,0 +1,272 @@
+package dev.markozivkovic.springcrudgenerator.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
+import dev.markozivkovic.springcrudgenerator.models.CrudSpecification;
+import dev.markozivkovic.springcrudgenerator.models.GeneratorState;
+import dev.markozivkovic.springcrudgenerator.models.GeneratorState.SpecFileState;
+import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
+
+class SpecLoaderUtilsTest {
+
+    private static final String CONFIGURATION = """
+            configuration:
+              database: postgresql
+            packages:
+              models: com.example.models
+            """;
+
+    private static final String PRODUCT_ENTITY = """
+            name: ProductModel
+            storageName: product_table
+            fields:
+              - name: id
+                type: Long
+                id:
+                  strategy: IDENTITY
+            """;
+
+    private static final String ORDER_ENTITY_JSON = """
+            {
+              "entities": [
+                {
+                  "name": "OrderTable",
+                  "storageName": "order_table",
+                  "fields": [ { "name": "id", "type": "Long", "id": { "strategy": "IDENTITY" } } ]
+                }
+              ]
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(final String relativePath, final String content) throws Exception {
+        final Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    @Test
+    void resolveSpecFiles_singleFile_returnsFile() throws Exception {
+        final Path spec = write("crud-spec.yaml", CONFIGURATION);
+
+        assertEquals(List.of(spec), SpecLoaderUtils.resolveSpecFiles(tempDir, spec.toString()));
+    }
+
+    @Test
+    void resolveSpecFiles_directory_returnsSupportedFilesRecursivelySortedByPath() throws Exception {
+        final Path config = write("specs/a-config.yaml", CONFIGURATION);
+        final Path product = write("specs/catalog/product.yml", PRODUCT_ENTITY);
+        final Path order = write("specs/sales/order.json", ORDER_ENTITY_JSON);
+        write("specs/readme.txt", "not a spec");
+
+        assertEquals(
+                List.of(config, product, order),
+                SpecLoaderUtils.resolveSpecFiles(tempDir, tempDir.resolve("specs").toString())
+        );
+    }
+
+    @Test
+    void resolveSpecFiles_glob_returnsMatchingFiles() throws Exception {
+        write("specs/a-config.yaml", CONFIGURATION);
+        final Path product = write("specs/catalog/product.yml", PRODUCT_ENTITY);
+        write("specs/sales/order.json", ORDER_ENTITY_JSON);
+
+        assertEquals(
+                List.of(product),
+                SpecLoaderUtils.resolveSpecFiles(tempDir, tempDir.resolve("specs").toString() + "/**/*.yml")
+        );
+    }
+
+    @Test
+    void resolveSpecFiles_globWithLeadingDoubleStar_includesFilesInBaseDirectory() throws Exception {
+        final Path config = write("specs/a-config.yaml", CONFIGURATION);
+        final Path product = write("specs/catalog/product.yaml", PRODUCT_ENTITY);
+        write("specs/sales/order.json", ORDER_ENTITY_JSON);
+
+        assertEquals(
+                List.of(config, product),
+                SpecLoaderUtils.resolveSpecFiles(tempDir, tempDir.resolve("specs").toString() + "/**/*.yaml")
+        );
+    }
+
+    @Test
+    void resolveSpecFiles_relativeLocation_isResolvedAgainstBaseDirectory() throws Exception {
+        final Path config = write("specs/a-config.yaml", CONFIGURATION);
+        final Path product = write("specs/catalog/product.yml", PRODUCT_ENTITY);
+
+        assertEquals(List.of(product), SpecLoaderUtils.resolveSpecFiles(tempDir, "specs/**/*.yml"));
+        assertEquals(List.of(config, product), SpecLoaderUtils.resolveSpecFiles(tempDir, "specs"));
+        assertEquals(List.of(config), SpecLoaderUtils.resolveSpecFiles(tempDir, "specs/a-config.yaml"));
+        assertEquals(tempDir.resolve("specs"), SpecLoaderUtils.resolveSpecDirectory(tempDir, "specs/**/*.yaml"));
+        assertTrue(SpecLoaderUtils.isRecursive(tempDir, "specs"));
+    }
+
+    @Test
+    void resolveSpecFiles_noMatchingFiles_throwsIllegalArgumentException() throws Exception {
+        write("specs/readme.txt", "not a spec");
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecLoaderUtils.resolveSpecFiles(tempDir, tempDir.resolve("specs").toString())
+        );
+
+        assertTrue(ex.getMessage().contains("No spec files found"));
+    }
+
+    @Test
+    void resolveSpecDirectory_returnsParentDirectoryOrBaseDirectoryOfGlob() throws Exception {
+        final Path spec = write("specs/crud-spec.yaml", CONFIGURATION);
+        final Path specs = spec.getParent();
+
+        assertEquals(specs, SpecLoaderUtils.resolveSpecDirectory(tempDir, spec.toString()));
+        assertEquals(specs, SpecLoaderUtils.resolveSpecDirectory(tempDir, specs.toString()));
+        assertEquals(specs, SpecLoaderUtils.resolveSpecDirectory(tempDir, specs.toString() + "/**/*.yaml"));
+    }
+
+    @Test
+    void isRecursive_trueForDirectoriesAndGlobs() throws Exception {
+        final Path spec = write("specs/crud-spec.yaml", CONFIGURATION);
+
+        assertFalse(SpecLoaderUtils.isRecursive(tempDir, spec.toString()));
+        assertTrue(SpecLoaderUtils.isRecursive(tempDir, spec.getParent().toString()));
+        assertTrue(SpecLoaderUtils.isRecursive(tempDir, spec.getParent().toString() + "/*.yaml"));
+    }
+
+    @Test
+    void load_singleFile_readsAllSectionsAndIgnoresUnknownTopLevelProperties() throws Exception {
+        final Path spec = write("crud-spec.yaml", CONFIGURATION + """
+                unknownSection:
+                  name: ignored
+                entities:
+                  - name: ProductModel
+                    storageName: product_table
+                    fields:
+                      - name: id
+                        type: Long
+                """);
+
+        final CrudSpecification result = SpecLoaderUtils.load(List.of(spec));
+
+        assertEquals(DatabaseType.POSTGRESQL, result.getConfiguration().getDatabase());
+        assertEquals("com.example.models", result.getPackages().getModels());
+        assertEquals(List.of("ProductModel"), result.getEntities().stream().map(ModelDefinition::getName).toList());
+    }
+
+    @Test
+    void load_multipleFiles_mergesSectionsAndEntitiesInFileOrder() throws Exception {
+        final Path config = write("specs/a-config.yaml", CONFIGURATION);
+        final Path product = write("specs/catalog/product.yaml", PRODUCT_ENTITY);
+        final Path order = write("specs/sales/order.json", ORDER_ENTITY_JSON);
+
+        final CrudSpecification result = SpecLoaderUtils.load(List.of(config, product, order));
+
+        assertEquals(DatabaseType.POSTGRESQL, result.getConfiguration().getDatabase());
+        assertEquals(List.of("ProductModel", "OrderTable"), result.getEntities().stream().map(ModelDefinition::getName).toList());
+        assertEquals("product_table", result.getEntities().get(0).getStorageName());
+        assertEquals("IDENTITY", result.getEntities().get(1).getFields().get(0).getId().getStrategy().name());
+    }
+
+    @Test
+    void load_withoutEntities_leavesEntitiesNull() throws Exception {
+        final Path config = write("config.yaml", CONFIGURATION);
+
+        assertNull(SpecLoaderUtils.load(List.of(config)).getEntities());
+    }
+
+    @Test
+    void load_configurationInMultipleFiles_throwsIllegalArgumentException() throws Exception {
+        final Path first = write("first.yaml", CONFIGURATION);
+        final Path second = write("second.yaml", "configuration:\n  database: mysql\n");
+
+        final IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecLoaderUtils.load(List.of(first, second))
+        );
+
+        assertTrue(ex.getMessage().contains("Section 'configuration' is defined in multiple spec files"));
+    }
+
+    @Test
+    void load_topLevelListFile_throwsIllegalArgumentException() throws Exception {
+        final Path spec = write("spec.yaml", "- name: ProductModel\n");
+
+        assertThrows(IllegalArgumentException.class, () -> SpecLoaderUtils.load(List.of(spec)));
+    }
+
+    @Test
+    void computeSpecFileStates_reusesHashWhenLastModifiedAndSizeAreUnchanged() throws Exception {
+        final Path spec = write("specs/product.yaml", PRODUCT_ENTITY);
+        final long lastModified = Files.getLastModifiedTime(spec).toMillis();
+
+        final Map<String, SpecFileState> result = SpecLoaderUtils.computeSpecFileStates(
+                tempDir, List.of(spec), Map.of("specs/product.yaml", new SpecFileState(lastModified, Files.size(spec), "cached"))
+        );
+
+        assertEquals(Map.of("specs/product.yaml", new SpecFileState(lastModified, Files.size(spec), "cached")), result);
+    }
+
+    @Test
+    void computeSpecFileStates_recomputesHashWhenLastModifiedChanged() throws Exception {
+        final Path spec = write("specs/product.yaml", PRODUCT_ENTITY);
+        final Map<String, SpecFileState> previous = SpecLoaderUtils.computeSpecFileStates(tempDir, List.of(spec), null);
+
+        Files.writeString(spec, PRODUCT_ENTITY.replace("product_table", "products"));
+        Files.setLastModifiedTime(spec, FileTime.fromMillis(previous.get("specs/product.yaml").getLastModified() + 1000));
+
+        final Map<String, SpecFileState> result = SpecLoaderUtils.computeSpecFileStates(tempDir, List.of(spec), previous);
+
+        assertNotEquals(previous.get("specs/product.yaml").getHash(), result.get("specs/product.yaml").getHash());
+    }
+
+    @Test
+    void isUnchanged_sameHashesAndParentVersion_returnsTrue() {
+        final GeneratorState state = new GeneratorState()
+                .setConfiguration("cfg")
+                .setParentVersion("3.5.0")
+                .setSpecFiles(Map.of("spec.yaml", new SpecFileState(1L, 10L, "hash")));
+
+        assertTrue(SpecLoaderUtils.isUnchanged(
+                Map.of("spec.yaml", new SpecFileState(2L, 10L, "hash")), "3.5.0", state
+        ));
+    }
+
+    @Test
+    void isUnchanged_changedHashFileSetOrParentVersion_returnsFalse() {
+        final GeneratorState state = new GeneratorState()
+                .setConfiguration("cfg")
+                .setParentVersion("3.5.0")
+                .setSpecFiles(Map.of("spec.yaml", new SpecFileState(1L, 10L, "hash")));
+
+        assertFalse(SpecLoaderUtils.isUnchanged(Map.of("spec.yaml", new SpecFileState(1L, 10L, "other")), "3.5.0", state));
+        assertFalse(SpecLoaderUtils.isUnchanged(Map.of(
+                "spec.yaml", new SpecFileState(1L, 10L, "hash"),
+                "order.yaml", new SpecFileState(1L, 10L, "hash")
+        ), "3.5.0", state));
+        assertFalse(SpecLoaderUtils.isUnchanged(Map.of("spec.yaml", new SpecFileState(1L, 10L, "hash")), "4.0.0", state));
+    }
+
+    @Test
+    void isUnchanged_noPreviousGeneration_returnsFalse() {
+        assertFalse(SpecLoaderUtils.isUnchanged(
+                Map.of("spec.yaml", new SpecFileState(1L, 10L, "hash")), null, new GeneratorState().setConfiguration("")
+        ));
+    }
+
+}
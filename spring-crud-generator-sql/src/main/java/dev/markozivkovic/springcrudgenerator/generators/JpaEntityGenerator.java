@@ -152,6 +152,28 @@ public class JpaEntityGenerator implements CodeGenerator {
         );
     }
 
+    /**
+     * Logs a warning when a model with chunked bulk create uses an IDENTITY ID strategy. Hibernate has to execute each
+     * insert on its own to read the generated ID, so JDBC batching is disabled for such entities. The strategy is not
+     * changed automatically, because switching to a sequence changes the database schema.
+     *
+     * @param model   the model definition
+     * @param idField the ID field of the model
+     */
+    private void warnIfIdentityDisablesBatching(final ModelDefinition model, final FieldDefinition idField) {
+
+        if (!model.isBulkCreateChunked() || Objects.isNull(idField.getId())
+                || !IdStrategyEnum.IDENTITY.equals(idField.getId().getStrategy())) {
+            return;
+        }
+
+        LOGGER.warn(
+            "Model {} uses chunked bulk create with IDENTITY IDs. Hibernate cannot batch inserts of IDENTITY entities; "
+                + "use the SEQUENCE strategy with a pooled allocationSize to enable JDBC batching.",
+            model.getName()
+        );
+    }
+
     /**
      * Generates a Java entity class file for the given model definition.
      *
@@ -170,6 +192,8 @@ public class JpaEntityGenerator implements CodeGenerator {
                 || DatabaseType.MYSQL.equals(this.configuration.getDatabase())
                 || DatabaseType.MARIADB.equals(this.configuration.getDatabase()))
                 && IdStrategyEnum.AUTO.equals(idField.getId().getStrategy());
+
+        this.warnIfIdentityDisablesBatching(model, idField);
         
         final String className = model.getName();
         final String tableName = model.getStorageName();
@@ -236,7 +260,7 @@ public class JpaEntityGenerator implements CodeGenerator {
      * @param model     The model definition containing the class name, table name, and field definitions.
      * @param outputDir The directory where the generated configuration code will be written.
      */
-    private void generateJpaAuditingConfiguration(final ModelDefinition model, final String outputDir) {
+    private synchronized void generateJpaAuditingConfiguration(final ModelDefinition model, final String outputDir) {
 
         if (GeneratorContext.isGenerated(GeneratorContextKeys.JPA_AUDITING_CONFIG)) return;
 
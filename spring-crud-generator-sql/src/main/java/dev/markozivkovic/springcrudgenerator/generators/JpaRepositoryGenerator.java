@@ -30,6 +30,7 @@ import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.PackageConfiguration;
 import dev.markozivkovic.springcrudgenerator.templates.JpaRepositoryTemplateContext;
+import dev.markozivkovic.springcrudgenerator.templates.ListProjectionTemplateContext;
 import dev.markozivkovic.springcrudgenerator.utils.AdditionalPropertiesUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FieldUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
@@ -92,8 +93,35 @@ public class JpaRepositoryGenerator implements CodeGenerator {
         sb.append(jpaInterface);
 
         FileWriterUtils.writeToFile(outputDir, PackageUtils.computeRepositorySubPackage(packageConfiguration), className, sb.toString());
+
+        if (modelDefinition.isListProjectionEnabled()) {
+            this.generateListProjection(modelDefinition, outputDir, packagePath);
+        }
         
         LOGGER.info("JPA repository generation completed for model: {}", modelDefinition.getName());
     }
+
+    /**
+     * Generates the list projection record for the given model definition. The record is returned by the
+     * list query of the repository, so only the projected columns are selected.
+     *
+     * @param modelDefinition the model definition containing the list projection
+     * @param outputDir       the directory where the generated record will be written
+     * @param packagePath     the package path of the project
+     */
+    private void generateListProjection(final ModelDefinition modelDefinition, final String outputDir, final String packagePath) {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(PACKAGE, PackageUtils.computeRepositoryPackage(packagePath, packageConfiguration)));
+        sb.append(FreeMarkerTemplateProcessorUtils.processTemplate(
+                "repository/list-projection-template.ftl",
+                ListProjectionTemplateContext.computeListProjectionContext(modelDefinition, packagePath, packageConfiguration)
+        ));
+
+        FileWriterUtils.writeToFile(
+                outputDir, PackageUtils.computeRepositorySubPackage(packageConfiguration),
+                ModelNameUtils.computeListProjectionName(modelDefinition.getName()), sb.toString()
+        );
+    }
     
 }
@@ -52,6 +52,7 @@ import dev.markozivkovic.springcrudgenerator.utils.FileWriterUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FlywayUtils;
 import dev.markozivkovic.springcrudgenerator.utils.FreeMarkerTemplateProcessorUtils;
 import dev.markozivkovic.springcrudgenerator.utils.ModelNameUtils;
+import dev.markozivkovic.springcrudgenerator.utils.StringUtils;
 
 public class MigrationScriptGenerator implements CodeGenerator {
     
@@ -71,7 +72,7 @@ public class MigrationScriptGenerator implements CodeGenerator {
     }
 
     @Override
-    public void generate(final ModelDefinition modelDefinition, final String outputDir) {
+    public synchronized void generate(final ModelDefinition modelDefinition, final String outputDir) {
         
         if (configuration == null || configuration.isMigrationScripts() == null || !configuration.isMigrationScripts()) {
             return;
@@ -318,6 +319,8 @@ public class MigrationScriptGenerator implements CodeGenerator {
                 }
                 final Result diff = MigrationDiffer.diff(oldState, context);
                 if (!diff.isEmpty()) {
+                    final boolean concurrentIndexes = DatabaseType.POSTGRESQL.equals(this.configuration.getDatabase())
+                            && (!diff.getAddedIndexes().isEmpty() || !diff.getRemovedIndexes().isEmpty());
                     final Map<String,Object> alterCtx = new LinkedHashMap<>();
                     alterCtx.put("table", tableName);
                     alterCtx.put("addedColumns", diff.getAddedColumns());
@@ -327,6 +330,8 @@ public class MigrationScriptGenerator implements CodeGenerator {
                     alterCtx.put("newPk", diff.getNewPk());
                     alterCtx.put("addedFks", diff.getAddedFks());
                     alterCtx.put("removedFks", diff.getRemovedFks());
+                    alterCtx.put("addedIndexes", concurrentIndexes ? List.of() : diff.getAddedIndexes());
+                    alterCtx.put("removedIndexes", concurrentIndexes ? List.of() : diff.getRemovedIndexes());
                     alterCtx.put("db", this.configuration.getDatabase());
                     alterCtx.put("auditAdded", diff.isAuditAdded());
                     alterCtx.put("auditRemoved", diff.isAuditRemoved());
@@ -334,18 +339,26 @@ public class MigrationScriptGenerator implements CodeGenerator {
                     alterCtx.put("auditCreatedType", context.get("auditCreatedType"));
                     alterCtx.put("auditUpdatedType", context.get("auditUpdatedType"));
                     alterCtx.put("auditNowExpr", context.get("auditNowExpr"));
-                    alterCtx.put(TemplateContextConstants.SOFT_DELETE_ENABLED, context.get(TemplateContextConstants.SOFT_DELETE_ENABLED));
+                    if (diff.getSoftDeleteChanged()) {
+                        alterCtx.put(TemplateContextConstants.SOFT_DELETE_ENABLED, diff.getSoftDeleteEnabled());
+                    }
                     
                     final String dbScript = FreeMarkerTemplateProcessorUtils.processTemplate(
                         "migration/flyway/alter-table-combined.sql.ftl", alterCtx
                     );
-                    final String dbSciptName = String.format("V%d__alter_table_%s.sql", version, tableName);
-                    FileWriterUtils.writeToFile(pathToDbScripts, dbSciptName, dbScript);
-                    version++;
-    
                     manifest.applyCreateContext(model.getName(), tableName, context);
                     manifest.removeForeignKeys(tableName, diff.getRemovedFks());
-                    manifest.addEntityFile(tableName, dbSciptName, dbScript);
+
+                    if (StringUtils.isNotBlank(dbScript)) {
+                        final String dbSciptName = String.format("V%d__alter_table_%s.sql", version, tableName);
+                        FileWriterUtils.writeToFile(pathToDbScripts, dbSciptName, dbScript);
+                        version++;
+                        manifest.addEntityFile(tableName, dbSciptName, dbScript);
+                    }
+
+                    if (concurrentIndexes) {
+                        generateConcurrentIndexScript(pathToDbScripts, tableName, diff, manifest);
+                    }
                 }
             }
 
@@ -362,6 +375,37 @@ public class MigrationScriptGenerator implements CodeGenerator {
         });
     }
 
+    /**
+     * Generates a PostgreSQL script that drops and creates the changed indexes of a table with
+     * {@code CONCURRENTLY}, so that building an index does not block writes. Concurrent index statements cannot run
+     * inside a transaction, so the script is kept separate from the other table changes and gets a Flyway script
+     * configuration file that disables the transaction.
+     *
+     * @param pathToDbScripts the path to which to write the generated script
+     * @param tableName the table name
+     * @param diff the schema difference of the table
+     * @param manifest the migration manifest
+     */
+    private void generateConcurrentIndexScript(final String pathToDbScripts, final String tableName, final Result diff,
+            final MigrationManifestBuilder manifest) {
+
+        final Map<String,Object> indexCtx = new LinkedHashMap<>();
+        indexCtx.put("table", tableName);
+        indexCtx.put("addedIndexes", diff.getAddedIndexes());
+        indexCtx.put("removedIndexes", diff.getRemovedIndexes());
+        indexCtx.put("db", this.configuration.getDatabase().name());
+
+        final String dbScript = FreeMarkerTemplateProcessorUtils.processTemplate(
+            "migration/flyway/alter-table-indexes.sql.ftl", indexCtx
+        );
+        final String dbScriptName = String.format("V%d__alter_table_%s_indexes.sql", version, tableName);
+        FileWriterUtils.writeToFile(pathToDbScripts, dbScriptName, dbScript);
+        FileWriterUtils.writeToFile(pathToDbScripts, dbScriptName + ".conf", "executeInTransaction=false\n");
+        version++;
+
+        manifest.addEntityFile(tableName, dbScriptName, dbScript);
+    }
+
     /**
      * Generates the create table scripts for all element collection tables.
      *
@@ -16,6 +16,7 @@
 
 package dev.markozivkovic.springcrudgenerator.migrations;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -31,9 +32,11 @@ import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.models.flyway.ColumnState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.EntityState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FkState;
+import dev.markozivkovic.springcrudgenerator.models.flyway.IndexState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.AddedColumn;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.ColumnChange;
+import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.IndexChange;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.Result;
 
 /**
@@ -69,6 +72,8 @@ public class MigrationDiffer {
 
         diffForeignKeys(r, oldState, newCreateCtx);
 
+        diffIndexes(r, oldState, newCreateCtx);
+
         diffAudit(r, oldState, newCreateCtx);
 
         diffSoftDelete(r, oldState, newCreateCtx);
@@ -228,6 +233,71 @@ public class MigrationDiffer {
         });
     }
 
+    /**
+     * Computes the difference between two states of a database entity's indexes. Indexes are matched by name; an index
+     * whose definition (columns, sort direction, uniqueness, included columns or condition) changed is reported as
+     * removed and added again.
+     *
+     * @param r the result object to add the differences to
+     * @param oldState the old state of the entity
+     * @param newCreateCtx the new state of the entity
+     */
+    @SuppressWarnings("unchecked")
+    private static void diffIndexes(final Result r, final EntityState oldState, final Map<String,Object> newCreateCtx) {
+
+        final Map<String, IndexState> oldIndexes = new LinkedHashMap<>();
+        if (oldState != null && oldState.getIndexes() != null) {
+            oldState.getIndexes().forEach(i -> oldIndexes.put(i.getName(), i));
+        }
+
+        final Map<String, IndexState> newIndexes = new LinkedHashMap<>();
+        final List<Map<String,Object>> indexes = (List<Map<String,Object>>) newCreateCtx.get("indexes");
+        if (indexes != null) {
+            indexes.forEach(m -> {
+                final IndexState index = toIndexState(m);
+                newIndexes.put(index.getName(), index);
+            });
+        }
+
+        oldIndexes.forEach((name, o) -> {
+            if (!Objects.equals(o, newIndexes.get(name))) {
+                r.getRemovedIndexes().add(new IndexChange(
+                        o.getName(), o.getColumns(), o.getDescending(), o.getUnique(), o.getInclude(), o.getWhere()
+                ));
+            }
+        });
+
+        newIndexes.forEach((name, n) -> {
+            if (!Objects.equals(n, oldIndexes.get(name))) {
+                r.getAddedIndexes().add(new IndexChange(
+                        n.getName(), n.getColumns(), n.getDescending(), n.getUnique(), n.getInclude(), n.getWhere()
+                ));
+            }
+        });
+    }
+
+    /**
+     * Converts an index context map produced by {@code FlywayUtils} into an index state.
+     *
+     * @param index the index context map
+     * @return the index state
+     */
+    @SuppressWarnings("unchecked")
+    static IndexState toIndexState(final Map<String,Object> index) {
+
+        final List<String> descending = (List<String>) index.get("descending");
+        final List<String> include = (List<String>) index.get("include");
+
+        return new IndexState(
+                String.valueOf(index.get("name")),
+                new ArrayList<>((List<String>) index.get("columns")),
+                descending != null ? new ArrayList<>(descending) : new ArrayList<>(),
+                Boolean.TRUE.equals(index.get("unique")),
+                include != null ? new ArrayList<>(include) : new ArrayList<>(),
+                (String) index.get("where")
+        );
+    }
+
     /**
      * Compares the audit state of the old state of the entity with the audit state from the new state.
      * If the audit states are different, adds the differences to the result object.
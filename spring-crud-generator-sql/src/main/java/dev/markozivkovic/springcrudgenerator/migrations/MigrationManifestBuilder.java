@@ -36,6 +36,7 @@ import dev.markozivkovic.springcrudgenerator.models.flyway.DdlArtifactState.DdlA
 import dev.markozivkovic.springcrudgenerator.models.flyway.EntityState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FileState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FkState;
+import dev.markozivkovic.springcrudgenerator.models.flyway.IndexState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.JoinState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.JoinState.JoinSide;
 import dev.markozivkovic.springcrudgenerator.models.flyway.MigrationState;
@@ -124,6 +125,15 @@ public class MigrationManifestBuilder {
             }
         }
 
+        final List<IndexState> indexes = new ArrayList<>();
+        final List<Map<String,Object>> iList = (List<Map<String,Object>>) createCtx.get("indexes");
+        if (iList != null) {
+            for (final Map<String,Object> i : iList) {
+                indexes.add(MigrationDiffer.toIndexState(i));
+            }
+        }
+        entityState.setIndexes(indexes);
+
         if (createCtx.containsKey("pkColumns") && createCtx.get("pkColumns") != null) {
             final String raw = String.valueOf(createCtx.get("pkColumns"));
             final List<String> pk = new ArrayList<>();
@@ -32,6 +32,7 @@ public class EntityState {
     private AuditState audit;
     private boolean softDelete = Boolean.FALSE;
     private List<FkState> fks = new ArrayList<>();
+    private List<IndexState> indexes = new ArrayList<>();
     private List<FileState> files = new ArrayList<>();
     private List<JoinState> joins = new ArrayList<>();
 
@@ -41,8 +42,8 @@ public class EntityState {
 
     public EntityState(final String name, final String table, final String fingerprint,
             final Map<String,ColumnState> columns, final List<String> pk, final AuditState audit,
-            final boolean softDelete, final List<FkState> fks, final List<FileState> files,
-            final List<JoinState> joins) {
+            final boolean softDelete, final List<FkState> fks, final List<IndexState> indexes,
+            final List<FileState> files, final List<JoinState> joins) {
         this.name = name;
         this.table = table;
         this.fingerprint = fingerprint;
@@ -51,6 +52,7 @@ public class EntityState {
         this.audit = audit;
         this.softDelete = softDelete;
         this.fks = fks;
+        this.indexes = indexes;
         this.files = files;
         this.joins = joins;
     }
@@ -127,6 +129,15 @@ public class EntityState {
         return this;
     }
 
+    public List<IndexState> getIndexes() {
+        return this.indexes;
+    }
+
+    public EntityState setIndexes(final List<IndexState> indexes) {
+        this.indexes = indexes;
+        return this;
+    }
+
     public List<FileState> getFiles() {
         return this.files;
     }
@@ -161,13 +172,14 @@ public class EntityState {
                 Objects.equals(audit, entityState.audit) &&
                 Objects.equals(softDelete, entityState.softDelete) &&
                 Objects.equals(fks, entityState.fks) &&
+                Objects.equals(indexes, entityState.indexes) &&
                 Objects.equals(files, entityState.files) &&
                 Objects.equals(joins, entityState.joins);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, table, fingerprint, columns, pk, audit, softDelete, fks, files, joins);
+        return Objects.hash(name, table, fingerprint, columns, pk, audit, softDelete, fks, indexes, files, joins);
     }
 
     @Override
@@ -181,6 +193,7 @@ public class EntityState {
             ", audit='" + getAudit() + "'" +
             ", softDelete='" + getSoftDelete() + "'" +
             ", fks='" + getFks() + "'" +
+            ", indexes='" + getIndexes() + "'" +
             ", files='" + getFiles() + "'" +
             ", joins='" + getJoins() + "'" +
             "}";
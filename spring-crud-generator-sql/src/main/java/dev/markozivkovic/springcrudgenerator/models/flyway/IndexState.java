@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025-present Marko Zivkovic
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markozivkovic.springcrudgenerator.models.flyway;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class IndexState {
+
+    private String name;
+    private List<String> columns = new ArrayList<>();
+    private List<String> descending = new ArrayList<>();
+    private Boolean unique = Boolean.FALSE;
+    private List<String> include = new ArrayList<>();
+    private String where;
+
+    public IndexState() {
+
+    }
+
+    public IndexState(final String name, final List<String> columns, final List<String> descending,
+            final Boolean unique, final List<String> include, final String where) {
+        this.name = name;
+        this.columns = columns;
+        this.descending = descending;
+        this.unique = unique;
+        this.include = include;
+        this.where = where;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public IndexState setName(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+
+    public IndexState setColumns(final List<String> columns) {
+        this.columns = columns;
+        return this;
+    }
+
+    public List<String> getDescending() {
+        return this.descending;
+    }
+
+    public IndexState setDescending(final List<String> descending) {
+        this.descending = descending;
+        return this;
+    }
+
+    public Boolean getUnique() {
+        return this.unique;
+    }
+
+    public IndexState setUnique(final Boolean unique) {
+        this.unique = unique;
+        return this;
+    }
+
+    public List<String> getInclude() {
+        return this.include;
+    }
+
+    public IndexState setInclude(final List<String> include) {
+        this.include = include;
+        return this;
+    }
+
+    public String getWhere() {
+        return this.where;
+    }
+
+    public IndexState setWhere(final String where) {
+        this.where = where;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof IndexState)) {
+            return false;
+        }
+        final IndexState indexState = (IndexState) o;
+        return Objects.equals(name, indexState.name) &&
+                Objects.equals(columns, indexState.columns) &&
+                Objects.equals(descending, indexState.descending) &&
+                Objects.equals(unique, indexState.unique) &&
+                Objects.equals(include, indexState.include) &&
+                Objects.equals(where, indexState.where);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, columns, descending, unique, include, where);
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+            " name='" + getName() + "'" +
+            ", columns='" + getColumns() + "'" +
+            ", descending='" + getDescending() + "'" +
+            ", unique='" + getUnique() + "'" +
+            ", include='" + getInclude() + "'" +
+            ", where='" + getWhere() + "'" +
+            "}";
+    }
+
+}
@@ -434,6 +434,115 @@ public class SchemaDiff {
         }
     }
 
+    public static class IndexChange {
+
+        private String name;
+        private List<String> columns = new ArrayList<>();
+        private List<String> descending = new ArrayList<>();
+        private Boolean unique = Boolean.FALSE;
+        private List<String> include = new ArrayList<>();
+        private String where;
+
+        public IndexChange() {}
+
+        public IndexChange(final String name, final List<String> columns, final List<String> descending,
+                final Boolean unique, final List<String> include, final String where) {
+            this.name = name;
+            this.columns = columns;
+            this.descending = descending;
+            this.unique = unique;
+            this.include = include;
+            this.where = where;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public IndexChange setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        public List<String> getColumns() {
+            return this.columns;
+        }
+
+        public IndexChange setColumns(final List<String> columns) {
+            this.columns = columns;
+            return this;
+        }
+
+        public List<String> getDescending() {
+            return this.descending;
+        }
+
+        public IndexChange setDescending(final List<String> descending) {
+            this.descending = descending;
+            return this;
+        }
+
+        public Boolean getUnique() {
+            return this.unique;
+        }
+
+        public IndexChange setUnique(final Boolean unique) {
+            this.unique = unique;
+            return this;
+        }
+
+        public List<String> getInclude() {
+            return this.include;
+        }
+
+        public IndexChange setInclude(final List<String> include) {
+            this.include = include;
+            return this;
+        }
+
+        public String getWhere() {
+            return this.where;
+        }
+
+        public IndexChange setWhere(final String where) {
+            this.where = where;
+            return this;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this)
+                return true;
+            if (!(o instanceof IndexChange)) {
+                return false;
+            }
+            final IndexChange indexChange = (IndexChange) o;
+            return Objects.equals(name, indexChange.name) &&
+                    Objects.equals(columns, indexChange.columns) &&
+                    Objects.equals(descending, indexChange.descending) &&
+                    Objects.equals(unique, indexChange.unique) &&
+                    Objects.equals(include, indexChange.include) &&
+                    Objects.equals(where, indexChange.where);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, columns, descending, unique, include, where);
+        }
+
+        @Override
+        public String toString() {
+            return "{" +
+                " name='" + getName() + "'" +
+                ", columns='" + getColumns() + "'" +
+                ", descending='" + getDescending() + "'" +
+                ", unique='" + getUnique() + "'" +
+                ", include='" + getInclude() + "'" +
+                ", where='" + getWhere() + "'" +
+                "}";
+        }
+    }
+
     public static class Result {
 
         private List<AddedColumn> addedColumns = new ArrayList<>();
@@ -443,6 +552,8 @@ public class SchemaDiff {
         private List<String> newPk = new ArrayList<>();
         private List<FkChange> addedFks = new ArrayList<>();
         private List<FkChange> removedFks = new ArrayList<>();
+        private List<IndexChange> addedIndexes = new ArrayList<>();
+        private List<IndexChange> removedIndexes = new ArrayList<>();
         private boolean auditAdded;
         private boolean auditRemoved;
         private boolean auditTypeChanged;
@@ -456,7 +567,7 @@ public class SchemaDiff {
         public Result(final List<AddedColumn> addedColumns, final List<String> removedColumns,
                 final List<ColumnChange> modifiedColumns, final boolean pkChanged, 
                 final List<String> newPk, final List<FkChange> addedFks, final List<FkChange> removedFks,
-                final boolean auditAdded, final boolean auditRemoved, final boolean auditTypeChanged,
+                final List<IndexChange> addedIndexes, final List<IndexChange> removedIndexes, final boolean auditAdded, final boolean auditRemoved, final boolean auditTypeChanged,
                 final String oldAuditType, final String newAuditType, final boolean softDeleteChanged,
                 final boolean softDeleteEnabled) {
             this.addedColumns = addedColumns;
@@ -466,6 +577,8 @@ public class SchemaDiff {
             this.newPk = newPk;
             this.addedFks = addedFks;
             this.removedFks = removedFks;
+            this.addedIndexes = addedIndexes;
+            this.removedIndexes = removedIndexes;
             this.auditAdded = auditAdded;
             this.auditRemoved = auditRemoved;
             this.auditTypeChanged = auditTypeChanged;
@@ -542,6 +655,24 @@ public class SchemaDiff {
             return this;
         }
 
+        public List<IndexChange> getAddedIndexes() {
+            return this.addedIndexes;
+        }
+
+        public Result setAddedIndexes(final List<IndexChange> addedIndexes) {
+            this.addedIndexes = addedIndexes;
+            return this;
+        }
+
+        public List<IndexChange> getRemovedIndexes() {
+            return this.removedIndexes;
+        }
+
+        public Result setRemovedIndexes(final List<IndexChange> removedIndexes) {
+            this.removedIndexes = removedIndexes;
+            return this;
+        }
+
         public boolean isAuditAdded() {
             return this.auditAdded;
         }
@@ -620,6 +751,8 @@ public class SchemaDiff {
                     Objects.equals(newPk, result.newPk) &&
                     Objects.equals(addedFks, result.addedFks) &&
                     Objects.equals(removedFks, result.removedFks) &&
+                    Objects.equals(addedIndexes, result.addedIndexes) &&
+                    Objects.equals(removedIndexes, result.removedIndexes) &&
                     auditAdded == result.auditAdded &&
                     auditRemoved == result.auditRemoved &&
                     auditTypeChanged == result.auditTypeChanged &&
@@ -633,7 +766,7 @@ public class SchemaDiff {
         public int hashCode() {
             return Objects.hash(
                     addedColumns, removedColumns, modifiedColumns, pkChanged, newPk, addedFks, removedFks,
-                    auditAdded, auditRemoved, auditTypeChanged, oldAuditType, newAuditType, softDeleteChanged,
+                    addedIndexes, removedIndexes, auditAdded, auditRemoved, auditTypeChanged, oldAuditType, newAuditType, softDeleteChanged,
                     softDeleteEnabled
             );
         }
@@ -648,6 +781,8 @@ public class SchemaDiff {
                 ", newPk='" + getNewPk() + "'" +
                 ", addedFks='" + getAddedFks() + "'" +
                 ", removedFks='" + getRemovedFks() + "'" +
+                ", addedIndexes='" + getAddedIndexes() + "'" +
+                ", removedIndexes='" + getRemovedIndexes() + "'" +
                 ", auditAdded='" + isAuditAdded() + "'" +
                 ", auditRemoved='" + isAuditRemoved() + "'" +
                 ", auditTypeChanged='" + isAuditTypeChanged() + "'" +
@@ -660,7 +795,8 @@ public class SchemaDiff {
 
         public boolean isEmpty() {
             return addedColumns.isEmpty() && removedColumns.isEmpty() && modifiedColumns.isEmpty() &&
-                   !pkChanged && addedFks.isEmpty() && removedFks.isEmpty() && !auditAdded && !auditRemoved && !auditTypeChanged
+                   !pkChanged && addedFks.isEmpty() && removedFks.isEmpty() && addedIndexes.isEmpty() && removedIndexes.isEmpty()
+                    && !auditAdded && !auditRemoved && !auditTypeChanged
                     && Objects.isNull(oldAuditType) && Objects.isNull(newAuditType) && !softDeleteChanged;
         }
     }
@@ -38,9 +38,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
 import dev.markozivkovic.springcrudgenerator.enums.RelationTypeEnum;
+import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
 import dev.markozivkovic.springcrudgenerator.enums.SpecialTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseType;
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition.IdStrategyEnum;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
@@ -753,10 +755,198 @@ public class FlywayUtils {
         ctx.put("auditNowExpr", auditNow(db));
         ctx.put("db", db.name().toUpperCase(Locale.ROOT));
         ctx.put(TemplateContextConstants.SOFT_DELETE_ENABLED, Boolean.TRUE.equals(model.getSoftDelete()));
+        ctx.put("indexes", computeIndexes(model, db, cols, modelsByName));
 
         return ctx;
     }
 
+    /**
+     * Computes the secondary indexes of the given model. Indexes declared explicitly in the {@code indexes} section of
+     * the model come first. Then every foreign key column gets an index, and so does every column listed in
+     * {@code sort.allowedFields}. Primary key and unique columns are skipped because they are already indexed by their
+     * constraints, and so are columns that already lead an explicit full index.
+     * <p>
+     * For soft-delete entities, sort indexes only cover the rows that are not deleted: PostgreSQL gets a partial index
+     * ({@code WHERE deleted = false}), other databases get a composite index that leads with the {@code deleted} column.
+     * Foreign key indexes always cover the whole table, because the database uses them to check the constraint.
+     *
+     * @param model the model definition
+     * @param db the database type
+     * @param columns the column contexts of the table
+     * @param modelsByName a map of model names to their definitions
+     * @return the list of index contexts, each with a name, columns, descending columns, a unique flag, included
+     *         columns and an optional where clause
+     */
+    private static List<Map<String, Object>> computeIndexes(final ModelDefinition model, final DatabaseType db,
+            final List<Map<String, Object>> columns, final Map<String, ModelDefinition> modelsByName) {
+
+        final String tableName = model.getStorageName();
+        final boolean softDelete = Boolean.TRUE.equals(model.getSoftDelete());
+        final Set<String> indexedByConstraint = columns.stream()
+                .filter(c -> Boolean.TRUE.equals(c.get("isPk")) || Boolean.TRUE.equals(c.get("unique")))
+                .map(c -> String.valueOf(c.get("name")))
+                .collect(Collectors.toSet());
+        final Map<String, Map<String, Object>> indexes = new LinkedHashMap<>();
+
+        if (model.getIndexes() != null) {
+            model.getIndexes().forEach(index -> putExplicitIndex(indexes, model, index));
+        }
+        indexes.values().stream()
+                .filter(index -> Objects.isNull(index.get("where")))
+                .map(index -> (List<?>) index.get("columns"))
+                .map(indexColumns -> String.valueOf(indexColumns.get(0)))
+                .forEach(indexedByConstraint::add);
+
+        model.getFields().stream()
+                .filter(field -> isToOneRelation(field) && modelsByName.containsKey(field.getType()))
+                .map(field -> resolveColumnName(field, true))
+                .filter(column -> !indexedByConstraint.contains(column))
+                .forEach(column -> putIndex(indexes, tableName, List.of(column), null));
+
+        columns.stream()
+                .filter(c -> Objects.nonNull(c.get("fkName")))
+                .map(c -> String.valueOf(c.get("name")))
+                .filter(column -> !indexedByConstraint.contains(column))
+                .forEach(column -> putIndex(indexes, tableName, List.of(column), null));
+
+        SortUtils.resolveAllowedFields(model).stream()
+                .map(allowedField -> resolveSortColumnName(model, allowedField))
+                .filter(Objects::nonNull)
+                .filter(column -> !indexedByConstraint.contains(column))
+                .forEach(column -> {
+                    if (!softDelete) {
+                        putIndex(indexes, tableName, List.of(column), null);
+                    } else if (DatabaseType.POSTGRESQL.equals(db)) {
+                        putIndex(indexes, tableName, List.of(column), "deleted = false");
+                    } else {
+                        putIndex(indexes, tableName, List.of("deleted", column), null);
+                    }
+                });
+
+        return new ArrayList<>(indexes.values());
+    }
+
+    /**
+     * Adds the context of an index declared in the {@code indexes} section of the model. An index without an explicit
+     * name is named {@code ix_<table>_<columns>}.
+     *
+     * @param indexes the index contexts keyed by name
+     * @param model the model definition
+     * @param index the index declaration
+     */
+    private static void putExplicitIndex(final Map<String, Map<String, Object>> indexes, final ModelDefinition model,
+            final IndexDefinition index) {
+
+        final List<String> indexColumns = new ArrayList<>();
+        final List<String> descending = new ArrayList<>();
+        index.getFields().forEach(indexField -> {
+            final String column = resolveIndexColumnName(model, indexField.getName());
+            indexColumns.add(column);
+            if (SortDirection.DESC.equals(indexField.getDirection())) {
+                descending.add(column);
+            }
+        });
+        final List<String> include = index.getInclude() == null ? new ArrayList<>() : index.getInclude().stream()
+                .map(fieldName -> resolveIndexColumnName(model, fieldName))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        final String name = StringUtils.isNotBlank(index.getName())
+                ? index.getName()
+                : String.format("ix_%s_%s", model.getStorageName(), String.join("_", indexColumns));
+
+        final Map<String, Object> ctx = new LinkedHashMap<>();
+        ctx.put("name", name);
+        ctx.put("columns", indexColumns);
+        ctx.put("descending", descending);
+        ctx.put("unique", Boolean.TRUE.equals(index.getUnique()));
+        ctx.put("include", include);
+        if (StringUtils.isNotBlank(index.getWhere())) {
+            ctx.put("where", index.getWhere());
+        }
+        indexes.putIfAbsent(name, ctx);
+    }
+
+    /**
+     * Adds an index context to the given map, keyed by its name. Partial indexes get an {@code _active} suffix so that
+     * they never share a name with a full index on the same columns.
+     *
+     * @param indexes the index contexts keyed by name
+     * @param tableName the table name
+     * @param columns the indexed columns
+     * @param where the partial index condition, or null for a full index
+     */
+    private static void putIndex(final Map<String, Map<String, Object>> indexes, final String tableName,
+            final List<String> columns, final String where) {
+
+        final String name = String.format(
+                "ix_%s_%s%s", tableName, String.join("_", columns), Objects.nonNull(where) ? "_active" : ""
+        );
+        final Map<String, Object> index = new LinkedHashMap<>();
+        index.put("name", name);
+        index.put("columns", columns);
+        index.put("descending", List.of());
+        index.put("unique", false);
+        index.put("include", List.of());
+        if (Objects.nonNull(where)) {
+            index.put("where", where);
+        }
+        indexes.putIfAbsent(name, index);
+    }
+
+    /**
+     * Resolves the column name of a field referenced by an explicit index. Generated audit fields map to their audit
+     * columns and to-one relations map to their join columns.
+     *
+     * @param model the model definition
+     * @param fieldName the field name
+     * @return the column name
+     */
+    private static String resolveIndexColumnName(final ModelDefinition model, final String fieldName) {
+
+        final boolean auditEnabled = Objects.nonNull(model.getAudit()) && model.getAudit().isEnabled();
+        if (auditEnabled && "createdAt".equals(fieldName)) {
+            return "created_at";
+        }
+        if (auditEnabled && "updatedAt".equals(fieldName)) {
+            return "updated_at";
+        }
+
+        return model.getFields().stream()
+                .filter(field -> fieldName.equals(field.getName()))
+                .map(field -> resolveColumnName(field, isToOneRelation(field)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                        "Index field '%s' does not exist in model %s", fieldName, model.getName()
+                )));
+    }
+
+    /**
+     * Resolves the column name of a sort field. Generated audit fields map to their audit columns. Primary key and
+     * collection fields resolve to null, because they do not need an additional index.
+     *
+     * @param model the model definition
+     * @param allowedField the sort field name
+     * @return the column name, or null if no index is needed
+     */
+    private static String resolveSortColumnName(final ModelDefinition model, final String allowedField) {
+
+        final boolean auditEnabled = Objects.nonNull(model.getAudit()) && model.getAudit().isEnabled();
+        if (auditEnabled && "createdAt".equals(allowedField)) {
+            return "created_at";
+        }
+        if (auditEnabled && "updatedAt".equals(allowedField)) {
+            return "updated_at";
+        }
+
+        return model.getFields().stream()
+                .filter(field -> allowedField.equals(field.getName()))
+                .filter(field -> Objects.isNull(field.getId()))
+                .filter(field -> !isCollectionRelation(field) && !SpecialTypeEnum.isCollectionType(field.getType()))
+                .map(field -> resolveColumnName(field, isToOneRelation(field)))
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * Converts a model definition into a context map that can be used
      * to generate a flyway sequence generator SQL script.
@@ -22,9 +22,11 @@ import dev.markozivkovic.springcrudgenerator.models.flyway.AuditState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.ColumnState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.EntityState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FkState;
+import dev.markozivkovic.springcrudgenerator.models.flyway.IndexState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.AddedColumn;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.ColumnChange;
+import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.IndexChange;
 import dev.markozivkovic.springcrudgenerator.models.flyway.SchemaDiff.Result;
 
 class MigrationDifferTest {
@@ -273,6 +275,81 @@ class MigrationDifferTest {
         assertFalse(result.getSoftDeleteEnabled());
     }
 
+    @Test
+    void diff_shouldDetectAddedRemovedAndRedefinedIndexes() {
+
+        final EntityState oldState = new EntityState()
+                .setIndexes(List.of(
+                        new IndexState("ix_orders_customer_id", List.of("customer_id"), List.of(), false, List.of(), null),
+                        new IndexState("ix_orders_status", List.of("status"), List.of(), false, List.of(), null),
+                        new IndexState("ix_orders_release_date_active", List.of("release_date"), List.of(), false, List.of(), null)
+                ));
+
+        final Map<String, Object> unchanged = new HashMap<>();
+        unchanged.put("name", "ix_orders_customer_id");
+        unchanged.put("columns", List.of("customer_id"));
+
+        final Map<String, Object> redefined = new HashMap<>();
+        redefined.put("name", "ix_orders_release_date_active");
+        redefined.put("columns", List.of("release_date"));
+        redefined.put("where", "deleted = false");
+
+        final Map<String, Object> added = new HashMap<>();
+        added.put("name", "ix_orders_created_at");
+        added.put("columns", List.of("created_at"));
+
+        final Map<String, Object> newCreateCtx = new HashMap<>();
+        newCreateCtx.put("columns", Collections.emptyList());
+        newCreateCtx.put("indexes", List.of(unchanged, redefined, added));
+
+        final Result result = MigrationDiffer.diff(oldState, newCreateCtx);
+
+        assertEquals(
+                List.of("ix_orders_status", "ix_orders_release_date_active"),
+                result.getRemovedIndexes().stream().map(IndexChange::getName).toList()
+        );
+        assertEquals(
+                List.of("ix_orders_release_date_active", "ix_orders_created_at"),
+                result.getAddedIndexes().stream().map(IndexChange::getName).toList()
+        );
+        assertEquals("deleted = false", result.getAddedIndexes().get(0).getWhere());
+        assertFalse(result.isEmpty());
+    }
+
+    @Test
+    void diff_shouldRedefineIndex_whenDirectionUniquenessOrIncludeChanges() {
+
+        final EntityState oldState = new EntityState()
+                .setIndexes(List.of(
+                        new IndexState("ix_orders_customer_id", List.of("customer_id"), List.of(), false, List.of(), null),
+                        new IndexState("ix_orders_created_at", List.of("created_at"), List.of(), false, List.of(), null)
+                ));
+
+        final Map<String, Object> unchanged = new HashMap<>();
+        unchanged.put("name", "ix_orders_customer_id");
+        unchanged.put("columns", List.of("customer_id"));
+
+        final Map<String, Object> redefined = new HashMap<>();
+        redefined.put("name", "ix_orders_created_at");
+        redefined.put("columns", List.of("created_at"));
+        redefined.put("descending", List.of("created_at"));
+        redefined.put("unique", true);
+        redefined.put("include", List.of("status"));
+
+        final Map<String, Object> newCreateCtx = new HashMap<>();
+        newCreateCtx.put("columns", Collections.emptyList());
+        newCreateCtx.put("indexes", List.of(unchanged, redefined));
+
+        final Result result = MigrationDiffer.diff(oldState, newCreateCtx);
+
+        assertEquals(List.of("ix_orders_created_at"), result.getRemovedIndexes().stream().map(IndexChange::getName).toList());
+        assertEquals(1, result.getAddedIndexes().size());
+        final IndexChange added = result.getAddedIndexes().get(0);
+        assertEquals(List.of("created_at"), added.getDescending());
+        assertTrue(added.getUnique());
+        assertEquals(List.of("status"), added.getInclude());
+    }
+
     @Test
     void diff_shouldReadForeignKeysFromRootFks_whenFksCtxIsNull() {
 
@@ -32,6 +32,7 @@ import dev.markozivkovic.springcrudgenerator.models.flyway.DdlArtifactState.DdlA
 import dev.markozivkovic.springcrudgenerator.models.flyway.EntityState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FileState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.FkState;
+import dev.markozivkovic.springcrudgenerator.models.flyway.IndexState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.JoinState;
 import dev.markozivkovic.springcrudgenerator.models.flyway.JoinState.JoinSide;
 import dev.markozivkovic.springcrudgenerator.models.flyway.MigrationState;
@@ -202,6 +203,32 @@ class MigrationManifestBuilderTest {
         assertFalse(Boolean.TRUE.equals(e.getSoftDelete()));
     }
 
+    @Test
+    void applyCreateContext_shouldPopulateIndexes() {
+
+        final List<EntityState> entities = new ArrayList<>();
+        final MigrationState state = newStateWithEntitiesList(entities);
+        final MigrationManifestBuilder builder = new MigrationManifestBuilder(state);
+
+        final Map<String, Object> index = new LinkedHashMap<>();
+        index.put("name", "ix_product_release_date_active");
+        index.put("columns", List.of("release_date"));
+        index.put("where", "deleted = false");
+
+        final Map<String, Object> createCtx = new HashMap<>();
+        createCtx.put("columns", List.of());
+        createCtx.put("indexes", List.of(index));
+
+        builder.applyCreateContext("Product", "product", createCtx);
+
+        assertEquals(
+                List.of(new IndexState(
+                        "ix_product_release_date_active", List.of("release_date"), List.of(), false, List.of(), "deleted = false"
+                )),
+                entities.get(0).getIndexes()
+        );
+    }
+
     @Test
     void applyCreateContext_shouldPopulateFks_fromNestedFksCtx() {
 
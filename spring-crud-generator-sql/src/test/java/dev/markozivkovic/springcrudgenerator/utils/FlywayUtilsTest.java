@@ -26,6 +26,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import dev.markozivkovic.springcrudgenerator.constants.TemplateContextConstants;
+import dev.markozivkovic.springcrudgenerator.enums.SortDirection;
 import dev.markozivkovic.springcrudgenerator.models.AuditDefinition;
 import dev.markozivkovic.springcrudgenerator.models.AuditDefinition.AuditTypeEnum;
 import dev.markozivkovic.springcrudgenerator.models.ColumnDefinition;
@@ -33,9 +34,12 @@ import dev.markozivkovic.springcrudgenerator.models.CrudConfiguration.DatabaseTy
 import dev.markozivkovic.springcrudgenerator.models.FieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition;
 import dev.markozivkovic.springcrudgenerator.models.IdDefinition.IdStrategyEnum;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition;
+import dev.markozivkovic.springcrudgenerator.models.IndexDefinition.IndexFieldDefinition;
 import dev.markozivkovic.springcrudgenerator.models.ModelDefinition;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition;
 import dev.markozivkovic.springcrudgenerator.models.RelationDefinition.JoinTableDefinition;
+import dev.markozivkovic.springcrudgenerator.models.SortDefinition;
 import dev.markozivkovic.springcrudgenerator.models.flyway.MigrationState;
 
 class FlywayUtilsTest {
@@ -1001,6 +1005,110 @@ class FlywayUtilsTest {
         assertEquals(true, ctx.get(TemplateContextConstants.SOFT_DELETE_ENABLED));
     }
 
+    @Test
+    @DisplayName("toCreateTableContext adds indexes for foreign key and sort columns, skipping PK and unique columns")
+    @SuppressWarnings("unchecked")
+    void toCreateTableContext_shouldAddIndexes_forForeignKeysAndSortFields() {
+
+        final FieldDefinition nameField = field("name", "String");
+        final ColumnDefinition nameCol = new ColumnDefinition();
+        nameCol.setUnique(true);
+        nameField.setColumn(nameCol);
+
+        final ModelDefinition customer = model("Customer", "customer", List.of(idFieldIdentity("id")));
+        final ModelDefinition model = model("Order", "order", List.of(
+                idFieldIdentity("id"),
+                nameField,
+                field("releaseDate", "LocalDate"),
+                fieldWithRelation("customer", "Customer", "ManyToOne", null)
+        ));
+        model.setSort(new SortDefinition().setAllowedFields(List.of("id", "name", "releaseDate", "createdAt")));
+        model.setAudit(new AuditDefinition().setEnabled(true).setType(AuditTypeEnum.INSTANT));
+
+        final Map<String, Object> ctx = FlywayUtils.toCreateTableContext(
+                model, DatabaseType.POSTGRESQL, Map.of("Customer", customer), List.of(), false
+        );
+
+        final List<Map<String, Object>> indexes = (List<Map<String, Object>>) ctx.get("indexes");
+        assertEquals(
+                List.of("ix_order_customer_id", "ix_order_release_date", "ix_order_created_at"),
+                indexes.stream().map(i -> i.get("name")).toList()
+        );
+        assertEquals(List.of("release_date"), indexes.get(1).get("columns"));
+        assertFalse(indexes.get(1).containsKey("where"));
+    }
+
+    @Test
+    @DisplayName("toCreateTableContext adds explicit indexes first and skips foreign key indexes they already lead with")
+    @SuppressWarnings("unchecked")
+    void toCreateTableContext_shouldAddExplicitIndexes() {
+
+        final ModelDefinition customer = model("Customer", "customer", List.of(idFieldIdentity("id")));
+        final ModelDefinition model = model("Order", "order", List.of(
+                idFieldIdentity("id"),
+                field("status", "String"),
+                field("total", "BigDecimal"),
+                fieldWithRelation("customer", "Customer", "ManyToOne", null)
+        ));
+        model.setAudit(new AuditDefinition().setEnabled(true).setType(AuditTypeEnum.INSTANT));
+        model.setIndexes(List.of(
+                new IndexDefinition()
+                        .setFields(List.of(
+                                new IndexFieldDefinition().setName("customer"),
+                                new IndexFieldDefinition().setName("createdAt").setDirection(SortDirection.DESC)
+                        ))
+                        .setInclude(List.of("total")),
+                new IndexDefinition()
+                        .setName("ux_order_open_status")
+                        .setFields(List.of(new IndexFieldDefinition().setName("status")))
+                        .setUnique(true)
+                        .setWhere("status = 'OPEN'")
+        ));
+
+        final Map<String, Object> ctx = FlywayUtils.toCreateTableContext(
+                model, DatabaseType.POSTGRESQL, Map.of("Customer", customer), List.of(), false
+        );
+
+        final List<Map<String, Object>> indexes = (List<Map<String, Object>>) ctx.get("indexes");
+        assertEquals(
+                List.of("ix_order_customer_id_created_at", "ux_order_open_status"),
+                indexes.stream().map(i -> i.get("name")).toList()
+        );
+        assertEquals(List.of("customer_id", "created_at"), indexes.get(0).get("columns"));
+        assertEquals(List.of("created_at"), indexes.get(0).get("descending"));
+        assertEquals(List.of("total"), indexes.get(0).get("include"));
+        assertEquals(false, indexes.get(0).get("unique"));
+        assertEquals(true, indexes.get(1).get("unique"));
+        assertEquals("status = 'OPEN'", indexes.get(1).get("where"));
+    }
+
+    @Test
+    @DisplayName("toCreateTableContext adds partial sort indexes on PostgreSQL and composite ones elsewhere for soft delete")
+    @SuppressWarnings("unchecked")
+    void toCreateTableContext_shouldAddActiveRowSortIndexes_whenSoftDeleteEnabled() {
+
+        final ModelDefinition model = model("Order", "order", List.of(idFieldIdentity("id"), field("releaseDate", "LocalDate")));
+        model.setSoftDelete(true);
+        model.setSort(new SortDefinition().setAllowedFields(List.of("releaseDate")));
+
+        final List<Map<String, Object>> postgres = (List<Map<String, Object>>) FlywayUtils.toCreateTableContext(
+                model, DatabaseType.POSTGRESQL, Map.of(), List.of(), false
+        ).get("indexes");
+        final List<Map<String, Object>> mysql = (List<Map<String, Object>>) FlywayUtils.toCreateTableContext(
+                model, DatabaseType.MYSQL, Map.of(), List.of(), false
+        ).get("indexes");
+
+        assertEquals(1, postgres.size());
+        assertEquals("ix_order_release_date_active", postgres.get(0).get("name"));
+        assertEquals(List.of("release_date"), postgres.get(0).get("columns"));
+        assertEquals("deleted = false", postgres.get(0).get("where"));
+
+        assertEquals(1, mysql.size());
+        assertEquals("ix_order_deleted_release_date", mysql.get(0).get("name"));
+        assertEquals(List.of("deleted", "release_date"), mysql.get(0).get("columns"));
+        assertFalse(mysql.get(0).containsKey("where"));
+    }
+
     @Test
     @DisplayName("toCreateTableContext adds version column when optimistic locking is enabled")
     void toCreateTableContext_shouldAddVersionColumn_whenOptimisticLockingEnabled() {